@@ -18,6 +18,8 @@ import static org.eclipselabs.garbagecat.OptionsParser.options;
 import static org.eclipselabs.garbagecat.OptionsParser.parseOptions;
 import static org.eclipselabs.garbagecat.util.Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
 import static org.eclipselabs.garbagecat.util.Constants.LINE_SEPARATOR;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_ELIDE_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_GCID_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_SHORT;
@@ -27,6 +29,8 @@ import static org.eclipselabs.garbagecat.util.Constants.OPTION_OUTPUT_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_PREPROCESS_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REPORT_CONSOLE_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_LONG;
@@ -44,15 +48,15 @@ import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.net.URI;
 import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.HelpFormatter;
@@ -61,6 +65,7 @@ import org.eclipselabs.garbagecat.domain.JvmRun;
 import org.eclipselabs.garbagecat.domain.jdk.unified.SafepointEventSummary;
 import org.eclipselabs.garbagecat.service.GcManager;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
@@ -111,30 +116,42 @@ public class Main {
                 : null;
         String jvmOptions = cmd.hasOption(OPTION_JVMOPTIONS_LONG) ? cmd.getOptionValue(OPTION_JVMOPTIONS_SHORT) : null;
 
-        URI logFileUri = logFile.toURI();
-        List<String> logLines = Files.readAllLines(Paths.get(logFileUri));
-
-        GcManager gcManager = new GcManager(jvmStartDate);
-
-        // Do preprocessing
-        if (cmd.hasOption(OPTION_PREPROCESS_LONG) || cmd.hasOption(OPTION_STARTDATETIME_LONG)) {
-            /*
-             * Requiring the JVM start date/time for preprocessing is a hack to handle datestamps. When garbagecat was
-             * started there was no <code>-XX:+PrintGCDateStamps</code> option. When it was introduced in JDK 1.6 update
-             * 4, the easiest thing to do to handle datestamps was to preprocess the datestamps and convert them to
-             * timestamps.
-             *
-             * TODO: Handle datetimes separately from preprocessing so preprocessing doesn't require passing in the JVM
-             * start date/time.
-             */
-            logLines = gcManager.preprocess(logLines, jvmStartDate);
-        }
+        GcManager gcManager = createGcManager(cmd, jvmStartDate);
 
         // Allow logging to be reordered?
         boolean reorder = cmd.hasOption(OPTION_REORDER_LONG);
 
-        // Store garbage collection logging in data store.
-        gcManager.store(logLines, reorder);
+        /*
+         * Requiring the JVM start date/time for preprocessing is a hack to handle datestamps. When garbagecat was
+         * started there was no <code>-XX:+PrintGCDateStamps</code> option. When it was introduced in JDK 1.6 update 4,
+         * the easiest thing to do to handle datestamps was to preprocess the datestamps and convert them to timestamps.
+         *
+         * TODO: Handle datetimes separately from preprocessing so preprocessing doesn't require passing in the JVM
+         * start date/time.
+         * 
+         * Otherwise, preprocess only if the start of the logging needs it, falling back to preprocessing if logging
+         * stored without it has unidentified log lines.
+         */
+        boolean preprocess = gcManager.decidePreprocessing(logFile,
+                cmd.hasOption(OPTION_PREPROCESS_LONG) || cmd.hasOption(OPTION_STARTDATETIME_LONG));
+
+        // Reuse the data stored from the log file by a prior run?
+        File snapshotFile = cmd.hasOption(OPTION_SNAPSHOT_LONG) ? new File(cmd.getOptionValue(OPTION_SNAPSHOT_SHORT))
+                : null;
+        if (snapshotFile == null || !gcManager.readSnapshot(snapshotFile, logFile, preprocess, reorder)) {
+            store(gcManager, logFile, preprocess, reorder, jvmStartDate);
+            if (!preprocess && gcManager.isPreprocessingMissed()) {
+                // The start of the log file did not need preprocessing, but the rest might. Start over preprocessing.
+                gcManager.cleanup();
+                gcManager = createGcManager(cmd, jvmStartDate);
+                gcManager.preprocessingMissed();
+                preprocess = true;
+                store(gcManager, logFile, preprocess, reorder, jvmStartDate);
+            }
+            if (snapshotFile != null) {
+                gcManager.writeSnapshot(snapshotFile, logFile, preprocess, reorder);
+            }
+        }
 
         // Create report
         // Determine report options
@@ -142,12 +159,70 @@ public class Main {
                 ? Integer.parseInt(cmd.getOptionValue(OPTION_THRESHOLD_SHORT))
                 : DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
         JvmRun jvmRun = gcManager.getJvmRun(jvmOptions, throughputThreshold);
+        gcManager.cleanup();
         boolean reportConsole = cmd.hasOption(OPTION_REPORT_CONSOLE_LONG);
         boolean version = cmd.hasOption(OPTION_VERSION_LONG);
         boolean latestVersion = cmd.hasOption(OPTION_LATEST_VERSION_LONG);
         createReport(jvmRun, reportConsole, reportFile, version, latestVersion, logFileName);
     }
 
+    /**
+     * @param cmd
+     *            The command line.
+     * @param jvmStartDate
+     *            The JVM start date.
+     * @return A <code>GcManager</code> with the command line options that apply to storing the logging.
+     * @throws IOException
+     *             if the temporary file for log entries cannot be created.
+     */
+    private static GcManager createGcManager(CommandLine cmd, Date jvmStartDate) throws IOException {
+        GcManager gcManager = new GcManager(jvmStartDate);
+
+        // Keep log entries out of memory?
+        if (cmd.hasOption(OPTION_ELIDE_LONG)) {
+            gcManager.elideLogEntries();
+        }
+
+        // Assemble unified logging events by GC id?
+        if (cmd.hasOption(OPTION_GCID_LONG)) {
+            gcManager.assembleByGcId();
+        }
+        return gcManager;
+    }
+
+    /**
+     * Stream the logging from the log file through preprocessing and into the data store one line at a time.
+     * 
+     * @param gcManager
+     *            The <code>GcManager</code>.
+     * @param logFile
+     *            The log file.
+     * @param preprocess
+     *            Whether or not to preprocess the logging.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     * @param jvmStartDate
+     *            The JVM start date.
+     * @throws IOException
+     *             if the log file cannot be read.
+     */
+    private static void store(GcManager gcManager, File logFile, boolean preprocess, boolean reorder,
+            Date jvmStartDate) throws IOException {
+        try (Stream<String> logLines = Files.lines(logFile.toPath())) {
+            Iterator<String> logLinesIterator = logLines.iterator();
+
+            // Do preprocessing
+            if (preprocess) {
+                logLinesIterator = gcManager.preprocess(logLinesIterator, jvmStartDate);
+            }
+
+            // Store garbage collection logging in data store.
+            gcManager.store(logLinesIterator, reorder);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     /**
      * Create Garbage Collection Analysis report.
      *
@@ -178,6 +253,9 @@ public class Main {
             File gcLogFile = new File(gcLogFileName);
             printWriter.write(gcLogFile.getName());
             printWriter.write(LINE_SEPARATOR);
+            if (jvmRun.getPreprocessDecision() != null) {
+                printWriter.write("Preprocessing: " + jvmRun.getPreprocessDecision() + LINE_SEPARATOR);
+            }
 
             if (version || latestVersion) {
                 printWriter.write(LINEBREAK_DOUBLE);
@@ -257,7 +335,7 @@ public class Main {
                     printWriter.write(jvmRun.getFirstEventDatestamp());
                     printWriter.write(LINE_SEPARATOR);
                 }
-                if (!jvmRun.getFirstEvent().getLogEntry().matches(UnifiedRegEx.DATESTAMP_EVENT)) {
+                if (!PatternRegistry.matches(UnifiedRegEx.DATESTAMP_EVENT, jvmRun.getFirstEvent().getLogEntry())) {
                     printWriter.write("Timestamp First: ");
                     BigDecimal firstEventTimestamp = JdkMath.convertMillisToSecs(jvmRun.getFirstEvent().getTimestamp());
                     printWriter.write(firstEventTimestamp.toString());
@@ -269,7 +347,7 @@ public class Main {
                     printWriter.write(jvmRun.getLastEventDatestamp());
                     printWriter.write(LINE_SEPARATOR);
                 }
-                if (!jvmRun.getLastEvent().getLogEntry().matches(UnifiedRegEx.DATESTAMP_EVENT)) {
+                if (!PatternRegistry.matches(UnifiedRegEx.DATESTAMP_EVENT, jvmRun.getLastEvent().getLogEntry())) {
                     printWriter.write("Timestamp Last: ");
                     BigDecimal lastEventTimestamp = JdkMath.convertMillisToSecs(jvmRun.getLastEvent().getTimestamp());
                     printWriter.write(lastEventTimestamp.toString());
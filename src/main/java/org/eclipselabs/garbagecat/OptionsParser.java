@@ -12,6 +12,10 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat;
 
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_ELIDE_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_ELIDE_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_GCID_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_GCID_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_LONG;
@@ -26,6 +30,8 @@ import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REPORT_CONSOLE_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REPORT_CONSOLE_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_LONG;
@@ -53,6 +59,7 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.util.EntityUtils;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.json.JSONObject;
 
 /**
@@ -69,7 +76,8 @@ public class OptionsParser {
         options.addOption(OPTION_VERSION_SHORT, OPTION_VERSION_LONG, false, "version");
         options.addOption(OPTION_LATEST_VERSION_SHORT, OPTION_LATEST_VERSION_LONG, false, "latest version");
         options.addOption(OPTION_JVMOPTIONS_SHORT, OPTION_JVMOPTIONS_LONG, true, "JVM options used during JVM run");
-        options.addOption(OPTION_PREPROCESS_SHORT, OPTION_PREPROCESS_LONG, false, "do preprocessing");
+        options.addOption(OPTION_PREPROCESS_SHORT, OPTION_PREPROCESS_LONG, false,
+                "do preprocessing (by default only when the logging needs it)");
         options.addOption(OPTION_STARTDATETIME_SHORT, OPTION_STARTDATETIME_LONG, true,
                 "JVM start datetime (yyyy-MM-dd HH:mm:ss.SSS) to convert uptime to datestamp");
         options.addOption(OPTION_THRESHOLD_SHORT, OPTION_THRESHOLD_LONG, true,
@@ -79,6 +87,12 @@ public class OptionsParser {
                 "output file name (default " + OUTPUT_FILE_NAME + ")");
         options.addOption(OPTION_REPORT_CONSOLE_SHORT, OPTION_REPORT_CONSOLE_LONG, false,
                 "print report to stdout instead of file");
+        options.addOption(OPTION_ELIDE_SHORT, OPTION_ELIDE_LONG, false,
+                "keep log entries in a temporary file instead of memory");
+        options.addOption(OPTION_SNAPSHOT_SHORT, OPTION_SNAPSHOT_LONG, true,
+                "snapshot file to reuse the parsed log file data from (created if missing or out of date)");
+        options.addOption(OPTION_GCID_SHORT, OPTION_GCID_LONG, false,
+                "assemble unified logging events by GC id when preprocessing");
     }
 
     /**
@@ -108,7 +122,7 @@ public class OptionsParser {
     /**
      * @return version string.
      */
-    static String getVersion() {
+    public static String getVersion() {
         return ResourceBundle.getBundle("META-INF/maven/garbagecat/garbagecat/pom").getString("version");
     }
 
@@ -179,7 +193,7 @@ public class OptionsParser {
         if (cmd.hasOption(OPTION_THRESHOLD_LONG)) {
             String thresholdRegEx = "^\\d{1,3}$";
             String thresholdOptionValue = cmd.getOptionValue(OPTION_THRESHOLD_SHORT);
-            Pattern pattern = Pattern.compile(thresholdRegEx);
+            Pattern pattern = PatternRegistry.get(thresholdRegEx);
             Matcher matcher = pattern.matcher(thresholdOptionValue);
             if (!matcher.find()) {
                 throw new ParseException("Invalid threshold: '" + thresholdOptionValue + "'");
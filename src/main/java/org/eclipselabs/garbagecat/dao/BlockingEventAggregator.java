@@ -0,0 +1,216 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.eclipselabs.garbagecat.util.Memory;
+
+/**
+ * <p>
+ * Running maxima and totals of <code>BlockingEvent</code> data, updated as each event is added. None depend on event
+ * order, so events added out of order are handled.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+final class BlockingEventAggregator {
+
+    private static long max(long max, long kilobytes) {
+        return kilobytes == Memory.NO_DATA ? max : Math.max(max, kilobytes);
+    }
+
+    private static long nullSafe(long kilobytes) {
+        return kilobytes == Memory.NO_DATA ? 0 : kilobytes;
+    }
+
+    /**
+     * The number of events.
+     */
+    private long count;
+
+    /**
+     * Maximum pause duration (microseconds).
+     */
+    private long durationMax;
+
+    /**
+     * Total pause duration (microseconds).
+     */
+    private long durationTotal;
+
+    /**
+     * Maximum heap after GC (kilobytes).
+     */
+    private long maxHeapAfterGc;
+
+    /**
+     * Maximum heap occupancy (kilobytes).
+     */
+    private long maxHeapOccupancy;
+
+    /**
+     * Maximum heap size (kilobytes).
+     */
+    private long maxHeapSpace;
+
+    /**
+     * Maximum old space size (kilobytes).
+     */
+    private long maxOldSpace;
+
+    /**
+     * Maximum perm/metaspace after GC (kilobytes).
+     */
+    private long maxPermAfterGc;
+
+    /**
+     * Maximum perm/metaspace occupancy (kilobytes).
+     */
+    private long maxPermOccupancy;
+
+    /**
+     * Maximum perm/metaspace size (kilobytes).
+     */
+    private long maxPermSpace;
+
+    /**
+     * Maximum young space size (kilobytes).
+     */
+    private long maxYoungSpace;
+
+    /**
+     * Update the aggregates with an event.
+     * 
+     * @param table
+     *            The table holding the event.
+     * @param index
+     *            The event row index.
+     */
+    void add(BlockingEventTable table, int index) {
+        long duration = table.getDuration(index);
+        durationMax = count == 0 ? duration : Math.max(durationMax, duration);
+        durationTotal += duration;
+        count++;
+        int flags = table.getDataFlags(index);
+        if ((flags & BlockingEventTable.OLD_DATA) != 0) {
+            maxHeapAfterGc = Math.max(maxHeapAfterGc,
+                    nullSafe(table.getYoungOccupancyEnd(index)) + nullSafe(table.getOldOccupancyEnd(index)));
+            maxHeapOccupancy = Math.max(maxHeapOccupancy,
+                    nullSafe(table.getYoungOccupancyInit(index)) + nullSafe(table.getOldOccupancyInit(index)));
+            maxHeapSpace = Math.max(maxHeapSpace,
+                    nullSafe(table.getYoungSpace(index)) + nullSafe(table.getOldSpace(index)));
+            maxOldSpace = max(maxOldSpace, table.getOldSpace(index));
+        }
+        if ((flags & BlockingEventTable.COMBINED_DATA) != 0) {
+            maxHeapAfterGc = max(maxHeapAfterGc, table.getCombinedOccupancyEnd(index));
+            if ((flags & BlockingEventTable.OLD_DATA) == 0) {
+                maxHeapOccupancy = max(maxHeapOccupancy, table.getCombinedOccupancyInit(index));
+                maxHeapSpace = max(maxHeapSpace, table.getCombinedSpace(index));
+            }
+        }
+        if ((flags & BlockingEventTable.PERM_METASPACE_DATA) != 0) {
+            maxPermAfterGc = max(maxPermAfterGc, table.getPermOccupancyEnd(index));
+            maxPermOccupancy = max(maxPermOccupancy, table.getPermOccupancyInit(index));
+            maxPermSpace = max(maxPermSpace, table.getPermSpace(index));
+        }
+        if ((flags & BlockingEventTable.YOUNG_DATA) != 0) {
+            maxYoungSpace = max(maxYoungSpace, table.getYoungSpace(index));
+        }
+    }
+
+    void clear() {
+        count = 0;
+        durationMax = 0;
+        durationTotal = 0;
+        maxHeapAfterGc = 0;
+        maxHeapOccupancy = 0;
+        maxHeapSpace = 0;
+        maxOldSpace = 0;
+        maxPermAfterGc = 0;
+        maxPermOccupancy = 0;
+        maxPermSpace = 0;
+        maxYoungSpace = 0;
+    }
+
+    long getDurationMax() {
+        return durationMax;
+    }
+
+    long getDurationTotal() {
+        return durationTotal;
+    }
+
+    long getMaxHeapAfterGc() {
+        return maxHeapAfterGc;
+    }
+
+    long getMaxHeapOccupancy() {
+        return maxHeapOccupancy;
+    }
+
+    long getMaxHeapSpace() {
+        return maxHeapSpace;
+    }
+
+    long getMaxOldSpace() {
+        return maxOldSpace;
+    }
+
+    long getMaxPermAfterGc() {
+        return maxPermAfterGc;
+    }
+
+    long getMaxPermOccupancy() {
+        return maxPermOccupancy;
+    }
+
+    long getMaxPermSpace() {
+        return maxPermSpace;
+    }
+
+    long getMaxYoungSpace() {
+        return maxYoungSpace;
+    }
+
+    void read(DataInput in) throws IOException {
+        count = in.readLong();
+        durationMax = in.readLong();
+        durationTotal = in.readLong();
+        maxHeapAfterGc = in.readLong();
+        maxHeapOccupancy = in.readLong();
+        maxHeapSpace = in.readLong();
+        maxOldSpace = in.readLong();
+        maxPermAfterGc = in.readLong();
+        maxPermOccupancy = in.readLong();
+        maxPermSpace = in.readLong();
+        maxYoungSpace = in.readLong();
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeLong(durationMax);
+        out.writeLong(durationTotal);
+        out.writeLong(maxHeapAfterGc);
+        out.writeLong(maxHeapOccupancy);
+        out.writeLong(maxHeapSpace);
+        out.writeLong(maxOldSpace);
+        out.writeLong(maxPermAfterGc);
+        out.writeLong(maxPermOccupancy);
+        out.writeLong(maxPermSpace);
+        out.writeLong(maxYoungSpace);
+    }
+}
@@ -0,0 +1,545 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.eclipselabs.garbagecat.domain.BlockingEvent;
+import org.eclipselabs.garbagecat.domain.CombinedData;
+import org.eclipselabs.garbagecat.domain.OldData;
+import org.eclipselabs.garbagecat.domain.PermMetaspaceData;
+import org.eclipselabs.garbagecat.domain.TriggerData;
+import org.eclipselabs.garbagecat.domain.YoungData;
+import org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseEvent;
+import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+
+/**
+ * <p>
+ * <code>BlockingEvent</code> data stored in primitive columns ordered by timestamp, one row per event. Sizes are
+ * kilobytes, with {@link org.eclipselabs.garbagecat.util.Memory#NO_DATA} when the event does not have the data.
+ * </p>
+ * 
+ * <p>
+ * Events are appended as they are added. Logging out of timestamp order is put in order by a single stable sort when
+ * {@link #sort()} is called, instead of on every add, so reordered logging is not quadratic.
+ * </p>
+ * 
+ * <p>
+ * Events are not retained. {@link #getEvent(int)} rebuilds an event from the log entry, timestamp, and duration.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+final class BlockingEventTable {
+
+    /**
+     * The event has <code>CombinedData</code>.
+     */
+    static final int COMBINED_DATA = 1;
+
+    /**
+     * The event has <code>OldData</code>.
+     */
+    static final int OLD_DATA = 2;
+
+    /**
+     * The event has <code>PermMetaspaceData</code>.
+     */
+    static final int PERM_METASPACE_DATA = 4;
+
+    /**
+     * The event has <code>YoungData</code>.
+     */
+    static final int YOUNG_DATA = 8;
+
+    private static final LogEventType[] LOG_EVENT_TYPES = LogEventType.values();
+
+    /**
+     * <code>GcTrigger</code>s by ordinal.
+     */
+    private static final GcTrigger[] GC_TRIGGERS = GcTrigger.values();
+
+    private static int dataFlags(BlockingEvent event) {
+        int flags = 0;
+        if (event instanceof CombinedData) {
+            flags |= COMBINED_DATA;
+        }
+        if (event instanceof OldData) {
+            flags |= OLD_DATA;
+        }
+        if (event instanceof PermMetaspaceData) {
+            flags |= PERM_METASPACE_DATA;
+        }
+        if (event instanceof YoungData) {
+            flags |= YOUNG_DATA;
+        }
+        return flags;
+    }
+
+    private final LongColumn combinedOccupancyEnd;
+
+    private final LongColumn combinedOccupancyInit;
+
+    private final LongColumn combinedSpace;
+
+    /**
+     * Data flags by <code>LogEventType</code> ordinal. Every event of a given type has the same data.
+     */
+    private int[] dataFlags = new int[LOG_EVENT_TYPES.length];
+
+    /**
+     * Duration (microseconds).
+     */
+    private final LongColumn durations;
+
+    private final LongColumn edenOccupancyEnd;
+
+    private final LongColumn edenOccupancyInit;
+
+    private final LogEntryColumn logEntries;
+
+    private final LongColumn oldOccupancyEnd;
+
+    private final LongColumn oldOccupancyInit;
+
+    private final LongColumn oldSpace;
+
+    private final LongColumn permOccupancyEnd;
+
+    private final LongColumn permOccupancyInit;
+
+    private final LongColumn permSpace;
+
+    /**
+     * Ascending row indexes by <code>LogEventType</code> ordinal, null if there are no events of the type.
+     */
+    private IntColumn[] rowsByType = new IntColumn[LOG_EVENT_TYPES.length];
+
+    /**
+     * Whether the rows are in timestamp order.
+     */
+    private boolean sorted = true;
+
+    /**
+     * Timestamp (milliseconds after JVM startup).
+     */
+    private final LongColumn timestamps;
+
+    /**
+     * <code>GcTrigger</code> ordinal, -1 if none.
+     */
+    private final IntColumn triggers;
+
+    /**
+     * <code>LogEventType</code> ordinal.
+     */
+    private final IntColumn types;
+
+    private final LongColumn youngOccupancyEnd;
+
+    private final LongColumn youngOccupancyInit;
+
+    private final LongColumn youngSpace;
+
+    private final ColumnStore store;
+
+    /**
+     * @param store
+     *            The store allocating the column chunks.
+     */
+    BlockingEventTable(ColumnStore store) {
+        this.store = store;
+        combinedOccupancyEnd = new LongColumn(store);
+        combinedOccupancyInit = new LongColumn(store);
+        combinedSpace = new LongColumn(store);
+        durations = new LongColumn(store);
+        edenOccupancyEnd = new LongColumn(store);
+        edenOccupancyInit = new LongColumn(store);
+        logEntries = new LogEntryColumn(store);
+        oldOccupancyEnd = new LongColumn(store);
+        oldOccupancyInit = new LongColumn(store);
+        oldSpace = new LongColumn(store);
+        permOccupancyEnd = new LongColumn(store);
+        permOccupancyInit = new LongColumn(store);
+        permSpace = new LongColumn(store);
+        timestamps = new LongColumn(store);
+        triggers = new IntColumn(store);
+        types = new IntColumn(store);
+        youngOccupancyEnd = new LongColumn(store);
+        youngOccupancyInit = new LongColumn(store);
+        youngSpace = new LongColumn(store);
+    }
+
+    /**
+     * Append an event.
+     * 
+     * @param event
+     *            The event to add.
+     * @return The row index of the event, valid until the next {@link #sort()}.
+     */
+    int add(BlockingEvent event) {
+        int index = size();
+        if (index > 0 && event.getTimestamp() < timestamps.get(index - 1)) {
+            sorted = false;
+        }
+        LogEventType type = event.getLogEventType();
+        dataFlags[type.ordinal()] = dataFlags(event);
+        indexRow(type.ordinal(), index);
+        timestamps.add(event.getTimestamp());
+        durations.add(event.getDuration());
+        types.add(type.ordinal());
+        triggers.add(event instanceof TriggerData && ((TriggerData) event).getTrigger() != null
+                ? ((TriggerData) event).getTrigger().ordinal()
+                : -1);
+        if (event instanceof OldData) {
+            OldData data = (OldData) event;
+            youngOccupancyInit.add(Memory.toKilobytes(data.getYoungOccupancyInit()));
+            youngOccupancyEnd.add(Memory.toKilobytes(data.getYoungOccupancyEnd()));
+            youngSpace.add(Memory.toKilobytes(data.getYoungSpace()));
+            oldOccupancyInit.add(Memory.toKilobytes(data.getOldOccupancyInit()));
+            oldOccupancyEnd.add(Memory.toKilobytes(data.getOldOccupancyEnd()));
+            oldSpace.add(Memory.toKilobytes(data.getOldSpace()));
+        } else {
+            if (event instanceof YoungData) {
+                YoungData data = (YoungData) event;
+                youngOccupancyInit.add(Memory.toKilobytes(data.getYoungOccupancyInit()));
+                youngOccupancyEnd.add(Memory.toKilobytes(data.getYoungOccupancyEnd()));
+                youngSpace.add(Memory.toKilobytes(data.getYoungSpace()));
+            } else {
+                youngOccupancyInit.add(Memory.NO_DATA);
+                youngOccupancyEnd.add(Memory.NO_DATA);
+                youngSpace.add(Memory.NO_DATA);
+            }
+            oldOccupancyInit.add(Memory.NO_DATA);
+            oldOccupancyEnd.add(Memory.NO_DATA);
+            oldSpace.add(Memory.NO_DATA);
+        }
+        if (event instanceof CombinedData) {
+            CombinedData data = (CombinedData) event;
+            combinedOccupancyInit.add(Memory.toKilobytes(data.getCombinedOccupancyInit()));
+            combinedOccupancyEnd.add(Memory.toKilobytes(data.getCombinedOccupancyEnd()));
+            combinedSpace.add(Memory.toKilobytes(data.getCombinedSpace()));
+        } else {
+            combinedOccupancyInit.add(Memory.NO_DATA);
+            combinedOccupancyEnd.add(Memory.NO_DATA);
+            combinedSpace.add(Memory.NO_DATA);
+        }
+        if (event instanceof PermMetaspaceData) {
+            PermMetaspaceData data = (PermMetaspaceData) event;
+            permOccupancyInit.add(Memory.toKilobytes(data.getPermOccupancyInit()));
+            permOccupancyEnd.add(Memory.toKilobytes(data.getPermOccupancyEnd()));
+            permSpace.add(Memory.toKilobytes(data.getPermSpace()));
+        } else {
+            permOccupancyInit.add(Memory.NO_DATA);
+            permOccupancyEnd.add(Memory.NO_DATA);
+            permSpace.add(Memory.NO_DATA);
+        }
+        if (event instanceof G1YoungPauseEvent) {
+            G1YoungPauseEvent young = (G1YoungPauseEvent) event;
+            edenOccupancyInit.add(Memory.toKilobytes(young.getEdenOccupancyInit()));
+            edenOccupancyEnd.add(Memory.toKilobytes(young.getEdenOccupancyEnd()));
+        } else {
+            edenOccupancyInit.add(Memory.NO_DATA);
+            edenOccupancyEnd.add(Memory.NO_DATA);
+        }
+        logEntries.add(event.getLogEntry());
+        return index;
+    }
+
+    void clear() {
+        for (LongColumn column : longColumns()) {
+            column.clear();
+        }
+        for (IntColumn column : intColumns()) {
+            column.clear();
+        }
+        logEntries.clear();
+        rowsByType = new IntColumn[LOG_EVENT_TYPES.length];
+        sorted = true;
+    }
+
+    long getCombinedOccupancyEnd(int index) {
+        return combinedOccupancyEnd.get(index);
+    }
+
+    long getCombinedOccupancyInit(int index) {
+        return combinedOccupancyInit.get(index);
+    }
+
+    long getCombinedSpace(int index) {
+        return combinedSpace.get(index);
+    }
+
+    /**
+     * @param index
+     *            The row index.
+     * @return The data flags (e.g. {@link #OLD_DATA}) for the event.
+     */
+    int getDataFlags(int index) {
+        return dataFlags[types.get(index)];
+    }
+
+    long getDuration(int index) {
+        return durations.get(index);
+    }
+
+    long getEdenOccupancyEnd(int index) {
+        return edenOccupancyEnd.get(index);
+    }
+
+    long getEdenOccupancyInit(int index) {
+        return edenOccupancyInit.get(index);
+    }
+
+    /**
+     * Rebuild the event from the log entry, timestamp, duration, and trigger. Other event data is not restored.
+     * 
+     * @param index
+     *            The row index.
+     * @return The event.
+     */
+    BlockingEvent getEvent(int index) {
+        return JdkUtil.hydrateBlockingEvent(getEventType(index), logEntries.get(index), timestamps.get(index),
+                (int) durations.get(index), getTrigger(index));
+    }
+
+    LogEventType getEventType(int index) {
+        return LOG_EVENT_TYPES[types.get(index)];
+    }
+
+    String getLogEntry(int index) {
+        return logEntries.get(index);
+    }
+
+    long getOldOccupancyEnd(int index) {
+        return oldOccupancyEnd.get(index);
+    }
+
+    long getOldOccupancyInit(int index) {
+        return oldOccupancyInit.get(index);
+    }
+
+    long getOldSpace(int index) {
+        return oldSpace.get(index);
+    }
+
+    long getPermOccupancyEnd(int index) {
+        return permOccupancyEnd.get(index);
+    }
+
+    long getPermOccupancyInit(int index) {
+        return permOccupancyInit.get(index);
+    }
+
+    long getPermSpace(int index) {
+        return permSpace.get(index);
+    }
+
+    /**
+     * @param type
+     *            The event type.
+     * @param n
+     *            The position of the row among rows of the type.
+     * @return The row index.
+     */
+    int getRow(LogEventType type, int n) {
+        return rowsByType[type.ordinal()].get(n);
+    }
+
+    /**
+     * @param type
+     *            The event type.
+     * @return The number of rows of the type.
+     */
+    int getRowCount(LogEventType type) {
+        IntColumn rows = rowsByType[type.ordinal()];
+        return rows == null ? 0 : rows.size();
+    }
+
+    long getTimestamp(int index) {
+        return timestamps.get(index);
+    }
+
+    /**
+     * @param index
+     *            The row index.
+     * @return The <code>GcTrigger</code>, or null if the event has no trigger.
+     */
+    GcTrigger getTrigger(int index) {
+        int trigger = triggers.get(index);
+        return trigger == -1 ? null : GC_TRIGGERS[trigger];
+    }
+
+    long getYoungOccupancyEnd(int index) {
+        return youngOccupancyEnd.get(index);
+    }
+
+    long getYoungOccupancyInit(int index) {
+        return youngOccupancyInit.get(index);
+    }
+
+    long getYoungSpace(int index) {
+        return youngSpace.get(index);
+    }
+
+    private void indexRow(int typeOrdinal, int index) {
+        if (rowsByType[typeOrdinal] == null) {
+            rowsByType[typeOrdinal] = new IntColumn(store);
+        }
+        rowsByType[typeOrdinal].add(index);
+    }
+
+    private IntColumn[] intColumns() {
+        return new IntColumn[] { triggers, types };
+    }
+
+    private LongColumn[] longColumns() {
+        return new LongColumn[] { combinedOccupancyEnd, combinedOccupancyInit, combinedSpace, durations,
+                edenOccupancyEnd, edenOccupancyInit, oldOccupancyEnd, oldOccupancyInit, oldSpace, permOccupancyEnd,
+                permOccupancyInit, permSpace, timestamps, youngOccupancyEnd, youngOccupancyInit, youngSpace };
+    }
+
+    /**
+     * Replace the rows with rows written by {@link #write(DataOutput)}.
+     * 
+     * @param in
+     *            The input.
+     * @throws IOException
+     *             if the input cannot be read.
+     */
+    void read(DataInput in) throws IOException {
+        clear();
+        for (LongColumn column : longColumns()) {
+            column.read(in);
+        }
+        for (IntColumn column : intColumns()) {
+            column.read(in);
+        }
+        logEntries.read(in);
+        for (int i = 0; i < dataFlags.length; i++) {
+            dataFlags[i] = in.readInt();
+        }
+        for (int i = 0; i < size(); i++) {
+            indexRow(types.get(i), i);
+        }
+    }
+
+    /**
+     * @return The number of rows.
+     */
+    int size() {
+        return timestamps.size();
+    }
+
+    /**
+     * Put the rows in timestamp order, keeping rows with the same timestamp in the order they were added. Does nothing
+     * if the rows are already in order.
+     */
+    void sort() {
+        if (sorted) {
+            return;
+        }
+        int[] order = sortOrder();
+        for (LongColumn column : longColumns()) {
+            column.reorder(order);
+        }
+        for (IntColumn column : intColumns()) {
+            column.reorder(order);
+        }
+        logEntries.reorder(order);
+        rowsByType = new IntColumn[LOG_EVENT_TYPES.length];
+        for (int i = 0; i < order.length; i++) {
+            indexRow(types.get(i), i);
+        }
+        sorted = true;
+    }
+
+    /**
+     * Stable natural merge sort: the rows are split into runs already in timestamp order, then adjacent runs are merged
+     * until one remains. Logging that is mostly in order has few runs and sorts in close to linear time.
+     * 
+     * @return The current row index for each row in timestamp order.
+     */
+    private int[] sortOrder() {
+        int size = size();
+        long[] keys = new long[size];
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = timestamps.get(i);
+            order[i] = i;
+        }
+        // Run boundaries: run r is [runs[r], runs[r + 1])
+        int[] runs = new int[size + 1];
+        int runCount = 1;
+        for (int i = 1; i < size; i++) {
+            if (keys[i] < keys[i - 1]) {
+                runs[runCount++] = i;
+            }
+        }
+        runs[runCount] = size;
+        int[] source = order;
+        int[] target = new int[size];
+        while (runCount > 1) {
+            int merged = 0;
+            for (int r = 0; r < runCount; r += 2) {
+                int begin = runs[r];
+                int middle = runs[Math.min(r + 1, runCount)];
+                int end = runs[Math.min(r + 2, runCount)];
+                int i = begin;
+                int j = middle;
+                int k = begin;
+                while (i < middle && j < end) {
+                    // Take from the left run on equal timestamps to keep the sort stable
+                    target[k++] = keys[source[j]] < keys[source[i]] ? source[j++] : source[i++];
+                }
+                System.arraycopy(source, i, target, k, middle - i);
+                System.arraycopy(source, j, target, k + middle - i, end - j);
+                runs[merged++] = begin;
+            }
+            runs[merged] = size;
+            runCount = merged;
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        return source;
+    }
+
+    /**
+     * Write the rows in timestamp order.
+     * 
+     * @param out
+     *            The output.
+     * @throws IOException
+     *             if the output cannot be written.
+     */
+    void write(DataOutput out) throws IOException {
+        sort();
+        for (LongColumn column : longColumns()) {
+            column.write(out);
+        }
+        for (IntColumn column : intColumns()) {
+            column.write(out);
+        }
+        logEntries.write(out);
+        for (int i = 0; i < dataFlags.length; i++) {
+            out.writeInt(dataFlags[i]);
+        }
+    }
+}
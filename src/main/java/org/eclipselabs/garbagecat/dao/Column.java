@@ -0,0 +1,151 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import java.nio.Buffer;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * A growable column of primitive values. Values are stored in fixed size chunks, so growing the column never copies the
+ * values already stored. Chunks are allocated by a <code>ColumnStore</code>, on the heap or in a memory-mapped file.
+ * Subclasses provide the chunk type and the typed access to values.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ * @param <B>
+ *            The chunk type.
+ */
+abstract class Column<B extends Buffer> {
+
+    /**
+     * The number of values in a chunk as a power of 2.
+     */
+    static final int CHUNK_BITS = 12;
+
+    static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    /**
+     * The chunks holding the values. Chunks are allocated as needed.
+     */
+    B[] chunks;
+
+    /**
+     * The number of values in the column.
+     */
+    int size;
+
+    final ColumnStore store;
+
+    /**
+     * @param store
+     *            The store allocating the chunks.
+     * @param chunks
+     *            An empty array of the chunk type.
+     */
+    Column(ColumnStore store, B[] chunks) {
+        this.store = store;
+        this.chunks = chunks;
+    }
+
+    /**
+     * @return A new chunk of {@link #CHUNK_SIZE} values.
+     */
+    abstract B allocateChunk();
+
+    /**
+     * @param index
+     *            The value index.
+     * @throws IndexOutOfBoundsException
+     *             if the index is not in the column.
+     */
+    void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    void clear() {
+        freeChunks();
+        chunks = Arrays.copyOf(chunks, 0);
+        size = 0;
+    }
+
+    /**
+     * Copy a value from one chunk to another.
+     * 
+     * @param source
+     *            The chunk holding the value.
+     * @param sourceOffset
+     *            The value offset in the source chunk.
+     * @param target
+     *            The chunk to copy the value to.
+     * @param targetOffset
+     *            The value offset in the target chunk.
+     */
+    abstract void copy(B source, int sourceOffset, B target, int targetOffset);
+
+    /**
+     * Make room for one more value.
+     */
+    void ensureCapacity() {
+        int chunkCount = (size + 1 + CHUNK_MASK) >>> CHUNK_BITS;
+        if (chunkCount > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunkCount, chunks.length * 2));
+        }
+        if (chunks[chunkCount - 1] == null) {
+            chunks[chunkCount - 1] = allocateChunk();
+        }
+    }
+
+    /**
+     * @param chunk
+     *            A chunk no longer in use.
+     */
+    abstract void free(B chunk);
+
+    private void freeChunks() {
+        for (int i = 0; i < chunks.length && chunks[i] != null; i++) {
+            free(chunks[i]);
+        }
+    }
+
+    /**
+     * Reorder the values.
+     * 
+     * @param order
+     *            The current index of the value for each new index. The length must be the column size.
+     */
+    void reorder(int[] order) {
+        B[] reordered = Arrays.copyOf(chunks, chunks.length);
+        Arrays.fill(reordered, null);
+        for (int i = 0; i < size; i += CHUNK_SIZE) {
+            reordered[i >>> CHUNK_BITS] = allocateChunk();
+        }
+        for (int i = 0; i < size; i++) {
+            copy(chunks[order[i] >>> CHUNK_BITS], order[i] & CHUNK_MASK, reordered[i >>> CHUNK_BITS], i & CHUNK_MASK);
+        }
+        freeChunks();
+        chunks = reordered;
+    }
+
+    /**
+     * @return The number of values in the column.
+     */
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,296 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * <p>
+ * Storage for the column chunks and log entries of a <code>JvmDao</code>. Chunks are allocated on the heap until the
+ * heap limit is exceeded. After that, new chunks are allocated in memory-mapped segments of a temporary file, and log
+ * entries are written to a <code>LogEntryFile</code>, so the operating system pages them in and out as needed. Chunks
+ * already on the heap stay there.
+ * </p>
+ * 
+ * <p>
+ * The files are deleted when the store is closed. On platforms that allow deleting open files, the files are deleted as
+ * soon as they are created, and the disk space is released when the store is closed. Otherwise, files not closed are
+ * deleted when the JVM exits.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+final class ColumnStore implements AutoCloseable {
+
+    /**
+     * The size of a memory-mapped file segment in bytes. Chunks are slices of a segment, so the number of mappings
+     * stays small.
+     */
+    private static final int SEGMENT_SIZE = 1 << 26;
+
+    /**
+     * @param suffix
+     *            The file name suffix.
+     * @return A temporary file opened for reading and writing, deleted when it is closed.
+     * @throws IOException
+     *             if the file cannot be created.
+     */
+    static FileChannel openTempFile(String suffix) throws IOException {
+        Path path = Files.createTempFile("garbagecat", suffix);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+        if (Files.exists(path)) {
+            // Not deleted while open, so delete it on exit in case it is not closed
+            path.toFile().deleteOnExit();
+        }
+        return channel;
+    }
+
+    /**
+     * The file holding memory-mapped chunks, null until the first chunk is allocated in the file.
+     */
+    private FileChannel channel;
+
+    /**
+     * Whether log entries are written to a file whether or not the heap limit is exceeded.
+     */
+    private boolean elideLogEntries;
+
+    /**
+     * The size of the file holding memory-mapped chunks in bytes.
+     */
+    private long fileSize;
+
+    /**
+     * Memory-mapped <code>int</code> chunks no longer in use.
+     */
+    private Deque<IntBuffer> freeIntChunks = new ArrayDeque<IntBuffer>();
+
+    /**
+     * Memory-mapped <code>long</code> chunks no longer in use.
+     */
+    private Deque<LongBuffer> freeLongChunks = new ArrayDeque<LongBuffer>();
+
+    /**
+     * The approximate number of heap bytes used by chunks and log entries.
+     */
+    private long heapBytes;
+
+    /**
+     * The number of heap bytes for chunks and log entries before switching to files.
+     */
+    private final long heapLimit;
+
+    /**
+     * The file holding log entries, null if log entries are retained in memory.
+     */
+    private LogEntryFile logEntryFile;
+
+    /**
+     * The memory-mapped segment new chunks are sliced from.
+     */
+    private ByteBuffer segment;
+
+    /**
+     * Whether the heap limit has been exceeded.
+     */
+    private boolean spilled;
+
+    /**
+     * @param heapLimit
+     *            The number of heap bytes for chunks and log entries before switching to files.
+     */
+    ColumnStore(long heapLimit) {
+        this.heapLimit = heapLimit;
+    }
+
+    /**
+     * @param bytes
+     *            The number of heap bytes used (positive) or released (negative) outside of chunks.
+     */
+    void addHeapBytes(long bytes) {
+        heapBytes += bytes;
+        if (heapBytes > heapLimit) {
+            spilled = true;
+        }
+    }
+
+    /**
+     * @param size
+     *            The number of values.
+     * @return A chunk of <code>int</code> values.
+     */
+    IntBuffer allocateIntChunk(int size) {
+        if (!freeIntChunks.isEmpty() && freeIntChunks.peek().capacity() == size) {
+            return freeIntChunks.pop();
+        }
+        if (onHeap((long) size * Integer.BYTES)) {
+            return IntBuffer.wrap(new int[size]);
+        }
+        return map(size * Integer.BYTES).asIntBuffer();
+    }
+
+    /**
+     * @param size
+     *            The number of values.
+     * @return A chunk of <code>long</code> values.
+     */
+    LongBuffer allocateLongChunk(int size) {
+        if (!freeLongChunks.isEmpty() && freeLongChunks.peek().capacity() == size) {
+            return freeLongChunks.pop();
+        }
+        if (onHeap((long) size * Long.BYTES)) {
+            return LongBuffer.wrap(new long[size]);
+        }
+        return map(size * Long.BYTES).asLongBuffer();
+    }
+
+    /**
+     * Close the files and go back to allocating chunks on the heap. Chunks and log entries must no longer be in use. A
+     * memory-mapped segment is released when it is garbage collected, since it cannot be unmapped explicitly.
+     * 
+     * @throws IOException
+     *             if a file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        freeIntChunks.clear();
+        freeLongChunks.clear();
+        segment = null;
+        fileSize = 0;
+        spilled = heapBytes > heapLimit;
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } finally {
+            channel = null;
+            if (logEntryFile != null) {
+                logEntryFile.close();
+                logEntryFile = null;
+            }
+        }
+    }
+
+    /**
+     * Write log entries to a file from now on, whether or not the heap limit is exceeded.
+     * 
+     * @throws IOException
+     *             if the file cannot be created.
+     */
+    void elideLogEntries() throws IOException {
+        elideLogEntries = true;
+        if (logEntryFile == null) {
+            logEntryFile = new LogEntryFile();
+        }
+    }
+
+    /**
+     * @param chunk
+     *            A chunk no longer in use.
+     */
+    void free(IntBuffer chunk) {
+        if (chunk.hasArray()) {
+            heapBytes -= (long) chunk.capacity() * Integer.BYTES;
+        } else {
+            freeIntChunks.push(chunk);
+        }
+    }
+
+    /**
+     * @param chunk
+     *            A chunk no longer in use.
+     */
+    void free(LongBuffer chunk) {
+        if (chunk.hasArray()) {
+            heapBytes -= (long) chunk.capacity() * Long.BYTES;
+        } else {
+            freeLongChunks.push(chunk);
+        }
+    }
+
+    long getHeapBytes() {
+        return heapBytes;
+    }
+
+    /**
+     * @return The file to write log entries to, or null if log entries are retained in memory.
+     */
+    LogEntryFile getLogEntryFile() {
+        if (logEntryFile == null && (spilled || elideLogEntries)) {
+            try {
+                logEntryFile = new LogEntryFile();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return logEntryFile;
+    }
+
+    /**
+     * @return true if the heap limit has been exceeded, false otherwise.
+     */
+    boolean isSpilled() {
+        return spilled;
+    }
+
+    /**
+     * @param bytes
+     *            The chunk size in bytes.
+     * @return A memory-mapped chunk.
+     */
+    private ByteBuffer map(int bytes) {
+        try {
+            if (channel == null) {
+                channel = openTempFile(".columns");
+            }
+            if (segment == null || segment.remaining() < bytes) {
+                segment = channel.map(MapMode.READ_WRITE, fileSize, SEGMENT_SIZE);
+                fileSize += SEGMENT_SIZE;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer chunk = segment.slice();
+        chunk.limit(bytes);
+        segment.position(segment.position() + bytes);
+        return chunk.order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * @param bytes
+     *            The chunk size in bytes.
+     * @return true if the chunk fits in the heap limit and is counted against it, false otherwise.
+     */
+    private boolean onHeap(long bytes) {
+        if (!spilled && heapBytes + bytes <= heapLimit) {
+            heapBytes += bytes;
+            return true;
+        }
+        spilled = true;
+        return false;
+    }
+}
@@ -0,0 +1,101 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.IntBuffer;
+
+/**
+ * <p>
+ * A growable column of <code>int</code> values (see {@link Column}).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+final class IntColumn extends Column<IntBuffer> {
+
+    /**
+     * @param store
+     *            The store allocating the chunks.
+     */
+    IntColumn(ColumnStore store) {
+        super(store, new IntBuffer[0]);
+    }
+
+    /**
+     * @param value
+     *            The value to append.
+     */
+    void add(int value) {
+        ensureCapacity();
+        chunks[size >>> CHUNK_BITS].put(size & CHUNK_MASK, value);
+        size++;
+    }
+
+    @Override
+    IntBuffer allocateChunk() {
+        return store.allocateIntChunk(CHUNK_SIZE);
+    }
+
+    @Override
+    void copy(IntBuffer source, int sourceOffset, IntBuffer target, int targetOffset) {
+        target.put(targetOffset, source.get(sourceOffset));
+    }
+
+    @Override
+    void free(IntBuffer chunk) {
+        store.free(chunk);
+    }
+
+    /**
+     * @param index
+     *            The value index.
+     * @return The value at the index.
+     */
+    int get(int index) {
+        checkIndex(index);
+        return chunks[index >>> CHUNK_BITS].get(index & CHUNK_MASK);
+    }
+
+    /**
+     * Append values written by {@link #write(DataOutput)}.
+     * 
+     * @param in
+     *            The input.
+     * @throws IOException
+     *             if the input cannot be read.
+     */
+    void read(DataInput in) throws IOException {
+        for (int i = in.readInt(); i > 0; i--) {
+            add(in.readInt());
+        }
+    }
+
+    /**
+     * Write the number of values, then the values.
+     * 
+     * @param out
+     *            The output.
+     * @throws IOException
+     *             if the output cannot be written.
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(get(i));
+        }
+    }
+}
@@ -12,46 +12,40 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.dao;
 
-import static java.util.Collections.binarySearch;
 import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.summingLong;
-import static java.util.stream.Collectors.toList;
-import static org.eclipselabs.garbagecat.util.Memory.ZERO;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
-
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.LongStream;
-import java.util.stream.Stream;
+import java.util.Map;
 
 import org.eclipselabs.garbagecat.domain.BlockingEvent;
-import org.eclipselabs.garbagecat.domain.CombinedData;
 import org.eclipselabs.garbagecat.domain.LogEvent;
-import org.eclipselabs.garbagecat.domain.OldData;
-import org.eclipselabs.garbagecat.domain.PermMetaspaceData;
 import org.eclipselabs.garbagecat.domain.SafepointEvent;
-import org.eclipselabs.garbagecat.domain.YoungData;
 import org.eclipselabs.garbagecat.domain.jdk.ApplicationStoppedTimeEvent;
+import org.eclipselabs.garbagecat.domain.jdk.HeaderVmInfoEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.SafepointEventSummary;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction.PreprocessEvent;
+import org.eclipselabs.garbagecat.util.EnumSetList;
+import org.eclipselabs.garbagecat.util.GcUtil;
 import org.eclipselabs.garbagecat.util.Memory;
 import org.eclipselabs.garbagecat.util.jdk.Analysis;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
+import org.github.joa.domain.Bit;
+import org.github.joa.domain.GarbageCollector;
 import org.github.joa.domain.JvmContext;
 
 /**
@@ -59,65 +53,64 @@ import org.github.joa.domain.JvmContext;
  * Manage storing and retrieving JVM data from streams.
  * </p>
  * 
+ * <p>
+ * Thread safety: all state belongs to the instance. Separate instances share nothing and can be used concurrently from
+ * different threads. A single instance is not thread safe and must be confined to one thread (or externally
+ * synchronized).
+ * </p>
+ * 
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
 public class JvmDao {
 
-    private static final Comparator<BlockingEvent> COMPARE_BY_TIMESTAMP = comparing(BlockingEvent::getTimestamp);
-
-    /**
-     * The database connection.
-     */
-    private static Connection connection;
-
-    private static boolean created;
-
-    /**
-     * SQL statement(s) to create table.
-     */
-    private static final String[] TABLES_CREATE_SQL = {
-            "create table safepoint_event (id integer identity, time_stamp bigint, trigger_type varchar(64), "
-                    + "duration bigint, log_entry varchar(500))" };
-
-    private static Memory add(Memory m1, Memory m2) {
-        return m1 == null ? nullSafe(m2) : m1.plus(nullSafe(m2));
-    }
-
-    private static <T> Stream<Integer> ints(List<T> list, Function<T, Integer> function) {
-        return list.stream().map(function).filter(Objects::nonNull);
-    }
-
-    private static <T> Stream<Long> longs(List<T> list, Function<T, Long> function) {
-        return list.stream().map(function).filter(Objects::nonNull);
+    private static <E extends Enum<E>> void readEnums(DataInput in, Class<E> type, List<E> enums) throws IOException {
+        for (int i = in.readInt(); i > 0; i--) {
+            String name = GcUtil.readString(in);
+            enums.add(name == null ? null : Enum.valueOf(type, name));
+        }
     }
 
-    private static Memory nullSafe(Memory memory) {
-        return memory == null ? ZERO : memory;
+    private static LogEvent readEvent(DataInput in) throws IOException {
+        String logEntry = GcUtil.readString(in);
+        return logEntry == null ? null : JdkUtil.parseLogLine(logEntry, null);
     }
 
-    private static BlockingEvent toBlockingEvent(BlockingEvent e) {
-        return e;
+    private static void writeEnums(DataOutput out, List<? extends Enum<?>> enums) throws IOException {
+        out.writeInt(enums.size());
+        for (Enum<?> e : enums) {
+            GcUtil.writeString(out, e == null ? null : e.name());
+        }
     }
 
-    private static SafepointEvent toSafepointEvent(SafepointEvent e) {
-        return e;
+    private static void writeEvent(DataOutput out, LogEvent event) throws IOException {
+        GcUtil.writeString(out, event == null ? null : event.getLogEntry());
     }
 
     /**
      * Analysis property keys.
      */
-    private List<Analysis> analysis = new ArrayList<Analysis>();
+    private List<Analysis> analysis = new EnumSetList<>(Analysis.class);
 
     /**
      * GC events that are blocking.
      */
-    private List<BlockingEvent> blockingEvents = new ArrayList<>();
+    private final BlockingEventTable blockingEvents;
+
+    /**
+     * Maxima and totals of <code>BlockingEvent</code> data.
+     */
+    private BlockingEventAggregator blockingEventAggregator = new BlockingEventAggregator();
+
+    /**
+     * Storage for event columns and log entries.
+     */
+    private final ColumnStore columnStore;
 
     /**
      * List of all event types associate with the JVM run.
      */
-    List<LogEventType> eventTypes = new ArrayList<>();
+    List<LogEventType> eventTypes = new EnumSetList<>(LogEventType.class);
 
     /**
      * Maximum external root scanning time (microseconds).
@@ -129,10 +122,15 @@ public class JvmDao {
      */
     private long extRootScanningTimeTotal;
 
+    /**
+     * The garbage collectors in the <code>JvmContext</code>, for constant time lookup.
+     */
+    private EnumSet<GarbageCollector> garbageCollectors = EnumSet.noneOf(GarbageCollector.class);
+
     /**
      * List of all GC triggers associate with the JVM run.
      */
-    List<GcTrigger> gcTriggers = new ArrayList<>();
+    List<GcTrigger> gcTriggers = new EnumSetList<>(GcTrigger.class);
 
     /**
      * Number of <code>ParallelCollection</code> with "inverted" parallelism.
@@ -212,7 +210,7 @@ public class JvmDao {
     /**
      * List of all preparsing events associate with the JVM run.
      */
-    List<PreprocessEvent> preprocessEvents = new ArrayList<>();
+    List<PreprocessEvent> preprocessEvents = new EnumSetList<>(PreprocessEvent.class);
 
     /**
      * Number of <code>SerialCollection</code> events.
@@ -222,7 +220,12 @@ public class JvmDao {
     /**
      * Stopped time events.
      */
-    private List<ApplicationStoppedTimeEvent> stoppedTimeEvents = new ArrayList<>();
+    private final SafepointEventTable stoppedTimeEvents;
+
+    /**
+     * <code>ApplicationStoppedTimeEvent</code> count, total, and maximum duration.
+     */
+    private SafepointTotals stoppedTimeTotals = new SafepointTotals();
 
     /**
      * Swap size (bytes).
@@ -249,7 +252,17 @@ public class JvmDao {
     /**
      * Safepoint events.
      */
-    private List<UnifiedSafepointEvent> unifiedSafepointEvents = new ArrayList<>();
+    private final SafepointEventTable unifiedSafepointEvents;
+
+    /**
+     * <code>UnifiedSafepointEvent</code> count, total, and maximum duration.
+     */
+    private SafepointTotals unifiedSafepointTotals = new SafepointTotals();
+
+    /**
+     * <code>UnifiedSafepointEvent</code> totals by <code>Trigger</code>, kept as events are added.
+     */
+    private EnumMap<Trigger, SafepointTotals> unifiedSafepointTotalsByTrigger = new EnumMap<>(Trigger.class);
 
     /**
      * Convenience field for vm_info.
@@ -271,82 +284,137 @@ public class JvmDao {
      */
     private LogEvent worstSysGtUserEvent;
 
+    /**
+     * Event columns and log entries are kept on the heap up to half the maximum heap size, then in temporary files.
+     */
     public JvmDao() {
-        if (created) {
-            cleanup();
-        } else {
-            created = true;
-        }
-        try {
-            // Load database driver.
-            Class.forName("org.hsqldb.jdbcDriver");
-        } catch (ClassNotFoundException e) {
-            System.err.println(e.getMessage());
-            throw new RuntimeException("Failed to load HSQLDB JDBC driver.");
-        }
-
-        try {
-            // Connect to database.
-            connection = DriverManager.getConnection("jdbc:hsqldb:mem:vmdb", "sa", "");
-        } catch (SQLException e) {
-            System.err.println(e.getMessage());
-            throw new RuntimeException("Error accessing database.");
-        }
+        this(Runtime.getRuntime().maxMemory() / 2);
+    }
 
-        // Create tables
-        Statement statement = null;
-        try {
-            statement = connection.createStatement();
-            for (int i = 0; i < TABLES_CREATE_SQL.length; i++) {
-                statement.executeUpdate(TABLES_CREATE_SQL[i]);
-            }
-        } catch (SQLException e) {
-            if (e.getMessage().startsWith("Table already exists")) {
-                cleanup();
-            } else {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error creating tables.");
-            }
-        } finally {
-            try {
-                statement.close();
-            } catch (SQLException e) {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error closing Statement.");
-            }
-        }
+    /**
+     * @param heapLimit
+     *            The number of heap bytes for event columns and log entries before switching to temporary files.
+     */
+    JvmDao(long heapLimit) {
+        columnStore = new ColumnStore(heapLimit);
+        blockingEvents = new BlockingEventTable(columnStore);
+        stoppedTimeEvents = new SafepointEventTable(columnStore);
+        unifiedSafepointEvents = new SafepointEventTable(columnStore);
     }
 
     public void addAnalysis(Analysis analysis) {
-        if (!this.analysis.contains(analysis)) {
-            this.analysis.add(analysis);
-        }
+        this.analysis.add(analysis);
     }
 
     public void addBlockingEvent(BlockingEvent event) {
-        blockingEvents.add(insertPosition(event), event);
+        blockingEventAggregator.add(blockingEvents, blockingEvents.add(event));
+    }
+
+    /**
+     * Add a garbage collector to the <code>JvmContext</code> if it is not already there.
+     * 
+     * @param garbageCollector
+     *            The garbage collector.
+     */
+    public void addGarbageCollector(GarbageCollector garbageCollector) {
+        if (garbageCollectors.add(garbageCollector)) {
+            jvmContext.getGarbageCollectors().add(garbageCollector);
+        }
     }
 
     public void addSafepointEvent(UnifiedSafepointEvent event) {
-        unifiedSafepointEvents.add(event);
+        Trigger trigger = event.getTrigger() == null ? Trigger.UNKNOWN : event.getTrigger();
+        unifiedSafepointEvents.add(event.getLogEntry(), event.getTimestamp(), event.getTimeToStopThreads(),
+                event.getTimeThreadsStopped(), trigger.ordinal());
+        SafepointTotals totals = unifiedSafepointTotalsByTrigger.get(trigger);
+        if (totals == null) {
+            totals = new SafepointTotals();
+            unifiedSafepointTotalsByTrigger.put(trigger, totals);
+        }
+        totals.add(event.getDuration());
+        unifiedSafepointTotals.add(event.getDuration());
     }
 
     public void addStoppedTimeEvent(ApplicationStoppedTimeEvent event) {
-        stoppedTimeEvents.add(event);
+        stoppedTimeEvents.add(event.getLogEntry(), event.getTimestamp(), event.getTimeToStopThreads(),
+                event.getTimeThreadsStopped(), -1);
+        stoppedTimeTotals.add(event.getDuration());
     }
 
     /**
-     * Cleanup operations.
+     * Cleanup operations. Clears the events and closes the temporary files holding them.
      */
     public synchronized void cleanup() {
         this.blockingEvents.clear();
-        JvmDao.created = false;
+        this.blockingEventAggregator.clear();
+        this.stoppedTimeEvents.clear();
+        this.stoppedTimeTotals = new SafepointTotals();
+        this.unifiedSafepointEvents.clear();
+        this.unifiedSafepointTotals = new SafepointTotals();
+        this.unifiedSafepointTotalsByTrigger.clear();
+        try {
+            columnStore.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Keep blocking and safepoint event log entries in a temporary file instead of memory. Log entries are read back
+     * from the file when events are retrieved.
+     * 
+     * @throws IOException
+     *             if the temporary file cannot be created.
+     */
+    public synchronized void elideLogEntries() throws IOException {
+        columnStore.elideLogEntries();
     }
 
     public List<Analysis> getAnalysis() {
         return analysis;
     }
 
+    /**
+     * Allocation rate in KB per second, from the eden occupancy between <code>G1YoungPauseEvent</code>s.
+     * 
+     * @return The allocation rate (kilobytes per second).
+     */
+    public synchronized BigDecimal getAllocationRate() {
+        long allocatedKb = 0;
+        int prior = -1;
+        long firstEventTs = 0;
+        blockingEvents.sort();
+        for (int n = 0; n < blockingEvents.getRowCount(LogEventType.G1_YOUNG_PAUSE); n++) {
+            int i = blockingEvents.getRow(LogEventType.G1_YOUNG_PAUSE, n);
+            if (prior == -1) {
+                // skip the first event since we don't know if this is a complete JVM run
+                // and therefore can't accurately calculate allocation rate prior to the first log
+                // youngGc pause event
+                prior = i;
+                firstEventTs = blockingEvents.getTimestamp(i);
+                continue;
+            }
+            // will not have eden information if gc details not being logged
+            if (blockingEvents.getEdenOccupancyInit(i) != Memory.NO_DATA
+                    && blockingEvents.getEdenOccupancyEnd(prior) != Memory.NO_DATA) {
+                allocatedKb += blockingEvents.getEdenOccupancyInit(i) - blockingEvents.getEdenOccupancyEnd(prior);
+            }
+            prior = i;
+        }
+        if (prior == -1) {
+            return BigDecimal.ZERO;
+        }
+
+        long durationMs = blockingEvents.getTimestamp(prior) - firstEventTs;
+        if (durationMs <= 0) {
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal kilobytesPerSec = BigDecimal.valueOf(allocatedKb / durationMs);
+
+        return kilobytesPerSec.multiply(BigDecimal.valueOf(1000));
+    }
+
     /**
      * The total number of blocking events.
      * 
@@ -357,12 +425,58 @@ public class JvmDao {
     }
 
     /**
-     * Retrieve all <code>BlockingEvent</code>s.
+     * @param index
+     *            The index of the event in timestamp order.
+     * @return The <code>BlockingEvent</code> duration (microseconds), without rebuilding the event.
+     */
+    public synchronized long getBlockingEventDuration(int index) {
+        blockingEvents.sort();
+        return blockingEvents.getDuration(index);
+    }
+
+    /**
+     * @param index
+     *            The index of the event in timestamp order.
+     * @return The <code>BlockingEvent</code> log entry, without rebuilding the event.
+     */
+    public synchronized String getBlockingEventLogEntry(int index) {
+        blockingEvents.sort();
+        return blockingEvents.getLogEntry(index);
+    }
+
+    /**
+     * @param index
+     *            The index of the event in timestamp order.
+     * @return The <code>BlockingEvent</code> timestamp (milliseconds after JVM startup), without rebuilding the
+     *         event.
+     */
+    public synchronized long getBlockingEventTimestamp(int index) {
+        blockingEvents.sort();
+        return blockingEvents.getTimestamp(index);
+    }
+
+    /**
+     * Retrieve all <code>BlockingEvent</code>s. Events are rebuilt from the stored log entry, timestamp, and duration
+     * as they are accessed.
      * 
-     * @return <code>List</code> of events.
+     * @return <code>List</code> view of the events.
      */
     public synchronized List<BlockingEvent> getBlockingEvents() {
-        return this.blockingEvents.stream().map(JvmDao::toBlockingEvent).collect(toList());
+        return new AbstractList<BlockingEvent>() {
+
+            @Override
+            public BlockingEvent get(int index) {
+                synchronized (JvmDao.this) {
+                    blockingEvents.sort();
+                    return blockingEvents.getEvent(index);
+                }
+            }
+
+            @Override
+            public int size() {
+                return blockingEvents.size();
+            }
+        };
     }
 
     /**
@@ -373,8 +487,13 @@ public class JvmDao {
      * @return <code>List</code> of events.
      */
     public synchronized List<BlockingEvent> getBlockingEvents(LogEventType eventType) {
-        return this.blockingEvents.stream().filter(e -> e.getName().equals(eventType.toString()))
-                .map(JvmDao::toBlockingEvent).collect(toList());
+        blockingEvents.sort();
+        int count = blockingEvents.getRowCount(eventType);
+        List<BlockingEvent> events = new ArrayList<BlockingEvent>(count);
+        for (int n = 0; n < count; n++) {
+            events.add(blockingEvents.getEvent(blockingEvents.getRow(eventType, n)));
+        }
+        return events;
     }
 
     /**
@@ -383,7 +502,7 @@ public class JvmDao {
      * @return maximum pause duration (microseconds).
      */
     public synchronized long getDurationMax() {
-        return longs(this.blockingEvents, BlockingEvent::getDuration).mapToLong(Long::valueOf).max().orElse(0);
+        return blockingEventAggregator.getDurationMax();
     }
 
     /**
@@ -392,7 +511,7 @@ public class JvmDao {
      * @return total pause duration (microseconds).
      */
     public synchronized long getDurationTotal() {
-        return longs(this.blockingEvents, BlockingEvent::getDuration).collect(summingLong(Long::valueOf));
+        return blockingEventAggregator.getDurationTotal();
     }
 
     public List<LogEventType> getEventTypes() {
@@ -416,7 +535,8 @@ public class JvmDao {
      */
     public synchronized BlockingEvent getFirstGcEvent() {
         // TODO JdkUtil#parseLogLine no longer needed?
-        return this.blockingEvents.isEmpty() ? null : this.blockingEvents.get(0);
+        blockingEvents.sort();
+        return blockingEvents.size() == 0 ? null : blockingEvents.getEvent(0);
     }
 
     /**
@@ -440,7 +560,7 @@ public class JvmDao {
      * @return The first stopped event.
      */
     private synchronized ApplicationStoppedTimeEvent getFirstStoppedEvent() {
-        return stoppedTimeEvents.isEmpty() ? null : stoppedTimeEvents.get(0);
+        return stoppedTimeEvents.isEmpty() ? null : getStoppedTimeEvent(0);
     }
 
     /**
@@ -449,7 +569,7 @@ public class JvmDao {
      * @return The first unified safepoint event.
      */
     private synchronized UnifiedSafepointEvent getFirstUnifiedSafepointEvent() {
-        return unifiedSafepointEvents.isEmpty() ? null : unifiedSafepointEvents.get(0);
+        return unifiedSafepointEvents.isEmpty() ? null : getUnifiedSafepointEvent(0);
     }
 
     public List<GcTrigger> getGcTriggers() {
@@ -482,7 +602,8 @@ public class JvmDao {
      * @return The last blocking event.
      */
     public synchronized BlockingEvent getLastGcEvent() {
-        return this.blockingEvents.isEmpty() ? null : this.blockingEvents.get(blockingEvents.size() - 1);
+        blockingEvents.sort();
+        return blockingEvents.size() == 0 ? null : blockingEvents.getEvent(blockingEvents.size() - 1);
     }
 
     /**
@@ -506,7 +627,7 @@ public class JvmDao {
      * @return The last stopped event.
      */
     private synchronized ApplicationStoppedTimeEvent getLastStoppedEvent() {
-        return stoppedTimeEvents.isEmpty() ? null : stoppedTimeEvents.get(stoppedTimeEvents.size() - 1);
+        return stoppedTimeEvents.isEmpty() ? null : getStoppedTimeEvent(stoppedTimeEvents.size() - 1);
     }
 
     /**
@@ -515,7 +636,7 @@ public class JvmDao {
      * @return The last safepoint event.
      */
     private synchronized UnifiedSafepointEvent getLastUnifiedSafepointEvent() {
-        return unifiedSafepointEvents.isEmpty() ? null : unifiedSafepointEvents.get(unifiedSafepointEvents.size() - 1);
+        return unifiedSafepointEvents.isEmpty() ? null : getUnifiedSafepointEvent(unifiedSafepointEvents.size() - 1);
     }
 
     public Date getLogFileDate() {
@@ -528,11 +649,7 @@ public class JvmDao {
      * @return maximum heap after GC (kilobytes).
      */
     public synchronized int getMaxHeapAfterGc() {
-        int oldMaxHeapAfterGc = (int) kilobytes(OldData.class,
-                t -> add(t.getYoungOccupancyEnd(), t.getOldOccupancyEnd())).max().orElse(0);
-        int combinedMaxHeapAfterGc = (int) kilobytes(CombinedData.class, CombinedData::getCombinedOccupancyEnd).max()
-                .orElse(0);
-        return Math.max(oldMaxHeapAfterGc, combinedMaxHeapAfterGc);
+        return (int) blockingEventAggregator.getMaxHeapAfterGc();
     }
 
     /**
@@ -541,19 +658,7 @@ public class JvmDao {
      * @return maximum heap occupancy (kilobytes).
      */
     public synchronized int getMaxHeapOccupancy() {
-        return (int) this.blockingEvents.stream() //
-                .map(e -> {
-                    if (e instanceof OldData) {
-                        OldData old = (OldData) e;
-                        return add(old.getYoungOccupancyInit(), old.getOldOccupancyInit());
-                    } else if (e instanceof CombinedData) {
-                        return ((CombinedData) e).getCombinedOccupancyInit();
-                    } else {
-                        return ZERO;
-                    }
-                }) //
-                .filter(Objects::nonNull) //
-                .mapToLong(m -> m.getValue(KILOBYTES)).max().orElse(0);
+        return (int) blockingEventAggregator.getMaxHeapOccupancy();
     }
 
     /**
@@ -569,19 +674,7 @@ public class JvmDao {
      * @return maximum heap size (kilobytes).
      */
     public synchronized int getMaxHeapSpace() {
-        return (int) this.blockingEvents.stream() //
-                .map(e -> {
-                    if (e instanceof OldData) {
-                        OldData old = (OldData) e;
-                        return add(old.getYoungSpace(), old.getOldSpace());
-                    } else if (e instanceof CombinedData) {
-                        return ((CombinedData) e).getCombinedSpace();
-                    } else {
-                        return ZERO;
-                    }
-                }) //
-                .filter(Objects::nonNull) //
-                .mapToLong(m -> m.getValue(KILOBYTES)).max().orElse(0);
+        return (int) blockingEventAggregator.getMaxHeapSpace();
     }
 
     /**
@@ -597,7 +690,7 @@ public class JvmDao {
      * @return maximum old space size (kilobytes).
      */
     public synchronized int getMaxOldSpace() {
-        return (int) kilobytes(OldData.class, OldData::getOldSpace).max().orElse(0);
+        return (int) blockingEventAggregator.getMaxOldSpace();
     }
 
     /**
@@ -606,7 +699,7 @@ public class JvmDao {
      * @return maximum perm/metaspac after GC (kilobytes).
      */
     public synchronized int getMaxPermAfterGc() {
-        return (int) kilobytes(PermMetaspaceData.class, PermMetaspaceData::getPermOccupancyEnd).max().orElse(0);
+        return (int) blockingEventAggregator.getMaxPermAfterGc();
     }
 
     /**
@@ -615,7 +708,7 @@ public class JvmDao {
      * @return maximum perm/metaspace occupancy (kilobytes).
      */
     public synchronized int getMaxPermOccupancy() {
-        return (int) kilobytes(PermMetaspaceData.class, PermMetaspaceData::getPermOccupancyInit).max().orElse(0);
+        return (int) blockingEventAggregator.getMaxPermOccupancy();
     }
 
     /**
@@ -631,7 +724,7 @@ public class JvmDao {
      * @return maximum perm/metaspace footprint (kilobytes).
      */
     public synchronized int getMaxPermSpace() {
-        return (int) kilobytes(PermMetaspaceData.class, PermMetaspaceData::getPermSpace).max().orElse(0);
+        return (int) blockingEventAggregator.getMaxPermSpace();
     }
 
     /**
@@ -647,7 +740,7 @@ public class JvmDao {
      * @return maximum young space size (kilobytes).
      */
     public synchronized int getMaxYoungSpace() {
-        return (int) kilobytes(YoungData.class, YoungData::getYoungSpace).max().orElse(0);
+        return (int) blockingEventAggregator.getMaxYoungSpace();
     }
 
     /**
@@ -691,16 +784,69 @@ public class JvmDao {
     }
 
     /**
-     * Retrieve all <code>SafepointEvent</code>s.
+     * Retrieve all <code>SafepointEvent</code>s. Events are rebuilt from the stored log entry, timestamp, and durations
+     * as they are accessed.
      * 
-     * @return <code>List</code> of events.
+     * @return <code>List</code> view of the events.
      */
     public synchronized List<SafepointEvent> getSafepointEvents() {
-        if (!this.stoppedTimeEvents.isEmpty()) {
-            return this.stoppedTimeEvents.stream().map(JvmDao::toSafepointEvent).collect(toList());
-        } else {
-            return this.unifiedSafepointEvents.stream().map(JvmDao::toSafepointEvent).collect(toList());
+        final boolean stopped = !stoppedTimeEvents.isEmpty();
+        return new AbstractList<SafepointEvent>() {
+
+            @Override
+            public SafepointEvent get(int index) {
+                return stopped ? getStoppedTimeEvent(index) : getUnifiedSafepointEvent(index);
+            }
+
+            @Override
+            public int size() {
+                return stopped ? stoppedTimeEvents.size() : unifiedSafepointEvents.size();
+            }
+        };
+    }
+
+    /**
+     * @return The number of events in {@link #getSafepointEvents()}.
+     */
+    public synchronized int getSafepointEventCount() {
+        return stoppedTimeEvents.isEmpty() ? unifiedSafepointEvents.size() : stoppedTimeEvents.size();
+    }
+
+    /**
+     * @param index
+     *            The index of the event in {@link #getSafepointEvents()}.
+     * @return The <code>SafepointEvent</code> duration (nanoseconds), without rebuilding the event. Matches
+     *         {@link org.eclipselabs.garbagecat.util.jdk.JdkUtil#isBottleneck(SafepointEvent, SafepointEvent, int)}:
+     *         the time threads were stopped for <code>ApplicationStoppedTimeEvent</code>s, plus the time to stop
+     *         threads for <code>UnifiedSafepointEvent</code>s.
+     */
+    public synchronized long getSafepointEventDurationNanos(int index) {
+        if (stoppedTimeEvents.isEmpty()) {
+            return unifiedSafepointEvents.getTimeThreadsStopped(index)
+                    + unifiedSafepointEvents.getTimeToStopThreads(index);
         }
+        return stoppedTimeEvents.getTimeThreadsStopped(index) * 1000;
+    }
+
+    /**
+     * @param index
+     *            The index of the event in {@link #getSafepointEvents()}.
+     * @return The <code>SafepointEvent</code> log entry, without rebuilding the event.
+     */
+    public synchronized String getSafepointEventLogEntry(int index) {
+        return stoppedTimeEvents.isEmpty() ? unifiedSafepointEvents.getLogEntry(index)
+                : stoppedTimeEvents.getLogEntry(index);
+    }
+
+    /**
+     * @param index
+     *            The index of the event in {@link #getSafepointEvents()}.
+     * @return The <code>SafepointEvent</code> timestamp (milliseconds after JVM startup), without rebuilding the
+     *         event.
+     */
+    public synchronized long getSafepointEventTimestamp(int index) {
+        return stoppedTimeEvents.isEmpty() ? unifiedSafepointEvents.getTimestamp(index)
+                : stoppedTimeEvents.getTimestamp(index);
     }
 
     /**
@@ -709,73 +855,17 @@ public class JvmDao {
      * @return <code>List</code> of <code>SafepointEventSummary</code>s.
      */
     public synchronized List<SafepointEventSummary> getSafepointEventSummaries() {
-        List<SafepointEventSummary> safepointEventSummaries = new ArrayList<SafepointEventSummary>();
-
-        PreparedStatement pst = null;
-        try {
-            String sqlInsertSafepointEvent = "insert into safepoint_event (time_stamp, trigger_type, duration, "
-                    + "log_entry) values (?, ?, ?, ?)";
-
-            final int TIME_STAMP_INDEX = 1;
-            final int TRIGGER_TYPE_INDEX = 2;
-            final int DURATION_INDEX = 3;
-            final int LOG_ENTRY_INDEX = 4;
-
-            pst = connection.prepareStatement(sqlInsertSafepointEvent);
-
-            for (int i = 0; i < unifiedSafepointEvents.size(); i++) {
-                UnifiedSafepointEvent event = unifiedSafepointEvents.get(i);
-                pst.setLong(TIME_STAMP_INDEX, event.getTimestamp());
-                // Use trigger for event name
-                pst.setString(TRIGGER_TYPE_INDEX, event.getTrigger().toString());
-                pst.setLong(DURATION_INDEX, event.getDuration());
-                pst.setString(LOG_ENTRY_INDEX, event.getLogEntry());
-                pst.addBatch();
-            }
-            pst.executeBatch();
-        } catch (SQLException e) {
-            System.err.println(e.getMessage());
-            throw new RuntimeException("Error inserting safepoint event.");
-        } finally {
-            try {
-                pst.close();
-            } catch (SQLException e) {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error closingPreparedStatement.");
-            }
-        }
-
-        Statement statement = null;
-        ResultSet rs = null;
-        try {
-            statement = connection.createStatement();
-            StringBuffer sql = new StringBuffer();
-            sql.append("select trigger_type, count(id), sum(duration), max(duration) from safepoint_event group by "
-                    + "trigger_type order by sum(duration) desc");
-            rs = statement.executeQuery(sql.toString());
-            while (rs.next()) {
-                Trigger trigger = UnifiedSafepoint.identifyTrigger(rs.getString(1));
-                SafepointEventSummary summary = new SafepointEventSummary(trigger, rs.getLong(2),
-                        JdkMath.convertNanosToMillis(rs.getLong(3)).longValue(),
-                        JdkMath.convertNanosToMillis(rs.getLong(4)).intValue());
-                safepointEventSummaries.add(summary);
-            }
-        } catch (SQLException e) {
-            System.err.println(e.getMessage());
-            throw new RuntimeException("Error retrieving safepoint event summaries.");
-        } finally {
-            try {
-                rs.close();
-            } catch (SQLException e) {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error closing ResultSet.");
-            }
-            try {
-                statement.close();
-            } catch (SQLException e) {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error closing Statement.");
-            }
+        List<Map.Entry<Trigger, SafepointTotals>> entries = new ArrayList<Map.Entry<Trigger, SafepointTotals>>(
+                unifiedSafepointTotalsByTrigger.entrySet());
+        // Order by total pause time, descending
+        entries.sort(comparing((Map.Entry<Trigger, SafepointTotals> entry) -> entry.getValue().durationTotal)
+                .reversed());
+        List<SafepointEventSummary> safepointEventSummaries = new ArrayList<SafepointEventSummary>(entries.size());
+        for (Map.Entry<Trigger, SafepointTotals> entry : entries) {
+            SafepointTotals totals = entry.getValue();
+            safepointEventSummaries.add(new SafepointEventSummary(entry.getKey(), totals.count,
+                    JdkMath.convertNanosToMillis(totals.durationTotal).longValue(),
+                    JdkMath.convertNanosToMillis(totals.durationMax).intValue()));
         }
         return safepointEventSummaries;
     }
@@ -787,6 +877,19 @@ public class JvmDao {
         return serialCount;
     }
 
+    /**
+     * Rebuild the <code>ApplicationStoppedTimeEvent</code> from the stored values.
+     * 
+     * @param index
+     *            The row index.
+     * @return The stopped time event.
+     */
+    private ApplicationStoppedTimeEvent getStoppedTimeEvent(int index) {
+        return new ApplicationStoppedTimeEvent(stoppedTimeEvents.getLogEntry(index),
+                stoppedTimeEvents.getTimestamp(index), stoppedTimeEvents.getTimeToStopThreads(index),
+                stoppedTimeEvents.getTimeThreadsStopped(index));
+    }
+
     /**
      * The total number of stopped time events.
      * 
@@ -802,8 +905,7 @@ public class JvmDao {
      * @return maximum pause duration (microseconds).
      */
     public synchronized long getStoppedTimeMax() {
-        return longs(this.stoppedTimeEvents, ApplicationStoppedTimeEvent::getDuration).mapToLong(Long::valueOf).max()
-                .orElse(0);
+        return stoppedTimeTotals.durationMax;
     }
 
     /**
@@ -812,8 +914,7 @@ public class JvmDao {
      * @return total pause duration (microseconds).
      */
     public synchronized long getStoppedTimeTotal() {
-        return longs(this.stoppedTimeEvents, ApplicationStoppedTimeEvent::getDuration)
-                .collect(summingLong(Long::valueOf));
+        return stoppedTimeTotals.durationTotal;
     }
 
     /**
@@ -841,6 +942,19 @@ public class JvmDao {
         return unidentifiedLogLines;
     }
 
+    /**
+     * Rebuild the <code>UnifiedSafepointEvent</code> from the stored values.
+     * 
+     * @param index
+     *            The row index.
+     * @return The unified safepoint event.
+     */
+    private UnifiedSafepointEvent getUnifiedSafepointEvent(int index) {
+        return new UnifiedSafepointEvent(unifiedSafepointEvents.getLogEntry(index),
+                unifiedSafepointEvents.getTimestamp(index), unifiedSafepointEvents.getTimeToStopThreads(index),
+                unifiedSafepointEvents.getTimeThreadsStopped(index), unifiedSafepointEvents.getTrigger(index));
+    }
+
     /**
      * The total number of unifed safepoint events.
      * 
@@ -856,8 +970,7 @@ public class JvmDao {
      * @return maximum pause duration (nanoseconds).
      */
     public synchronized long getUnifiedSafepointTimeMax() {
-        return longs(this.unifiedSafepointEvents, UnifiedSafepointEvent::getDuration).mapToLong(Long::valueOf).max()
-                .orElse(0);
+        return unifiedSafepointTotals.durationMax;
     }
 
     /**
@@ -866,8 +979,7 @@ public class JvmDao {
      * @return total pause duration (nanoseconds).
      */
     public synchronized long getUnifiedSafepointTimeTotal() {
-        return longs(this.unifiedSafepointEvents, UnifiedSafepointEvent::getDuration)
-                .collect(summingLong(Long::valueOf));
+        return unifiedSafepointTotals.durationTotal;
     }
 
     public String getVmInfo() {
@@ -895,26 +1007,88 @@ public class JvmDao {
         return worstSysGtUserEvent;
     }
 
-    private int insertPosition(BlockingEvent event) {
-        int size = blockingEvents.size();
-        if (size > 0 && COMPARE_BY_TIMESTAMP.compare(blockingEvents.get(size - 1), event) <= 0) {
-            return size;
-        }
-        // here we could raise an Exception: Add param boolean reorderingAllowed to method
-        // if (!reorderingAllowed) throw new TimeWarpException("bad order")
-        return -binarySearch(blockingEvents, event, COMPARE_BY_TIMESTAMP) - 1;
-    }
-
     public boolean isLogEndingUnidentified() {
         return logEndingUnidentified;
     }
 
-    private <T> LongStream kilobytes(Class<T> clazz, Function<T, Memory> func) {
-        return this.blockingEvents.stream() //
-                .filter(clazz::isInstance) //
-                .map(clazz::cast).map(func) //
-                .filter(Objects::nonNull) //
-                .mapToLong(m -> m.getValue(KILOBYTES));
+    /**
+     * Restore the data written by {@link #writeSnapshot(DataOutput)}. Must be called before any data is added.
+     * 
+     * <p>
+     * The worst events are restored by parsing their log entries, and the <code>JvmContext</code> header information
+     * from the vm_info log entry.
+     * </p>
+     * 
+     * @param in
+     *            The snapshot input.
+     * @throws IOException
+     *             if the snapshot cannot be read.
+     */
+    public synchronized void readSnapshot(DataInput in) throws IOException {
+        readEnums(in, Analysis.class, analysis);
+        blockingEvents.read(in);
+        blockingEventAggregator.read(in);
+        readEnums(in, LogEventType.class, eventTypes);
+        extRootScanningTimeMax = in.readLong();
+        extRootScanningTimeTotal = in.readLong();
+        readEnums(in, GcTrigger.class, gcTriggers);
+        invertedParallelismCount = in.readLong();
+        invertedSerialismCount = in.readLong();
+        logEndingUnidentified = in.readBoolean();
+        long time = in.readLong();
+        logFileDate = time == -1 ? null : new Date(time);
+        maxHeapOccupancyNonBlocking = in.readInt();
+        maxHeapSpaceNonBlocking = in.readInt();
+        maxPermOccupancyNonBlocking = in.readInt();
+        maxPermSpaceNonBlocking = in.readInt();
+        memory = GcUtil.readString(in);
+        otherTimeMax = in.readLong();
+        otherTimeTotal = in.readLong();
+        parallelCount = in.readLong();
+        physicalMemory = in.readLong();
+        physicalMemoryFree = in.readLong();
+        readEnums(in, PreprocessEvent.class, preprocessEvents);
+        serialCount = in.readLong();
+        stoppedTimeEvents.read(in);
+        stoppedTimeTotals.read(in);
+        swap = in.readLong();
+        swapFree = in.readLong();
+        sysGtUserCount = in.readLong();
+        for (int i = in.readInt(); i > 0; i--) {
+            unidentifiedLogLines.add(GcUtil.readString(in));
+        }
+        unifiedSafepointEvents.read(in);
+        unifiedSafepointTotals.read(in);
+        for (int i = in.readInt(); i > 0; i--) {
+            SafepointTotals totals = new SafepointTotals();
+            unifiedSafepointTotalsByTrigger.put(Trigger.valueOf(in.readUTF()), totals);
+            totals.read(in);
+        }
+        vmInfo = GcUtil.readString(in);
+        worstInvertedParallelismEvent = readEvent(in);
+        worstInvertedSerialismEvent = readEvent(in);
+        worstSysGtUserEvent = readEvent(in);
+
+        jvmContext.setOptions(GcUtil.readString(in));
+        jvmContext.setVersionMajor(in.readInt());
+        jvmContext.setVersionMinor(in.readInt());
+        time = in.readLong();
+        jvmContext.setBuildDate(time == -1 ? null : new Date(time));
+        for (int i = in.readInt(); i > 0; i--) {
+            addGarbageCollector(GarbageCollector.valueOf(in.readUTF()));
+        }
+        // Header information
+        if (vmInfo != null) {
+            if (HeaderVmInfoEvent.match(vmInfo)) {
+                setHeaderVmInfo(new HeaderVmInfoEvent(vmInfo));
+            } else {
+                jvmContext.setReleaseString(vmInfo);
+            }
+        }
+        if (memory != null) {
+            jvmContext.setMemory(
+                    org.github.joa.util.JdkUtil.convertSize(physicalMemory, 'B', org.github.joa.util.Constants.UNITS));
+        }
     }
 
     public void setExtRootScanningTimeMax(long extRootScanningTimeMax) {
@@ -925,6 +1099,26 @@ public class JvmDao {
         this.extRootScanningTimeTotal = extRootScanningTimeTotal;
     }
 
+    /**
+     * Set the vm_info and the <code>JvmContext</code> information it holds.
+     * 
+     * @param event
+     *            The vm_info event.
+     */
+    public void setHeaderVmInfo(HeaderVmInfoEvent event) {
+        jvmContext.setVersionMajor(event.getJdkVersionMajor());
+        jvmContext.setVersionMinor(event.getJdkVersionMinor());
+        if (event.is32Bit()) {
+            jvmContext.setBit(Bit.BIT32);
+        }
+        jvmContext.setArch(event.getArch());
+        jvmContext.setBuiltBy(event.getBuiltBy());
+        jvmContext.setOs(event.getOs());
+        jvmContext.setBuildDate(event.getBuildDate());
+        jvmContext.setReleaseString(event.getJdkReleaseString());
+        vmInfo = event.getLogEntry();
+    }
+
     /**
      * @param invertedParallelismCount
      *            The number of "low" parallelism events.
@@ -1080,4 +1274,98 @@ public class JvmDao {
     public void setWorstSysGtUserEvent(LogEvent worstSysGtUserEvent) {
         this.worstSysGtUserEvent = worstSysGtUserEvent;
     }
+
+    /**
+     * Write the data to a snapshot that can be restored with {@link #readSnapshot(DataInput)}.
+     * 
+     * @param out
+     *            The snapshot output.
+     * @throws IOException
+     *             if the snapshot cannot be written.
+     */
+    public synchronized void writeSnapshot(DataOutput out) throws IOException {
+        writeEnums(out, analysis);
+        blockingEvents.write(out);
+        blockingEventAggregator.write(out);
+        writeEnums(out, eventTypes);
+        out.writeLong(extRootScanningTimeMax);
+        out.writeLong(extRootScanningTimeTotal);
+        writeEnums(out, gcTriggers);
+        out.writeLong(invertedParallelismCount);
+        out.writeLong(invertedSerialismCount);
+        out.writeBoolean(logEndingUnidentified);
+        out.writeLong(logFileDate == null ? -1 : logFileDate.getTime());
+        out.writeInt(maxHeapOccupancyNonBlocking);
+        out.writeInt(maxHeapSpaceNonBlocking);
+        out.writeInt(maxPermOccupancyNonBlocking);
+        out.writeInt(maxPermSpaceNonBlocking);
+        GcUtil.writeString(out, memory);
+        out.writeLong(otherTimeMax);
+        out.writeLong(otherTimeTotal);
+        out.writeLong(parallelCount);
+        out.writeLong(physicalMemory);
+        out.writeLong(physicalMemoryFree);
+        writeEnums(out, preprocessEvents);
+        out.writeLong(serialCount);
+        stoppedTimeEvents.write(out);
+        stoppedTimeTotals.write(out);
+        out.writeLong(swap);
+        out.writeLong(swapFree);
+        out.writeLong(sysGtUserCount);
+        out.writeInt(unidentifiedLogLines.size());
+        for (String logLine : unidentifiedLogLines) {
+            GcUtil.writeString(out, logLine);
+        }
+        unifiedSafepointEvents.write(out);
+        unifiedSafepointTotals.write(out);
+        out.writeInt(unifiedSafepointTotalsByTrigger.size());
+        for (Map.Entry<Trigger, SafepointTotals> entry : unifiedSafepointTotalsByTrigger.entrySet()) {
+            out.writeUTF(entry.getKey().name());
+            entry.getValue().write(out);
+        }
+        GcUtil.writeString(out, vmInfo);
+        writeEvent(out, worstInvertedParallelismEvent);
+        writeEvent(out, worstInvertedSerialismEvent);
+        writeEvent(out, worstSysGtUserEvent);
+        GcUtil.writeString(out, jvmContext.getOptions());
+        out.writeInt(jvmContext.getVersionMajor());
+        out.writeInt(jvmContext.getVersionMinor());
+        out.writeLong(jvmContext.getBuildDate() == null ? -1 : jvmContext.getBuildDate().getTime());
+        out.writeInt(jvmContext.getGarbageCollectors().size());
+        for (GarbageCollector garbageCollector : jvmContext.getGarbageCollectors()) {
+            out.writeUTF(garbageCollector.name());
+        }
+    }
+
+    /**
+     * Running count, total, and maximum of safepoint event durations.
+     */
+    private static final class SafepointTotals {
+
+        private long count;
+
+        private long durationMax;
+
+        private long durationTotal;
+
+        private void add(long duration) {
+            count++;
+            durationTotal += duration;
+            if (duration > durationMax) {
+                durationMax = duration;
+            }
+        }
+
+        private void read(DataInput in) throws IOException {
+            count = in.readLong();
+            durationMax = in.readLong();
+            durationTotal = in.readLong();
+        }
+
+        private void write(DataOutput out) throws IOException {
+            out.writeLong(count);
+            out.writeLong(durationMax);
+            out.writeLong(durationTotal);
+        }
+    }
 }
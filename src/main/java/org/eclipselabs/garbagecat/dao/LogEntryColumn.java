@@ -0,0 +1,207 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.util.GcUtil;
+
+/**
+ * <p>
+ * A growable column of log entries. Entries are retained in memory until the <code>ColumnStore</code> has a
+ * <code>LogEntryFile</code>. Then the entries are moved to the file and read back only when they are accessed.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+final class LogEntryColumn {
+
+    /**
+     * @param entry
+     *            The entry.
+     * @return The approximate number of heap bytes used by the entry.
+     */
+    private static long heapBytes(String entry) {
+        return entry == null ? 0 : 40 + 2L * entry.length();
+    }
+
+    /**
+     * The entries, when retained in memory.
+     */
+    private List<String> entries = new ArrayList<String>();
+
+    /**
+     * The approximate number of heap bytes used by the entries retained in memory.
+     */
+    private long entriesHeapBytes;
+
+    /**
+     * The file holding the entries, null if the entries are retained in memory.
+     */
+    private LogEntryFile file;
+
+    /**
+     * Entry length in bytes, -1 for a null entry.
+     */
+    private final IntColumn lengths;
+
+    /**
+     * Entry byte offset in the file.
+     */
+    private final LongColumn offsets;
+
+    private final ColumnStore store;
+
+    /**
+     * @param store
+     *            The store allocating the chunks and providing the file.
+     */
+    LogEntryColumn(ColumnStore store) {
+        this.store = store;
+        lengths = new IntColumn(store);
+        offsets = new LongColumn(store);
+    }
+
+    /**
+     * @param entry
+     *            The entry to append.
+     */
+    void add(String entry) {
+        if (file == null && store.getLogEntryFile() != null) {
+            moveToFile(store.getLogEntryFile());
+        }
+        if (file == null) {
+            entries.add(entry);
+            entriesHeapBytes += heapBytes(entry);
+            store.addHeapBytes(heapBytes(entry));
+        } else {
+            writeToFile(entry);
+        }
+    }
+
+    /**
+     * Entries already written to the file are not removed from it. Entries added after the <code>ColumnStore</code> is
+     * closed are retained in memory until it has a new <code>LogEntryFile</code>.
+     */
+    void clear() {
+        entries.clear();
+        file = null;
+        store.addHeapBytes(-entriesHeapBytes);
+        entriesHeapBytes = 0;
+        lengths.clear();
+        offsets.clear();
+    }
+
+    /**
+     * @param index
+     *            The entry index.
+     * @return The entry at the index.
+     */
+    String get(int index) {
+        if (file == null) {
+            return entries.get(index);
+        }
+        int length = lengths.get(index);
+        return length < 0 ? null : file.read(offsets.get(index), length);
+    }
+
+    /**
+     * Write the entries retained in memory to a file, and write entries to the file from now on.
+     * 
+     * @param file
+     *            The file.
+     */
+    private void moveToFile(LogEntryFile file) {
+        this.file = file;
+        for (String entry : entries) {
+            writeToFile(entry);
+        }
+        entries = new ArrayList<String>();
+        store.addHeapBytes(-entriesHeapBytes);
+        entriesHeapBytes = 0;
+    }
+
+    /**
+     * Append entries written by {@link #write(DataOutput)}.
+     * 
+     * @param in
+     *            The input.
+     * @throws IOException
+     *             if the input cannot be read.
+     */
+    void read(DataInput in) throws IOException {
+        for (int i = in.readInt(); i > 0; i--) {
+            add(GcUtil.readString(in));
+        }
+    }
+
+    /**
+     * @param order
+     *            The current index of each entry in the new order.
+     */
+    void reorder(int[] order) {
+        if (file == null) {
+            List<String> reordered = new ArrayList<String>(entries.size());
+            for (int i = 0; i < order.length; i++) {
+                reordered.add(entries.get(order[i]));
+            }
+            entries = reordered;
+        } else {
+            lengths.reorder(order);
+            offsets.reorder(order);
+        }
+    }
+
+    /**
+     * @return The number of entries.
+     */
+    int size() {
+        return file == null ? entries.size() : offsets.size();
+    }
+
+    /**
+     * Write the number of entries, then the entries.
+     * 
+     * @param out
+     *            The output.
+     * @throws IOException
+     *             if the output cannot be written.
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeInt(size());
+        for (int i = 0; i < size(); i++) {
+            GcUtil.writeString(out, get(i));
+        }
+    }
+
+    /**
+     * @param entry
+     *            The entry to write to the file.
+     */
+    private void writeToFile(String entry) {
+        if (entry == null) {
+            offsets.add(0);
+            lengths.add(-1);
+        } else {
+            byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+            offsets.add(file.append(bytes));
+            lengths.add(bytes.length);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>
+ * Append-only temporary file holding log entries as UTF-8 bytes, so they do not have to be retained in memory. An entry
+ * is referenced by its byte offset and length, and is read back with a positional read when it is needed.
+ * </p>
+ * 
+ * <p>
+ * The file is closed by {@link ColumnStore#close()}. It is deleted when it is opened on platforms that allow deleting
+ * open files, and when it is closed or the JVM exits otherwise.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+final class LogEntryFile implements AutoCloseable {
+
+    /**
+     * The write and read buffer size in bytes.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+
+    /**
+     * The bytes in the read buffer start at this file position.
+     */
+    private long readPosition;
+
+    /**
+     * Bytes read ahead from the file. Log entries are mostly read in the order they were written, so one read serves
+     * many entries.
+     */
+    private ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * Bytes appended that have not been written to the file yet.
+     */
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * The file size, not including the write buffer.
+     */
+    private long written;
+
+    /**
+     * Create a temporary file.
+     * 
+     * @throws IOException
+     *             if the file cannot be created.
+     */
+    LogEntryFile() throws IOException {
+        channel = ColumnStore.openTempFile(".log");
+        readBuffer.limit(0);
+    }
+
+    /**
+     * @param logEntry
+     *            The log entry.
+     * @return The byte offset of the log entry in the file.
+     */
+    synchronized long append(byte[] logEntry) {
+        long offset = written + writeBuffer.position();
+        try {
+            if (logEntry.length > writeBuffer.remaining()) {
+                flush();
+            }
+            if (logEntry.length > writeBuffer.capacity()) {
+                write(ByteBuffer.wrap(logEntry));
+            } else {
+                writeBuffer.put(logEntry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return offset;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void flush() throws IOException {
+        writeBuffer.flip();
+        write(writeBuffer);
+        writeBuffer.clear();
+    }
+
+    /**
+     * @param offset
+     *            The byte offset of the log entry in the file.
+     * @param length
+     *            The log entry length in bytes.
+     * @return The log entry.
+     */
+    synchronized String read(long offset, int length) {
+        try {
+            if (offset + length > written) {
+                flush();
+            }
+            if (offset < readPosition || offset + length > readPosition + readBuffer.limit()) {
+                if (length > readBuffer.capacity()) {
+                    readBuffer = ByteBuffer.allocate(length);
+                }
+                readBuffer.clear();
+                while (readBuffer.position() < length) {
+                    if (channel.read(readBuffer, offset + readBuffer.position()) < 0) {
+                        throw new IOException("Log entry past the end of the file.");
+                    }
+                }
+                readBuffer.flip();
+                readPosition = offset;
+            }
+            return new String(readBuffer.array(), (int) (offset - readPosition), length, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            written += channel.write(bytes, written);
+        }
+    }
+}
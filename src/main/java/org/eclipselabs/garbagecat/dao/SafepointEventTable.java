@@ -0,0 +1,158 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
+
+/**
+ * <p>
+ * Safepoint event data stored in primitive columns in the order the events are added, one row per event.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+final class SafepointEventTable {
+
+    /**
+     * <code>Trigger</code>s by ordinal.
+     */
+    private static final Trigger[] TRIGGERS = Trigger.values();
+
+    private final LogEntryColumn logEntries;
+
+    private final LongColumn timesThreadsStopped;
+
+    /**
+     * Timestamp (milliseconds after JVM startup).
+     */
+    private final LongColumn timestamps;
+
+    private final LongColumn timesToStopThreads;
+
+    /**
+     * <code>Trigger</code> ordinal, -1 if none.
+     */
+    private final IntColumn triggers;
+
+    /**
+     * @param store
+     *            The store allocating the column chunks.
+     */
+    SafepointEventTable(ColumnStore store) {
+        logEntries = new LogEntryColumn(store);
+        timesThreadsStopped = new LongColumn(store);
+        timestamps = new LongColumn(store);
+        timesToStopThreads = new LongColumn(store);
+        triggers = new IntColumn(store);
+    }
+
+    /**
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the safepoint event started in milliseconds after JVM startup.
+     * @param timeToStopThreads
+     *            The elapsed clock time to stop all threads.
+     * @param timeThreadsStopped
+     *            The elapsed clock time the application threads were stopped.
+     * @param trigger
+     *            The <code>Trigger</code> ordinal, -1 if none.
+     */
+    void add(String logEntry, long timestamp, long timeToStopThreads, long timeThreadsStopped, int trigger) {
+        logEntries.add(logEntry);
+        timestamps.add(timestamp);
+        timesToStopThreads.add(timeToStopThreads);
+        timesThreadsStopped.add(timeThreadsStopped);
+        triggers.add(trigger);
+    }
+
+    void clear() {
+        logEntries.clear();
+        timesThreadsStopped.clear();
+        timestamps.clear();
+        timesToStopThreads.clear();
+        triggers.clear();
+    }
+
+    String getLogEntry(int index) {
+        return logEntries.get(index);
+    }
+
+    long getTimestamp(int index) {
+        return timestamps.get(index);
+    }
+
+    long getTimeThreadsStopped(int index) {
+        return timesThreadsStopped.get(index);
+    }
+
+    long getTimeToStopThreads(int index) {
+        return timesToStopThreads.get(index);
+    }
+
+    /**
+     * @param index
+     *            The row index.
+     * @return The <code>Trigger</code>, or null if the event has no trigger.
+     */
+    Trigger getTrigger(int index) {
+        int trigger = triggers.get(index);
+        return trigger == -1 ? null : TRIGGERS[trigger];
+    }
+
+    boolean isEmpty() {
+        return logEntries.size() == 0;
+    }
+
+    /**
+     * Append rows written by {@link #write(DataOutput)}.
+     * 
+     * @param in
+     *            The input.
+     * @throws IOException
+     *             if the input cannot be read.
+     */
+    void read(DataInput in) throws IOException {
+        logEntries.read(in);
+        timesThreadsStopped.read(in);
+        timestamps.read(in);
+        timesToStopThreads.read(in);
+        triggers.read(in);
+    }
+
+    /**
+     * @return The number of rows.
+     */
+    int size() {
+        return logEntries.size();
+    }
+
+    /**
+     * @param out
+     *            The output.
+     * @throws IOException
+     *             if the output cannot be written.
+     */
+    void write(DataOutput out) throws IOException {
+        logEntries.write(out);
+        timesThreadsStopped.write(out);
+        timestamps.write(out);
+        timesToStopThreads.write(out);
+        triggers.write(out);
+    }
+}
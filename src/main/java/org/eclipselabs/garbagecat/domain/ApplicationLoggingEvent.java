@@ -156,6 +156,10 @@ public class ApplicationLoggingEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.APPLICATION_LOGGING;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.APPLICATION_LOGGING.toString();
     }
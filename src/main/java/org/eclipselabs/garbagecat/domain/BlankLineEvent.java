@@ -12,6 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain;
 
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 
@@ -38,7 +39,7 @@ public class BlankLineEvent implements ThrowAwayEvent {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return logLine.matches(REGEX) || logLine.length() == 0;
+        return PatternRegistry.matches(REGEX, logLine) || logLine.length() == 0;
     }
 
     /**
@@ -66,6 +67,10 @@ public class BlankLineEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.BLANK_LINE;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.BLANK_LINE.toString();
     }
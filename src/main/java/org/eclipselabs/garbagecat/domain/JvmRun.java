@@ -61,6 +61,7 @@ import org.eclipselabs.garbagecat.preprocess.PreprocessAction.PreprocessEvent;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.GcUtil;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.Analysis;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
@@ -275,6 +276,11 @@ public class JvmRun {
      */
     private Memory physicalMemoryFree = Memory.ZERO;
 
+    /**
+     * The preprocessing decision and the reason for it, or null if not decided from the logging.
+     */
+    private String preprocessDecision;
+
     /**
      * Whether or not the JVM events are from a preprocessed file.
      */
@@ -431,12 +437,13 @@ public class JvmRun {
         // Check for partial log
         if (firstGcEvent != null || firstSafepointEvent != null) {
             long firstTimeStamp = Long.MIN_VALUE;
-            if (firstGcEvent != null && !firstGcEvent.getLogEntry().matches(JdkRegEx.DATESTAMP_EVENT)
-                    && !firstGcEvent.getLogEntry().matches(UnifiedRegEx.DATESTAMP_EVENT)) {
+            if (firstGcEvent != null && !PatternRegistry.matches(JdkRegEx.DATESTAMP_EVENT, firstGcEvent.getLogEntry())
+                    && !PatternRegistry.matches(UnifiedRegEx.DATESTAMP_EVENT, firstGcEvent.getLogEntry())) {
                 firstTimeStamp = firstGcEvent.getTimestamp();
             }
-            if (firstSafepointEvent != null && !firstSafepointEvent.getLogEntry().matches(JdkRegEx.DATESTAMP_EVENT)
-                    && !firstSafepointEvent.getLogEntry().matches(UnifiedRegEx.DATESTAMP_EVENT)
+            if (firstSafepointEvent != null
+                    && !PatternRegistry.matches(JdkRegEx.DATESTAMP_EVENT, firstSafepointEvent.getLogEntry())
+                    && !PatternRegistry.matches(UnifiedRegEx.DATESTAMP_EVENT, firstSafepointEvent.getLogEntry())
                     && firstSafepointEvent.getTimestamp() < firstTimeStamp) {
                 firstTimeStamp = firstSafepointEvent.getTimestamp();
             }
@@ -658,37 +665,31 @@ public class JvmRun {
         Iterator<Analysis> itGcAnalysis = analysis.iterator();
         while (itGcAnalysis.hasNext()) {
             Analysis item = itGcAnalysis.next();
-            if (item.getKey().equals(Analysis.INFO_JDK_ANCIENT.toString())) {
-                StringBuffer s = new StringBuffer(item.getValue());
-                String replace = ">1 yr";
-                int position = s.toString().lastIndexOf(replace);
-                StringBuffer with = new StringBuffer();
-                with.append(GcUtil.dayDiff(jvmContext.getBuildDate(), new Date()));
-                with.append(" days");
-                s.replace(position, position + replace.length(), with.toString());
-                a.add(new String[] { item.getKey(), s.toString() });
-            } else {
-                a.add(new String[] { item.getKey(), item.getValue() });
-            }
-        }
-        if (jvmOptions != null) {
-            Iterator<String[]> itJvmOptionsAnalysis = jvmOptions.getAnalysis().iterator();
-            while (itJvmOptionsAnalysis.hasNext()) {
-                String[] item = itJvmOptionsAnalysis.next();
-                if (item[0].equals(org.github.joa.util.Analysis.INFO_GC_LOG_STDOUT.toString())) {
-                    // JDK8 GC logging "CommandLine flags" header will not include any logging options, so JDK8 gc
-                    // logging is not very accurate for determining if the logging is being sent to std out.
-                    if (jvmOptions.getJvmContext().getVersionMajor() > 8) {
-                        a.add(item);
-                    }
-                } else {
-                    a.add(item);
-                }
-            }
+            a.add(new String[] { item.getKey(), getAnalysisLiteral(item) });
         }
+        a.addAll(getJvmOptionsAnalysis());
         return a;
     }
 
+    /**
+     * @param item
+     *            The <code>Analysis</code>.
+     * @return The <code>Analysis</code> display literal.
+     */
+    private String getAnalysisLiteral(Analysis item) {
+        if (item == Analysis.INFO_JDK_ANCIENT) {
+            StringBuffer s = new StringBuffer(item.getValue());
+            String replace = ">1 yr";
+            int position = s.toString().lastIndexOf(replace);
+            StringBuffer with = new StringBuffer();
+            with.append(GcUtil.dayDiff(jvmContext.getBuildDate(), new Date()));
+            with.append(" days");
+            s.replace(position, position + replace.length(), with.toString());
+            return s.toString();
+        }
+        return item.getValue();
+    }
+
     /**
      * Convenience method to get the <code>Analysis</code> literal.
      * 
@@ -697,12 +698,16 @@ public class JvmRun {
      * @return The <code>Analysis</code> display literal, or null if it does not exist.
      */
     public String getAnalysisLiteral(String key) {
+        Analysis item = Analysis.fromKey(key);
+        if (item != null && analysis.contains(item)) {
+            return getAnalysisLiteral(item);
+        }
         String literal = null;
-        Iterator<String[]> i = getAnalysis().iterator();
+        Iterator<String[]> i = getJvmOptionsAnalysis().iterator();
         while (i.hasNext()) {
-            String[] item = i.next();
-            if (item[0].equals(key)) {
-                literal = item[1];
+            String[] a = i.next();
+            if (a[0].equals(key)) {
+                literal = a[1];
                 break;
             }
         }
@@ -781,13 +786,13 @@ public class JvmRun {
         String datestamp = null;
         LogEvent firstEvent = getFirstEvent();
         String regexDatestamp = "^(.*)" + JdkRegEx.DATESTAMP + "(.*)$";
-        Pattern patternDatestamp = Pattern.compile(regexDatestamp);
+        Pattern patternDatestamp = PatternRegistry.get(regexDatestamp);
         Matcher matcher = patternDatestamp.matcher(firstEvent.getLogEntry());
         if (matcher.find()) {
             datestamp = matcher.group(2);
         } else if (startDate != null) {
             String regexTimestamp = JdkRegEx.TIMESTAMP + "(: )";
-            Pattern patternTimestamp = Pattern.compile(regexTimestamp);
+            Pattern patternTimestamp = PatternRegistry.get(regexTimestamp);
             matcher = patternTimestamp.matcher(firstEvent.getLogEntry());
             if (matcher.find()) {
                 Date date = GcUtil.getDatePlusTimestamp(startDate, firstEvent.getTimestamp());
@@ -833,7 +838,7 @@ public class JvmRun {
         if (blockingEventCount <= 0 || getJvmRunDuration() == 0) {
             return 100L;
         }
-        long timeNotGc = getJvmRunDuration() - JdkMath.convertMicrosToMillis(durationTotal).longValue();
+        long timeNotGc = getJvmRunDuration() - JdkMath.microsToMillis(durationTotal);
         BigDecimal throughput = new BigDecimal(timeNotGc);
         throughput = throughput.divide(new BigDecimal(getJvmRunDuration()), 2, HALF_EVEN);
         return throughput.movePointRight(2).longValue();
@@ -874,6 +879,30 @@ public class JvmRun {
         return jvmOptions;
     }
 
+    /**
+     * @return The JVM options analysis as a <code>List</code> of String arrays with 2 elements, the first the key, the
+     *         second the display literal.
+     */
+    private List<String[]> getJvmOptionsAnalysis() {
+        List<String[]> a = new ArrayList<String[]>();
+        if (jvmOptions != null) {
+            Iterator<String[]> itJvmOptionsAnalysis = jvmOptions.getAnalysis().iterator();
+            while (itJvmOptionsAnalysis.hasNext()) {
+                String[] item = itJvmOptionsAnalysis.next();
+                if (item[0].equals(org.github.joa.util.Analysis.INFO_GC_LOG_STDOUT.toString())) {
+                    // JDK8 GC logging "CommandLine flags" header will not include any logging options, so JDK8 gc
+                    // logging is not very accurate for determining if the logging is being sent to std out.
+                    if (jvmOptions.getJvmContext().getVersionMajor() > 8) {
+                        a.add(item);
+                    }
+                } else {
+                    a.add(item);
+                }
+            }
+        }
+        return a;
+    }
+
     /**
      * @return JVM run duration (milliseconds).
      */
@@ -898,8 +927,8 @@ public class JvmRun {
         }
 
         long end = lastStoppedEventTimestamp > lastGcEventTimeStamp
-                ? lastStoppedEventTimestamp + JdkMath.convertMicrosToMillis(lastStoppedEventDuration).longValue()
-                : lastGcEventTimeStamp + JdkMath.convertMicrosToMillis(lastGcEventDuration).longValue();
+                ? lastStoppedEventTimestamp + JdkMath.microsToMillis(lastStoppedEventDuration)
+                : lastGcEventTimeStamp + JdkMath.microsToMillis(lastGcEventDuration);
         return end - start;
     }
 
@@ -920,13 +949,13 @@ public class JvmRun {
         String datestamp = null;
         LogEvent lastEvent = getLastEvent();
         String regexDatestamp = "^(.*)" + JdkRegEx.DATESTAMP + "(.*)$";
-        Pattern patternDatestamp = Pattern.compile(regexDatestamp);
+        Pattern patternDatestamp = PatternRegistry.get(regexDatestamp);
         Matcher matcher = patternDatestamp.matcher(lastEvent.getLogEntry());
         if (matcher.find()) {
             datestamp = matcher.group(2);
         } else if (startDate != null) {
             String regexTimestamp = JdkRegEx.TIMESTAMP + "(: )";
-            Pattern patternTimestamp = Pattern.compile(regexTimestamp);
+            Pattern patternTimestamp = PatternRegistry.get(regexTimestamp);
             matcher = patternTimestamp.matcher(lastEvent.getLogEntry());
             if (matcher.find()) {
                 Date date = GcUtil.getDatePlusTimestamp(startDate, lastEvent.getTimestamp());
@@ -1078,6 +1107,10 @@ public class JvmRun {
         return physicalMemoryFree;
     }
 
+    public String getPreprocessDecision() {
+        return preprocessDecision;
+    }
+
     public List<PreprocessEvent> getPreprocessEvents() {
         return preprocessEvents;
     }
@@ -1121,7 +1154,7 @@ public class JvmRun {
         if (getJvmRunDuration() <= 0) {
             return 0L;
         }
-        long timeNotStopped = getJvmRunDuration() - JdkMath.convertMicrosToMillis(stoppedTimeTotal).longValue();
+        long timeNotStopped = getJvmRunDuration() - JdkMath.microsToMillis(stoppedTimeTotal);
         BigDecimal throughput = new BigDecimal(timeNotStopped);
         throughput = throughput.divide(new BigDecimal(getJvmRunDuration()), 2, HALF_EVEN);
         return throughput.movePointRight(2).longValue();
@@ -1204,16 +1237,17 @@ public class JvmRun {
      * @return True if the {@link org.github.joa.util.Analysis} exists, false otherwise.
      */
     public boolean hasAnalysis(String key) {
+        Analysis item = Analysis.fromKey(key);
+        if (item != null && analysis.contains(item)) {
+            return true;
+        }
         boolean hasAnalysis = false;
-        List<String[]> analysis = getAnalysis();
-        if (!analysis.isEmpty()) {
-            Iterator<String[]> i = analysis.iterator();
-            while (i.hasNext()) {
-                String[] a = i.next();
-                if (a[0].equals(key)) {
-                    hasAnalysis = true;
-                    break;
-                }
+        Iterator<String[]> i = getJvmOptionsAnalysis().iterator();
+        while (i.hasNext()) {
+            String[] a = i.next();
+            if (a[0].equals(key)) {
+                hasAnalysis = true;
+                break;
             }
         }
         return hasAnalysis;
@@ -1226,7 +1260,7 @@ public class JvmRun {
         boolean hasDatestamps = false;
         String regexDatestamp = "^(.*)" + JdkRegEx.DATESTAMP + "(.*)$";
         if (getFirstEvent() != null && getFirstEvent().getLogEntry() != null
-                && getFirstEvent().getLogEntry().matches(regexDatestamp)) {
+                && PatternRegistry.matches(regexDatestamp, getFirstEvent().getLogEntry())) {
             hasDatestamps = true;
         }
         return hasDatestamps;
@@ -1407,6 +1441,10 @@ public class JvmRun {
         this.physicalMemoryFree = physicalMemoryFree;
     }
 
+    public void setPreprocessDecision(String preprocessDecision) {
+        this.preprocessDecision = preprocessDecision;
+    }
+
     public void setPreprocessed(boolean preprocessed) {
         this.preprocessed = preprocessed;
     }
@@ -12,6 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain;
 
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+
 /**
  * Base logging event.
  * 
@@ -25,6 +27,11 @@ public interface LogEvent {
      */
     String getLogEntry();
 
+    /**
+     * @return The event type.
+     */
+    LogEventType getLogEventType();
+
     /**
      * TODO: Change to LogEventType.
      * 
@@ -69,6 +69,10 @@ public class ApplicationConcurrentTimeEvent implements ThrowAwayEvent {
         throw new UnsupportedOperationException("Event does not include log entry information");
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.APPLICATION_CONCURRENT_TIME;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.APPLICATION_CONCURRENT_TIME.toString();
     }
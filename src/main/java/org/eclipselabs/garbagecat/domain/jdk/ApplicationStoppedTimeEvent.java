@@ -115,7 +115,20 @@ public class ApplicationStoppedTimeEvent implements SafepointEvent {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #ApplicationStoppedTimeEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
     }
 
     /**
@@ -144,26 +157,39 @@ public class ApplicationStoppedTimeEvent implements SafepointEvent {
      *            The log entry for the event.
      */
     public ApplicationStoppedTimeEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public ApplicationStoppedTimeEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
             long endTimestamp = 0;
-            if (matcher.group(14) != null && matcher.group(14).matches(JdkRegEx.TIMESTAMP)) {
-                endTimestamp = JdkMath.convertSecsToMillis(matcher.group(14)).longValue();
+            if (matcher.group(14) != null && JdkUtil.isTimestamp(matcher.group(14))) {
+                endTimestamp = JdkMath.parseSecsToMillis(matcher.group(14));
             } else if (matcher.group(2) != null) {
-                if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                    endTimestamp = JdkMath.convertSecsToMillis(matcher.group(2)).longValue();
+                if (JdkUtil.isTimestamp(matcher.group(2))) {
+                    endTimestamp = JdkMath.parseSecsToMillis(matcher.group(2));
                 } else {
                     // Datestamp only.
                     endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
             }
-            timeThreadsStopped = JdkMath.convertSecsToMicros(matcher.group(15)).intValue();
+            timeThreadsStopped = (int) JdkMath.parseSecsToMicros(matcher.group(15));
             if (matcher.group(18) != null) {
-                timeToStopThreads = JdkMath.convertSecsToMicros(matcher.group(18)).intValue();
+                timeToStopThreads = (int) JdkMath.parseSecsToMicros(matcher.group(18));
             }
             if (endTimestamp > 0) {
-                timestamp = endTimestamp - JdkMath.convertMicrosToMillis(getDuration()).longValue();
+                timestamp = endTimestamp - JdkMath.microsToMillis(getDuration());
             }
         }
     }
@@ -200,6 +226,10 @@ public class ApplicationStoppedTimeEvent implements SafepointEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.APPLICATION_STOPPED_TIME;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.APPLICATION_STOPPED_TIME.toString();
     }
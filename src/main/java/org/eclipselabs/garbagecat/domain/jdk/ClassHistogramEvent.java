@@ -156,6 +156,10 @@ public class ClassHistogramEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.CLASS_HISTOGRAM;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.CLASS_HISTOGRAM.toString();
     }
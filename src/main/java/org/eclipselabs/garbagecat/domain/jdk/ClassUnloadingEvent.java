@@ -98,6 +98,10 @@ public class ClassUnloadingEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.CLASS_UNLOADING;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.CLASS_UNLOADING.toString();
     }
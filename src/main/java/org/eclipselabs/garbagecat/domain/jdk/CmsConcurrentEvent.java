@@ -109,6 +109,10 @@ public class CmsConcurrentEvent extends CmsCollector implements LogEvent, Parall
         throw new UnsupportedOperationException("Event does not include log entry information");
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.CMS_CONCURRENT;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.CMS_CONCURRENT.toString();
     }
@@ -76,7 +76,20 @@ public class CmsInitialMarkEvent extends CmsCollector implements BlockingEvent,
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #CmsInitialMarkEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
     }
 
     /**
@@ -121,25 +134,36 @@ public class CmsInitialMarkEvent extends CmsCollector implements BlockingEvent,
      *            The log entry for the event.
      */
     public CmsInitialMarkEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public CmsInitialMarkEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        if (match(logEntry)) {
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-                trigger = GcTrigger.getTrigger(matcher.group(15));
-                duration = JdkMath.convertSecsToMicros(matcher.group(20)).intValue();
-                if (matcher.group(23) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(24)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(25)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(26)).intValue();
-                }
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+            }
+            trigger = GcTrigger.getTrigger(matcher.group(15));
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(20));
+            if (matcher.group(23) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(24));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(25));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(26));
             }
         }
     }
@@ -160,6 +184,25 @@ public class CmsInitialMarkEvent extends CmsCollector implements BlockingEvent,
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create detail logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public CmsInitialMarkEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public long getDuration() {
         return duration;
     }
@@ -173,6 +216,10 @@ public class CmsInitialMarkEvent extends CmsCollector implements BlockingEvent,
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.CMS_INITIAL_MARK;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.CMS_INITIAL_MARK.toString();
     }
@@ -183,8 +183,25 @@ public class CmsRemarkEvent extends CmsIncrementalModeCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return REGEX_PATTERN.matcher(logLine).matches() || REGEX_CLASS_UNLOADING_PATTERN.matcher(logLine).matches()
-                || REGEX_TRUNCATED_PATTERN.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #CmsRemarkEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher;
+        if ((matcher = REGEX_PATTERN.matcher(logLine)).matches()
+                || (matcher = REGEX_CLASS_UNLOADING_PATTERN.matcher(logLine)).matches()
+                || (matcher = REGEX_TRUNCATED_PATTERN.matcher(logLine)).matches()) {
+            return matcher;
+        }
+        return null;
     }
 
     /**
@@ -235,92 +252,97 @@ public class CmsRemarkEvent extends CmsIncrementalModeCollector
      *            The log entry for the event.
      */
     public CmsRemarkEvent(String logEntry) {
-        this.logEntry = logEntry;
+        this(logEntry, null);
+    }
 
-        if (logEntry.matches(REGEX)) {
-            Pattern pattern = Pattern.compile(REGEX);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(1) != null) {
-                    // Initial GC[YG block exists
-                    if (matcher.group(14) != null && matcher.group(14).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(14)).longValue();
-                    } else if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(2)).longValue();
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
-                    }
-                    trigger = GcTrigger.getTrigger(matcher.group(16));
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public CmsRemarkEvent(String logEntry, Matcher matcher) {
+        this.logEntry = logEntry;
+        if (matcher == null) {
+            matcher = matcher(logEntry);
+        }
+        Pattern pattern = matcher == null ? null : matcher.pattern();
+        if (pattern == REGEX_PATTERN) {
+            if (matcher.group(1) != null) {
+                // Initial GC[YG block exists
+                if (matcher.group(14) != null && JdkUtil.isTimestamp(matcher.group(14))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(14));
+                } else if (JdkUtil.isTimestamp(matcher.group(2))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(2));
                 } else {
-                    // Initial GC[YG block missing
-                    if (matcher.group(31) != null && matcher.group(31).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(31)).longValue();
-                    } else if (matcher.group(19).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(19)).longValue();
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(19));
-                    }
+                    // Datestamp only.
+                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
-                // The last duration is the total duration for the phase.
-                duration = JdkMath.convertSecsToMicros(matcher.group(72)).intValue();
-                if (matcher.group(75) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(76)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(77)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(78)).intValue();
+                trigger = GcTrigger.getTrigger(matcher.group(16));
+            } else {
+                // Initial GC[YG block missing
+                if (matcher.group(31) != null && JdkUtil.isTimestamp(matcher.group(31))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(31));
+                } else if (JdkUtil.isTimestamp(matcher.group(19))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(19));
+                } else {
+                    // Datestamp only.
+                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(19));
                 }
             }
+            // The last duration is the total duration for the phase.
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(72));
+            if (matcher.group(75) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(76));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(77));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(78));
+            }
             classUnloading = false;
-        } else if (logEntry.matches(REGEX_CLASS_UNLOADING)) {
-            Pattern pattern = Pattern.compile(REGEX_CLASS_UNLOADING);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(1) != null) {
-                    // Initial GC[YG block exists
-                    if (matcher.group(14) != null && matcher.group(14).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(14)).longValue();
-                    } else if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(2)).longValue();
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
-                    }
-                    trigger = GcTrigger.getTrigger(matcher.group(16));
+        } else if (pattern == REGEX_CLASS_UNLOADING_PATTERN) {
+            if (matcher.group(1) != null) {
+                // Initial GC[YG block exists
+                if (matcher.group(14) != null && JdkUtil.isTimestamp(matcher.group(14))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(14));
+                } else if (JdkUtil.isTimestamp(matcher.group(2))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(2));
                 } else {
-                    // Initial GC[YG block missing
-                    if (matcher.group(31) != null && matcher.group(31).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(31)).longValue();
-                    } else if (matcher.group(19).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(19)).longValue();
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(19));
-                    }
-                }
-                // The last duration is the total duration for the phase.
-                duration = JdkMath.convertSecsToMicros(matcher.group(178)).intValue();
-                if (matcher.group(181) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(182)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(183)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(184)).intValue();
+                    // Datestamp only.
+                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
-            }
-            classUnloading = true;
-        } else if (logEntry.matches(REGEX_TRUNCATED)) {
-            Pattern pattern = Pattern.compile(REGEX_TRUNCATED);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                trigger = GcTrigger.getTrigger(matcher.group(16));
+            } else {
+                // Initial GC[YG block missing
+                if (matcher.group(31) != null && JdkUtil.isTimestamp(matcher.group(31))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(31));
+                } else if (JdkUtil.isTimestamp(matcher.group(19))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(19));
                 } else {
                     // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(19));
                 }
-                trigger = GcTrigger.getTrigger(matcher.group(15));
             }
+            // The last duration is the total duration for the phase.
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(178));
+            if (matcher.group(181) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(182));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(183));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(184));
+            }
+            classUnloading = true;
+        } else if (pattern == REGEX_TRUNCATED_PATTERN) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(2))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+            }
+            trigger = GcTrigger.getTrigger(matcher.group(15));
             classUnloading = false;
         }
     }
@@ -341,6 +363,25 @@ public class CmsRemarkEvent extends CmsIncrementalModeCollector
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create CMS Remark logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public CmsRemarkEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public long getDuration() {
         return duration;
     }
@@ -349,6 +390,10 @@ public class CmsRemarkEvent extends CmsIncrementalModeCollector
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.CMS_REMARK;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.CMS_REMARK.toString();
     }
@@ -12,7 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -223,7 +223,24 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static boolean match(String logLine) {
-        return REGEX_FULL_GC_PATTERN.matcher(logLine).matches() || REGEX_GC_PATTERN.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #CmsSerialOldEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher;
+        if ((matcher = REGEX_FULL_GC_PATTERN.matcher(logLine)).matches()
+                || (matcher = REGEX_GC_PATTERN.matcher(logLine)).matches()) {
+            return matcher;
+        }
+        return null;
     }
 
     /**
@@ -237,34 +254,34 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector
     private String logEntry;
 
     /**
-     * Old generation size at beginning of GC event.
+     * Old generation size at beginning of GC event in kilobytes.
      */
-    private Memory old = Memory.ZERO;
+    private long old;
 
     /**
-     * Space allocated to old generation.
+     * Space allocated to old generation in kilobytes.
      */
-    private Memory oldAllocation = Memory.ZERO;
+    private long oldAllocation;
 
     /**
-     * Old generation size at end of GC event.
+     * Old generation size at end of GC event in kilobytes.
      */
-    private Memory oldEnd = Memory.ZERO;
+    private long oldEnd;
 
     /**
-     * Permanent generation size at beginning of GC event.
+     * Permanent generation size at beginning of GC event in kilobytes.
      */
-    private Memory permGen = Memory.ZERO;
+    private long permGen;
 
     /**
-     * Space allocated to permanent generation.
+     * Space allocated to permanent generation in kilobytes.
      */
-    private Memory permGenAllocation = Memory.ZERO;
+    private long permGenAllocation;
 
     /**
-     * Permanent generation size at end of GC event.
+     * Permanent generation size at end of GC event in kilobytes.
      */
-    private Memory permGenEnd = Memory.ZERO;
+    private long permGenEnd;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -292,19 +309,19 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector
     private GcTrigger trigger;
 
     /**
-     * Young generation size at beginning of GC event.
+     * Young generation size at beginning of GC event in kilobytes.
      */
-    private Memory young = Memory.ZERO;
+    private long young;
 
     /**
-     * Available space in young generation. Equals young generation allocation minus one survivor space.
+     * Available space in young generation in kilobytes. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngAvailable = Memory.ZERO;
+    private long youngAvailable;
 
     /**
-     * Young generation size at end of GC event.
+     * Young generation size at end of GC event in kilobytes.
      */
-    private Memory youngEnd = Memory.ZERO;
+    private long youngEnd;
 
     /**
      * Create event from log entry.
@@ -313,116 +330,125 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector
      *            The log entry for the event.
      */
     public CmsSerialOldEvent(String logEntry) {
+        this(logEntry, null);
+    }
 
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public CmsSerialOldEvent(String logEntry, Matcher matcher) {
         this.setLogEntry(logEntry);
-        if (logEntry.matches(REGEX_FULL_GC)) {
-            Pattern pattern = Pattern.compile(REGEX_FULL_GC);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-                // If multiple triggers, use last one.
-                if (matcher.group(54) != null) {
-                    this.trigger = GcTrigger.getTrigger(matcher.group(54));
-                } else if (matcher.group(52) != null) {
-                    this.trigger = GcTrigger.getTrigger(matcher.group(52));
-                } else if (matcher.group(17) != null) {
-                    this.trigger = GcTrigger.CLASS_HISTOGRAM;
-                } else if (matcher.group(15) != null) {
-                    this.trigger = GcTrigger.getTrigger(matcher.group(15));
-                }
-                this.old = kilobytes(matcher.group(122));
-                this.oldEnd = kilobytes(matcher.group(123));
-                this.oldAllocation = kilobytes(matcher.group(124));
-                this.young = kilobytes(matcher.group(148)).minus(this.old);
-                this.youngEnd = kilobytes(matcher.group(149)).minus(this.oldEnd);
-                this.youngAvailable = kilobytes(matcher.group(150)).minus(this.oldAllocation);
-                this.permGen = kilobytes(matcher.group(152));
-                this.permGenEnd = kilobytes(matcher.group(153));
-                this.permGenAllocation = kilobytes(matcher.group(154));
-                if (matcher.group(155) != null) {
-                    super.setIncrementalMode(true);
-                }
-                this.duration = JdkMath.convertSecsToMicros(matcher.group(156)).intValue();
-                if (matcher.group(159) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(160)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(161)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(162)).intValue();
-                }
+        if (matcher == null) {
+            matcher = matcher(logEntry);
+        }
+        Pattern pattern = matcher == null ? null : matcher.pattern();
+        if (pattern == REGEX_FULL_GC_PATTERN) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+            }
+            // If multiple triggers, use last one.
+            if (matcher.group(54) != null) {
+                this.trigger = GcTrigger.getTrigger(matcher.group(54));
+            } else if (matcher.group(52) != null) {
+                this.trigger = GcTrigger.getTrigger(matcher.group(52));
+            } else if (matcher.group(17) != null) {
+                this.trigger = GcTrigger.CLASS_HISTOGRAM;
+            } else if (matcher.group(15) != null) {
+                this.trigger = GcTrigger.getTrigger(matcher.group(15));
+            }
+            this.old = Long.parseLong(matcher.group(122));
+            this.oldEnd = Long.parseLong(matcher.group(123));
+            this.oldAllocation = Long.parseLong(matcher.group(124));
+            this.young = Long.parseLong(matcher.group(148)) - this.old;
+            this.youngEnd = Long.parseLong(matcher.group(149)) - this.oldEnd;
+            this.youngAvailable = Long.parseLong(matcher.group(150)) - this.oldAllocation;
+            this.permGen = Long.parseLong(matcher.group(152));
+            this.permGenEnd = Long.parseLong(matcher.group(153));
+            this.permGenAllocation = Long.parseLong(matcher.group(154));
+            if (matcher.group(155) != null) {
+                super.setIncrementalMode(true);
+            }
+            this.duration = (int) JdkMath.parseSecsToMicros(matcher.group(156));
+            if (matcher.group(159) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(160));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(161));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(162));
+            }
+        } else if (pattern == REGEX_GC_PATTERN) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+            }
+            // If multiple triggers, use last one.
+            if (matcher.group(78) != null) {
+                this.trigger = GcTrigger.getTrigger(matcher.group(78));
+            } else if (matcher.group(32) != null) {
+                this.trigger = GcTrigger.getTrigger(matcher.group(32));
+            } else if (matcher.group(15) != null) {
+                this.trigger = GcTrigger.getTrigger(matcher.group(15));
+            } else {
+                // assume promotion failure
+                this.trigger = GcTrigger.PROMOTION_FAILED;
+            }
+            this.young = Long.parseLong(matcher.group(33));
+            // No data to determine young end size.
+            this.youngEnd = 0;
+            this.youngAvailable = Long.parseLong(matcher.group(35));
+
+            // use young block duration for truncated events
+            if (matcher.group(116) == null) {
+                this.duration = (int) JdkMath.parseSecsToMicros(matcher.group(36));
             }
-        } else if (logEntry.matches(REGEX_GC)) {
-            Pattern pattern = Pattern.compile(REGEX_GC);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-                // If multiple triggers, use last one.
-                if (matcher.group(78) != null) {
-                    this.trigger = GcTrigger.getTrigger(matcher.group(78));
-                } else if (matcher.group(32) != null) {
-                    this.trigger = GcTrigger.getTrigger(matcher.group(32));
-                } else if (matcher.group(15) != null) {
-                    this.trigger = GcTrigger.getTrigger(matcher.group(15));
-                } else {
-                    // assume promotion failure
-                    this.trigger = GcTrigger.PROMOTION_FAILED;
-                }
-                this.young = kilobytes(matcher.group(33));
-                // No data to determine young end size.
-                this.youngEnd = Memory.ZERO;
-                this.youngAvailable = kilobytes(matcher.group(35));
-
-                // use young block duration for truncated events
-                if (matcher.group(116) == null) {
-                    this.duration = JdkMath.convertSecsToMicros(matcher.group(36)).intValue();
-                }
 
-                // old block after young
-                if (matcher.group(79) != null) {
-                    this.old = kilobytes(matcher.group(80));
-                    this.oldEnd = kilobytes(matcher.group(81));
-                    this.oldAllocation = kilobytes(matcher.group(82));
-                    if (matcher.group(106) != null) {
-                        this.youngEnd = kilobytes(matcher.group(108)).minus(this.oldEnd);
-                    }
-                } else {
-                    if (matcher.group(106) != null) {
-                        this.old = kilobytes(matcher.group(107)).minus(this.young);
-                        // No data to determine old end size.
-                        this.oldEnd = Memory.ZERO;
-                        this.oldAllocation = kilobytes(matcher.group(109)).minus(this.youngAvailable);
-                    }
-                }
-                // perm/metaspace data
-                if (matcher.group(110) != null) {
-                    this.permGen = kilobytes(matcher.group(112));
-                    this.permGenEnd = kilobytes(matcher.group(113));
-                    this.permGenAllocation = kilobytes(matcher.group(114));
-                }
-                if (matcher.group(115) != null) {
-                    super.setIncrementalMode(true);
-                }
-                if (matcher.group(116) != null) {
-                    this.duration = JdkMath.convertSecsToMicros(matcher.group(116)).intValue();
+            // old block after young
+            if (matcher.group(79) != null) {
+                this.old = Long.parseLong(matcher.group(80));
+                this.oldEnd = Long.parseLong(matcher.group(81));
+                this.oldAllocation = Long.parseLong(matcher.group(82));
+                if (matcher.group(106) != null) {
+                    this.youngEnd = Long.parseLong(matcher.group(108)) - this.oldEnd;
                 }
-                if (matcher.group(119) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(120)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(121)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(122)).intValue();
+            } else {
+                if (matcher.group(106) != null) {
+                    this.old = Long.parseLong(matcher.group(107)) - this.young;
+                    // No data to determine old end size.
+                    this.oldEnd = 0;
+                    this.oldAllocation = Long.parseLong(matcher.group(109)) - this.youngAvailable;
                 }
             }
+            // perm/metaspace data
+            if (matcher.group(110) != null) {
+                this.permGen = Long.parseLong(matcher.group(112));
+                this.permGenEnd = Long.parseLong(matcher.group(113));
+                this.permGenAllocation = Long.parseLong(matcher.group(114));
+            }
+            if (matcher.group(115) != null) {
+                super.setIncrementalMode(true);
+            }
+            if (matcher.group(116) != null) {
+                this.duration = (int) JdkMath.parseSecsToMicros(matcher.group(116));
+            }
+            if (matcher.group(119) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(120));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(121));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(122));
+            }
         }
     }
 
@@ -442,6 +468,25 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create CMS logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public CmsSerialOldEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public long getDuration() {
         return duration;
     }
@@ -455,20 +500,24 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.CMS_SERIAL_OLD;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.CMS_SERIAL_OLD.toString();
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldEnd;
+        return Memory.kilobytesOrNull(oldEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return old;
+        return Memory.kilobytesOrNull(old);
     }
 
     public Memory getOldSpace() {
-        return oldAllocation;
+        return Memory.kilobytesOrNull(oldAllocation);
     }
 
     public int getParallelism() {
@@ -476,15 +525,15 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector
     }
 
     public Memory getPermOccupancyEnd() {
-        return permGenEnd;
+        return Memory.kilobytesOrNull(permGenEnd);
     }
 
     public Memory getPermOccupancyInit() {
-        return permGen;
+        return Memory.kilobytesOrNull(permGen);
     }
 
     public Memory getPermSpace() {
-        return permGenAllocation;
+        return Memory.kilobytesOrNull(permGenAllocation);
     }
 
     public int getTimeReal() {
@@ -508,15 +557,15 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngEnd;
+        return Memory.kilobytesOrNull(youngEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return young;
+        return Memory.kilobytesOrNull(young);
     }
 
     public Memory getYoungSpace() {
-        return youngAvailable;
+        return Memory.kilobytesOrNull(youngAvailable);
     }
 
     protected void setDuration(int duration) {
@@ -528,27 +577,27 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector
     }
 
     protected void setOldOccupancyEnd(Memory oldEnd) {
-        this.oldEnd = oldEnd;
+        this.oldEnd = toKilobytes(oldEnd);
     }
 
     protected void setOldOccupancyInit(Memory old) {
-        this.old = old;
+        this.old = toKilobytes(old);
     }
 
     protected void setOldSpace(Memory oldAllocation) {
-        this.oldAllocation = oldAllocation;
+        this.oldAllocation = toKilobytes(oldAllocation);
     }
 
     protected void setPermOccupancyEnd(Memory permGenEnd) {
-        this.permGenEnd = permGenEnd;
+        this.permGenEnd = toKilobytes(permGenEnd);
     }
 
     protected void setPermOccupancyInit(Memory permGen) {
-        this.permGen = permGen;
+        this.permGen = toKilobytes(permGen);
     }
 
     protected void setPermSpace(Memory permGenAllocation) {
-        this.permGenAllocation = permGenAllocation;
+        this.permGenAllocation = toKilobytes(permGenAllocation);
     }
 
     protected void setTimestamp(long timestamp) {
@@ -560,14 +609,14 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector
     }
 
     protected void setYoungOccupancyEnd(Memory youngEnd) {
-        this.youngEnd = youngEnd;
+        this.youngEnd = toKilobytes(youngEnd);
     }
 
     protected void setYoungOccupancyInit(Memory young) {
-        this.young = young;
+        this.young = toKilobytes(young);
     }
 
     protected void setYoungSpace(Memory youngAvailable) {
-        this.youngAvailable = youngAvailable;
+        this.youngAvailable = toKilobytes(youngAvailable);
     }
 }
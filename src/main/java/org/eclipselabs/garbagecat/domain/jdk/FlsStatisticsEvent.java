@@ -250,6 +250,10 @@ public class FlsStatisticsEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.FLS_STATISTICS;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.FLS_STATISTICS.toString();
     }
@@ -599,6 +599,10 @@ public class FooterStatsEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.FOOTER_STATS;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.FOOTER_STATS.toString();
     }
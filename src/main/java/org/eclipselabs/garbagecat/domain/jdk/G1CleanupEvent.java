@@ -12,8 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -88,23 +87,35 @@ public class G1CleanupEvent extends G1Collector implements BlockingEvent, Parall
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
     }
 
     /**
-     * Young generation size at beginning of GC event.
+     * Match the log line once, so the <code>Matcher</code> can be handed to {@link #G1CleanupEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
+
+    /**
+     * Young generation size at beginning of GC event in kilobytes.
      */
-    private Memory combined = Memory.ZERO;
+    private long combined;
 
     /**
-     * Available space in young generation. Equals young generation allocation minus one survivor space.
+     * Available space in young generation in kilobytes. Equals young generation allocation minus one survivor space.
      */
-    private Memory combinedAvailable = Memory.ZERO;
+    private long combinedAvailable;
 
     /**
-     * Young generation size at end of GC event.
+     * Young generation size at end of GC event in kilobytes.
      */
-    private Memory combinedEnd = Memory.ZERO;
+    private long combinedEnd;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -143,27 +154,40 @@ public class G1CleanupEvent extends G1Collector implements BlockingEvent, Parall
      *            The log entry for the event.
      */
     public G1CleanupEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public G1CleanupEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-            } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
             if (matcher.group(20) != null) {
-                combined = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
-                combinedEnd = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
-                combinedAvailable = memory(matcher.group(26), matcher.group(28).charAt(0)).convertTo(KILOBYTES);
+                combined = toKilobytes(matcher.group(20), matcher.group(22).charAt(0));
+                combinedEnd = toKilobytes(matcher.group(23), matcher.group(25).charAt(0));
+                combinedAvailable = toKilobytes(matcher.group(26), matcher.group(28).charAt(0));
             }
-            duration = JdkMath.convertSecsToMicros(matcher.group(29)).intValue();
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(29));
             if (matcher.group(32) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(33)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(34)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(35)).intValue();
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(33));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(34));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(35));
             }
         }
     }
@@ -185,15 +209,15 @@ public class G1CleanupEvent extends G1Collector implements BlockingEvent, Parall
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedEnd;
+        return Memory.kilobytesOrNull(combinedEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combined;
+        return Memory.kilobytesOrNull(combined);
     }
 
     public Memory getCombinedSpace() {
-        return combinedAvailable;
+        return Memory.kilobytesOrNull(combinedAvailable);
     }
 
     public long getDuration() {
@@ -204,6 +228,10 @@ public class G1CleanupEvent extends G1Collector implements BlockingEvent, Parall
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.G1_CLEANUP;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.G1_CLEANUP.toString();
     }
@@ -127,7 +127,20 @@ public class G1ConcurrentEvent extends G1Collector implements LogEvent, Parallel
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #G1ConcurrentEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
     }
 
     /**
@@ -147,20 +160,29 @@ public class G1ConcurrentEvent extends G1Collector implements LogEvent, Parallel
      *            The log entry for the event.
      */
     public G1ConcurrentEvent(String logEntry) {
-        this.logEntry = logEntry;
+        this(logEntry, null);
+    }
 
-        if (logEntry.matches(REGEX)) {
-            Pattern pattern = Pattern.compile(REGEX);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public G1ConcurrentEvent(String logEntry, Matcher matcher) {
+        this.logEntry = logEntry;
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
         }
     }
@@ -169,6 +191,10 @@ public class G1ConcurrentEvent extends G1Collector implements LogEvent, Parallel
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.G1_CONCURRENT;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.G1_CONCURRENT.toString();
     }
@@ -12,8 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -28,6 +27,7 @@ import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.domain.TriggerData;
 import org.eclipselabs.garbagecat.domain.YoungCollection;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
@@ -122,23 +122,39 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return REGEX_PATTERN.matcher(logLine).matches() || REGEX_PREPROCESSED_PATTERN.matcher(logLine).matches();
+        return matcher(logLine) != null;
     }
 
     /**
-     * Combined size at beginning of GC event.
+     * Match the log line once, so the <code>Matcher</code> can be handed to {@link #G1FullGcEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher;
+        if ((matcher = REGEX_PATTERN.matcher(logLine)).matches()
+                || (matcher = REGEX_PREPROCESSED_PATTERN.matcher(logLine)).matches()) {
+            return matcher;
+        }
+        return null;
+    }
+
+    /**
+     * Combined size at beginning of GC event in kilobytes.
      */
-    private Memory combined = Memory.ZERO;
+    private long combined;
 
     /**
-     * Combined available space.
+     * Combined available space in kilobytes.
      */
-    private Memory combinedAvailable = Memory.ZERO;
+    private long combinedAvailable;
 
     /**
-     * Combined size at end of GC event.
+     * Combined size at end of GC event in kilobytes.
      */
-    private Memory combinedEnd = Memory.ZERO;
+    private long combinedEnd;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -151,19 +167,19 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
     private String logEntry;
 
     /**
-     * Permanent generation size at beginning of GC event.
+     * Permanent generation size at beginning of GC event in kilobytes.
      */
-    private Memory permGen = Memory.ZERO;
+    private long permGen;
 
     /**
-     * Space allocated to permanent generation.
+     * Space allocated to permanent generation in kilobytes.
      */
-    private Memory permGenAllocation = Memory.ZERO;
+    private long permGenAllocation;
 
     /**
-     * Permanent generation size at end of GC event.
+     * Permanent generation size at end of GC event in kilobytes.
      */
-    private Memory permGenEnd = Memory.ZERO;
+    private long permGenEnd;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -197,63 +213,74 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
      *            The log entry for the event.
      */
     public G1FullGcEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public G1FullGcEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher;
-        if ((matcher = REGEX_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-                trigger = GcTrigger.getTrigger(matcher.group(15));
-                combined = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
-                combinedEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
-                combinedAvailable = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
-                duration = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
-                if (matcher.group(29) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(31)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(32)).intValue();
-                }
+        if (matcher == null) {
+            matcher = matcher(logEntry);
+        }
+        Pattern pattern = matcher == null ? null : matcher.pattern();
+        if (pattern == REGEX_PATTERN) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+            }
+            trigger = GcTrigger.getTrigger(matcher.group(15));
+            combined = toKilobytes(matcher.group(17), matcher.group(19).charAt(0));
+            combinedEnd = toKilobytes(matcher.group(20), matcher.group(22).charAt(0));
+            combinedAvailable = toKilobytes(matcher.group(23), matcher.group(25).charAt(0));
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(26));
+            if (matcher.group(29) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(30));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(31));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(32));
             }
-        } else if ((matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-                if (matcher.group(15) != null) {
-                    trigger = GcTrigger.getTrigger(matcher.group(15));
-                } else if (matcher.group(17) != null
-                        && matcher.group(17).matches(ClassHistogramEvent._REGEX_PREPROCESSED)) {
-                    trigger = GcTrigger.CLASS_HISTOGRAM;
-                } else {
-                    trigger = GcTrigger.NONE;
-                }
+        } else if (pattern == REGEX_PREPROCESSED_PATTERN) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
-            combined = JdkMath.convertSizeToKilobytes(matcher.group(67), matcher.group(69).charAt(0));
-            combinedEnd = JdkMath.convertSizeToKilobytes(matcher.group(73), matcher.group(75).charAt(0));
-            combinedAvailable = JdkMath.convertSizeToKilobytes(matcher.group(76), matcher.group(78).charAt(0));
-            duration = JdkMath.convertSecsToMicros(matcher.group(46)).intValue();
+            if (matcher.group(15) != null) {
+                trigger = GcTrigger.getTrigger(matcher.group(15));
+            } else if (matcher.group(17) != null
+                    && PatternRegistry.matches(ClassHistogramEvent._REGEX_PREPROCESSED, matcher.group(17))) {
+                trigger = GcTrigger.CLASS_HISTOGRAM;
+            } else {
+                trigger = GcTrigger.NONE;
+            }
+            combined = JdkMath.parseSizeToKilobytes(matcher.group(67), matcher.group(69).charAt(0));
+            combinedEnd = JdkMath.parseSizeToKilobytes(matcher.group(73), matcher.group(75).charAt(0));
+            combinedAvailable = JdkMath.parseSizeToKilobytes(matcher.group(76), matcher.group(78).charAt(0));
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(46));
             if (matcher.group(79) != null) {
-                permGen = memory(matcher.group(81), matcher.group(83).charAt(0)).convertTo(KILOBYTES);
-                permGenEnd = memory(matcher.group(84), matcher.group(86).charAt(0)).convertTo(KILOBYTES);
-                permGenAllocation = memory(matcher.group(87), matcher.group(89).charAt(0)).convertTo(KILOBYTES);
+                permGen = toKilobytes(matcher.group(81), matcher.group(83).charAt(0));
+                permGenEnd = toKilobytes(matcher.group(84), matcher.group(86).charAt(0));
+                permGenAllocation = toKilobytes(matcher.group(87), matcher.group(89).charAt(0));
             }
             if (matcher.group(110) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(111)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(112)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(113)).intValue();
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(111));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(112));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(113));
             }
         }
     }
@@ -274,16 +301,35 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create detail logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public G1FullGcEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public Memory getCombinedOccupancyEnd() {
-        return combinedEnd;
+        return Memory.kilobytesOrNull(combinedEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combined;
+        return Memory.kilobytesOrNull(combined);
     }
 
     public Memory getCombinedSpace() {
-        return combinedAvailable;
+        return Memory.kilobytesOrNull(combinedAvailable);
     }
 
     public long getDuration() {
@@ -294,6 +340,10 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.G1_FULL_GC_SERIAL;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.G1_FULL_GC_SERIAL.toString();
     }
@@ -303,15 +353,15 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
     }
 
     public Memory getPermOccupancyEnd() {
-        return permGenEnd;
+        return Memory.kilobytesOrNull(permGenEnd);
     }
 
     public Memory getPermOccupancyInit() {
-        return permGen;
+        return Memory.kilobytesOrNull(permGen);
     }
 
     public Memory getPermSpace() {
-        return permGenAllocation;
+        return Memory.kilobytesOrNull(permGenAllocation);
     }
 
     public int getTimeReal() {
@@ -343,15 +393,15 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
     }
 
     protected void setPermOccupancyEnd(Memory permGenEnd) {
-        this.permGenEnd = permGenEnd;
+        this.permGenEnd = toKilobytes(permGenEnd);
     }
 
     protected void setPermOccupancyInit(Memory permGen) {
-        this.permGen = permGen;
+        this.permGen = toKilobytes(permGen);
     }
 
     protected void setPermSpace(Memory permGenAllocation) {
-        this.permGenAllocation = permGenAllocation;
+        this.permGenAllocation = toKilobytes(permGenAllocation);
     }
 
     protected void setTimestamp(long timestamp) {
@@ -70,7 +70,19 @@ public class G1RemarkEvent extends G1Collector implements BlockingEvent, Paralle
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to {@link #G1RemarkEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
     }
 
     /**
@@ -110,22 +122,35 @@ public class G1RemarkEvent extends G1Collector implements BlockingEvent, Paralle
      *            The log entry for the event.
      */
     public G1RemarkEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public G1RemarkEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-            } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
-            duration = JdkMath.convertSecsToMicros(matcher.group(14)).intValue();
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(14));
             if (matcher.group(17) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(18)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(19)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(20)).intValue();
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(18));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(19));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(20));
             }
         }
     }
@@ -154,6 +179,10 @@ public class G1RemarkEvent extends G1Collector implements BlockingEvent, Paralle
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.G1_REMARK;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.G1_REMARK.toString();
     }
@@ -12,8 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -117,23 +116,40 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return REGEX_PATTERN.matcher(logLine).matches() || REGEX_PREPROCESSED_PATTERN.matcher(logLine).matches();
+        return matcher(logLine) != null;
     }
 
     /**
-     * Combined generation size at beginning of GC event.
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #G1YoungInitialMarkEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher;
+        if ((matcher = REGEX_PATTERN.matcher(logLine)).matches()
+                || (matcher = REGEX_PREPROCESSED_PATTERN.matcher(logLine)).matches()) {
+            return matcher;
+        }
+        return null;
+    }
+
+    /**
+     * Combined generation size at beginning of GC event in kilobytes.
      */
-    private Memory combined = Memory.ZERO;
+    private long combined;
 
     /**
-     * Available space in multiple generation.
+     * Available space in multiple generation in kilobytes.
      */
-    private Memory combinedAvailable = Memory.ZERO;
+    private long combinedAvailable;
 
     /**
-     * Combined generation size at end of GC event.
+     * Combined generation size at end of GC event in kilobytes.
      */
-    private Memory combinedEnd = Memory.ZERO;
+    private long combinedEnd;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -186,81 +202,90 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
      *            The log entry for the event.
      */
     public G1YoungInitialMarkEvent(String logEntry) {
-        this.logEntry = logEntry;
-
-        Matcher matcher;
+        this(logEntry, null);
+    }
 
-        if ((matcher = REGEX_PATTERN.matcher(logEntry)).matches()) {
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public G1YoungInitialMarkEvent(String logEntry, Matcher matcher) {
+        this.logEntry = logEntry;
+        if (matcher == null) {
+            matcher = matcher(logEntry);
+        }
+        Pattern pattern = matcher == null ? null : matcher.pattern();
+        if (pattern == REGEX_PATTERN) {
             // standard format
-            matcher.reset();
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-                trigger = GcTrigger.getTrigger(matcher.group(15));
-                combined = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
-                combinedEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
-                combinedAvailable = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
-                if (matcher.group(29) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(31)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(32)).intValue();
-                }
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+            }
+            trigger = GcTrigger.getTrigger(matcher.group(15));
+            combined = toKilobytes(matcher.group(17), matcher.group(19).charAt(0));
+            combinedEnd = toKilobytes(matcher.group(20), matcher.group(22).charAt(0));
+            combinedAvailable = toKilobytes(matcher.group(23), matcher.group(25).charAt(0));
+            eventTime = (int) JdkMath.parseSecsToMicros(matcher.group(26));
+            if (matcher.group(29) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(30));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(31));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(32));
             }
-        } else if ((matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry)).matches()) {
+        } else if (pattern == REGEX_PREPROCESSED_PATTERN) {
             // preprocessed format
-            matcher.reset();
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-                if (matcher.group(15) != null) {
-                    trigger = GcTrigger.getTrigger(matcher.group(15));
-                } else if (matcher.group(19) != null) {
-                    trigger = GcTrigger.getTrigger(matcher.group(19));
-                } else {
-                    trigger = GcTrigger.NONE;
-                }
-                if (matcher.group(24) != null) {
-                    extRootScanningTime = JdkMath.convertMillisToMicros(matcher.group(25)).intValue();
-                } else {
-                    extRootScanningTime = G1ExtRootScanningData.NO_DATA;
-                }
-                if (matcher.group(26) != null) {
-                    otherTime = JdkMath.convertMillisToMicros(matcher.group(27)).intValue();
-                } else {
-                    otherTime = OtherTime.NO_DATA;
-                }
-                if (matcher.group(20) != null) {
-                    eventTime = JdkMath.convertSecsToMicros(matcher.group(21)).intValue();
-                } else {
-                    if (matcher.group(59) != null) {
-                        // Use Times block duration
-                        eventTime = JdkMath.convertSecsToMicros(matcher.group(61)).intValue();
-                    }
-                }
-                if (matcher.group(28) != null) {
-                    combined = JdkMath.convertSizeToKilobytes(matcher.group(47), matcher.group(49).charAt(0));
-                    combinedEnd = JdkMath.convertSizeToKilobytes(matcher.group(53), matcher.group(55).charAt(0));
-                    combinedAvailable = JdkMath.convertSizeToKilobytes(matcher.group(56), matcher.group(58).charAt(0));
-                }
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+            }
+            if (matcher.group(15) != null) {
+                trigger = GcTrigger.getTrigger(matcher.group(15));
+            } else if (matcher.group(19) != null) {
+                trigger = GcTrigger.getTrigger(matcher.group(19));
+            } else {
+                trigger = GcTrigger.NONE;
+            }
+            if (matcher.group(24) != null) {
+                extRootScanningTime = (int) JdkMath.parseMillisToMicros(matcher.group(25));
+            } else {
+                extRootScanningTime = G1ExtRootScanningData.NO_DATA;
+            }
+            if (matcher.group(26) != null) {
+                otherTime = (int) JdkMath.parseMillisToMicros(matcher.group(27));
+            } else {
+                otherTime = OtherTime.NO_DATA;
+            }
+            if (matcher.group(20) != null) {
+                eventTime = (int) JdkMath.parseSecsToMicros(matcher.group(21));
+            } else {
                 if (matcher.group(59) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(60)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(61)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(62)).intValue();
+                    // Use Times block duration
+                    eventTime = (int) JdkMath.parseSecsToMicros(matcher.group(61));
                 }
             }
+            if (matcher.group(28) != null) {
+                combined = JdkMath.parseSizeToKilobytes(matcher.group(47), matcher.group(49).charAt(0));
+                combinedEnd = JdkMath.parseSizeToKilobytes(matcher.group(53), matcher.group(55).charAt(0));
+                combinedAvailable = JdkMath.parseSizeToKilobytes(matcher.group(56), matcher.group(58).charAt(0));
+            }
+            if (matcher.group(59) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(60));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(61));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(62));
+            }
         }
     }
 
@@ -280,16 +305,35 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
         this.eventTime = duration;
     }
 
+    /**
+     * Alternate constructor. Create detail logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public G1YoungInitialMarkEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.eventTime = duration;
+        this.trigger = trigger;
+    }
+
     public Memory getCombinedOccupancyEnd() {
-        return combinedEnd;
+        return Memory.kilobytesOrNull(combinedEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combined;
+        return Memory.kilobytesOrNull(combined);
     }
 
     public Memory getCombinedSpace() {
-        return combinedAvailable;
+        return Memory.kilobytesOrNull(combinedAvailable);
     }
 
     public long getDuration() {
@@ -304,6 +348,10 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.G1_YOUNG_INITIAL_MARK;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.G1_YOUNG_INITIAL_MARK.toString();
     }
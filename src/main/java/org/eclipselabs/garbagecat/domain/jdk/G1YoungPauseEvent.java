@@ -12,8 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -165,36 +164,53 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return REGEX_PATTERN.matcher(logLine).matches() || REGEX_PREPROCESSED_DETAILS_PATTERN.matcher(logLine).matches()
-                || REGEX_PREPROCESSED_PATTERN.matcher(logLine).matches()
-                || REGEX_PREPROCESSED_NO_DURATION_PATTERN.matcher(logLine).matches();
+        return matcher(logLine) != null;
     }
 
     /**
-     * Combined generation size at beginning of GC event.
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #G1YoungPauseEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
      */
-    private Memory combined;
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher;
+        if ((matcher = REGEX_PATTERN.matcher(logLine)).matches()
+                || (matcher = REGEX_PREPROCESSED_DETAILS_PATTERN.matcher(logLine)).matches()
+                || (matcher = REGEX_PREPROCESSED_PATTERN.matcher(logLine)).matches()
+                || (matcher = REGEX_PREPROCESSED_NO_DURATION_PATTERN.matcher(logLine)).matches()) {
+            return matcher;
+        }
+        return null;
+    }
 
     /**
-     * Available space in multiple generation.
+     * Combined generation size at beginning of GC event in kilobytes.
      */
-    private Memory combinedAvailable;
+    private long combined = Memory.NO_DATA;
 
     /**
-     * Combined generation size at end of GC event.
+     * Available space in multiple generation in kilobytes.
      */
-    private Memory combinedEnd;
+    private long combinedAvailable = Memory.NO_DATA;
 
     /**
-     * Combined generation size at beginning of GC event.
+     * Combined generation size at end of GC event in kilobytes.
      */
-    private Memory eden;
+    private long combinedEnd = Memory.NO_DATA;
 
     /**
-     * Combined generation size at end of GC event.
+     * Combined generation size at beginning of GC event in kilobytes.
+     */
+    private long eden = Memory.NO_DATA;
+
+    /**
+     * Combined generation size at end of GC event in kilobytes.
      * 
      */
-    private Memory edenEnd;
+    private long edenEnd = Memory.NO_DATA;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -248,115 +264,120 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
      *            The log entry for the event.
      */
     public G1YoungPauseEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public G1YoungPauseEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher;
-        if ((matcher = REGEX_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-                trigger = GcTrigger.getTrigger(matcher.group(15));
-                combined = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
-                combinedEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
-                combinedAvailable = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
-                if (matcher.group(29) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(31)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(32)).intValue();
-                }
+        if (matcher == null) {
+            matcher = matcher(logEntry);
+        }
+        Pattern pattern = matcher == null ? null : matcher.pattern();
+        if (pattern == REGEX_PATTERN) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
-        } else if ((matcher = REGEX_PREPROCESSED_DETAILS_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-                if (matcher.group(17) != null) {
-                    // trigger after (young):
-                    trigger = GcTrigger.getTrigger(matcher.group(17));
-                } else {
-                    // trigger before (young):
-                    trigger = GcTrigger.getTrigger(matcher.group(15));
-                }
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(18)).intValue();
-                if (matcher.group(21) != null) {
-                    extRootScanningTime = JdkMath.convertMillisToMicros(matcher.group(22)).intValue();
-                } else {
-                    extRootScanningTime = G1ExtRootScanningData.NO_DATA;
-                }
-                if (matcher.group(24) != null) {
-                    otherTime = JdkMath.convertMillisToMicros(matcher.group(24)).intValue();
-                } else {
-                    otherTime = OtherTime.NO_DATA;
-                }
-                eden = JdkMath.convertSizeToKilobytes(matcher.group(25), matcher.group(27).charAt(0));
-                edenEnd = JdkMath.convertSizeToKilobytes(matcher.group(31), matcher.group(33).charAt(0));
-                combined = JdkMath.convertSizeToKilobytes(matcher.group(43), matcher.group(45).charAt(0));
-                combinedEnd = JdkMath.convertSizeToKilobytes(matcher.group(49), matcher.group(51).charAt(0));
-                combinedAvailable = JdkMath.convertSizeToKilobytes(matcher.group(52), matcher.group(54).charAt(0));
-                if (matcher.group(55) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(56)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(57)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(58)).intValue();
-                }
+            trigger = GcTrigger.getTrigger(matcher.group(15));
+            combined = toKilobytes(matcher.group(17), matcher.group(19).charAt(0));
+            combinedEnd = toKilobytes(matcher.group(20), matcher.group(22).charAt(0));
+            combinedAvailable = toKilobytes(matcher.group(23), matcher.group(25).charAt(0));
+            eventTime = (int) JdkMath.parseSecsToMicros(matcher.group(26));
+            if (matcher.group(29) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(30));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(31));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(32));
             }
-        } else if ((matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(14)).intValue();
-                combined = memory(matcher.group(19), matcher.group(21).charAt(0)).convertTo(KILOBYTES);
-                combinedEnd = memory(matcher.group(22), matcher.group(24).charAt(0)).convertTo(KILOBYTES);
-                combinedAvailable = memory(matcher.group(25), matcher.group(27).charAt(0)).convertTo(KILOBYTES);
-                if (matcher.group(28) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(29)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(31)).intValue();
-                }
-                trigger = GcTrigger.NONE;
+        } else if (pattern == REGEX_PREPROCESSED_DETAILS_PATTERN) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
-        } else if ((matcher = REGEX_PREPROCESSED_NO_DURATION_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-                } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
+            if (matcher.group(17) != null) {
+                // trigger after (young):
+                trigger = GcTrigger.getTrigger(matcher.group(17));
+            } else {
+                // trigger before (young):
                 trigger = GcTrigger.getTrigger(matcher.group(15));
-                // Get duration from times block
-                eventTime = JdkMath.convertSecsToMicros(matcher.group(49)).intValue();
-                combined = JdkMath.convertSizeToKilobytes(matcher.group(34), matcher.group(36).charAt(0));
-                combinedEnd = JdkMath.convertSizeToKilobytes(matcher.group(40), matcher.group(42).charAt(0));
-                eden = JdkMath.convertSizeToKilobytes(matcher.group(16), matcher.group(18).charAt(0));
-                edenEnd = JdkMath.convertSizeToKilobytes(matcher.group(22), matcher.group(24).charAt(0));
-                combinedAvailable = JdkMath.convertSizeToKilobytes(matcher.group(43), matcher.group(45).charAt(0));
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(47)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(48)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(49)).intValue();
             }
+            eventTime = (int) JdkMath.parseSecsToMicros(matcher.group(18));
+            if (matcher.group(21) != null) {
+                extRootScanningTime = (int) JdkMath.parseMillisToMicros(matcher.group(22));
+            } else {
+                extRootScanningTime = G1ExtRootScanningData.NO_DATA;
+            }
+            if (matcher.group(24) != null) {
+                otherTime = (int) JdkMath.parseMillisToMicros(matcher.group(24));
+            } else {
+                otherTime = OtherTime.NO_DATA;
+            }
+            eden = JdkMath.parseSizeToKilobytes(matcher.group(25), matcher.group(27).charAt(0));
+            edenEnd = JdkMath.parseSizeToKilobytes(matcher.group(31), matcher.group(33).charAt(0));
+            combined = JdkMath.parseSizeToKilobytes(matcher.group(43), matcher.group(45).charAt(0));
+            combinedEnd = JdkMath.parseSizeToKilobytes(matcher.group(49), matcher.group(51).charAt(0));
+            combinedAvailable = JdkMath.parseSizeToKilobytes(matcher.group(52), matcher.group(54).charAt(0));
+            if (matcher.group(55) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(56));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(57));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(58));
+            }
+        } else if (pattern == REGEX_PREPROCESSED_PATTERN) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+            }
+            eventTime = (int) JdkMath.parseSecsToMicros(matcher.group(14));
+            combined = toKilobytes(matcher.group(19), matcher.group(21).charAt(0));
+            combinedEnd = toKilobytes(matcher.group(22), matcher.group(24).charAt(0));
+            combinedAvailable = toKilobytes(matcher.group(25), matcher.group(27).charAt(0));
+            if (matcher.group(28) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(29));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(30));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(31));
+            }
+            trigger = GcTrigger.NONE;
+        } else if (pattern == REGEX_PREPROCESSED_NO_DURATION_PATTERN) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
+            } else {
+                // Datestamp only.
+                timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
+            }
+            trigger = GcTrigger.getTrigger(matcher.group(15));
+            // Get duration from times block
+            eventTime = (int) JdkMath.parseSecsToMicros(matcher.group(49));
+            combined = JdkMath.parseSizeToKilobytes(matcher.group(34), matcher.group(36).charAt(0));
+            combinedEnd = JdkMath.parseSizeToKilobytes(matcher.group(40), matcher.group(42).charAt(0));
+            eden = JdkMath.parseSizeToKilobytes(matcher.group(16), matcher.group(18).charAt(0));
+            edenEnd = JdkMath.parseSizeToKilobytes(matcher.group(22), matcher.group(24).charAt(0));
+            combinedAvailable = JdkMath.parseSizeToKilobytes(matcher.group(43), matcher.group(45).charAt(0));
+            timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(47));
+            timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(48));
+            timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(49));
         }
     }
 
@@ -376,16 +397,35 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
         this.eventTime = duration;
     }
 
+    /**
+     * Alternate constructor. Create detail logging event from values.
+     *
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public G1YoungPauseEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.eventTime = duration;
+        this.trigger = trigger;
+    }
+
     public Memory getCombinedOccupancyEnd() {
-        return combinedEnd;
+        return Memory.kilobytesOrNull(combinedEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combined;
+        return Memory.kilobytesOrNull(combined);
     }
 
     public Memory getCombinedSpace() {
-        return combinedAvailable;
+        return Memory.kilobytesOrNull(combinedAvailable);
     }
 
     public long getDuration() {
@@ -393,11 +433,11 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
     }
 
     public Memory getEdenOccupancyEnd() {
-        return edenEnd;
+        return Memory.kilobytesOrNull(edenEnd);
     }
 
     public Memory getEdenOccupancyInit() {
-        return eden;
+        return Memory.kilobytesOrNull(eden);
     }
 
     public long getExtRootScanningTime() {
@@ -408,6 +448,10 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.G1_YOUNG_PAUSE;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.G1_YOUNG_PAUSE.toString();
     }
@@ -197,6 +197,10 @@ public class GcInfoEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.GC_INFO;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.GC_INFO.toString();
     }
@@ -16,9 +16,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.LogEvent;
-import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -87,8 +86,7 @@ public class GcLockerRetryEvent extends G1Collector implements LogEvent {
     /**
      * Regular expressions defining the logging.
      */
-    public static final String _REGEX = "^" + UnifiedRegEx.DECORATOR
-            + ".+Retried waiting for GCLocker too often allocating \\d{1,} words[ ]*$";
+    public static final String _REGEX = "^.+Retried waiting for GCLocker too often allocating \\d{1,} words[ ]*$";
 
     private static final Pattern pattern = Pattern.compile(_REGEX);
 
@@ -100,7 +98,31 @@ public class GcLockerRetryEvent extends G1Collector implements LogEvent {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #GcLockerRetryEvent(String, UnifiedDecorator, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        return matcher(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Match the log line body after the decorator.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return The successful <code>Matcher</code> if the log line body matches the event pattern(s), null
+     *         otherwise.
+     */
+    public static final Matcher matcher(UnifiedDecorator decorator) {
+        return decorator == null ? null : decorator.matcher(pattern);
     }
 
     /**
@@ -120,25 +142,25 @@ public class GcLockerRetryEvent extends G1Collector implements LogEvent {
      *            The log entry for the event.
      */
     public GcLockerRetryEvent(String logEntry) {
+        this(logEntry, UnifiedDecorator.parse(logEntry), null);
+    }
+
+    /**
+     * Create event from log entry, its decorator, and the <code>Matcher</code> that identified it, so the log entry is
+     * not parsed or matched again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param decorator
+     *            The decorator of the log entry.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(UnifiedDecorator)}, or null to match
+     *            the log entry body.
+     */
+    public GcLockerRetryEvent(String logEntry, UnifiedDecorator decorator, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                timestamp = Long.parseLong(matcher.group(12));
-            } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-            } else {
-                if (matcher.group(14) != null) {
-                    if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                        timestamp = Long.parseLong(matcher.group(16));
-                    } else {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                    }
-                } else {
-                    // Datestamp only.
-                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
-            }
+        if (matcher != null || (matcher = matcher(decorator)) != null) {
+            timestamp = decorator.getTimestamp();
         }
     }
 
@@ -146,6 +168,10 @@ public class GcLockerRetryEvent extends G1Collector implements LogEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.GC_LOCKER_RETRY;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.GC_LOCKER_RETRY.toString();
     }
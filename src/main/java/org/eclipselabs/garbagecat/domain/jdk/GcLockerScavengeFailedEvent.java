@@ -87,6 +87,10 @@ public class GcLockerScavengeFailedEvent implements LogEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.GC_LOCKER_SCAVENGE_FAILED;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.GC_LOCKER_SCAVENGE_FAILED.toString();
     }
@@ -95,6 +95,10 @@ public class GcOverheadLimitEvent implements LogEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.GC_OVERHEAD_LIMIT;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.GC_OVERHEAD_LIMIT.toString();
     }
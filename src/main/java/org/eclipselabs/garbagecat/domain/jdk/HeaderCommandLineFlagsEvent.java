@@ -118,6 +118,10 @@ public class HeaderCommandLineFlagsEvent implements LogEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.HEADER_COMMAND_LINE_FLAGS;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.HEADER_COMMAND_LINE_FLAGS.toString();
     }
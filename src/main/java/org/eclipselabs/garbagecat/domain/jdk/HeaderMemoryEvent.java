@@ -129,6 +129,10 @@ public class HeaderMemoryEvent implements LogEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.HEADER_MEMORY;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.HEADER_MEMORY.toString();
     }
@@ -18,6 +18,7 @@ import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.LogEvent;
 import org.eclipselabs.garbagecat.util.GcUtil;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.github.joa.domain.Arch;
@@ -137,34 +138,34 @@ public class HeaderVmInfoEvent implements LogEvent {
      */
     public BuiltBy getBuiltBy() {
         BuiltBy builtBy = BuiltBy.UNKNOWN;
-        if (logEntry.matches(".+\"build\".+")) {
+        if (PatternRegistry.matches(".+\"build\".+", logEntry)) {
             builtBy = BuiltBy.BUILD;
-        } else if (logEntry.matches(".+\"buildslave\".+")) {
+        } else if (PatternRegistry.matches(".+\"buildslave\".+", logEntry)) {
             builtBy = BuiltBy.BUILDSLAVE;
-        } else if (logEntry.matches(".+\"\".+")) {
+        } else if (PatternRegistry.matches(".+\"\".+", logEntry)) {
             builtBy = BuiltBy.EMPTY;
-        } else if (logEntry.matches(".+\"jenkins\".+")) {
+        } else if (PatternRegistry.matches(".+\"jenkins\".+", logEntry)) {
             // AdoptOpenJDK
             builtBy = BuiltBy.JENKINS;
-        } else if (logEntry.matches(".+\"java_re\".+")) {
+        } else if (PatternRegistry.matches(".+\"java_re\".+", logEntry)) {
             // Oracle current
             builtBy = BuiltBy.JAVA_RE;
-        } else if (logEntry.matches(".+\"mach5one\".+")) {
+        } else if (PatternRegistry.matches(".+\"mach5one\".+", logEntry)) {
             // Oracle previous
             builtBy = BuiltBy.MACH5ONE;
-        } else if (logEntry.matches(".+\"mockbuild\".+")) {
+        } else if (PatternRegistry.matches(".+\"mockbuild\".+", logEntry)) {
             // Red Hat, CentOS
             builtBy = BuiltBy.MOCKBUILD;
-        } else if (logEntry.matches(".+\"temurin\".+")) {
+        } else if (PatternRegistry.matches(".+\"temurin\".+", logEntry)) {
             // Adoptium temurin
             builtBy = BuiltBy.TEMURIN;
-        } else if (logEntry.matches(".+\"tester\".+")) {
+        } else if (PatternRegistry.matches(".+\"tester\".+", logEntry)) {
             // Azul
             builtBy = BuiltBy.TESTER;
-        } else if (logEntry.matches(".+\"vsts\".+")) {
+        } else if (PatternRegistry.matches(".+\"vsts\".+", logEntry)) {
             // Microsoft
             builtBy = BuiltBy.VSTS;
-        } else if (logEntry.matches(".+\"zulu_re\".+")) {
+        } else if (PatternRegistry.matches(".+\"zulu_re\".+", logEntry)) {
             // Azul
             builtBy = BuiltBy.ZULU_RE;
         }
@@ -199,7 +200,7 @@ public class HeaderVmInfoEvent implements LogEvent {
         int jdkVersionMajor = org.github.joa.domain.JvmContext.UNKNOWN;
         String regex = "^.+JRE \\(1\\.(5|6|7|8|9|10).+$";
         if (logEntry != null) {
-            Pattern pattern = Pattern.compile(regex);
+            Pattern pattern = PatternRegistry.get(regex);
             Matcher matcher = pattern.matcher(logEntry);
             if (matcher.find()) {
                 if (matcher.group(1) != null) {
@@ -218,7 +219,7 @@ public class HeaderVmInfoEvent implements LogEvent {
         int jdkVersionMinor = org.github.joa.domain.JvmContext.UNKNOWN;
         String regex = "^.+JRE \\(1\\.(5|6|7|8|9|10)\\.\\d_(\\d{1,3})-.+$";
         if (logEntry != null) {
-            Pattern pattern = Pattern.compile(regex);
+            Pattern pattern = PatternRegistry.get(regex);
             Matcher matcher = pattern.matcher(logEntry);
             if (matcher.find()) {
                 if (matcher.group(1) != null) {
@@ -233,6 +234,10 @@ public class HeaderVmInfoEvent implements LogEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.HEADER_VM_INFO;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.HEADER_VM_INFO.toString();
     }
@@ -266,7 +271,7 @@ public class HeaderVmInfoEvent implements LogEvent {
     public boolean is32Bit() {
         boolean is32Bit = false;
         if (logEntry != null) {
-            is32Bit = logEntry.matches("^.+32-Bit.+$");
+            is32Bit = PatternRegistry.matches("^.+32-Bit.+$", logEntry);
         }
         return is32Bit;
     }
@@ -310,6 +310,10 @@ public class HeapAtGcEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.HEAP_AT_GC;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.HEAP_AT_GC.toString();
     }
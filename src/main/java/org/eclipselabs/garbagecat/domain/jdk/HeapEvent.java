@@ -289,6 +289,10 @@ public class HeapEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.HEAP;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.HEAP.toString();
     }
@@ -15,6 +15,7 @@ package org.eclipselabs.garbagecat.domain.jdk;
 import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 
@@ -87,6 +88,10 @@ public class LogFileEvent implements LogEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.LOG_FILE;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.LOG_FILE.toString();
     }
@@ -99,7 +104,7 @@ public class LogFileEvent implements LogEvent {
      * @return True if the event is when the log file is created, false otherwise.
      */
     public boolean isCreated() {
-        return logEntry.matches("^" + JdkRegEx.DATETIME + " GC log file created.+$");
+        return PatternRegistry.matches("^" + JdkRegEx.DATETIME + " GC log file created.+$", logEntry);
     }
 
 }
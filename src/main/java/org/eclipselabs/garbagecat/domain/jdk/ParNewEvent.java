@@ -12,7 +12,6 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -144,7 +143,19 @@ public class ParNewEvent extends CmsIncrementalModeCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to {@link #ParNewEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
     }
 
     /**
@@ -158,19 +169,19 @@ public class ParNewEvent extends CmsIncrementalModeCollector
     private String logEntry;
 
     /**
-     * Old generation size at beginning of GC event.
+     * Old generation size at beginning of GC event in kilobytes.
      */
-    private Memory old;
+    private long old = Memory.NO_DATA;
 
     /**
-     * Space allocated to old generation.
+     * Space allocated to old generation in kilobytes.
      */
-    private Memory oldAllocation;
+    private long oldAllocation = Memory.NO_DATA;
 
     /**
-     * Old generation size at end of GC event.
+     * Old generation size at end of GC event in kilobytes.
      */
-    private Memory oldEnd;
+    private long oldEnd = Memory.NO_DATA;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -198,19 +209,19 @@ public class ParNewEvent extends CmsIncrementalModeCollector
     private GcTrigger trigger;
 
     /**
-     * Young generation size at beginning of GC event.
+     * Young generation size at beginning of GC event in kilobytes.
      */
-    private Memory young;
+    private long young = Memory.NO_DATA;
 
     /**
-     * Available space in young generation. Equals young generation allocation minus one survivor space.
+     * Available space in young generation in kilobytes. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngAvailable;
+    private long youngAvailable = Memory.NO_DATA;
 
     /**
-     * Young generation size at end of GC event.
+     * Young generation size at end of GC event in kilobytes.
      */
-    private Memory youngEnd;
+    private long youngEnd = Memory.NO_DATA;
 
     /**
      * Create event from log entry.
@@ -219,23 +230,36 @@ public class ParNewEvent extends CmsIncrementalModeCollector
      *            The log entry for the event.
      */
     public ParNewEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public ParNewEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(14) != null && matcher.group(14).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(14)).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(14) != null && JdkUtil.isTimestamp(matcher.group(14))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(14));
             } else if (matcher.group(2) != null) {
-                if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(2)).longValue();
+                if (JdkUtil.isTimestamp(matcher.group(2))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(2));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
-            } else if (matcher.group(31) != null && matcher.group(31).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(31)).longValue();
+            } else if (matcher.group(31) != null && JdkUtil.isTimestamp(matcher.group(31))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(31));
             } else if (matcher.group(19) != null) {
-                if (matcher.group(19).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(19)).longValue();
+                if (JdkUtil.isTimestamp(matcher.group(19))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(19));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(19));
@@ -247,22 +271,22 @@ public class ParNewEvent extends CmsIncrementalModeCollector
         } else {
             trigger = GcTrigger.getTrigger(matcher.group(35));
         }
-        young = kilobytes(matcher.group(55));
-        youngEnd = kilobytes(matcher.group(56));
-        youngAvailable = kilobytes(matcher.group(57));
-        oldEnd = kilobytes(matcher.group(63)).minus(youngEnd);
-        old = matcher.group(61) == null ? oldEnd : kilobytes(matcher.group(62)).minus(young);
-        oldAllocation = kilobytes(matcher.group(64)).minus(youngAvailable);
-        duration = JdkMath.convertSecsToMicros(matcher.group(66)).intValue();
+        young = Long.parseLong(matcher.group(55));
+        youngEnd = Long.parseLong(matcher.group(56));
+        youngAvailable = Long.parseLong(matcher.group(57));
+        oldEnd = Long.parseLong(matcher.group(63)) - youngEnd;
+        old = matcher.group(61) == null ? oldEnd : Long.parseLong(matcher.group(62)) - young;
+        oldAllocation = Long.parseLong(matcher.group(64)) - youngAvailable;
+        duration = (int) JdkMath.parseSecsToMicros(matcher.group(66));
         if (matcher.group(65) != null) {
             super.setIncrementalMode(true);
         } else {
             super.setIncrementalMode(false);
         }
         if (matcher.group(69) != null) {
-            timeUser = JdkMath.convertSecsToCentis(matcher.group(70)).intValue();
-            timeSys = JdkMath.convertSecsToCentis(matcher.group(71)).intValue();
-            timeReal = JdkMath.convertSecsToCentis(matcher.group(72)).intValue();
+            timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(70));
+            timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(71));
+            timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(72));
         }
     }
 
@@ -282,6 +306,25 @@ public class ParNewEvent extends CmsIncrementalModeCollector
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create ParNew detail logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public ParNewEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public long getDuration() {
         return duration;
     }
@@ -295,20 +338,24 @@ public class ParNewEvent extends CmsIncrementalModeCollector
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.PAR_NEW;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.PAR_NEW.toString();
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldEnd;
+        return Memory.kilobytesOrNull(oldEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return old;
+        return Memory.kilobytesOrNull(old);
     }
 
     public Memory getOldSpace() {
-        return oldAllocation;
+        return Memory.kilobytesOrNull(oldAllocation);
     }
 
     public int getParallelism() {
@@ -336,14 +383,14 @@ public class ParNewEvent extends CmsIncrementalModeCollector
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngEnd;
+        return Memory.kilobytesOrNull(youngEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return young;
+        return Memory.kilobytesOrNull(young);
     }
 
     public Memory getYoungSpace() {
-        return youngAvailable;
+        return Memory.kilobytesOrNull(youngAvailable);
     }
 }
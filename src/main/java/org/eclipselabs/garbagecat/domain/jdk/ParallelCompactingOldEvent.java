@@ -12,7 +12,6 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -117,7 +116,20 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #ParallelCompactingOldEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
     }
 
     /**
@@ -131,34 +143,34 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
     private String logEntry;
 
     /**
-     * Old generation size at beginning of GC event.
+     * Old generation size at beginning of GC event in kilobytes.
      */
-    private Memory old;
+    private long old = Memory.NO_DATA;
 
     /**
-     * Space allocated to old generation.
+     * Space allocated to old generation in kilobytes.
      */
-    private Memory oldAllocation;
+    private long oldAllocation = Memory.NO_DATA;
 
     /**
-     * Old generation size at end of GC event.
+     * Old generation size at end of GC event in kilobytes.
      */
-    private Memory oldEnd;
+    private long oldEnd = Memory.NO_DATA;
 
     /**
-     * Permanent generation size at beginning of GC event.
+     * Permanent generation size at beginning of GC event in kilobytes.
      */
-    private Memory permGen;
+    private long permGen = Memory.NO_DATA;
 
     /**
-     * Space allocated to permanent generation.
+     * Space allocated to permanent generation in kilobytes.
      */
-    private Memory permGenAllocation;
+    private long permGenAllocation = Memory.NO_DATA;
 
     /**
-     * Permanent generation size at end of GC event.
+     * Permanent generation size at end of GC event in kilobytes.
      */
-    private Memory permGenEnd;
+    private long permGenEnd = Memory.NO_DATA;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -186,19 +198,19 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
     private GcTrigger trigger;
 
     /**
-     * Young generation size at beginning of GC event.
+     * Young generation size at beginning of GC event in kilobytes.
      */
-    private Memory young;
+    private long young = Memory.NO_DATA;
 
     /**
-     * Available space in young generation. Equals young generation allocation minus one survivor space.
+     * Available space in young generation in kilobytes. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngAvailable;
+    private long youngAvailable = Memory.NO_DATA;
 
     /**
-     * Young generation size at end of GC event.
+     * Young generation size at end of GC event in kilobytes.
      */
-    private Memory youngEnd;
+    private long youngEnd = Memory.NO_DATA;
 
     /**
      * Create event from log entry.
@@ -207,35 +219,48 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
      *            The log entry for the event.
      */
     public ParallelCompactingOldEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public ParallelCompactingOldEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1) != null) {
-                if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                if (JdkUtil.isTimestamp(matcher.group(1))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
                 }
             }
             trigger = GcTrigger.getTrigger(matcher.group(15));
-            young = kilobytes(matcher.group(17));
-            youngEnd = kilobytes(matcher.group(18));
-            youngAvailable = kilobytes(matcher.group(19));
-            old = kilobytes(matcher.group(20));
-            oldEnd = kilobytes(matcher.group(21));
-            oldAllocation = kilobytes(matcher.group(22));
+            young = Long.parseLong(matcher.group(17));
+            youngEnd = Long.parseLong(matcher.group(18));
+            youngAvailable = Long.parseLong(matcher.group(19));
+            old = Long.parseLong(matcher.group(20));
+            oldEnd = Long.parseLong(matcher.group(21));
+            oldAllocation = Long.parseLong(matcher.group(22));
             // Do not need total begin/end/allocation, as these can be calculated.
-            permGen = kilobytes(matcher.group(28));
-            permGenEnd = kilobytes(matcher.group(29));
-            permGenAllocation = kilobytes(matcher.group(30));
-            duration = JdkMath.convertSecsToMicros(matcher.group(31)).intValue();
+            permGen = Long.parseLong(matcher.group(28));
+            permGenEnd = Long.parseLong(matcher.group(29));
+            permGenAllocation = Long.parseLong(matcher.group(30));
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(31));
             if (matcher.group(34) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(35)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(36)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(37)).intValue();
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(35));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(36));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(37));
             }
         }
     }
@@ -256,6 +281,25 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create parallel old detail logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public ParallelCompactingOldEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public long getDuration() {
         return duration;
     }
@@ -269,20 +313,24 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.PARALLEL_COMPACTING_OLD;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.PARALLEL_COMPACTING_OLD.toString();
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldEnd;
+        return Memory.kilobytesOrNull(oldEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return old;
+        return Memory.kilobytesOrNull(old);
     }
 
     public Memory getOldSpace() {
-        return oldAllocation;
+        return Memory.kilobytesOrNull(oldAllocation);
     }
 
     public int getParallelism() {
@@ -290,15 +338,15 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
     }
 
     public Memory getPermOccupancyEnd() {
-        return permGenEnd;
+        return Memory.kilobytesOrNull(permGenEnd);
     }
 
     public Memory getPermOccupancyInit() {
-        return permGen;
+        return Memory.kilobytesOrNull(permGen);
     }
 
     public Memory getPermSpace() {
-        return permGenAllocation;
+        return Memory.kilobytesOrNull(permGenAllocation);
     }
 
     public int getTimeReal() {
@@ -322,14 +370,14 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngEnd;
+        return Memory.kilobytesOrNull(youngEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return young;
+        return Memory.kilobytesOrNull(young);
     }
 
     public Memory getYoungSpace() {
-        return youngAvailable;
+        return Memory.kilobytesOrNull(youngAvailable);
     }
 }
@@ -12,7 +12,6 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -110,7 +109,20 @@ public class ParallelScavengeEvent extends ParallelCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #ParallelScavengeEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
     }
 
     /**
@@ -124,19 +136,19 @@ public class ParallelScavengeEvent extends ParallelCollector
     private String logEntry;
 
     /**
-     * Old generation size at beginning of GC event.
+     * Old generation size at beginning of GC event in kilobytes.
      */
-    private Memory old;
+    private long old = Memory.NO_DATA;
 
     /**
-     * Space allocated to old generation.
+     * Space allocated to old generation in kilobytes.
      */
-    private Memory oldAllocation;
+    private long oldAllocation = Memory.NO_DATA;
 
     /**
-     * Old generation size at end of GC event.
+     * Old generation size at end of GC event in kilobytes.
      */
-    private Memory oldEnd;
+    private long oldEnd = Memory.NO_DATA;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -163,19 +175,19 @@ public class ParallelScavengeEvent extends ParallelCollector
     private GcTrigger trigger;
 
     /**
-     * Young generation size at beginning of GC event.
+     * Young generation size at beginning of GC event in kilobytes.
      */
-    private Memory young;
+    private long young = Memory.NO_DATA;
 
     /**
-     * Available space in young generation. Equals young generation allocation minus one survivor space.
+     * Available space in young generation in kilobytes. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngAvailable;
+    private long youngAvailable = Memory.NO_DATA;
 
     /**
-     * Young generation size at end of GC event.
+     * Young generation size at end of GC event in kilobytes.
      */
-    private Memory youngEnd;
+    private long youngEnd = Memory.NO_DATA;
 
     /**
      * Create event from log entry.
@@ -184,31 +196,44 @@ public class ParallelScavengeEvent extends ParallelCollector
      *            The log entry for the event.
      */
     public ParallelScavengeEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public ParallelScavengeEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1) != null) {
-                if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                if (JdkUtil.isTimestamp(matcher.group(1))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
                 }
             }
             trigger = GcTrigger.getTrigger(matcher.group(16));
-            young = kilobytes((matcher.group(19)));
-            youngEnd = kilobytes((matcher.group(20)));
-            youngAvailable = kilobytes((matcher.group(21)));
-            old = kilobytes(matcher.group(22)).minus(young);
-            oldEnd = kilobytes(matcher.group(23)).minus(youngEnd);
-            oldAllocation = kilobytes(matcher.group(24)).minus(youngAvailable);
-            duration = JdkMath.convertSecsToMicros(matcher.group(25)).intValue();
+            young = Long.parseLong((matcher.group(19)));
+            youngEnd = Long.parseLong((matcher.group(20)));
+            youngAvailable = Long.parseLong((matcher.group(21)));
+            old = Long.parseLong(matcher.group(22)) - young;
+            oldEnd = Long.parseLong(matcher.group(23)) - youngEnd;
+            oldAllocation = Long.parseLong(matcher.group(24)) - youngAvailable;
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(25));
             if (matcher.group(28) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(29)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(31)).intValue();
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(29));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(30));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(31));
             }
         }
     }
@@ -229,6 +254,25 @@ public class ParallelScavengeEvent extends ParallelCollector
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create parallel scavenge logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public ParallelScavengeEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public long getDuration() {
         return duration;
     }
@@ -242,20 +286,24 @@ public class ParallelScavengeEvent extends ParallelCollector
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.PARALLEL_SCAVENGE;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.PARALLEL_SCAVENGE.toString();
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldEnd;
+        return Memory.kilobytesOrNull(oldEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return old;
+        return Memory.kilobytesOrNull(old);
     }
 
     public Memory getOldSpace() {
-        return oldAllocation;
+        return Memory.kilobytesOrNull(oldAllocation);
     }
 
     public int getParallelism() {
@@ -283,14 +331,14 @@ public class ParallelScavengeEvent extends ParallelCollector
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngEnd;
+        return Memory.kilobytesOrNull(youngEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return young;
+        return Memory.kilobytesOrNull(young);
     }
 
     public Memory getYoungSpace() {
-        return youngAvailable;
+        return Memory.kilobytesOrNull(youngAvailable);
     }
 }
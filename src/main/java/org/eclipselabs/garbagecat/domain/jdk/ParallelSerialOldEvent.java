@@ -12,7 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -109,7 +109,20 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #ParallelSerialOldEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
     }
 
     /**
@@ -123,34 +136,34 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     private String logEntry;
 
     /**
-     * Old generation size at beginning of GC event.
+     * Old generation size at beginning of GC event in kilobytes.
      */
-    private Memory old;
+    private long old = Memory.NO_DATA;
 
     /**
-     * Space allocated to old generation.
+     * Space allocated to old generation in kilobytes.
      */
-    private Memory oldAllocation;
+    private long oldAllocation = Memory.NO_DATA;
 
     /**
-     * Old generation size at end of GC event.
+     * Old generation size at end of GC event in kilobytes.
      */
-    private Memory oldEnd;
+    private long oldEnd = Memory.NO_DATA;
 
     /**
-     * Permanent generation size at beginning of GC event.
+     * Permanent generation size at beginning of GC event in kilobytes.
      */
-    private Memory permGen;
+    private long permGen = Memory.NO_DATA;
 
     /**
-     * Space allocated to permanent generation.
+     * Space allocated to permanent generation in kilobytes.
      */
-    private Memory permGenAllocation;
+    private long permGenAllocation = Memory.NO_DATA;
 
     /**
-     * Permanent generation size at end of GC event.
+     * Permanent generation size at end of GC event in kilobytes.
      */
-    private Memory permGenEnd;
+    private long permGenEnd = Memory.NO_DATA;
 
     /**
      * /** The wall (clock) time in centiseconds.
@@ -178,19 +191,19 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     private GcTrigger trigger;
 
     /**
-     * Young generation size at beginning of GC event.
+     * Young generation size at beginning of GC event in kilobytes.
      */
-    private Memory young;
+    private long young = Memory.NO_DATA;
 
     /**
-     * Available space in young generation. Equals young generation allocation minus one survivor space.
+     * Available space in young generation in kilobytes. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngAvailable;
+    private long youngAvailable = Memory.NO_DATA;
 
     /**
-     * Young generation size at end of GC event.
+     * Young generation size at end of GC event in kilobytes.
      */
-    private Memory youngEnd;
+    private long youngEnd = Memory.NO_DATA;
 
     /**
      * Create event from log entry.
@@ -199,14 +212,27 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
      *            The log entry for the event.
      */
     public ParallelSerialOldEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public ParallelSerialOldEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
             } else if (matcher.group(1) != null) {
-                if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+                if (JdkUtil.isTimestamp(matcher.group(1))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
                 } else {
                     // Datestamp only.
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
@@ -215,20 +241,20 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
             if (matcher.group(15) != null) {
                 this.trigger = GcTrigger.getTrigger(matcher.group(15));
             }
-            this.young = kilobytes(matcher.group(17));
-            this.youngEnd = kilobytes(matcher.group(18));
-            this.youngAvailable = kilobytes(matcher.group(19));
-            this.old = kilobytes(matcher.group(20));
-            this.oldEnd = kilobytes(matcher.group(21));
-            this.oldAllocation = kilobytes(matcher.group(22));
-            this.permGen = kilobytes(matcher.group(27));
-            this.permGenEnd = kilobytes(matcher.group(28));
-            this.permGenAllocation = kilobytes(matcher.group(29));
-            this.duration = JdkMath.convertSecsToMicros(matcher.group(30)).intValue();
+            this.young = Long.parseLong(matcher.group(17));
+            this.youngEnd = Long.parseLong(matcher.group(18));
+            this.youngAvailable = Long.parseLong(matcher.group(19));
+            this.old = Long.parseLong(matcher.group(20));
+            this.oldEnd = Long.parseLong(matcher.group(21));
+            this.oldAllocation = Long.parseLong(matcher.group(22));
+            this.permGen = Long.parseLong(matcher.group(27));
+            this.permGenEnd = Long.parseLong(matcher.group(28));
+            this.permGenAllocation = Long.parseLong(matcher.group(29));
+            this.duration = (int) JdkMath.parseSecsToMicros(matcher.group(30));
             if (matcher.group(33) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(34)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(35)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(36)).intValue();
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(34));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(35));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(36));
             }
         }
     }
@@ -249,6 +275,25 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create parallel old detail logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public ParallelSerialOldEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public long getDuration() {
         return duration;
     }
@@ -262,20 +307,24 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.PARALLEL_SERIAL_OLD;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.PARALLEL_SERIAL_OLD.toString();
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldEnd;
+        return Memory.kilobytesOrNull(oldEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return old;
+        return Memory.kilobytesOrNull(old);
     }
 
     public Memory getOldSpace() {
-        return oldAllocation;
+        return Memory.kilobytesOrNull(oldAllocation);
     }
 
     public int getParallelism() {
@@ -283,15 +332,15 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     }
 
     public Memory getPermOccupancyEnd() {
-        return permGenEnd;
+        return Memory.kilobytesOrNull(permGenEnd);
     }
 
     public Memory getPermOccupancyInit() {
-        return permGen;
+        return Memory.kilobytesOrNull(permGen);
     }
 
     public Memory getPermSpace() {
-        return permGenAllocation;
+        return Memory.kilobytesOrNull(permGenAllocation);
     }
 
     public int getTimeReal() {
@@ -315,15 +364,15 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngEnd;
+        return Memory.kilobytesOrNull(youngEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return young;
+        return Memory.kilobytesOrNull(young);
     }
 
     public Memory getYoungSpace() {
-        return youngAvailable;
+        return Memory.kilobytesOrNull(youngAvailable);
     }
 
     protected void setDuration(int duration) {
@@ -335,27 +384,27 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     }
 
     protected void setOldOccupancyEnd(Memory oldEnd) {
-        this.oldEnd = oldEnd;
+        this.oldEnd = toKilobytes(oldEnd);
     }
 
     protected void setOldOccupancyInit(Memory old) {
-        this.old = old;
+        this.old = toKilobytes(old);
     }
 
     protected void setOldSpace(Memory oldAllocation) {
-        this.oldAllocation = oldAllocation;
+        this.oldAllocation = toKilobytes(oldAllocation);
     }
 
     protected void setPermOccupancyEnd(Memory permGenEnd) {
-        this.permGenEnd = permGenEnd;
+        this.permGenEnd = toKilobytes(permGenEnd);
     }
 
     protected void setPermOccupancyInit(Memory permGen) {
-        this.permGen = permGen;
+        this.permGen = toKilobytes(permGen);
     }
 
     protected void setPermSpace(Memory permGenAllocation) {
-        this.permGenAllocation = permGenAllocation;
+        this.permGenAllocation = toKilobytes(permGenAllocation);
     }
 
     protected void setTimestamp(long timestamp) {
@@ -367,14 +416,14 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     }
 
     protected void setYoungOccupancyEnd(Memory youngEnd) {
-        this.youngEnd = youngEnd;
+        this.youngEnd = toKilobytes(youngEnd);
     }
 
     protected void setYoungOccupancyInit(Memory young) {
-        this.young = young;
+        this.young = toKilobytes(young);
     }
 
     protected void setYoungSpace(Memory youngAvailable) {
-        this.youngAvailable = youngAvailable;
+        this.youngAvailable = toKilobytes(youngAvailable);
     }
 }
@@ -12,7 +12,6 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -104,7 +103,19 @@ public class SerialNewEvent extends SerialCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to {@link #SerialNewEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
     }
 
     /**
@@ -118,19 +129,19 @@ public class SerialNewEvent extends SerialCollector
     private String logEntry;
 
     /**
-     * Old generation size at beginning of GC event.
+     * Old generation size at beginning of GC event in kilobytes.
      */
-    private Memory old;
+    private long old = Memory.NO_DATA;
 
     /**
-     * Space allocated to old generation.
+     * Space allocated to old generation in kilobytes.
      */
-    private Memory oldAllocation;
+    private long oldAllocation = Memory.NO_DATA;
 
     /**
-     * Old generation size at end of GC event.
+     * Old generation size at end of GC event in kilobytes.
      */
-    private Memory oldEnd;
+    private long oldEnd = Memory.NO_DATA;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -158,19 +169,19 @@ public class SerialNewEvent extends SerialCollector
     private GcTrigger trigger;
 
     /**
-     * Young generation size at beginning of GC event.
+     * Young generation size at beginning of GC event in kilobytes.
      */
-    private Memory young;
+    private long young = Memory.NO_DATA;
 
     /**
-     * Available space in young generation. Equals young generation allocation minus one survivor space.
+     * Available space in young generation in kilobytes. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngAvailable;
+    private long youngAvailable = Memory.NO_DATA;
 
     /**
-     * Young generation size at end of GC event.
+     * Young generation size at end of GC event in kilobytes.
      */
-    private Memory youngEnd;
+    private long youngEnd = Memory.NO_DATA;
 
     /**
      * 
@@ -178,29 +189,42 @@ public class SerialNewEvent extends SerialCollector
      *            The log entry for the event.
      */
     public SerialNewEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public SerialNewEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-            } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
             trigger = GcTrigger.getTrigger(matcher.group(18));
-            young = kilobytes(matcher.group(31));
-            youngEnd = kilobytes(matcher.group(32));
-            youngAvailable = kilobytes(matcher.group(33));
-            old = kilobytes(matcher.group(37)).minus(young);
-            oldEnd = kilobytes(matcher.group(38)).minus(youngEnd);
-            oldAllocation = kilobytes(matcher.group(39)).minus(youngAvailable);
-            duration = JdkMath.convertSecsToMicros(matcher.group(40)).intValue();
+            young = Long.parseLong(matcher.group(31));
+            youngEnd = Long.parseLong(matcher.group(32));
+            youngAvailable = Long.parseLong(matcher.group(33));
+            old = Long.parseLong(matcher.group(37)) - young;
+            oldEnd = Long.parseLong(matcher.group(38)) - youngEnd;
+            oldAllocation = Long.parseLong(matcher.group(39)) - youngAvailable;
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(40));
             if (matcher.group(43) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(44)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(45)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(46)).intValue();
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(44));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(45));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(46));
             }
         }
     }
@@ -221,6 +245,25 @@ public class SerialNewEvent extends SerialCollector
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create serial logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public SerialNewEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public long getDuration() {
         return duration;
     }
@@ -234,20 +277,24 @@ public class SerialNewEvent extends SerialCollector
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.SERIAL_NEW;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.SERIAL_NEW.toString();
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldEnd;
+        return Memory.kilobytesOrNull(oldEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return old;
+        return Memory.kilobytesOrNull(old);
     }
 
     public Memory getOldSpace() {
-        return oldAllocation;
+        return Memory.kilobytesOrNull(oldAllocation);
     }
 
     public int getParallelism() {
@@ -283,15 +330,15 @@ public class SerialNewEvent extends SerialCollector
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngEnd;
+        return Memory.kilobytesOrNull(youngEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return young;
+        return Memory.kilobytesOrNull(young);
     }
 
     public Memory getYoungSpace() {
-        return youngAvailable;
+        return Memory.kilobytesOrNull(youngAvailable);
     }
 
     protected void setTrigger(GcTrigger trigger) {
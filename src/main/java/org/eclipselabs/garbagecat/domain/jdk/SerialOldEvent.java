@@ -12,7 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -124,7 +124,19 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to {@link #SerialOldEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
     }
 
     /**
@@ -138,34 +150,34 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     private String logEntry;
 
     /**
-     * Old generation size at beginning of GC event.
+     * Old generation size at beginning of GC event in kilobytes.
      */
-    private Memory old;
+    private long old = Memory.NO_DATA;
 
     /**
-     * Space allocated to old generation.
+     * Space allocated to old generation in kilobytes.
      */
-    private Memory oldAllocation;
+    private long oldAllocation = Memory.NO_DATA;
 
     /**
-     * Old generation size at end of GC event.
+     * Old generation size at end of GC event in kilobytes.
      */
-    private Memory oldEnd;
+    private long oldEnd = Memory.NO_DATA;
 
     /**
-     * Permanent generation size at beginning of GC event.
+     * Permanent generation size at beginning of GC event in kilobytes.
      */
-    private Memory permGen;
+    private long permGen = Memory.NO_DATA;
 
     /**
-     * Space allocated to permanent generation.
+     * Space allocated to permanent generation in kilobytes.
      */
-    private Memory permGenAllocation;
+    private long permGenAllocation = Memory.NO_DATA;
 
     /**
-     * Permanent generation size at end of GC event.
+     * Permanent generation size at end of GC event in kilobytes.
      */
-    private Memory permGenEnd;
+    private long permGenEnd = Memory.NO_DATA;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -191,19 +203,19 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     private GcTrigger trigger;
 
     /**
-     * Young generation size at beginning of GC event.
+     * Young generation size at beginning of GC event in kilobytes.
      */
-    private Memory young;
+    private long young = Memory.NO_DATA;
 
     /**
-     * Available space in young generation. Equals young generation allocation minus one survivor space.
+     * Available space in young generation in kilobytes. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngAvailable;
+    private long youngAvailable = Memory.NO_DATA;
 
     /**
-     * Young generation size at end of GC event.
+     * Young generation size at end of GC event in kilobytes.
      */
-    private Memory youngEnd;
+    private long youngEnd = Memory.NO_DATA;
 
     /**
      * Default constructor
@@ -217,13 +229,26 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
      *            The log entry for the event.
      */
     public SerialOldEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public SerialOldEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-            } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
@@ -236,21 +261,21 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
             } else {
                 trigger = GcTrigger.NONE;
             }
-            old = kilobytes(matcher.group(54));
-            oldEnd = kilobytes(matcher.group(55));
-            oldAllocation = kilobytes(matcher.group(56));
-            young = kilobytes(matcher.group(60)).minus(getOldOccupancyInit());
-            youngEnd = kilobytes(matcher.group(61)).minus(getOldOccupancyEnd());
-            youngAvailable = kilobytes(matcher.group(62)).minus(getOldSpace());
+            old = Long.parseLong(matcher.group(54));
+            oldEnd = Long.parseLong(matcher.group(55));
+            oldAllocation = Long.parseLong(matcher.group(56));
+            young = Long.parseLong(matcher.group(60)) - old;
+            youngEnd = Long.parseLong(matcher.group(61)) - oldEnd;
+            youngAvailable = Long.parseLong(matcher.group(62)) - oldAllocation;
             // Do not need total begin/end/allocation, as these can be calculated.
-            permGen = kilobytes(matcher.group(64));
-            permGenEnd = kilobytes(matcher.group(65));
-            permGenAllocation = kilobytes(matcher.group(66));
-            duration = JdkMath.convertSecsToMicros(matcher.group(67)).intValue();
+            permGen = Long.parseLong(matcher.group(64));
+            permGenEnd = Long.parseLong(matcher.group(65));
+            permGenAllocation = Long.parseLong(matcher.group(66));
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(67));
             if (matcher.group(70) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(71)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(72)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(73)).intValue();
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(71));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(72));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(73));
             }
         }
     }
@@ -271,6 +296,25 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create serial old detail logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public SerialOldEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public long getDuration() {
         return duration;
     }
@@ -284,20 +328,24 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.SERIAL_OLD;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.SERIAL_OLD.toString();
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldEnd;
+        return Memory.kilobytesOrNull(oldEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return old;
+        return Memory.kilobytesOrNull(old);
     }
 
     public Memory getOldSpace() {
-        return oldAllocation;
+        return Memory.kilobytesOrNull(oldAllocation);
     }
 
     public int getParallelism() {
@@ -305,15 +353,15 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     }
 
     public Memory getPermOccupancyEnd() {
-        return permGenEnd;
+        return Memory.kilobytesOrNull(permGenEnd);
     }
 
     public Memory getPermOccupancyInit() {
-        return permGen;
+        return Memory.kilobytesOrNull(permGen);
     }
 
     public Memory getPermSpace() {
-        return permGenAllocation;
+        return Memory.kilobytesOrNull(permGenAllocation);
     }
 
     public int getTimeReal() {
@@ -337,15 +385,15 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngEnd;
+        return Memory.kilobytesOrNull(youngEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return young;
+        return Memory.kilobytesOrNull(young);
     }
 
     public Memory getYoungSpace() {
-        return youngAvailable;
+        return Memory.kilobytesOrNull(youngAvailable);
     }
 
     protected void setDuration(int duration) {
@@ -357,27 +405,27 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     }
 
     protected void setOldOccupancyEnd(Memory oldEnd) {
-        this.oldEnd = oldEnd;
+        this.oldEnd = toKilobytes(oldEnd);
     }
 
     protected void setOldOccupancyInit(Memory old) {
-        this.old = old;
+        this.old = toKilobytes(old);
     }
 
     protected void setOldSpace(Memory oldAllocation) {
-        this.oldAllocation = oldAllocation;
+        this.oldAllocation = toKilobytes(oldAllocation);
     }
 
     protected void setPermOccupancyEnd(Memory permGenEnd) {
-        this.permGenEnd = permGenEnd;
+        this.permGenEnd = toKilobytes(permGenEnd);
     }
 
     protected void setPermOccupancyInit(Memory permGen) {
-        this.permGen = permGen;
+        this.permGen = toKilobytes(permGen);
     }
 
     protected void setPermSpace(Memory permGenAllocation) {
-        this.permGenAllocation = permGenAllocation;
+        this.permGenAllocation = toKilobytes(permGenAllocation);
     }
 
     protected void setTimestamp(long timestamp) {
@@ -389,14 +437,14 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     }
 
     protected void setYoungOccupancyEnd(Memory youngEnd) {
-        this.youngEnd = youngEnd;
+        this.youngEnd = toKilobytes(youngEnd);
     }
 
     protected void setYoungOccupancyInit(Memory young) {
-        this.young = young;
+        this.young = toKilobytes(young);
     }
 
     protected void setYoungSpace(Memory youngAvailable) {
-        this.youngAvailable = youngAvailable;
+        this.youngAvailable = toKilobytes(youngAvailable);
     }
 }
@@ -72,6 +72,10 @@ public class ShenandoahCancellingGcEvent extends ShenandoahCollector implements
         throw new UnsupportedOperationException("Event does not include log entry information");
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.SHENANDOAH_CANCELLING_GC;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.SHENANDOAH_CANCELLING_GC.toString();
     }
@@ -12,8 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -26,6 +25,7 @@ import org.eclipselabs.garbagecat.util.Memory;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
@@ -172,23 +172,36 @@ public class ShenandoahConcurrentEvent extends ShenandoahCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
     }
 
     /**
-     * Combined size at beginning of GC event.
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #ShenandoahConcurrentEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern, null otherwise.
      */
-    private Memory combined;
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
 
     /**
-     * Combined available space.
+     * Combined size at beginning of GC event in kilobytes.
      */
-    private Memory combinedAvailable;
+    private long combined = Memory.NO_DATA;
 
     /**
-     * Combined size at end of GC event.
+     * Combined available space in kilobytes.
      */
-    private Memory combinedEnd;
+    private long combinedAvailable = Memory.NO_DATA;
+
+    /**
+     * Combined size at end of GC event in kilobytes.
+     */
+    private long combinedEnd = Memory.NO_DATA;
 
     /**
      * The log entry for the event. Can be used for debugging purposes.
@@ -196,19 +209,19 @@ public class ShenandoahConcurrentEvent extends ShenandoahCollector
     private String logEntry;
 
     /**
-     * Permanent generation size at beginning of GC event.
+     * Permanent generation size at beginning of GC event in kilobytes.
      */
-    private Memory permGen;
+    private long permGen = Memory.NO_DATA;
 
     /**
-     * Space allocated to permanent generation.
+     * Space allocated to permanent generation in kilobytes.
      */
-    private Memory permGenAllocation;
+    private long permGenAllocation = Memory.NO_DATA;
 
     /**
-     * Permanent generation size at end of GC event.
+     * Permanent generation size at end of GC event in kilobytes.
      */
-    private Memory permGenEnd;
+    private long permGenEnd = Memory.NO_DATA;
 
     /**
      * The time when the GC event started in milliseconds after JVM startup.
@@ -222,99 +235,95 @@ public class ShenandoahConcurrentEvent extends ShenandoahCollector
      *            The log entry for the event.
      */
     public ShenandoahConcurrentEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public ShenandoahConcurrentEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        if (logEntry.matches(REGEX)) {
-            Pattern pattern = Pattern.compile(REGEX);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                int duration = 0;
-                if (matcher.group(JdkUtil.DECORATOR_SIZE + UnifiedUtil.DECORATOR_SIZE + 20) != null) {
-                    duration = JdkMath.convertMillisToMicros(
-                            matcher.group(JdkUtil.DECORATOR_SIZE + UnifiedUtil.DECORATOR_SIZE + 20)).intValue();
-                }
-                if (matcher.group(1).matches(UnifiedRegEx.DECORATOR)) {
-                    long endTimestamp;
-                    if (matcher.group(15).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                        endTimestamp = Long.parseLong(matcher.group(UnifiedUtil.DECORATOR_SIZE + 7));
-                    } else if (matcher.group(15).matches(UnifiedRegEx.UPTIME)) {
-                        endTimestamp = JdkMath.convertSecsToMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 12))
-                                .longValue();
-                    } else {
-                        if (matcher.group(JdkUtil.DECORATOR_SIZE + 14) != null) {
-                            if (matcher.group(JdkUtil.DECORATOR_SIZE + 15).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                                endTimestamp = Long.parseLong(matcher.group(JdkUtil.DECORATOR_SIZE + 17));
-                            } else {
-                                endTimestamp = JdkMath.convertSecsToMillis(matcher.group(JdkUtil.DECORATOR_SIZE + 16))
-                                        .longValue();
-                            }
-                        } else {
-                            // Datestamp only.
-                            endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(15));
-                        }
-                    }
-                    timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            int duration = 0;
+            if (matcher.group(JdkUtil.DECORATOR_SIZE + UnifiedUtil.DECORATOR_SIZE + 20) != null) {
+                duration = (int) JdkMath.parseMillisToMicros(
+                        matcher.group(JdkUtil.DECORATOR_SIZE + UnifiedUtil.DECORATOR_SIZE + 20));
+            }
+            if (logEntry.startsWith("[")) {
+                long endTimestamp = UnifiedDecorator.getTimestamp(logEntry);
+                timestamp = endTimestamp - JdkMath.microsToMillis(duration);
+            } else {
+                // JDK8
+                if (matcher.group(14) != null && JdkUtil.isTimestamp(matcher.group(14))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(14));
+                } else if (JdkUtil.isTimestamp(matcher.group(2))) {
+                    timestamp = JdkMath.parseSecsToMillis(matcher.group(2));
                 } else {
-                    // JDK8
-                    if (matcher.group(14) != null && matcher.group(14).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(14)).longValue();
-                    } else if (matcher.group(2).matches(JdkRegEx.TIMESTAMP)) {
-                        timestamp = JdkMath.convertSecsToMillis(matcher.group(2)).longValue();
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
-                    }
+                    // Datestamp only.
+                    timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
-                if (matcher.group(UnifiedUtil.DECORATOR_SIZE + 23) != null) {
-                    combined = memory(matcher.group(UnifiedUtil.DECORATOR_SIZE + 24),
-                            matcher.group(UnifiedUtil.DECORATOR_SIZE + 26).charAt(0)).convertTo(KILOBYTES);
-                    combinedEnd = memory(matcher.group(UnifiedUtil.DECORATOR_SIZE + 27),
-                            matcher.group(UnifiedUtil.DECORATOR_SIZE + 29).charAt(0)).convertTo(KILOBYTES);
-                    combinedAvailable = memory(matcher.group(UnifiedUtil.DECORATOR_SIZE + 30),
-                            matcher.group(UnifiedUtil.DECORATOR_SIZE + 32).charAt(0)).convertTo(KILOBYTES);
-                    if (matcher.group(UnifiedUtil.DECORATOR_SIZE + 34) != null) {
-                        permGen = memory(matcher.group(UnifiedUtil.DECORATOR_SIZE + 35),
-                                matcher.group(UnifiedUtil.DECORATOR_SIZE + 37).charAt(0)).convertTo(KILOBYTES);
-                        permGenEnd = memory(matcher.group(UnifiedUtil.DECORATOR_SIZE + 42),
-                                matcher.group(UnifiedUtil.DECORATOR_SIZE + 44).charAt(0)).convertTo(KILOBYTES);
-                        permGenAllocation = memory(matcher.group(UnifiedUtil.DECORATOR_SIZE + 45),
-                                matcher.group(UnifiedUtil.DECORATOR_SIZE + 47).charAt(0)).convertTo(KILOBYTES);
-                    }
+            }
+            if (matcher.group(UnifiedUtil.DECORATOR_SIZE + 23) != null) {
+                combined = toKilobytes(matcher.group(UnifiedUtil.DECORATOR_SIZE + 24),
+                        matcher.group(UnifiedUtil.DECORATOR_SIZE + 26).charAt(0));
+                combinedEnd = toKilobytes(matcher.group(UnifiedUtil.DECORATOR_SIZE + 27),
+                        matcher.group(UnifiedUtil.DECORATOR_SIZE + 29).charAt(0));
+                combinedAvailable = toKilobytes(matcher.group(UnifiedUtil.DECORATOR_SIZE + 30),
+                        matcher.group(UnifiedUtil.DECORATOR_SIZE + 32).charAt(0));
+                if (matcher.group(UnifiedUtil.DECORATOR_SIZE + 34) != null) {
+                    permGen = toKilobytes(matcher.group(UnifiedUtil.DECORATOR_SIZE + 35),
+                            matcher.group(UnifiedUtil.DECORATOR_SIZE + 37).charAt(0));
+                    permGenEnd = toKilobytes(matcher.group(UnifiedUtil.DECORATOR_SIZE + 42),
+                            matcher.group(UnifiedUtil.DECORATOR_SIZE + 44).charAt(0));
+                    permGenAllocation = toKilobytes(matcher.group(UnifiedUtil.DECORATOR_SIZE + 45),
+                            matcher.group(UnifiedUtil.DECORATOR_SIZE + 47).charAt(0));
                 }
-
             }
+
         }
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedEnd;
+        return Memory.kilobytesOrNull(combinedEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combined;
+        return Memory.kilobytesOrNull(combined);
     }
 
     public Memory getCombinedSpace() {
-        return combinedAvailable;
+        return Memory.kilobytesOrNull(combinedAvailable);
     }
 
     public String getLogEntry() {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.SHENANDOAH_CONCURRENT;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.SHENANDOAH_CONCURRENT.toString();
     }
 
     public Memory getPermOccupancyEnd() {
-        return permGenEnd;
+        return Memory.kilobytesOrNull(permGenEnd);
     }
 
     public Memory getPermOccupancyInit() {
-        return permGen;
+        return Memory.kilobytesOrNull(permGen);
     }
 
     public Memory getPermSpace() {
-        return permGenAllocation;
+        return Memory.kilobytesOrNull(permGenAllocation);
     }
 
     public long getTimestamp() {
@@ -322,14 +331,14 @@ public class ShenandoahConcurrentEvent extends ShenandoahCollector
     }
 
     protected void setPermOccupancyEnd(Memory permGenEnd) {
-        this.permGenEnd = permGenEnd;
+        this.permGenEnd = toKilobytes(permGenEnd);
     }
 
     protected void setPermOccupancyInit(Memory permGen) {
-        this.permGen = permGen;
+        this.permGen = toKilobytes(permGen);
     }
 
     protected void setPermSpace(Memory permGenAllocation) {
-        this.permGenAllocation = permGenAllocation;
+        this.permGenAllocation = toKilobytes(permGenAllocation);
     }
 }
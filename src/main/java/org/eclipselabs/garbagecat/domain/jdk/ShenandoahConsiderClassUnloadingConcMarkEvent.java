@@ -12,13 +12,11 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
-import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -57,8 +55,7 @@ public class ShenandoahConsiderClassUnloadingConcMarkEvent extends ShenandoahCol
     /**
      * Regular expressions defining the logging.
      */
-    private static final String REGEX = "^" + UnifiedRegEx.DECORATOR
-            + " Consider -XX:\\+ClassUnloadingWithConcurrentMark if large pause times are "
+    private static final String REGEX = "^ Consider -XX:\\+ClassUnloadingWithConcurrentMark if large pause times are "
             + "observed on class-unloading sensitive workloads[ ]*$";
 
     /**
@@ -69,7 +66,18 @@ public class ShenandoahConsiderClassUnloadingConcMarkEvent extends ShenandoahCol
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return match(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Determine if the log line body after the decorator matches the logging pattern(s) for this event.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return true if the log line body matches the event pattern, false otherwise.
+     */
+    public static final boolean match(UnifiedDecorator decorator) {
+        return decorator != null && decorator.matcher(pattern) != null;
     }
 
     /**
@@ -89,29 +97,21 @@ public class ShenandoahConsiderClassUnloadingConcMarkEvent extends ShenandoahCol
      *            The log entry for the event.
      */
     public ShenandoahConsiderClassUnloadingConcMarkEvent(String logEntry) {
-        this.logEntry = logEntry;
+        this(logEntry, UnifiedDecorator.parse(logEntry));
+    }
 
-        if (logEntry.matches(REGEX)) {
-            Pattern pattern = Pattern.compile(REGEX);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    timestamp = Long.parseLong(matcher.group(13));
-                } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-                } else {
-                    if (matcher.group(14) != null) {
-                        if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            timestamp = Long.parseLong(matcher.group(16));
-                        } else {
-                            timestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                        }
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                    }
-                }
-            }
+    /**
+     * Create event from log entry and its decorator, so the log entry is not parsed again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param decorator
+     *            The decorator of the log entry.
+     */
+    public ShenandoahConsiderClassUnloadingConcMarkEvent(String logEntry, UnifiedDecorator decorator) {
+        this.logEntry = logEntry;
+        if (match(decorator)) {
+            timestamp = decorator.getTimestamp();
         }
     }
 
@@ -119,6 +119,10 @@ public class ShenandoahConsiderClassUnloadingConcMarkEvent extends ShenandoahCol
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.SHENANDOAH_CONSIDER_CLASS_UNLOADING_CONC_MARK;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.SHENANDOAH_CONSIDER_CLASS_UNLOADING_CONC_MARK.toString();
     }
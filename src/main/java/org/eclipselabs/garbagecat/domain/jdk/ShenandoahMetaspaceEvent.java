@@ -95,6 +95,10 @@ public class ShenandoahMetaspaceEvent extends ShenandoahCollector implements Thr
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.SHENANDOAH_METASPACE;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.SHENANDOAH_METASPACE.toString();
     }
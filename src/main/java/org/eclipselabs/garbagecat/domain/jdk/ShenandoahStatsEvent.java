@@ -162,6 +162,10 @@ public class ShenandoahStatsEvent extends ShenandoahCollector implements ThrowAw
         throw new UnsupportedOperationException("Event does not include log entry information");
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.SHENANDOAH_STATS;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.SHENANDOAH_STATS.toString();
     }
@@ -129,6 +129,10 @@ public class ShenandoahTriggerEvent extends ShenandoahCollector implements Throw
         throw new UnsupportedOperationException("Event does not include log entry information");
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.SHENANDOAH_TRIGGER;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.SHENANDOAH_TRIGGER.toString();
     }
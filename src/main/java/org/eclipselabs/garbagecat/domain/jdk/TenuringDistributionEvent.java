@@ -13,6 +13,7 @@
 package org.eclipselabs.garbagecat.domain.jdk;
 
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 
 /**
@@ -150,7 +151,7 @@ public class TenuringDistributionEvent implements ThrowAwayEvent {
     public static final boolean match(String logLine) {
         boolean isMatch = false;
         for (int i = 0; i < REGEX.length; i++) {
-            if (logLine.matches(REGEX[i])) {
+            if (PatternRegistry.matches(REGEX[i], logLine)) {
                 isMatch = true;
                 break;
             }
@@ -183,6 +184,10 @@ public class TenuringDistributionEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.TENURING_DISTRIBUTION;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.TENURING_DISTRIBUTION.toString();
     }
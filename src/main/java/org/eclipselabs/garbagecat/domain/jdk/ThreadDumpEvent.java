@@ -194,6 +194,10 @@ public class ThreadDumpEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.THREAD_DUMP;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.THREAD_DUMP.toString();
     }
@@ -12,9 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,6 +22,7 @@ import org.eclipselabs.garbagecat.domain.CombinedData;
 import org.eclipselabs.garbagecat.domain.OldCollection;
 import org.eclipselabs.garbagecat.domain.TriggerData;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
@@ -89,23 +88,36 @@ public class VerboseGcOldEvent extends UnknownCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
     }
 
     /**
-     * Combined young + old generation allocation.
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #VerboseGcOldEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
+
+    /**
+     * Combined young + old generation allocation in kilobytes.
      */
-    private Memory combinedAllocation;
+    private long combinedAllocation = Memory.NO_DATA;
 
     /**
-     * Combined young + old generation size at beginning of GC event.
+     * Combined young + old generation size at beginning of GC event in kilobytes.
      */
-    private Memory combinedBegin;
+    private long combinedBegin = Memory.NO_DATA;
 
     /**
-     * Combined young + old generation size at end of GC event.
+     * Combined young + old generation size at end of GC event in kilobytes.
      */
-    private Memory combinedEnd;
+    private long combinedEnd = Memory.NO_DATA;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -134,34 +146,47 @@ public class VerboseGcOldEvent extends UnknownCollector
      *            The log entry for the event.
      */
     public VerboseGcOldEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public VerboseGcOldEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-            } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
             trigger = GcTrigger.getTrigger(matcher.group(15));
-            if (matcher.group(17).matches(JdkRegEx.SIZE_K)) {
-                combinedBegin = kilobytes(matcher.group(18));
+            if (PatternRegistry.matches(JdkRegEx.SIZE_K, matcher.group(17))) {
+                combinedBegin = Long.parseLong(matcher.group(18));
             } else {
-                combinedBegin = memory(matcher.group(19), matcher.group(21).charAt(0)).convertTo(KILOBYTES);
+                combinedBegin = toKilobytes(matcher.group(19), matcher.group(21).charAt(0));
             }
-            if (matcher.group(22).matches(JdkRegEx.SIZE_K)) {
-                combinedEnd = kilobytes(matcher.group(23));
+            if (PatternRegistry.matches(JdkRegEx.SIZE_K, matcher.group(22))) {
+                combinedEnd = Long.parseLong(matcher.group(23));
             } else {
-                combinedEnd = memory(matcher.group(24), matcher.group(26).charAt(0)).convertTo(KILOBYTES);
+                combinedEnd = toKilobytes(matcher.group(24), matcher.group(26).charAt(0));
             }
-            if (matcher.group(27).matches(JdkRegEx.SIZE_K)) {
-                combinedAllocation = kilobytes(matcher.group(28));
+            if (PatternRegistry.matches(JdkRegEx.SIZE_K, matcher.group(27))) {
+                combinedAllocation = Long.parseLong(matcher.group(28));
             } else {
-                combinedAllocation = memory(matcher.group(29), matcher.group(31).charAt(0)).convertTo(KILOBYTES);
+                combinedAllocation = toKilobytes(matcher.group(29), matcher.group(31).charAt(0));
             }
-            duration = JdkMath.convertSecsToMicros(matcher.group(32)).intValue();
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(32));
         }
     }
 
@@ -181,16 +206,35 @@ public class VerboseGcOldEvent extends UnknownCollector
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public VerboseGcOldEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public Memory getCombinedOccupancyEnd() {
-        return combinedEnd;
+        return Memory.kilobytesOrNull(combinedEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedBegin;
+        return Memory.kilobytesOrNull(combinedBegin);
     }
 
     public Memory getCombinedSpace() {
-        return combinedAllocation;
+        return Memory.kilobytesOrNull(combinedAllocation);
     }
 
     public long getDuration() {
@@ -201,6 +245,10 @@ public class VerboseGcOldEvent extends UnknownCollector
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.VERBOSE_GC_OLD;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.VERBOSE_GC_OLD.toString();
     }
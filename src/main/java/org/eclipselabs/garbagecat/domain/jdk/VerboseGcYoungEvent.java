@@ -12,7 +12,6 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -96,23 +95,36 @@ public class VerboseGcYoungEvent extends UnknownCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
     }
 
     /**
-     * Combined young + old generation allocation.
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #VerboseGcYoungEvent(String, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        Matcher matcher = pattern.matcher(logLine);
+        return matcher.matches() ? matcher : null;
+    }
+
+    /**
+     * Combined young + old generation allocation in kilobytes.
      */
-    private Memory combinedAllocation;
+    private long combinedAllocation = Memory.NO_DATA;
 
     /**
-     * Combined young + old generation size at beginning of GC event.
+     * Combined young + old generation size at beginning of GC event in kilobytes.
      */
-    private Memory combinedBegin;
+    private long combinedBegin = Memory.NO_DATA;
 
     /**
-     * Combined young + old generation size at end of GC event.
+     * Combined young + old generation size at end of GC event in kilobytes.
      */
-    private Memory combinedEnd;
+    private long combinedEnd = Memory.NO_DATA;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -141,27 +153,40 @@ public class VerboseGcYoungEvent extends UnknownCollector
      *            The log entry for the event.
      */
     public VerboseGcYoungEvent(String logEntry) {
+        this(logEntry, null);
+    }
+
+    /**
+     * Create event from log entry and the <code>Matcher</code> that identified it, so the log entry is not matched
+     * again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(String)}, or null to match the log
+     *            entry.
+     */
+    public VerboseGcYoungEvent(String logEntry, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            if (matcher.group(13) != null && matcher.group(13).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(13)).longValue();
-            } else if (matcher.group(1).matches(JdkRegEx.TIMESTAMP)) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+        if (matcher != null || (matcher = pattern.matcher(logEntry)).find()) {
+            if (matcher.group(13) != null && JdkUtil.isTimestamp(matcher.group(13))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(13));
+            } else if (JdkUtil.isTimestamp(matcher.group(1))) {
+                timestamp = JdkMath.parseSecsToMillis(matcher.group(1));
             } else {
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
             trigger = GcTrigger.getTrigger(matcher.group(15));
             if (matcher.group(18) != null) {
-                combinedBegin = kilobytes(matcher.group(19));
+                combinedBegin = Long.parseLong(matcher.group(19));
             } else {
                 // set it to the end
-                combinedBegin = kilobytes(matcher.group(20));
+                combinedBegin = Long.parseLong(matcher.group(20));
             }
-            combinedEnd = kilobytes(matcher.group(20));
-            combinedAllocation = kilobytes(matcher.group(21));
-            duration = JdkMath.convertSecsToMicros(matcher.group(22)).intValue();
+            combinedEnd = Long.parseLong(matcher.group(20));
+            combinedAllocation = Long.parseLong(matcher.group(21));
+            duration = (int) JdkMath.parseSecsToMicros(matcher.group(22));
         }
     }
 
@@ -181,16 +206,35 @@ public class VerboseGcYoungEvent extends UnknownCollector
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public VerboseGcYoungEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public Memory getCombinedOccupancyEnd() {
-        return combinedEnd;
+        return Memory.kilobytesOrNull(combinedEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedBegin;
+        return Memory.kilobytesOrNull(combinedBegin);
     }
 
     public Memory getCombinedSpace() {
-        return combinedAllocation;
+        return Memory.kilobytesOrNull(combinedAllocation);
     }
 
     public long getDuration() {
@@ -201,6 +245,10 @@ public class VerboseGcYoungEvent extends UnknownCollector
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.VERBOSE_GC_YOUNG;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.VERBOSE_GC_YOUNG.toString();
     }
@@ -17,7 +17,7 @@ import java.util.regex.Pattern;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -60,7 +60,7 @@ public class HeapAddressEvent implements UnifiedLogging, ThrowAwayEvent {
     /**
      * Regular expressions defining the logging.
      */
-    private static final String REGEX = "^" + UnifiedRegEx.DECORATOR + " Heap address: " + JdkRegEx.ADDRESS
+    private static final String REGEX = "^ Heap address: " + JdkRegEx.ADDRESS
             + ", size: \\d{1,8} MB, Compressed Oops mode: (32-bit|Zero based, Oop shift amount: \\d)$";
 
     /**
@@ -71,7 +71,18 @@ public class HeapAddressEvent implements UnifiedLogging, ThrowAwayEvent {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return match(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Determine if the log line body after the decorator matches the logging pattern(s) for this event.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return true if the log line body matches the event pattern, false otherwise.
+     */
+    public static final boolean match(UnifiedDecorator decorator) {
+        return decorator != null && decorator.matcher(pattern) != null;
     }
 
     /**
@@ -99,6 +110,10 @@ public class HeapAddressEvent implements UnifiedLogging, ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.HEAP_ADDRESS;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.HEAP_ADDRESS.toString();
     }
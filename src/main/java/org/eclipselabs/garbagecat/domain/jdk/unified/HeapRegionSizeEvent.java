@@ -17,7 +17,7 @@ import java.util.regex.Pattern;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -56,8 +56,7 @@ public class HeapRegionSizeEvent implements UnifiedLogging, ThrowAwayEvent {
     /**
      * Regular expressions defining the logging.
      */
-    private static final String REGEX = "^" + UnifiedRegEx.DECORATOR + " Heap region size:( \\d{1,4} x)? "
-            + JdkRegEx.SIZE + "$";
+    private static final String REGEX = "^ Heap region size:( \\d{1,4} x)? " + JdkRegEx.SIZE + "$";
 
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
@@ -67,7 +66,18 @@ public class HeapRegionSizeEvent implements UnifiedLogging, ThrowAwayEvent {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return match(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Determine if the log line body after the decorator matches the logging pattern(s) for this event.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return true if the log line body matches the event pattern, false otherwise.
+     */
+    public static final boolean match(UnifiedDecorator decorator) {
+        return decorator != null && decorator.matcher(pattern) != null;
     }
 
     /**
@@ -95,6 +105,10 @@ public class HeapRegionSizeEvent implements UnifiedLogging, ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.HEAP_REGION_SIZE;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.HEAP_REGION_SIZE.toString();
     }
@@ -63,6 +63,10 @@ public class MetaspaceUtilsReportEvent implements ThrowAwayEvent {
         throw new UnsupportedOperationException("Event does not include log entry information");
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.METASPACE_UTILS_REPORT;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.METASPACE_UTILS_REPORT.toString();
     }
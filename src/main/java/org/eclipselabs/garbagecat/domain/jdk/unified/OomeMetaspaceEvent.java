@@ -16,7 +16,7 @@ import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -31,8 +31,7 @@ public class OomeMetaspaceEvent implements ThrowAwayEvent {
     /**
      * Regular expression defining the logging.
      */
-    private static final String REGEX = "^" + UnifiedRegEx.DECORATOR
-            + " Metaspace \\(data\\) allocation failed for size \\d{1,}$";
+    private static final String REGEX = "^ Metaspace \\(data\\) allocation failed for size \\d{1,}$";
 
     private static final Pattern REGEX_PATTERN = Pattern.compile(REGEX);
 
@@ -44,7 +43,18 @@ public class OomeMetaspaceEvent implements ThrowAwayEvent {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return REGEX_PATTERN.matcher(logLine).matches();
+        return match(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Determine if the log line body after the decorator matches the logging pattern(s) for this event.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return true if the log line body matches the event pattern, false otherwise.
+     */
+    public static final boolean match(UnifiedDecorator decorator) {
+        return decorator != null && decorator.matcher(REGEX_PATTERN) != null;
     }
 
     /**
@@ -57,6 +67,10 @@ public class OomeMetaspaceEvent implements ThrowAwayEvent {
         throw new UnsupportedOperationException("Event does not include log entry information");
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.OOME_METASPACE;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.OOME_METASPACE.toString();
     }
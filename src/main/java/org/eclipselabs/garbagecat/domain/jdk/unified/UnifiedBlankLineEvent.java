@@ -71,6 +71,10 @@ public class UnifiedBlankLineEvent implements ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.UNIFIED_BLANK_LINE;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.UNIFIED_BLANK_LINE.toString();
     }
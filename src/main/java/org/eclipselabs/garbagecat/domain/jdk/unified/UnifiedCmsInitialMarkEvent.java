@@ -12,8 +12,6 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import static org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil.DECORATOR_SIZE;
-
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -24,7 +22,7 @@ import org.eclipselabs.garbagecat.domain.jdk.CmsCollector;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 import org.github.joa.domain.GarbageCollector;
 
 /**
@@ -70,8 +68,8 @@ public class UnifiedCmsInitialMarkEvent extends CmsCollector
     /**
      * Regular expressions defining the logging.
      */
-    private static final String REGEX = "^" + UnifiedRegEx.DECORATOR + " Pause Initial Mark " + JdkRegEx.SIZE + "->"
-            + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS + TimesData.REGEX_JDK9 + "?[ ]*$";
+    private static final String REGEX = "^ Pause Initial Mark " + JdkRegEx.SIZE + "->" + JdkRegEx.SIZE + "\\("
+            + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS + TimesData.REGEX_JDK9 + "?[ ]*$";
 
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
@@ -81,7 +79,31 @@ public class UnifiedCmsInitialMarkEvent extends CmsCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #UnifiedCmsInitialMarkEvent(String, UnifiedDecorator, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern, null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        return matcher(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Match the log line body after the decorator.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return The successful <code>Matcher</code> if the log line body matches the event pattern, null
+     *         otherwise.
+     */
+    public static final Matcher matcher(UnifiedDecorator decorator) {
+        return decorator == null ? null : decorator.matcher(pattern);
     }
 
     /**
@@ -121,35 +143,31 @@ public class UnifiedCmsInitialMarkEvent extends CmsCollector
      *            The log entry for the event.
      */
     public UnifiedCmsInitialMarkEvent(String logEntry) {
+        this(logEntry, UnifiedDecorator.parse(logEntry), null);
+    }
+
+    /**
+     * Create event from log entry, its decorator, and the <code>Matcher</code> that identified it, so the log entry is
+     * not parsed or matched again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param decorator
+     *            The decorator of the log entry.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(UnifiedDecorator)}, or null to match
+     *            the log entry body.
+     */
+    public UnifiedCmsInitialMarkEvent(String logEntry, UnifiedDecorator decorator, Matcher matcher) {
         this.logEntry = logEntry;
-        if (logEntry.matches(REGEX)) {
-            Pattern pattern = Pattern.compile(REGEX);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                long endTimestamp;
-                if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    endTimestamp = Long.parseLong(matcher.group(12));
-                } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                    endTimestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-                } else {
-                    if (matcher.group(14) != null) {
-                        if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            endTimestamp = Long.parseLong(matcher.group(16));
-                        } else {
-                            endTimestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                        }
-                    } else {
-                        // Datestamp only.
-                        endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                    }
-                }
-                duration = JdkMath.convertMillisToMicros(matcher.group(DECORATOR_SIZE + 10)).intValue();
-                timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
-                if (matcher.group(DECORATOR_SIZE + 11) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 12)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 13)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 14)).intValue();
-                }
+        if (matcher != null || (matcher = matcher(decorator)) != null) {
+            long endTimestamp = decorator.getTimestamp();
+            duration = (int) JdkMath.parseMillisToMicros(matcher.group(10));
+            timestamp = endTimestamp - JdkMath.microsToMillis(duration);
+            if (matcher.group(11) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(12));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(13));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(14));
             }
         }
     }
@@ -183,6 +201,10 @@ public class UnifiedCmsInitialMarkEvent extends CmsCollector
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.UNIFIED_CMS_INITIAL_MARK;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.UNIFIED_CMS_INITIAL_MARK.toString();
     }
@@ -21,7 +21,7 @@ import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.domain.jdk.UnknownCollector;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -195,18 +195,17 @@ public class UnifiedConcurrentEvent extends UnknownCollector implements UnifiedL
      */
     private static final String[] REGEX = {
             //
-            "^" + UnifiedRegEx.DECORATOR + " Concurrent Cycle( " + JdkRegEx.DURATION_MS + ")?$",
+            "^ Concurrent Cycle( " + JdkRegEx.DURATION_MS + ")?$",
             //
-            "^" + UnifiedRegEx.DECORATOR
-                    + " Concurrent (Cleanup for Next Mark|Clear Claimed Marks|Create Live Data|Mark|Mark Abort|"
+            "^ Concurrent (Cleanup for Next Mark|Clear Claimed Marks|Create Live Data|Mark|Mark Abort|"
                     + "Mark Cycle|Mark Free|Mark From Roots|Preclean|Process Non-Strong References|"
                     + "Rebuild Remembered Sets|Relocate|Reset|Scan Root Regions|Select Relocation Set|"
                     + "String Deduplication.*|Undo Cycle|Sweep)( \\(" + JdkRegEx.TIMESTAMP + "s(, " + JdkRegEx.TIMESTAMP
                     + "s)?\\))?( " + JdkRegEx.DURATION_MS + ")?" + TimesData.REGEX_JDK9 + "?[ ]*$",
             //
-            "^" + UnifiedRegEx.DECORATOR + " Using \\d workers of \\d for marking$",
+            "^ Using \\d workers of \\d for marking$",
             //
-            "^" + UnifiedRegEx.DECORATOR + " (Discovered |Encountered|Enqueued   ) references: Soft:.+" + "$"
+            "^ (Discovered |Encountered|Enqueued   ) references: Soft:.+" + "$"
             //
     };
     private static final List<Pattern> REGEX_PATTERN_LIST = new ArrayList<>(REGEX.length);
@@ -224,12 +223,25 @@ public class UnifiedConcurrentEvent extends UnknownCollector implements UnifiedL
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
+        return match(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Determine if the log line body after the decorator matches the logging pattern(s) for this event.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return true if the log line body matches the event pattern, false otherwise.
+     */
+    public static final boolean match(UnifiedDecorator decorator) {
         boolean match = false;
-        for (int i = 0; i < REGEX_PATTERN_LIST.size(); i++) {
-            Pattern pattern = REGEX_PATTERN_LIST.get(i);
-            if (pattern.matcher(logLine).matches()) {
-                match = true;
-                break;
+        if (decorator != null) {
+            for (int i = 0; i < REGEX_PATTERN_LIST.size(); i++) {
+                Pattern pattern = REGEX_PATTERN_LIST.get(i);
+                if (decorator.matcher(pattern) != null) {
+                    match = true;
+                    break;
+                }
             }
         }
         return match;
@@ -239,6 +251,10 @@ public class UnifiedConcurrentEvent extends UnknownCollector implements UnifiedL
         throw new UnsupportedOperationException("Event does not include log entry information");
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.UNIFIED_CONCURRENT;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.UNIFIED_CONCURRENT.toString();
     }
@@ -12,9 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
-import static org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil.DECORATOR_SIZE;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -28,7 +26,7 @@ import org.eclipselabs.garbagecat.util.Memory;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -66,17 +64,16 @@ public class UnifiedG1CleanupEvent extends G1Collector
     /**
      * Regular expressions defining the logging.
      */
-    private static final String REGEX = "^" + UnifiedRegEx.DECORATOR + " Pause Cleanup " + JdkRegEx.SIZE + "->"
-            + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS + "[ ]*$";
+    private static final String REGEX = "^ Pause Cleanup " + JdkRegEx.SIZE + "->" + JdkRegEx.SIZE + "\\("
+            + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS + "[ ]*$";
 
     private static final Pattern REGEX_PATTERN = Pattern.compile(REGEX);
 
     /**
      * Regular expression defining preprocessed logging.
      */
-    private static final String REGEX_PREPROCESSED = "^" + UnifiedRegEx.DECORATOR + " Pause Cleanup " + JdkRegEx.SIZE
-            + "->" + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS + TimesData.REGEX_JDK9
-            + "[ ]*$";
+    private static final String REGEX_PREPROCESSED = "^ Pause Cleanup " + JdkRegEx.SIZE + "->" + JdkRegEx.SIZE + "\\("
+            + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS + TimesData.REGEX_JDK9 + "[ ]*$";
 
     private static final Pattern REGEX_PREPROCESSED_PATTERN = Pattern.compile(REGEX_PREPROCESSED);
 
@@ -88,23 +85,51 @@ public class UnifiedG1CleanupEvent extends G1Collector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return REGEX_PATTERN.matcher(logLine).matches() || REGEX_PREPROCESSED_PATTERN.matcher(logLine).matches();
+        return matcher(logLine) != null;
     }
 
     /**
-     * Combined young + old generation allocation.
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #UnifiedG1CleanupEvent(String, UnifiedDecorator, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        return matcher(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Match the log line body after the decorator.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return The successful <code>Matcher</code> if the log line body matches the event pattern(s), null
+     *         otherwise.
+     */
+    public static final Matcher matcher(UnifiedDecorator decorator) {
+        if (decorator == null) {
+            return null;
+        }
+        Matcher matcher = decorator.matcher(REGEX_PATTERN);
+        return matcher != null ? matcher : decorator.matcher(REGEX_PREPROCESSED_PATTERN);
+    }
+
+    /**
+     * Combined young + old generation allocation in kilobytes.
      */
-    private Memory combinedAllocation;
+    private long combinedAllocation = Memory.NO_DATA;
 
     /**
-     * Combined young + old generation size at beginning of GC event.
+     * Combined young + old generation size at beginning of GC event in kilobytes.
      */
-    private Memory combinedBegin;
+    private long combinedBegin = Memory.NO_DATA;
 
     /**
-     * Combined young + old generation size at end of GC event.
+     * Combined young + old generation size at end of GC event in kilobytes.
      */
-    private Memory combinedEnd;
+    private long combinedEnd = Memory.NO_DATA;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -143,76 +168,50 @@ public class UnifiedG1CleanupEvent extends G1Collector
      *            The log entry for the event.
      */
     public UnifiedG1CleanupEvent(String logEntry) {
-        this.logEntry = logEntry;
+        this(logEntry, UnifiedDecorator.parse(logEntry), null);
+    }
 
-        Matcher matcher;
-
-        if ((matcher = REGEX_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                long endTimestamp;
-                if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    endTimestamp = Long.parseLong(matcher.group(12));
-                } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                    endTimestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-                } else {
-                    if (matcher.group(14) != null) {
-                        if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            endTimestamp = Long.parseLong(matcher.group(16));
-                        } else {
-                            endTimestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                        }
-                    } else {
-                        // Datestamp only.
-                        endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                    }
-                }
-                combinedBegin = memory(matcher.group(DECORATOR_SIZE + 1), matcher.group(DECORATOR_SIZE + 3).charAt(0))
-                        .convertTo(KILOBYTES);
-                combinedEnd = memory(matcher.group(DECORATOR_SIZE + 4), matcher.group(DECORATOR_SIZE + 6).charAt(0))
-                        .convertTo(KILOBYTES);
-                combinedAllocation = memory(matcher.group(DECORATOR_SIZE + 7),
-                        matcher.group(DECORATOR_SIZE + 9).charAt(0)).convertTo(KILOBYTES);
-                duration = JdkMath.roundMillis(matcher.group(DECORATOR_SIZE + 10)).intValue();
-                timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
+    /**
+     * Create event from log entry, its decorator, and the <code>Matcher</code> that identified it, so the log entry is
+     * not parsed or matched again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param decorator
+     *            The decorator of the log entry.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(UnifiedDecorator)}, or null to match
+     *            the log entry body.
+     */
+    public UnifiedG1CleanupEvent(String logEntry, UnifiedDecorator decorator, Matcher matcher) {
+        this.logEntry = logEntry;
+        if (matcher == null) {
+            matcher = matcher(decorator);
+        }
+        Pattern pattern = matcher == null ? null : matcher.pattern();
+        if (pattern == REGEX_PATTERN) {
+            long endTimestamp = decorator.getTimestamp();
+            combinedBegin = toKilobytes(matcher.group(1), matcher.group(3).charAt(0));
+            combinedEnd = toKilobytes(matcher.group(4), matcher.group(6).charAt(0));
+            combinedAllocation = toKilobytes(matcher.group(7), matcher.group(9).charAt(0));
+            duration = (int) JdkMath.parseMillis(matcher.group(10));
+            timestamp = endTimestamp - JdkMath.microsToMillis(duration);
+            timeUser = TimesData.NO_DATA;
+            timeReal = TimesData.NO_DATA;
+        } else if (pattern == REGEX_PREPROCESSED_PATTERN) {
+            timestamp = decorator.getTimestamp();
+            combinedBegin = toKilobytes(matcher.group(1), matcher.group(3).charAt(0));
+            combinedEnd = toKilobytes(matcher.group(4), matcher.group(6).charAt(0));
+            combinedAllocation = toKilobytes(matcher.group(7), matcher.group(9).charAt(0));
+            duration = (int) JdkMath.parseMillis(matcher.group(10));
+            if (matcher.group(11) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(12));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(13));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(14));
+            } else {
                 timeUser = TimesData.NO_DATA;
                 timeReal = TimesData.NO_DATA;
             }
-        } else if ((matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    timestamp = Long.parseLong(matcher.group(12));
-                } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-                } else {
-                    if (matcher.group(14) != null) {
-                        if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            timestamp = Long.parseLong(matcher.group(16));
-                        } else {
-                            timestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                        }
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                    }
-                }
-                combinedBegin = memory(matcher.group(DECORATOR_SIZE + 1), matcher.group(DECORATOR_SIZE + 3).charAt(0))
-                        .convertTo(KILOBYTES);
-                combinedEnd = memory(matcher.group(DECORATOR_SIZE + 4), matcher.group(DECORATOR_SIZE + 6).charAt(0))
-                        .convertTo(KILOBYTES);
-                combinedAllocation = memory(matcher.group(DECORATOR_SIZE + 7),
-                        matcher.group(DECORATOR_SIZE + 9).charAt(0)).convertTo(KILOBYTES);
-                duration = JdkMath.roundMillis(matcher.group(DECORATOR_SIZE + 10)).intValue();
-                if (matcher.group(DECORATOR_SIZE + 11) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 12)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 13)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 14)).intValue();
-                } else {
-                    timeUser = TimesData.NO_DATA;
-                    timeReal = TimesData.NO_DATA;
-                }
-            }
         }
     }
 
@@ -233,15 +232,15 @@ public class UnifiedG1CleanupEvent extends G1Collector
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedEnd;
+        return Memory.kilobytesOrNull(combinedEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedBegin;
+        return Memory.kilobytesOrNull(combinedBegin);
     }
 
     public Memory getCombinedSpace() {
-        return combinedAllocation;
+        return Memory.kilobytesOrNull(combinedAllocation);
     }
 
     public long getDuration() {
@@ -252,6 +251,10 @@ public class UnifiedG1CleanupEvent extends G1Collector
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.UNIFIED_G1_CLEANUP;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.UNIFIED_G1_CLEANUP.toString();
     }
@@ -18,7 +18,7 @@ import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -45,7 +45,7 @@ public class UnifiedG1InfoEvent implements UnifiedLogging, ThrowAwayEvent {
      */
     private static final String REGEX[] = {
             //
-            "^" + UnifiedRegEx.DECORATOR + " Pause Initial Mark \\(" + UnifiedG1YoungInitialMarkEvent._TRIGGER + "\\)$",
+            "^ Pause Initial Mark \\(" + UnifiedG1YoungInitialMarkEvent._TRIGGER + "\\)$",
             //
     };
 
@@ -65,12 +65,25 @@ public class UnifiedG1InfoEvent implements UnifiedLogging, ThrowAwayEvent {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
+        return match(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Determine if the log line body after the decorator matches the logging pattern(s) for this event.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return true if the log line body matches the event pattern, false otherwise.
+     */
+    public static final boolean match(UnifiedDecorator decorator) {
         boolean match = false;
-        for (int i = 0; i < REGEX_LIST.size(); i++) {
-            Pattern pattern = REGEX_LIST.get(i);
-            if (pattern.matcher(logLine).matches()) {
-                match = true;
-                break;
+        if (decorator != null) {
+            for (int i = 0; i < REGEX_LIST.size(); i++) {
+                Pattern pattern = REGEX_LIST.get(i);
+                if (decorator.matcher(pattern) != null) {
+                    match = true;
+                    break;
+                }
             }
         }
         return match;
@@ -101,6 +114,10 @@ public class UnifiedG1InfoEvent implements UnifiedLogging, ThrowAwayEvent {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.UNIFIED_G1_INFO;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.UNIFIED_G1_INFO.toString();
     }
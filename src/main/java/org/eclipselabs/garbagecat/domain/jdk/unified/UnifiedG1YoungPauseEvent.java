@@ -12,9 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
-import static org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil.DECORATOR_SIZE;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -35,7 +33,7 @@ import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -85,9 +83,8 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
     /**
      * Regular expression defining standard logging (no details).
      */
-    private static final String REGEX = "^" + UnifiedRegEx.DECORATOR
-            + " Pause Young \\((Normal|Concurrent Start)\\) \\(" + _TRIGGER + "\\) " + JdkRegEx.SIZE + "->"
-            + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS + "[ ]*$";
+    private static final String REGEX = "^ Pause Young \\((Normal|Concurrent Start)\\) \\(" + _TRIGGER + "\\) "
+            + JdkRegEx.SIZE + "->" + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS + "[ ]*$";
 
     private static final Pattern REGEX_PATTERN = Pattern.compile(REGEX);
 
@@ -98,9 +95,8 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
      * 0.1ms Humongous regions: 0->0 Metaspace: 9085K->9085K(1058816K) 3M->2M(7M) 0.929ms User=0.01s Sys=0.00s
      * Real=0.01s
      */
-    private static final String REGEX_PREPROCESSED = "^" + UnifiedRegEx.DECORATOR
-            + " Pause Young( \\((Normal|Concurrent Start)\\))? \\(" + _TRIGGER + "\\) "
-            + UnifiedPreprocessAction.REGEX_G1_EXT_ROOT_SCANNING + "?" + OtherTime.REGEX
+    private static final String REGEX_PREPROCESSED = "^ Pause Young( \\((Normal|Concurrent Start)\\))? \\(" + _TRIGGER
+            + "\\) " + UnifiedPreprocessAction.REGEX_G1_EXT_ROOT_SCANNING + "?" + OtherTime.REGEX
             + " Humongous regions: \\d{1,}->\\d{1,} Metaspace: " + JdkRegEx.SIZE + "(\\(" + JdkRegEx.SIZE + "\\))?->"
             + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\) " + JdkRegEx.SIZE + "->" + JdkRegEx.SIZE + "\\("
             + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS + TimesData.REGEX_JDK9 + "[ ]*$";
@@ -115,23 +111,51 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return REGEX_PATTERN.matcher(logLine).matches() || REGEX_PREPROCESSED_PATTERN.matcher(logLine).matches();
+        return matcher(logLine) != null;
     }
 
     /**
-     * Combined young + old generation allocation.
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #UnifiedG1YoungPauseEvent(String, UnifiedDecorator, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
      */
-    private Memory combinedAllocation;
+    public static final Matcher matcher(String logLine) {
+        return matcher(UnifiedDecorator.parse(logLine));
+    }
 
     /**
-     * Combined young + old generation size at beginning of GC event.
+     * Match the log line body after the decorator.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return The successful <code>Matcher</code> if the log line body matches the event pattern(s), null
+     *         otherwise.
      */
-    private Memory combinedBegin;
+    public static final Matcher matcher(UnifiedDecorator decorator) {
+        if (decorator == null) {
+            return null;
+        }
+        Matcher matcher = decorator.matcher(REGEX_PATTERN);
+        return matcher != null ? matcher : decorator.matcher(REGEX_PREPROCESSED_PATTERN);
+    }
 
     /**
-     * Combined young + old generation size at end of GC event.
+     * Combined young + old generation allocation in kilobytes.
      */
-    private Memory combinedEnd;
+    private long combinedAllocation = Memory.NO_DATA;
+
+    /**
+     * Combined young + old generation size at beginning of GC event in kilobytes.
+     */
+    private long combinedBegin = Memory.NO_DATA;
+
+    /**
+     * Combined young + old generation size at end of GC event in kilobytes.
+     */
+    private long combinedEnd = Memory.NO_DATA;
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
      */
@@ -153,19 +177,19 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
     private long otherTime;
 
     /**
-     * Permanent generation size at beginning of GC event.
+     * Permanent generation size at beginning of GC event in kilobytes.
      */
-    private Memory permGen;
+    private long permGen = Memory.NO_DATA;
 
     /**
-     * Space allocated to permanent generation.
+     * Space allocated to permanent generation in kilobytes.
      */
-    private Memory permGenAllocation;
+    private long permGenAllocation = Memory.NO_DATA;
 
     /**
-     * Permanent generation size at end of GC event.
+     * Permanent generation size at end of GC event in kilobytes.
      */
-    private Memory permGenEnd;
+    private long permGenEnd = Memory.NO_DATA;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -199,92 +223,65 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
      *            The log entry for the event.
      */
     public UnifiedG1YoungPauseEvent(String logEntry) {
+        this(logEntry, UnifiedDecorator.parse(logEntry), null);
+    }
+
+    /**
+     * Create event from log entry, its decorator, and the <code>Matcher</code> that identified it, so the log entry is
+     * not parsed or matched again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param decorator
+     *            The decorator of the log entry.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(UnifiedDecorator)}, or null to match
+     *            the log entry body.
+     */
+    public UnifiedG1YoungPauseEvent(String logEntry, UnifiedDecorator decorator, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher;
-        if ((matcher = REGEX_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                long endTimestamp;
-                if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    endTimestamp = Long.parseLong(matcher.group(12));
-                } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                    endTimestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-                } else {
-                    if (matcher.group(14) != null) {
-                        if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            endTimestamp = Long.parseLong(matcher.group(16));
-                        } else {
-                            endTimestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                        }
-                    } else {
-                        // Datestamp only.
-                        endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                    }
-                }
-                trigger = GcTrigger.getTrigger(matcher.group(DECORATOR_SIZE + 2));
-                combinedBegin = memory(matcher.group(DECORATOR_SIZE + 3), matcher.group(DECORATOR_SIZE + 5).charAt(0))
-                        .convertTo(KILOBYTES);
-                combinedEnd = memory(matcher.group(DECORATOR_SIZE + 6), matcher.group(DECORATOR_SIZE + 8).charAt(0))
-                        .convertTo(KILOBYTES);
-                combinedAllocation = memory(matcher.group(DECORATOR_SIZE + 9),
-                        matcher.group(DECORATOR_SIZE + 11).charAt(0)).convertTo(KILOBYTES);
-                eventTime = JdkMath.convertMillisToMicros(matcher.group(DECORATOR_SIZE + 12)).intValue();
-                timestamp = endTimestamp - JdkMath.convertMicrosToMillis(eventTime).longValue();
+        if (matcher == null) {
+            matcher = matcher(decorator);
+        }
+        Pattern pattern = matcher == null ? null : matcher.pattern();
+        if (pattern == REGEX_PATTERN) {
+            long endTimestamp = decorator.getTimestamp();
+            trigger = GcTrigger.getTrigger(matcher.group(2));
+            combinedBegin = toKilobytes(matcher.group(3), matcher.group(5).charAt(0));
+            combinedEnd = toKilobytes(matcher.group(6), matcher.group(8).charAt(0));
+            combinedAllocation = toKilobytes(matcher.group(9), matcher.group(11).charAt(0));
+            eventTime = (int) JdkMath.parseMillisToMicros(matcher.group(12));
+            timestamp = endTimestamp - JdkMath.microsToMillis(eventTime);
+            timeUser = TimesData.NO_DATA;
+            timeReal = TimesData.NO_DATA;
+        } else if (pattern == REGEX_PREPROCESSED_PATTERN) {
+            timestamp = decorator.getTimestamp();
+            trigger = GcTrigger.getTrigger(matcher.group(3));
+            if (matcher.group(4) != null) {
+                extRootScanningTime = (int) JdkMath.parseMillisToMicros(matcher.group(5));
+            } else {
+                extRootScanningTime = G1ExtRootScanningData.NO_DATA;
+            }
+            if (matcher.group(6) != null) {
+                otherTime = (int) JdkMath.parseMillisToMicros(matcher.group(7));
+            } else {
+                otherTime = OtherTime.NO_DATA;
+            }
+            permGen = toKilobytes(matcher.group(8), matcher.group(10).charAt(0));
+            permGenEnd = toKilobytes(matcher.group(15), matcher.group(17).charAt(0));
+            permGenAllocation = toKilobytes(matcher.group(18), matcher.group(20).charAt(0));
+            combinedBegin = toKilobytes(matcher.group(21), matcher.group(23).charAt(0));
+            combinedEnd = toKilobytes(matcher.group(24), matcher.group(26).charAt(0));
+            combinedAllocation = toKilobytes(matcher.group(27), matcher.group(29).charAt(0));
+            eventTime = (int) JdkMath.parseMillisToMicros(matcher.group(30));
+            if (matcher.group(31) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(32));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(33));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(34));
+            } else {
                 timeUser = TimesData.NO_DATA;
                 timeReal = TimesData.NO_DATA;
             }
-        } else if ((matcher = REGEX_PREPROCESSED_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    timestamp = Long.parseLong(matcher.group(12));
-                } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-                } else {
-                    if (matcher.group(14) != null) {
-                        if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            timestamp = Long.parseLong(matcher.group(16));
-                        } else {
-                            timestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                        }
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                    }
-                }
-                trigger = GcTrigger.getTrigger(matcher.group(DECORATOR_SIZE + 3));
-                if (matcher.group(DECORATOR_SIZE + 4) != null) {
-                    extRootScanningTime = JdkMath.convertMillisToMicros(matcher.group(DECORATOR_SIZE + 5)).intValue();
-                } else {
-                    extRootScanningTime = G1ExtRootScanningData.NO_DATA;
-                }
-                if (matcher.group(DECORATOR_SIZE + 6) != null) {
-                    otherTime = JdkMath.convertMillisToMicros(matcher.group(DECORATOR_SIZE + 7)).intValue();
-                } else {
-                    otherTime = OtherTime.NO_DATA;
-                }
-                permGen = memory(matcher.group(DECORATOR_SIZE + 8), matcher.group(DECORATOR_SIZE + 10).charAt(0))
-                        .convertTo(KILOBYTES);
-                permGenEnd = memory(matcher.group(DECORATOR_SIZE + 15), matcher.group(DECORATOR_SIZE + 17).charAt(0))
-                        .convertTo(KILOBYTES);
-                permGenAllocation = memory(matcher.group(DECORATOR_SIZE + 18),
-                        matcher.group(DECORATOR_SIZE + 20).charAt(0)).convertTo(KILOBYTES);
-                combinedBegin = memory(matcher.group(DECORATOR_SIZE + 21), matcher.group(DECORATOR_SIZE + 23).charAt(0))
-                        .convertTo(KILOBYTES);
-                combinedEnd = memory(matcher.group(DECORATOR_SIZE + 24), matcher.group(DECORATOR_SIZE + 26).charAt(0))
-                        .convertTo(KILOBYTES);
-                combinedAllocation = memory(matcher.group(DECORATOR_SIZE + 27),
-                        matcher.group(DECORATOR_SIZE + 29).charAt(0)).convertTo(KILOBYTES);
-                eventTime = JdkMath.convertMillisToMicros(matcher.group(DECORATOR_SIZE + 30)).intValue();
-                if (matcher.group(DECORATOR_SIZE + 31) != null) {
-                    timeUser = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 32)).intValue();
-                    timeSys = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 33)).intValue();
-                    timeReal = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 34)).intValue();
-                } else {
-                    timeUser = TimesData.NO_DATA;
-                    timeReal = TimesData.NO_DATA;
-                }
-            }
         }
     }
 
@@ -304,16 +301,35 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
         this.eventTime = duration;
     }
 
+    /**
+     * Alternate constructor. Create detail logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public UnifiedG1YoungPauseEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.eventTime = duration;
+        this.trigger = trigger;
+    }
+
     public Memory getCombinedOccupancyEnd() {
-        return combinedEnd;
+        return Memory.kilobytesOrNull(combinedEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedBegin;
+        return Memory.kilobytesOrNull(combinedBegin);
     }
 
     public Memory getCombinedSpace() {
-        return combinedAllocation;
+        return Memory.kilobytesOrNull(combinedAllocation);
     }
 
     public long getDuration() {
@@ -328,6 +344,10 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.UNIFIED_G1_YOUNG_PAUSE;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.UNIFIED_G1_YOUNG_PAUSE.toString();
     }
@@ -342,15 +362,15 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
     }
 
     public Memory getPermOccupancyEnd() {
-        return permGenEnd;
+        return Memory.kilobytesOrNull(permGenEnd);
     }
 
     public Memory getPermOccupancyInit() {
-        return permGen;
+        return Memory.kilobytesOrNull(permGen);
     }
 
     public Memory getPermSpace() {
-        return permGenAllocation;
+        return Memory.kilobytesOrNull(permGenAllocation);
     }
 
     public int getTimeReal() {
@@ -374,14 +394,14 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
     }
 
     protected void setPermOccupancyEnd(Memory permGenEnd) {
-        this.permGenEnd = permGenEnd;
+        this.permGenEnd = toKilobytes(permGenEnd);
     }
 
     protected void setPermOccupancyInit(Memory permGen) {
-        this.permGen = permGen;
+        this.permGen = toKilobytes(permGen);
     }
 
     protected void setPermSpace(Memory permGenAllocation) {
-        this.permGenAllocation = permGenAllocation;
+        this.permGenAllocation = toKilobytes(permGenAllocation);
     }
 }
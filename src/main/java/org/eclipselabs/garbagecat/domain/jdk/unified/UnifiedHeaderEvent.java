@@ -12,13 +12,11 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.LogEvent;
-import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -174,8 +172,8 @@ public class UnifiedHeaderEvent implements LogEvent, UnifiedLogging {
     /**
      * Regular expressions defining the logging.
      */
-    private static final String REGEX = "^" + UnifiedRegEx.DECORATOR
-            + " (Address Space (Size|Type)|Alignments|Available space on backing filesystem|(Initial|Max|Min) Capacity|"
+    private static final String REGEX = "^ (Address Space (Size|Type)|Alignments|"
+            + "Available space on backing filesystem|(Initial|Max|Min) Capacity|"
             + "CardTable entry size|(CDS archive\\(s\\)|Compressed class space) mapped at|Compressed Oops|"
             + "Concurrent( Refinement)? Workers|CPUs|GC threads|GC Workers|Heap (Initial|Max|Min) Capacity|"
             + "Heap Backing Filesystem|Heap Backing File|Heap Region (Count|Size)|Heuristics|"
@@ -193,7 +191,18 @@ public class UnifiedHeaderEvent implements LogEvent, UnifiedLogging {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return match(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Determine if the log line body after the decorator matches the logging pattern(s) for this event.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return true if the log line body matches the event pattern, false otherwise.
+     */
+    public static boolean match(UnifiedDecorator decorator) {
+        return decorator != null && decorator.matcher(pattern) != null;
     }
 
     /**
@@ -213,29 +222,21 @@ public class UnifiedHeaderEvent implements LogEvent, UnifiedLogging {
      *            The log entry for the event.
      */
     public UnifiedHeaderEvent(String logEntry) {
-        this.logEntry = logEntry;
+        this(logEntry, UnifiedDecorator.parse(logEntry));
+    }
 
-        if (logEntry.matches(REGEX)) {
-            Pattern pattern = Pattern.compile(REGEX);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    timestamp = Long.parseLong(matcher.group(12));
-                } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-                } else {
-                    if (matcher.group(14) != null) {
-                        if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            timestamp = Long.parseLong(matcher.group(16));
-                        } else {
-                            timestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                        }
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                    }
-                }
-            }
+    /**
+     * Create event from log entry and its decorator, so the log entry is not parsed again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param decorator
+     *            The decorator of the log entry.
+     */
+    public UnifiedHeaderEvent(String logEntry, UnifiedDecorator decorator) {
+        this.logEntry = logEntry;
+        if (match(decorator)) {
+            timestamp = decorator.getTimestamp();
         }
     }
 
@@ -243,6 +244,10 @@ public class UnifiedHeaderEvent implements LogEvent, UnifiedLogging {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.UNIFIED_HEADER;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.UNIFIED_HEADER.toString();
     }
@@ -12,13 +12,11 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import static org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil.DECORATOR_SIZE;
-
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
 
 /**
@@ -46,8 +44,7 @@ public class UnifiedHeaderVersionEvent extends UnifiedHeaderEvent {
     /**
      * Regular expressions defining the logging.
      */
-    private static final String REGEX = "^" + UnifiedRegEx.DECORATOR + " Version: " + UnifiedRegEx.RELEASE_STRING
-            + " \\(release\\)[ ]*$";
+    private static final String REGEX = "^ Version: " + UnifiedRegEx.RELEASE_STRING + " \\(release\\)[ ]*$";
 
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
@@ -57,7 +54,18 @@ public class UnifiedHeaderVersionEvent extends UnifiedHeaderEvent {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return match(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Determine if the log line body after the decorator matches the logging pattern(s) for this event.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return true if the log line body matches the event pattern, false otherwise.
+     */
+    public static final boolean match(UnifiedDecorator decorator) {
+        return decorator != null && decorator.matcher(pattern) != null;
     }
 
     /**
@@ -67,28 +75,21 @@ public class UnifiedHeaderVersionEvent extends UnifiedHeaderEvent {
      *            The log entry for the event.
      */
     public UnifiedHeaderVersionEvent(String logEntry) {
-        super(logEntry);
-        if (logEntry.matches(REGEX)) {
-            Pattern pattern = Pattern.compile(REGEX);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    super.setTimestamp(Long.parseLong(matcher.group(12)));
-                } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                    super.setTimestamp(JdkMath.convertSecsToMillis(matcher.group(11)).longValue());
-                } else {
-                    if (matcher.group(14) != null) {
-                        if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            super.setTimestamp(Long.parseLong(matcher.group(16)));
-                        } else {
-                            super.setTimestamp(JdkMath.convertSecsToMillis(matcher.group(15)).longValue());
-                        }
-                    } else {
-                        // Datestamp only.
-                        super.setTimestamp(JdkUtil.convertDatestampToMillis(matcher.group(1)));
-                    }
-                }
-            }
+        this(logEntry, UnifiedDecorator.parse(logEntry));
+    }
+
+    /**
+     * Create event from log entry and its decorator, so the log entry is not parsed again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param decorator
+     *            The decorator of the log entry.
+     */
+    public UnifiedHeaderVersionEvent(String logEntry, UnifiedDecorator decorator) {
+        super(logEntry, decorator);
+        if (match(decorator)) {
+            super.setTimestamp(decorator.getTimestamp());
         }
     }
 
@@ -105,9 +106,9 @@ public class UnifiedHeaderVersionEvent extends UnifiedHeaderEvent {
      */
     public String getJdkReleaseString() {
         String jdkReleaseString = null;
-        Matcher matcher = pattern.matcher(super.getLogEntry());
-        if (matcher.find()) {
-            jdkReleaseString = matcher.group(DECORATOR_SIZE + 1);
+        Matcher matcher = matcher();
+        if (matcher != null) {
+            jdkReleaseString = matcher.group(1);
         }
         return jdkReleaseString;
     }
@@ -119,9 +120,9 @@ public class UnifiedHeaderVersionEvent extends UnifiedHeaderEvent {
     public int getJdkVersionMajor() {
         int jdkVersionMajor = org.github.joa.domain.JvmContext.UNKNOWN;
         if (super.getLogEntry() != null) {
-            Matcher matcher = pattern.matcher(super.getLogEntry());
-            if (matcher.find()) {
-                int index = DECORATOR_SIZE + 2;
+            Matcher matcher = matcher();
+            if (matcher != null) {
+                int index = 2;
                 if (matcher.group(index) != null) {
                     if (matcher.group(index).equals("1.6.0")) {
                         jdkVersionMajor = 6;
@@ -145,9 +146,9 @@ public class UnifiedHeaderVersionEvent extends UnifiedHeaderEvent {
     public int getJdkVersionMinor() {
         int jdkVersionMinor = org.github.joa.domain.JvmContext.UNKNOWN;
         if (super.getLogEntry() != null) {
-            Matcher matcher = pattern.matcher(super.getLogEntry());
-            if (matcher.find()) {
-                int index = DECORATOR_SIZE + 3;
+            Matcher matcher = matcher();
+            if (matcher != null) {
+                int index = 3;
                 if (matcher.group(index) != null) {
                     jdkVersionMinor = Integer.parseInt(matcher.group(index));
                 }
@@ -160,6 +161,10 @@ public class UnifiedHeaderVersionEvent extends UnifiedHeaderEvent {
         return super.getLogEntry();
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.UNIFIED_HEADER_VERSION;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.UNIFIED_HEADER_VERSION.toString();
     }
@@ -167,4 +172,12 @@ public class UnifiedHeaderVersionEvent extends UnifiedHeaderEvent {
     public long getTimestamp() {
         return super.getTimestamp();
     }
+
+    /**
+     * @return The successful <code>Matcher</code> if the log entry body matches the event pattern, null otherwise.
+     */
+    private Matcher matcher() {
+        UnifiedDecorator decorator = UnifiedDecorator.parse(super.getLogEntry());
+        return decorator == null ? null : decorator.matcher(pattern);
+    }
 }
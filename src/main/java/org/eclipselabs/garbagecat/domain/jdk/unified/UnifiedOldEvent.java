@@ -12,9 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
-import static org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil.DECORATOR_SIZE;
+import static org.eclipselabs.garbagecat.util.Memory.toKilobytes;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -33,7 +31,7 @@ import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 
 /**
  * <p>
@@ -85,10 +83,9 @@ public class UnifiedOldEvent extends UnknownCollector implements UnifiedLogging,
     /**
      * Regular expressions defining the logging.
      */
-    private static final String _REGEX = "^" + UnifiedRegEx.DECORATOR + " Pause Full \\(" + __TRIGGER
-            + "\\)( Metaspace: " + JdkRegEx.SIZE + "->" + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\))? "
-            + JdkRegEx.SIZE + "->" + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS
-            + TimesData.REGEX_JDK9 + "?[ ]*$";
+    private static final String _REGEX = "^ Pause Full \\(" + __TRIGGER + "\\)( Metaspace: " + JdkRegEx.SIZE + "->"
+            + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\))? " + JdkRegEx.SIZE + "->" + JdkRegEx.SIZE + "\\("
+            + JdkRegEx.SIZE + "\\) " + JdkRegEx.DURATION_MS + TimesData.REGEX_JDK9 + "?[ ]*$";
 
     private static final Pattern pattern = Pattern.compile(_REGEX);
 
@@ -100,23 +97,47 @@ public class UnifiedOldEvent extends UnknownCollector implements UnifiedLogging,
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return pattern.matcher(logLine).matches();
+        return matcher(logLine) != null;
     }
 
     /**
-     * Combined young + old generation allocation.
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #UnifiedOldEvent(String, UnifiedDecorator, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        return matcher(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Match the log line body after the decorator.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return The successful <code>Matcher</code> if the log line body matches the event pattern(s), null
+     *         otherwise.
      */
-    private Memory combinedAllocation;
+    public static final Matcher matcher(UnifiedDecorator decorator) {
+        return decorator == null ? null : decorator.matcher(pattern);
+    }
 
     /**
-     * Combined young + old generation size at beginning of GC event.
+     * Combined young + old generation allocation in kilobytes.
      */
-    private Memory combinedBegin;
+    private long combinedAllocation = Memory.NO_DATA;
 
     /**
-     * Combined young + old generation size at end of GC event.
+     * Combined young + old generation size at beginning of GC event in kilobytes.
      */
-    private Memory combinedEnd;
+    private long combinedBegin = Memory.NO_DATA;
+
+    /**
+     * Combined young + old generation size at end of GC event in kilobytes.
+     */
+    private long combinedEnd = Memory.NO_DATA;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -129,19 +150,19 @@ public class UnifiedOldEvent extends UnknownCollector implements UnifiedLogging,
     private String logEntry;
 
     /**
-     * Permanent generation size at beginning of GC event.
+     * Permanent generation size at beginning of GC event in kilobytes.
      */
-    private Memory permGen;
+    private long permGen = Memory.NO_DATA;
 
     /**
-     * Space allocated to permanent generation.
+     * Space allocated to permanent generation in kilobytes.
      */
-    private Memory permGenAllocation;
+    private long permGenAllocation = Memory.NO_DATA;
 
     /**
-     * Permanent generation size at end of GC event.
+     * Permanent generation size at end of GC event in kilobytes.
      */
-    private Memory permGenEnd;
+    private long permGenEnd = Memory.NO_DATA;
     /**
      * The wall (clock) time in centiseconds.
      */
@@ -174,47 +195,40 @@ public class UnifiedOldEvent extends UnknownCollector implements UnifiedLogging,
      *            The log entry for the event.
      */
     public UnifiedOldEvent(String logEntry) {
+        this(logEntry, UnifiedDecorator.parse(logEntry), null);
+    }
+
+    /**
+     * Create event from log entry, its decorator, and the <code>Matcher</code> that identified it, so the log entry is
+     * not parsed or matched again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param decorator
+     *            The decorator of the log entry.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(UnifiedDecorator)}, or null to match
+     *            the log entry body.
+     */
+    public UnifiedOldEvent(String logEntry, UnifiedDecorator decorator, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            long endTimestamp;
-            if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                endTimestamp = Long.parseLong(matcher.group(12));
-            } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                endTimestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-            } else {
-                if (matcher.group(14) != null) {
-                    if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                        endTimestamp = Long.parseLong(matcher.group(16));
-                    } else {
-                        endTimestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                    }
-                } else {
-                    // Datestamp only.
-                    endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                }
+        if (matcher != null || (matcher = matcher(decorator)) != null) {
+            long endTimestamp = decorator.getTimestamp();
+            trigger = GcTrigger.getTrigger(matcher.group(1));
+            if (matcher.group(3) != null) {
+                permGen = toKilobytes(matcher.group(4), matcher.group(6).charAt(0));
+                permGenEnd = toKilobytes(matcher.group(7), matcher.group(9).charAt(0));
+                permGenAllocation = toKilobytes(matcher.group(10), matcher.group(12).charAt(0));
             }
-            trigger = GcTrigger.getTrigger(matcher.group(DECORATOR_SIZE + 1));
-            if (matcher.group(DECORATOR_SIZE + 3) != null) {
-                permGen = memory(matcher.group(DECORATOR_SIZE + 4), matcher.group(DECORATOR_SIZE + 6).charAt(0))
-                        .convertTo(KILOBYTES);
-                permGenEnd = memory(matcher.group(DECORATOR_SIZE + 7), matcher.group(DECORATOR_SIZE + 9).charAt(0))
-                        .convertTo(KILOBYTES);
-                permGenAllocation = memory(matcher.group(DECORATOR_SIZE + 10),
-                        matcher.group(DECORATOR_SIZE + 12).charAt(0)).convertTo(KILOBYTES);
-            }
-            combinedBegin = memory(matcher.group(DECORATOR_SIZE + 13), matcher.group(DECORATOR_SIZE + 15).charAt(0))
-                    .convertTo(KILOBYTES);
-            combinedEnd = memory(matcher.group(DECORATOR_SIZE + 16), matcher.group(DECORATOR_SIZE + 18).charAt(0))
-                    .convertTo(KILOBYTES);
-            combinedAllocation = memory(matcher.group(DECORATOR_SIZE + 19),
-                    matcher.group(DECORATOR_SIZE + 21).charAt(0)).convertTo(KILOBYTES);
-            duration = JdkMath.convertMillisToMicros(matcher.group(DECORATOR_SIZE + 22)).intValue();
-            timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
-            if (matcher.group(DECORATOR_SIZE + 23) != null) {
-                timeUser = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 24)).intValue();
-                timeSys = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 25)).intValue();
-                timeReal = JdkMath.convertSecsToCentis(matcher.group(DECORATOR_SIZE + 26)).intValue();
+            combinedBegin = toKilobytes(matcher.group(13), matcher.group(15).charAt(0));
+            combinedEnd = toKilobytes(matcher.group(16), matcher.group(18).charAt(0));
+            combinedAllocation = toKilobytes(matcher.group(19), matcher.group(21).charAt(0));
+            duration = (int) JdkMath.parseMillisToMicros(matcher.group(22));
+            timestamp = endTimestamp - JdkMath.microsToMillis(duration);
+            if (matcher.group(23) != null) {
+                timeUser = (int) JdkMath.parseSecsToCentis(matcher.group(24));
+                timeSys = (int) JdkMath.parseSecsToCentis(matcher.group(25));
+                timeReal = (int) JdkMath.parseSecsToCentis(matcher.group(26));
             }
         }
     }
@@ -235,16 +249,35 @@ public class UnifiedOldEvent extends UnknownCollector implements UnifiedLogging,
         this.duration = duration;
     }
 
+    /**
+     * Alternate constructor. Create logging event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param duration
+     *            The elapsed clock time for the GC event in microseconds.
+     * @param trigger
+     *            The trigger for the GC event.
+     */
+    public UnifiedOldEvent(String logEntry, long timestamp, int duration, GcTrigger trigger) {
+        this.logEntry = logEntry;
+        this.timestamp = timestamp;
+        this.duration = duration;
+        this.trigger = trigger;
+    }
+
     public Memory getCombinedOccupancyEnd() {
-        return combinedEnd;
+        return Memory.kilobytesOrNull(combinedEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedBegin;
+        return Memory.kilobytesOrNull(combinedBegin);
     }
 
     public Memory getCombinedSpace() {
-        return combinedAllocation;
+        return Memory.kilobytesOrNull(combinedAllocation);
     }
 
     public long getDuration() {
@@ -255,6 +288,10 @@ public class UnifiedOldEvent extends UnknownCollector implements UnifiedLogging,
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.UNIFIED_OLD;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.UNIFIED_OLD.toString();
     }
@@ -264,15 +301,15 @@ public class UnifiedOldEvent extends UnknownCollector implements UnifiedLogging,
     }
 
     public Memory getPermOccupancyEnd() {
-        return permGenEnd;
+        return Memory.kilobytesOrNull(permGenEnd);
     }
 
     public Memory getPermOccupancyInit() {
-        return permGen;
+        return Memory.kilobytesOrNull(permGen);
     }
 
     public Memory getPermSpace() {
-        return permGenAllocation;
+        return Memory.kilobytesOrNull(permGenAllocation);
     }
 
     public int getTimeReal() {
@@ -296,14 +333,14 @@ public class UnifiedOldEvent extends UnknownCollector implements UnifiedLogging,
     }
 
     protected void setPermOccupancyEnd(Memory permGenEnd) {
-        this.permGenEnd = permGenEnd;
+        this.permGenEnd = toKilobytes(permGenEnd);
     }
 
     protected void setPermOccupancyInit(Memory permGen) {
-        this.permGen = permGen;
+        this.permGen = toKilobytes(permGen);
     }
 
     protected void setPermSpace(Memory permGenAllocation) {
-        this.permGenAllocation = permGenAllocation;
+        this.permGenAllocation = toKilobytes(permGenAllocation);
     }
 }
@@ -20,9 +20,10 @@ import java.util.regex.Pattern;
 import org.eclipselabs.garbagecat.domain.SafepointEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint;
 
 /**
  * <p>
@@ -91,17 +92,15 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
     /**
      * Regular expressions defining the JDK8/11 logging.
      */
-    public static final String REGEX = "^" + UnifiedRegEx.DECORATOR + " Entering safepoint region: "
-            + UnifiedSafepoint.triggerRegEx() + UnifiedRegEx.DECORATOR + " Leaving safepoint region"
-            + UnifiedRegEx.DECORATOR
+    public static final String REGEX = "^ Entering safepoint region: " + UnifiedSafepoint.triggerRegEx()
+            + UnifiedRegEx.DECORATOR + " Leaving safepoint region" + UnifiedRegEx.DECORATOR
             + " Total time for which application threads were stopped: (\\d{1,}[\\.\\,]\\d{7}) seconds, "
             + "Stopping threads took: (\\d{1,}[\\.\\,]\\d{7}) seconds[ ]*$";
 
     /**
      * Regular expressions defining the JDK17 logging.
      */
-    public static final String REGEX_JDK17 = "^" + UnifiedRegEx.DECORATOR + " Safepoint \""
-            + UnifiedSafepoint.triggerRegEx()
+    public static final String REGEX_JDK17 = "^ Safepoint \"" + UnifiedSafepoint.triggerRegEx()
             + "\", Time since last: \\d{1,} ns, Reaching safepoint: (\\d{1,}) ns, At safepoint: (\\d{1,}) ns, "
             + "Total: \\d{1,} ns[ ]*$";
 
@@ -123,7 +122,35 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return REGEX_PATTERN.matcher(logLine).matches() || REGEX_JDK17_PATTERN.matcher(logLine).matches();
+        return matcher(logLine) != null;
+    }
+
+    /**
+     * Match the log line once, so the <code>Matcher</code> can be handed to
+     * {@link #UnifiedSafepointEvent(String, UnifiedDecorator, Matcher)}.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return The successful <code>Matcher</code> if the log line matches the event pattern(s), null otherwise.
+     */
+    public static final Matcher matcher(String logLine) {
+        return matcher(UnifiedDecorator.parse(logLine));
+    }
+
+    /**
+     * Match the log line body after the decorator.
+     * 
+     * @param decorator
+     *            The decorator of the log line to test, or null if the log line is not decorated.
+     * @return The successful <code>Matcher</code> if the log line body matches the event pattern(s), null
+     *         otherwise.
+     */
+    public static final Matcher matcher(UnifiedDecorator decorator) {
+        if (decorator == null) {
+            return null;
+        }
+        Matcher matcher = decorator.matcher(REGEX_PATTERN);
+        return matcher != null ? matcher : decorator.matcher(REGEX_JDK17_PATTERN);
     }
 
     /**
@@ -158,54 +185,37 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
      *            The log entry for the event.
      */
     public UnifiedSafepointEvent(String logEntry) {
+        this(logEntry, UnifiedDecorator.parse(logEntry), null);
+    }
+
+    /**
+     * Create event from log entry, its decorator, and the <code>Matcher</code> that identified it, so the log entry is
+     * not parsed or matched again.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param decorator
+     *            The decorator of the log entry.
+     * @param matcher
+     *            The successful <code>Matcher</code> returned by {@link #matcher(UnifiedDecorator)}, or null to match
+     *            the log entry body.
+     */
+    public UnifiedSafepointEvent(String logEntry, UnifiedDecorator decorator, Matcher matcher) {
         this.logEntry = logEntry;
-        Matcher matcher;
-        if ((matcher = REGEX_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                trigger = UnifiedSafepoint.getTrigger(matcher.group(DECORATOR_SIZE + 1));
-                if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    timestamp = Long.parseLong(matcher.group(12));
-                } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-                } else {
-                    if (matcher.group(14) != null) {
-                        if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            timestamp = Long.parseLong(matcher.group(16));
-                        } else {
-                            timestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                        }
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                    }
-                }
-                timeThreadsStopped = JdkMath.convertSecsToNanos(matcher.group(3 * DECORATOR_SIZE + 2)).longValue();
-                timeToStopThreads = JdkMath.convertSecsToNanos(matcher.group(3 * DECORATOR_SIZE + 3)).longValue();
-            }
-        } else if ((matcher = REGEX_JDK17_PATTERN.matcher(logEntry)).matches()) {
-            matcher.reset();
-            if (matcher.find()) {
-                trigger = UnifiedSafepoint.getTrigger(matcher.group(DECORATOR_SIZE + 1));
-                if (matcher.group(1).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                    timestamp = Long.parseLong(matcher.group(12));
-                } else if (matcher.group(1).matches(UnifiedRegEx.UPTIME)) {
-                    timestamp = JdkMath.convertSecsToMillis(matcher.group(11)).longValue();
-                } else {
-                    if (matcher.group(14) != null) {
-                        if (matcher.group(14).matches(UnifiedRegEx.UPTIMEMILLIS)) {
-                            timestamp = Long.parseLong(matcher.group(16));
-                        } else {
-                            timestamp = JdkMath.convertSecsToMillis(matcher.group(15)).longValue();
-                        }
-                    } else {
-                        // Datestamp only.
-                        timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
-                    }
-                }
-                timeThreadsStopped = Long.parseLong(matcher.group(DECORATOR_SIZE + 3));
-                timeToStopThreads = Long.parseLong(matcher.group(DECORATOR_SIZE + 2));
-            }
+        if (matcher == null) {
+            matcher = matcher(decorator);
+        }
+        Pattern pattern = matcher == null ? null : matcher.pattern();
+        if (pattern == REGEX_PATTERN) {
+            trigger = UnifiedSafepoint.getTrigger(matcher.group(1));
+            timestamp = decorator.getTimestamp();
+            timeThreadsStopped = JdkMath.parseSecsToNanos(matcher.group(2 * DECORATOR_SIZE + 2));
+            timeToStopThreads = JdkMath.parseSecsToNanos(matcher.group(2 * DECORATOR_SIZE + 3));
+        } else if (pattern == REGEX_JDK17_PATTERN) {
+            trigger = UnifiedSafepoint.getTrigger(matcher.group(1));
+            timestamp = decorator.getTimestamp();
+            timeThreadsStopped = Long.parseLong(matcher.group(3));
+            timeToStopThreads = Long.parseLong(matcher.group(2));
         }
     }
 
@@ -228,6 +238,26 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
         this.timeThreadsStopped = timeThreadsStopped;
     }
 
+    /**
+     * Alternate constructor. Create safepoint event from values.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param timestamp
+     *            The time when the safepoint event started in milliseconds after JVM startup.
+     * @param timeToStopThreads
+     *            The elapsed clock time to stop all threads (bring the JVM to safepoint) in nanoseconds (rounded).
+     * @param timeThreadsStopped
+     *            The elapsed clock time the application threads were stopped (at safepoint) in nanoseconds (rounded).
+     * @param trigger
+     *            The trigger for the safepoint event.
+     */
+    public UnifiedSafepointEvent(String logEntry, long timestamp, long timeToStopThreads, long timeThreadsStopped,
+            Trigger trigger) {
+        this(logEntry, timestamp, timeToStopThreads, timeThreadsStopped);
+        this.trigger = trigger;
+    }
+
     /**
      * The elapsed clock time for the safepoint event in nanoseconds (rounded). timeToStopThreads seems to be time in
      * addition to timeThreadsStopped.
@@ -240,6 +270,10 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.UNIFIED_SAFEPOINT;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.UNIFIED_SAFEPOINT.toString();
     }
@@ -92,6 +92,10 @@ public class VmWarningEvent implements UnifiedLogging {
         return logEntry;
     }
 
+    public JdkUtil.LogEventType getLogEventType() {
+        return JdkUtil.LogEventType.VM_WARNING;
+    }
+
     public String getName() {
         return JdkUtil.LogEventType.VM_WARNING.toString();
     }
@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
 import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -877,13 +878,14 @@ public class CmsPreprocessAction implements PreprocessAction {
      * @return True if the line is the start of a new logging event or a complete logging event.
      */
     private boolean newLoggingEvent(String logLine) {
-        return logLine == null || logLine.matches(REGEX_RETAIN_BEGINNING_PARNEW_CONCURRENT)
-                || logLine.matches(REGEX_RETAIN_BEGINNING_PARNEW_FLS_STATISTICS)
-                || logLine.matches(REGEX_RETAIN_BEGINNING_SERIAL_CONCURRENT)
-                || logLine.matches(REGEX_RETAIN_BEGINNING_SERIAL_BAILING)
-                || logLine.matches(REGEX_RETAIN_BEGINNING_SERIAL) || logLine.matches(REGEX_RETAIN_BEGINNING_PARNEW)
-                || logLine.matches(REGEX_RETAIN_BEGINNING_PARNEW_BAILING)
-                || logLine.matches(REGEX_RETAIN_BEGINNING_PRINT_HEAP_AT_GC)
-                || logLine.matches(REGEX_RETAIN_BEGINNING_CMS_CONCURRENT_APPLICATION_CONCURRENT_TIME);
+        return logLine == null || PatternRegistry.matches(REGEX_RETAIN_BEGINNING_PARNEW_CONCURRENT, logLine)
+                || PatternRegistry.matches(REGEX_RETAIN_BEGINNING_PARNEW_FLS_STATISTICS, logLine)
+                || PatternRegistry.matches(REGEX_RETAIN_BEGINNING_SERIAL_CONCURRENT, logLine)
+                || PatternRegistry.matches(REGEX_RETAIN_BEGINNING_SERIAL_BAILING, logLine)
+                || PatternRegistry.matches(REGEX_RETAIN_BEGINNING_SERIAL, logLine)
+                || PatternRegistry.matches(REGEX_RETAIN_BEGINNING_PARNEW, logLine)
+                || PatternRegistry.matches(REGEX_RETAIN_BEGINNING_PARNEW_BAILING, logLine)
+                || PatternRegistry.matches(REGEX_RETAIN_BEGINNING_PRINT_HEAP_AT_GC, logLine)
+                || PatternRegistry.matches(REGEX_RETAIN_BEGINNING_CMS_CONCURRENT_APPLICATION_CONCURRENT_TIME, logLine);
     }
 }
@@ -12,7 +12,6 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.preprocess.jdk;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -21,6 +20,7 @@ import java.util.regex.Pattern;
 import org.eclipselabs.garbagecat.domain.OtherTime;
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.util.CombinedPattern;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
@@ -803,7 +803,10 @@ public class G1PreprocessAction implements PreprocessAction {
             //
     };
 
-    private static final List<Pattern> THROWAWAY_PATTERN_LIST = new ArrayList<>(REGEX_THROWAWAY.length);
+    /**
+     * The throwaway regular expressions combined to match in one pass.
+     */
+    private static final CombinedPattern THROWAWAY_PATTERN = new CombinedPattern(REGEX_THROWAWAY);
 
     /**
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. CMS, G1). This
@@ -814,12 +817,6 @@ public class G1PreprocessAction implements PreprocessAction {
      */
     public static final String TOKEN = "G1_PREPROCESS_ACTION_TOKEN";
 
-    static {
-        for (String regex : REGEX_THROWAWAY) {
-            THROWAWAY_PATTERN_LIST.add(Pattern.compile(regex));
-        }
-    }
-
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -856,12 +853,7 @@ public class G1PreprocessAction implements PreprocessAction {
             return true;
         }
         // TODO: Get rid of this and make them throwaway events?
-        for (Pattern pattern : THROWAWAY_PATTERN_LIST) {
-            if (pattern.matcher(logLine).matches()) {
-                return true;
-            }
-        }
-        return false;
+        return THROWAWAY_PATTERN.match(logLine);
     }
 
     /**
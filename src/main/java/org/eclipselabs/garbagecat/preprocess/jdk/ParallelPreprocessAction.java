@@ -12,7 +12,6 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.preprocess.jdk;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -20,6 +19,7 @@ import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.util.CombinedPattern;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
@@ -176,7 +176,10 @@ public class ParallelPreprocessAction implements PreprocessAction {
             //
     };
 
-    private static final List<Pattern> REGEX_THROWAWAY_LIST = new ArrayList<>(REGEX_THROWAWAY.length);
+    /**
+     * The throwaway regular expressions combined to match in one pass.
+     */
+    private static final CombinedPattern THROWAWAY_PATTERN = new CombinedPattern(REGEX_THROWAWAY);
 
     /**
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. CMS, G1). This
@@ -184,12 +187,6 @@ public class ParallelPreprocessAction implements PreprocessAction {
      */
     public static final String TOKEN = "PARALLEL_PREPROCESS_ACTION_TOKEN";
 
-    static {
-        for (String regex : REGEX_THROWAWAY) {
-            REGEX_THROWAWAY_LIST.add(Pattern.compile(regex));
-        }
-    }
-
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -208,13 +205,7 @@ public class ParallelPreprocessAction implements PreprocessAction {
             match = true;
         } else {
             // TODO: Get rid of this and make them throwaway events?
-            for (int i = 0; i < REGEX_THROWAWAY_LIST.size(); i++) {
-                Pattern pattern = REGEX_THROWAWAY_LIST.get(i);
-                if (pattern.matcher(logLine).matches()) {
-                    match = true;
-                    break;
-                }
-            }
+            match = THROWAWAY_PATTERN.match(logLine);
         }
         return match;
     }
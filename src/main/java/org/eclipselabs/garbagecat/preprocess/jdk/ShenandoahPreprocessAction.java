@@ -12,12 +12,12 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.preprocess.jdk;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.eclipselabs.garbagecat.domain.LogEvent;
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.domain.jdk.ShenandoahConcurrentEvent;
 import org.eclipselabs.garbagecat.domain.jdk.ShenandoahDegeneratedGcEvent;
@@ -27,7 +27,9 @@ import org.eclipselabs.garbagecat.domain.jdk.ShenandoahInitMarkEvent;
 import org.eclipselabs.garbagecat.domain.jdk.ShenandoahInitUpdateEvent;
 import org.eclipselabs.garbagecat.domain.jdk.ShenandoahMetaspaceEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.util.CombinedPattern;
 import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
@@ -355,7 +357,10 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
             //
     };
 
-    private static final List<Pattern> THROWAWAY_PATTERN_LIST = new ArrayList<>(REGEX_THROWAWAY.length);
+    /**
+     * The throwaway regular expressions combined to match in one pass.
+     */
+    private static final CombinedPattern THROWAWAY_PATTERN = new CombinedPattern(REGEX_THROWAWAY);
 
     /**
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. Shenandoah, G1).
@@ -382,27 +387,13 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
      */
     private static final String TOKEN_BEGINNING_SHENANDOAH_CONCURRENT = "TOKEN_BEGINNING_OF_SHENANDOAH_CONCURRENT";
 
-    static {
-        for (String regex : REGEX_THROWAWAY) {
-            THROWAWAY_PATTERN_LIST.add(Pattern.compile(regex));
-        }
-    }
-
     /**
      * Determine if the log line is can be thrown away
      * 
      * @return true if the log line matches a throwaway pattern, false otherwise.
      */
     private static final boolean isThrowaway(String logLine) {
-        boolean throwaway = false;
-        for (int i = 0; i < THROWAWAY_PATTERN_LIST.size(); i++) {
-            Pattern pattern = THROWAWAY_PATTERN_LIST.get(i);
-            if (pattern.matcher(logLine).matches()) {
-                throwaway = true;
-                break;
-            }
-        }
-        return throwaway;
+        return THROWAWAY_PATTERN.match(logLine);
     }
 
     /**
@@ -411,22 +402,37 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
+        return match(logLine, null);
+    }
+
+    /**
+     * @param logLine
+     *            The log line to test.
+     * @param event
+     *            The <code>LogEvent</code> the log line parses to with no prior log line, or null if the log line has
+     *            not been parsed yet.
+     * @return true if the log line matches the event pattern, false otherwise.
+     */
+    public static final boolean match(String logLine, LogEvent event) {
         boolean match = false;
         if (REGEX_RETAIN_BEGINNING_CONCURRENT_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_BEGINNING_EVENT_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_MIDDLE_METASPACE_DATA_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_END_METASPACE_PATTERN.matcher(logLine).matches()
-                || REGEX_RETAIN_DURATION_PATTERN.matcher(logLine).matches()
-                || JdkUtil.parseLogLine(logLine, null) instanceof ShenandoahConcurrentEvent
-                || JdkUtil.parseLogLine(logLine, null) instanceof ShenandoahDegeneratedGcEvent
-                || JdkUtil.parseLogLine(logLine, null) instanceof ShenandoahInitUpdateEvent
-                || JdkUtil.parseLogLine(logLine, null) instanceof ShenandoahInitMarkEvent
-                || JdkUtil.parseLogLine(logLine, null) instanceof ShenandoahFinalMarkEvent
-                || JdkUtil.parseLogLine(logLine, null) instanceof ShenandoahFinalUpdateEvent
-                || JdkUtil.parseLogLine(logLine, null) instanceof ShenandoahMetaspaceEvent) {
-            match = true;
-        } else if (isThrowaway(logLine)) {
+                || REGEX_RETAIN_DURATION_PATTERN.matcher(logLine).matches()) {
             match = true;
+        } else {
+            if (event == null) {
+                event = JdkUtil.parseLogLine(logLine, null);
+            }
+            if (event instanceof ShenandoahConcurrentEvent || event instanceof ShenandoahDegeneratedGcEvent
+                    || event instanceof ShenandoahInitUpdateEvent || event instanceof ShenandoahInitMarkEvent
+                    || event instanceof ShenandoahFinalMarkEvent || event instanceof ShenandoahFinalUpdateEvent
+                    || event instanceof ShenandoahMetaspaceEvent) {
+                match = true;
+            } else if (isThrowaway(logLine)) {
+                match = true;
+            }
         }
         return match;
     }
@@ -452,6 +458,28 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
      */
     public ShenandoahPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
             List<String> entangledLogLines, Set<String> context) {
+        this(priorLogEntry, logEntry, nextLogEntry, entangledLogLines, context, null);
+    }
+
+    /**
+     * Create event from log entry.
+     *
+     * @param priorLogEntry
+     *            The prior log line.
+     * @param logEntry
+     *            The log line.
+     * @param nextLogEntry
+     *            The next log line.
+     * @param entangledLogLines
+     *            Log lines to be output out of order.
+     * @param context
+     *            Information to make preprocessing decisions.
+     * @param event
+     *            The <code>LogEvent</code> the log line parses to with no prior log line, or null if the log line has
+     *            not been parsed yet.
+     */
+    public ShenandoahPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, Set<String> context, LogEvent event) {
 
         Matcher matcher;
 
@@ -474,7 +502,10 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_METASPACE_DATA_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
-            if (matcher.matches() && !(JdkUtil.parseLogLine(logEntry, null) instanceof ShenandoahMetaspaceEvent)) {
+            if (event == null) {
+                event = JdkUtil.parseLogLine(logEntry, null);
+            }
+            if (matcher.matches() && !(event instanceof ShenandoahMetaspaceEvent)) {
                 this.logEntry = matcher.group(DECORATOR_SIZE + 1);
                 context.remove(PreprocessAction.TOKEN_BEGINNING_OF_EVENT);
             } else {
@@ -508,26 +539,28 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
             context.remove(PreprocessAction.TOKEN_BEGINNING_OF_EVENT);
             context.remove(TOKEN_BEGINNING_OF_EVENT);
             context.remove(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT);
-        } else if (JdkUtil.parseLogLine(logEntry, null) instanceof ShenandoahInitUpdateEvent
-                || JdkUtil.parseLogLine(logEntry, null) instanceof ShenandoahInitMarkEvent
-                || JdkUtil.parseLogLine(logEntry, null) instanceof ShenandoahFinalMarkEvent
-                || JdkUtil.parseLogLine(logEntry, null) instanceof ShenandoahDegeneratedGcEvent
-                || JdkUtil.parseLogLine(logEntry, null) instanceof ShenandoahFinalUpdateEvent) {
-            this.logEntry = logEntry;
-            context.add(TOKEN_BEGINNING_OF_EVENT);
-            context.remove(TOKEN_BEGINNING_SHENANDOAH);
-            context.remove(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT);
-        } else if (JdkUtil.parseLogLine(logEntry, null) instanceof ShenandoahConcurrentEvent
-                && !isThrowaway(logEntry)) {
-            // Stand alone event
-            if (!(context.contains(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT)
-                    || context.contains(TOKEN_BEGINNING_SHENANDOAH))) {
+        } else {
+            if (event == null) {
+                event = JdkUtil.parseLogLine(logEntry, null);
+            }
+            if (event instanceof ShenandoahInitUpdateEvent || event instanceof ShenandoahInitMarkEvent
+                    || event instanceof ShenandoahFinalMarkEvent || event instanceof ShenandoahDegeneratedGcEvent
+                    || event instanceof ShenandoahFinalUpdateEvent) {
                 this.logEntry = logEntry;
-                context.add(PreprocessAction.TOKEN_BEGINNING_OF_EVENT);
-            } else {
-                // output intermingled lines at end
-                entangledLogLines.add(logEntry);
-                context.remove(PreprocessAction.TOKEN_BEGINNING_OF_EVENT);
+                context.add(TOKEN_BEGINNING_OF_EVENT);
+                context.remove(TOKEN_BEGINNING_SHENANDOAH);
+                context.remove(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT);
+            } else if (event instanceof ShenandoahConcurrentEvent && !isThrowaway(logEntry)) {
+                // Stand alone event
+                if (!(context.contains(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT)
+                        || context.contains(TOKEN_BEGINNING_SHENANDOAH))) {
+                    this.logEntry = logEntry;
+                    context.add(PreprocessAction.TOKEN_BEGINNING_OF_EVENT);
+                } else {
+                    // output intermingled lines at end
+                    entangledLogLines.add(logEntry);
+                    context.remove(PreprocessAction.TOKEN_BEGINNING_OF_EVENT);
+                }
             }
         }
     }
@@ -545,7 +578,7 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
             // Output any entangled log lines
             for (String logLine : entangledLogLines) {
                 // Add to prior line if current line is not an ending pattern
-                if ((this.logEntry != null && this.logEntry.matches(TimesData.REGEX_JDK9))
+                if ((this.logEntry != null && PatternRegistry.matches(TimesData.REGEX_JDK9, this.logEntry))
                         || (logLine != null && !logLine.endsWith(Constants.LINE_SEPARATOR))) {
                     this.logEntry = this.logEntry + Constants.LINE_SEPARATOR + logLine;
                 } else {
@@ -0,0 +1,239 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.preprocess.jdk.unified;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
+
+/**
+ * <p>
+ * Assembles unified logging events by garbage collection id before preprocessing, so the lines of a pause are
+ * contiguous even when the JVM interleaves them with the lines of concurrent collections (e.g. JDK17 G1
+ * <code>gc,phases</code> logging).
+ * </p>
+ * 
+ * <p>
+ * The lines of a pause, from the pause start line to the pause end line (the <code>User=</code> times data line, or
+ * the pause line with the duration if there is no times data), are held back in a map keyed by the garbage collection
+ * id and output together when the pause ends. Lines with no garbage collection id inside a pause are part of the
+ * innermost pause. Any other line is output immediately, so lines interleaved with a pause are output before it. Each
+ * line is handled once, with no rescanning.
+ * </p>
+ * 
+ * <p>
+ * A full collection that starts inside another pause (e.g. a full collection triggered by a young collection) is
+ * nested: its lines are added to the outer pause when it ends. Any other pause start, or a line of the outer pause
+ * while a nested pause is open, means the open pause did not end with a recognized end line (e.g. a different end
+ * format, or truncated or rotated logging), and the open pause is output as is. This bounds the lines held back to
+ * the lines between two pause starts.
+ * </p>
+ * 
+ * <h2>Example Logging</h2>
+ * 
+ * <pre>
+ * [1.013s][info][gc,start    ] GC(7) Pause Young (Normal) (G1 Evacuation Pause)
+ * [1.013s][info][gc,marking  ] GC(6) Concurrent Mark From Roots 3.041ms
+ * [1.013s][info][gc,heap     ] GC(7) Eden regions: 25-&gt;0(25)
+ * [1.014s][info][gc          ] GC(7) Pause Young (Normal) (G1 Evacuation Pause) 36M-&gt;12M(64M) 1.166ms
+ * [1.014s][info][gc,cpu      ] GC(7) User=0.00s Sys=0.00s Real=0.00s
+ * </pre>
+ * 
+ * <p>
+ * Assembled:
+ * </p>
+ * 
+ * <pre>
+ * [1.013s][info][gc,marking  ] GC(6) Concurrent Mark From Roots 3.041ms
+ * [1.013s][info][gc,start    ] GC(7) Pause Young (Normal) (G1 Evacuation Pause)
+ * [1.013s][info][gc,heap     ] GC(7) Eden regions: 25-&gt;0(25)
+ * [1.014s][info][gc          ] GC(7) Pause Young (Normal) (G1 Evacuation Pause) 36M-&gt;12M(64M) 1.166ms
+ * [1.014s][info][gc,cpu      ] GC(7) User=0.00s Sys=0.00s Real=0.00s
+ * </pre>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class UnifiedEventAssembler implements Iterator<String> {
+
+    /**
+     * The garbage collection id in the decorator.
+     */
+    private static final String GC_ID = "] GC(";
+
+    /**
+     * Pause line with the duration. For example:
+     * 
+     * Pause Young (Normal) (G1 Evacuation Pause) 36M-&gt;12M(64M) 1.166ms
+     */
+    private static final Pattern PAUSE_END_PATTERN = Pattern.compile("^Pause .+ " + JdkRegEx.DURATION_MS + "$");
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @return The garbage collection id, or -1 if the log line does not have one.
+     */
+    private static long getGcId(String logLine) {
+        int begin = logLine.startsWith("[") ? logLine.indexOf(GC_ID) : -1;
+        if (begin == -1) {
+            return -1;
+        }
+        long gcId = 0;
+        for (int i = begin + GC_ID.length(); i < logLine.length(); i++) {
+            char c = logLine.charAt(i);
+            if (c == ')' && i > begin + GC_ID.length()) {
+                return gcId;
+            } else if (c < '0' || c > '9') {
+                return -1;
+            }
+            gcId = gcId * 10 + (c - '0');
+        }
+        return -1;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @return The logging after the garbage collection id.
+     */
+    private static String getMessage(String logLine) {
+        int end = logLine.indexOf(')', logLine.indexOf(GC_ID));
+        return end + 2 <= logLine.length() ? logLine.substring(end + 2) : "";
+    }
+
+    /**
+     * Assembled log lines not yet returned.
+     */
+    private Deque<String> assembledLogLines = new ArrayDeque<String>();
+
+    /**
+     * Whether or not the pause line with the duration has been assembled, so the pause ends with the next line unless
+     * it is the times data.
+     */
+    private boolean ending;
+
+    /**
+     * The lines of the open pauses, keyed by garbage collection id, outer pause first. There are at most two: a pause
+     * and a full collection nested inside it.
+     */
+    private Map<Long, List<String>> events = new LinkedHashMap<Long, List<String>>();
+
+    /**
+     * The raw log lines.
+     */
+    private Iterator<String> logLines;
+
+    /**
+     * The garbage collection id of the innermost open pause, or -1 if there is none.
+     */
+    private long pauseGcId = -1;
+
+    /**
+     * @param logLines
+     *            The raw log lines.
+     */
+    public UnifiedEventAssembler(Iterator<String> logLines) {
+        this.logLines = logLines;
+    }
+
+    /**
+     * Assemble a log line.
+     * 
+     * @param logLine
+     *            The log line.
+     */
+    private void assemble(String logLine) {
+        long gcId = getGcId(logLine);
+        String message = gcId == -1 ? null : getMessage(logLine);
+        if (ending) {
+            if (gcId == pauseGcId && message.startsWith("User=")) {
+                events.get(pauseGcId).add(logLine);
+                end();
+                return;
+            }
+            end();
+        }
+        if (gcId != -1 && events.containsKey(gcId)) {
+            while (gcId != pauseGcId) {
+                // Nested pause not ended
+                end();
+            }
+            events.get(gcId).add(logLine);
+            if (message.startsWith("User=")) {
+                end();
+            } else if (PAUSE_END_PATTERN.matcher(message).matches()) {
+                ending = true;
+            }
+        } else if (gcId != -1 && message.startsWith("Pause ") && !PAUSE_END_PATTERN.matcher(message).matches()) {
+            // Pause start
+            if (!(events.size() == 1 && message.startsWith("Pause Full"))) {
+                // Open pauses not ended
+                while (pauseGcId != -1) {
+                    end();
+                }
+            }
+            List<String> pause = new ArrayList<String>();
+            pause.add(logLine);
+            events.put(gcId, pause);
+            pauseGcId = gcId;
+        } else if (gcId == -1 && pauseGcId != -1) {
+            events.get(pauseGcId).add(logLine);
+        } else {
+            assembledLogLines.addLast(logLine);
+        }
+    }
+
+    /**
+     * End the innermost open pause. A nested pause is added to the outer pause, otherwise the lines of the pause are
+     * output.
+     */
+    private void end() {
+        List<String> pause = events.remove(pauseGcId);
+        if (events.isEmpty()) {
+            assembledLogLines.addAll(pause);
+            pauseGcId = -1;
+        } else {
+            pauseGcId = events.keySet().iterator().next();
+            events.get(pauseGcId).addAll(pause);
+        }
+        ending = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (assembledLogLines.isEmpty() && logLines.hasNext()) {
+            assemble(logLines.next());
+        }
+        while (assembledLogLines.isEmpty() && pauseGcId != -1) {
+            // Truncated pause
+            end();
+        }
+        return !assembledLogLines.isEmpty();
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return assembledLogLines.removeFirst();
+    }
+}
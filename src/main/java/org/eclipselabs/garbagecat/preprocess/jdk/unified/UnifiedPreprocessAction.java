@@ -14,18 +14,20 @@ package org.eclipselabs.garbagecat.preprocess.jdk.unified;
 
 import static org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil.DECORATOR_SIZE;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.eclipselabs.garbagecat.domain.LogEvent;
 import org.eclipselabs.garbagecat.domain.OtherTime;
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedBlankLineEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedConcurrentEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.util.CombinedPattern;
 import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -954,7 +956,10 @@ public class UnifiedPreprocessAction implements PreprocessAction {
             //
     };
 
-    private static final List<Pattern> THROWAWAY_PATTERN_LIST = new ArrayList<>(REGEX_THROWAWAY.length);
+    /**
+     * The throwaway regular expressions combined to match in one pass.
+     */
+    private static final CombinedPattern THROWAWAY_PATTERN = new CombinedPattern(REGEX_THROWAWAY);
 
     /**
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. CMS, G1). This
@@ -980,27 +985,13 @@ public class UnifiedPreprocessAction implements PreprocessAction {
      */
     private static final String TOKEN_BEGINNING_OF_UNIFIED_SAFEPOINT = "TOKEN_BEGINNING_OF_UNIFIED_SAFEPOINT";
 
-    static {
-        for (String regex : REGEX_THROWAWAY) {
-            THROWAWAY_PATTERN_LIST.add(Pattern.compile(regex));
-        }
-    }
-
     /**
      * Determine if the log line is can be thrown away
      * 
      * @return true if the log line matches a throwaway pattern, false otherwise.
      */
     private static final boolean isThrowaway(String logLine) {
-        boolean throwaway = false;
-        for (int i = 0; i < THROWAWAY_PATTERN_LIST.size(); i++) {
-            Pattern pattern = THROWAWAY_PATTERN_LIST.get(i);
-            if (pattern.matcher(logLine).matches()) {
-                throwaway = true;
-                break;
-            }
-        }
-        return throwaway;
+        return THROWAWAY_PATTERN.match(logLine);
     }
 
     /**
@@ -1009,6 +1000,18 @@ public class UnifiedPreprocessAction implements PreprocessAction {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
+        return match(logLine, null);
+    }
+
+    /**
+     * @param logLine
+     *            The log line to test.
+     * @param event
+     *            The <code>LogEvent</code> the log line parses to with no prior log line, or null if the log line has
+     *            not been parsed yet.
+     * @return true if the log line matches the event pattern, false otherwise.
+     */
+    public static final boolean match(String logLine, LogEvent event) {
         boolean match = false;
         if (REGEX_RETAIN_BEGINNING_UNIFIED_CMS_INITIAL_MARK_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_BEGINNING_UNIFIED_REMARK_PATTERN.matcher(logLine).matches()
@@ -1030,7 +1033,7 @@ public class UnifiedPreprocessAction implements PreprocessAction {
                 || REGEX_RETAIN_MIDDLE_SAFEPOINT_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_END_SAFEPOINT_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_END_TIMES_DATA_PATTERN.matcher(logLine).matches()
-                || JdkUtil.parseLogLine(logLine, null) instanceof UnifiedConcurrentEvent) {
+                || (event != null ? event : JdkUtil.parseLogLine(logLine, null)) instanceof UnifiedConcurrentEvent) {
             match = true;
         } else if (isThrowaway(logLine)) {
             match = true;
@@ -1059,6 +1062,28 @@ public class UnifiedPreprocessAction implements PreprocessAction {
      */
     public UnifiedPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
             List<String> entangledLogLines, Set<String> context) {
+        this(priorLogEntry, logEntry, nextLogEntry, entangledLogLines, context, null);
+    }
+
+    /**
+     * Create event from log entry.
+     *
+     * @param priorLogEntry
+     *            The prior log line.
+     * @param logEntry
+     *            The log line.
+     * @param nextLogEntry
+     *            The next log line.
+     * @param entangledLogLines
+     *            Log lines to be output out of order.
+     * @param context
+     *            Information to make preprocessing decisions.
+     * @param event
+     *            The <code>LogEvent</code> the log line parses to with no prior log line, or null if the log line has
+     *            not been parsed yet.
+     */
+    public UnifiedPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, Set<String> context, LogEvent event) {
 
         Matcher matcher;
 
@@ -1079,7 +1104,7 @@ public class UnifiedPreprocessAction implements PreprocessAction {
         } else if ((matcher = REGEX_RETAIN_BEGINNING_PAUSE_YOUNG_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             // Only report young collections that do not trigger an old collection
-            if (nextLogEntry == null || !nextLogEntry.matches(REGEX_RETAIN_BEGINNING_OLD)) {
+            if (nextLogEntry == null || !PatternRegistry.matches(REGEX_RETAIN_BEGINNING_OLD, nextLogEntry)) {
                 Matcher pauseMatcher = REGEX_RETAIN_BEGINNING_PAUSE_YOUNG_PATTERN.matcher(logEntry);
                 if (pauseMatcher.matches()) {
                     this.logEntry = pauseMatcher.group(1);
@@ -1221,7 +1246,7 @@ public class UnifiedPreprocessAction implements PreprocessAction {
             if (matcher.matches()) {
                 boolean haveBeginningSafepointLogging = false;
                 for (String logLine : entangledLogLines) {
-                    if (logLine.matches(REGEX_RETAIN_BEGINNING_SAFEPOINT)) {
+                    if (PatternRegistry.matches(REGEX_RETAIN_BEGINNING_SAFEPOINT, logLine)) {
                         haveBeginningSafepointLogging = true;
                     }
                 }
@@ -1238,9 +1263,9 @@ public class UnifiedPreprocessAction implements PreprocessAction {
                 String beginningSafepointLogging = null;
                 String middleSafepointLogging = null;
                 for (String logLine : entangledLogLines) {
-                    if (logLine.matches(REGEX_RETAIN_BEGINNING_SAFEPOINT)) {
+                    if (PatternRegistry.matches(REGEX_RETAIN_BEGINNING_SAFEPOINT, logLine)) {
                         beginningSafepointLogging = logLine;
-                    } else if (logLine.matches(REGEX_RETAIN_MIDDLE_SAFEPOINT)) {
+                    } else if (PatternRegistry.matches(REGEX_RETAIN_MIDDLE_SAFEPOINT, logLine)) {
                         middleSafepointLogging = logLine;
                     }
                 }
@@ -1265,7 +1290,8 @@ public class UnifiedPreprocessAction implements PreprocessAction {
             }
             context.remove(PreprocessAction.TOKEN_BEGINNING_OF_EVENT);
             context.remove(TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC);
-        } else if (JdkUtil.parseLogLine(logEntry, null) instanceof UnifiedConcurrentEvent && !isThrowaway(logEntry)) {
+        } else if ((event != null ? event : JdkUtil.parseLogLine(logEntry, null)) instanceof UnifiedConcurrentEvent
+                && !isThrowaway(logEntry)) {
             // Stand alone eventlogEntry
             if (!context.contains(TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC)) {
                 this.logEntry = logEntry;
@@ -1290,7 +1316,8 @@ public class UnifiedPreprocessAction implements PreprocessAction {
             // Output any entangled log lines
             for (String logLine : entangledLogLines) {
                 // Add to prior line if current line is not an ending pattern
-                if (this.logEntry.matches(TimesData.REGEX_JDK9) || !logLine.endsWith(Constants.LINE_SEPARATOR)) {
+                if (PatternRegistry.matches(TimesData.REGEX_JDK9, this.logEntry)
+                        || !logLine.endsWith(Constants.LINE_SEPARATOR)) {
                     this.logEntry = this.logEntry + Constants.LINE_SEPARATOR + logLine;
                 } else {
                     this.logEntry = this.logEntry + logLine;
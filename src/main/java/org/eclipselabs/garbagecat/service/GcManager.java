@@ -16,16 +16,46 @@ import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.BYTES;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
 
-import java.math.BigDecimal;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.MissingResourceException;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
 import java.util.regex.Matcher;
+import java.util.stream.Stream;
 
 import org.eclipselabs.garbagecat.Main;
+import org.eclipselabs.garbagecat.OptionsParser;
 import org.eclipselabs.garbagecat.dao.JvmDao;
 import org.eclipselabs.garbagecat.domain.BlockingEvent;
 import org.eclipselabs.garbagecat.domain.CombinedData;
@@ -34,7 +64,6 @@ import org.eclipselabs.garbagecat.domain.LogEvent;
 import org.eclipselabs.garbagecat.domain.OtherTime;
 import org.eclipselabs.garbagecat.domain.ParallelEvent;
 import org.eclipselabs.garbagecat.domain.PermMetaspaceData;
-import org.eclipselabs.garbagecat.domain.SafepointEvent;
 import org.eclipselabs.garbagecat.domain.SerialCollection;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.domain.TimeWarpException;
@@ -50,7 +79,6 @@ import org.eclipselabs.garbagecat.domain.jdk.G1Collector;
 import org.eclipselabs.garbagecat.domain.jdk.G1ExtRootScanningData;
 import org.eclipselabs.garbagecat.domain.jdk.G1FullGcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.G1YoungInitialMarkEvent;
-import org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseEvent;
 import org.eclipselabs.garbagecat.domain.jdk.GcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.GcLockerScavengeFailedEvent;
 import org.eclipselabs.garbagecat.domain.jdk.GcOverheadLimitEvent;
@@ -63,26 +91,36 @@ import org.eclipselabs.garbagecat.domain.jdk.ShenandoahFullGcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedHeaderEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedHeaderVersionEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UsingCmsEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UsingG1Event;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UsingParallelEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UsingSerialEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UsingShenandoahEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UsingZEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.VmWarningEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessAction.PreprocessEvent;
 import org.eclipselabs.garbagecat.preprocess.jdk.ApplicationStoppedTimePreprocessAction;
 import org.eclipselabs.garbagecat.preprocess.jdk.CmsPreprocessAction;
 import org.eclipselabs.garbagecat.preprocess.jdk.G1PreprocessAction;
 import org.eclipselabs.garbagecat.preprocess.jdk.ParallelPreprocessAction;
 import org.eclipselabs.garbagecat.preprocess.jdk.SerialPreprocessAction;
 import org.eclipselabs.garbagecat.preprocess.jdk.ShenandoahPreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.jdk.unified.UnifiedEventAssembler;
 import org.eclipselabs.garbagecat.preprocess.jdk.unified.UnifiedPreprocessAction;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.GcUtil;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
 import org.eclipselabs.garbagecat.util.jdk.Analysis;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.eclipselabs.garbagecat.util.jdk.LogLineClassification;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
 import org.github.joa.JvmOptions;
-import org.github.joa.domain.Bit;
 import org.github.joa.domain.GarbageCollector;
 
 /**
@@ -90,16 +128,92 @@ import org.github.joa.domain.GarbageCollector;
  * Provides garbage collection analysis services to other layers.
  * </p>
  * 
+ * <p>
+ * Thread safety: a <code>GcManager</code> analyzes one log and is not thread safe. Separate instances share no mutable
+ * state, so multiple logs can be analyzed concurrently with one <code>GcManager</code> per log (and thread).
+ * </p>
+ * 
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * @author jborelo
  * 
  */
 public class GcManager {
 
+    /**
+     * The number of recent log line classifications kept for reuse.
+     */
+    private static final int CLASSIFICATIONS_SIZE = 16;
+
+    /**
+     * The number of bytes at the start of the log file preprocessed to decide whether or not the logging needs
+     * preprocessing.
+     */
+    private static final int PREPROCESS_SAMPLE_SIZE = 256 * 1024;
+
+    /**
+     * Snapshot file identifier.
+     */
+    private static final int SNAPSHOT_MAGIC = 0x47435350;
+
+    /**
+     * The number of bytes at the start and at the end of the log file included in the snapshot content hash. The rest
+     * of the log file is not hashed.
+     */
+    private static final int SNAPSHOT_SAMPLE_SIZE = 1024 * 1024;
+
+    /**
+     * Snapshot format version. Must be incremented when the snapshot layout changes.
+     */
+    private static final int SNAPSHOT_VERSION = 2;
+
+    /**
+     * @return The garbagecat version (null if not running from the garbagecat jar) and the last modified time of the
+     *         garbagecat code, which tells apart builds with the same version (e.g. SNAPSHOT). The last modified time
+     *         is that of the jar, or the most recent of the files in the classes directory if not packaged (a
+     *         directory's own last modified time does not change when a file in a nested package is recompiled).
+     */
+    private static String getCodeVersion() {
+        String version;
+        try {
+            version = OptionsParser.getVersion();
+        } catch (MissingResourceException e) {
+            version = null;
+        }
+        long lastModified = 0;
+        CodeSource codeSource = GcManager.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            try {
+                File code = new File(codeSource.getLocation().toURI());
+                if (code.isDirectory()) {
+                    try (Stream<Path> paths = Files.walk(code.toPath())) {
+                        lastModified = paths.filter(Files::isRegularFile).mapToLong(path -> path.toFile().lastModified())
+                                .max().orElse(0);
+                    }
+                } else {
+                    lastModified = code.lastModified();
+                }
+            } catch (URISyntaxException | IllegalArgumentException | IOException | UncheckedIOException e) {
+                lastModified = 0;
+            }
+        }
+        return version + "@" + lastModified;
+    }
+
     private static boolean greater(Memory memory, int value) {
         return memory != null && memory.getValue(KILOBYTES) > value;
     }
 
+    /**
+     * Whether or not to assemble unified logging events by garbage collection id before preprocessing.
+     */
+    private boolean assembleByGcId;
+
+    /**
+     * Recent log line classifications, most recent first. Preprocessing classifies each raw log line, and storing a
+     * log line passed through preprocessing unchanged reuses that classification.
+     */
+    private Deque<LogLineClassification> classifications = new ArrayDeque<LogLineClassification>();
+
     /**
      * The JVM data access object.
      */
@@ -115,11 +229,28 @@ public class GcManager {
      */
     private String lastLogLineUnprocessed;
 
+    /**
+     * Whether or not to lock in the collector family for preprocessing (see <code>PreprocessFamily</code>).
+     */
+    private boolean lockPreprocessFamily = true;
+
+    /**
+     * The preprocessing decision and the reason for it, or null if preprocessing was not decided with
+     * {@link #decidePreprocessing(File, boolean)}.
+     */
+    private String preprocessDecision;
+
     /**
      * Whether or not the JVM events are from a preprocessed file.
      */
     private boolean preprocessed;
 
+    /**
+     * Whether or not preprocessing was skipped based on a sample of the log file (see
+     * {@link #decidePreprocessing(File, boolean)}).
+     */
+    private boolean preprocessSampled;
+
     /**
      * Default constructor.
      */
@@ -139,102 +270,185 @@ public class GcManager {
     }
 
     /**
-     * Allocation rate in KB per second.
+     * Assemble unified logging events by garbage collection id before preprocessing, so the lines of a pause
+     * interleaved with the lines of concurrent collections are contiguous. Must be called before preprocessing.
+     * 
+     * @see UnifiedEventAssembler
+     */
+    public void assembleByGcId() {
+        assembleByGcId = true;
+    }
+
+    /**
+     * Release the stored events and close the temporary files holding them. The <code>JvmRun</code> returned by
+     * {@link #getJvmRun(String, int)} does not depend on them, so it can be called once the <code>JvmRun</code> is
+     * created.
+     */
+    public void cleanup() {
+        jvmDao.cleanup();
+    }
+
+    /**
+     * Decide whether or not the logging needs preprocessing. Preprocessing is needed if preprocessing the start of the
+     * log file changes it (e.g. multi-line or split events), other than removing log lines that are thrown away.
+     * Logging with one line per event (e.g. unified <code>-Xlog:gc</code>, or JDK8 without
+     * <code>-XX:+PrintGCDetails</code>) can skip preprocessing.
+     * 
+     * Only the first 256KB of the log file is sampled. If preprocessing is skipped for a larger log file, check
+     * {@link #isPreprocessingMissed()} after storing the logging, in case the rest of the log file needs preprocessing.
+     * 
+     * @param logFile
+     *            The log file.
+     * @param requested
+     *            Whether or not preprocessing was requested (e.g. with a command line option).
+     * @return True if the logging should be preprocessed, false otherwise.
+     * @throws IOException
+     *             if the log file cannot be read.
      */
-    private BigDecimal getAllocationRate() {
-        List<BlockingEvent> blockingEvents = jvmDao.getBlockingEvents(LogEventType.G1_YOUNG_PAUSE);
-
-        if (blockingEvents.isEmpty())
-            return BigDecimal.ZERO;
-
-        long allocatedKb = 0;
-        G1YoungPauseEvent prior = null;
-        long firstEventTs = 0;
-        for (BlockingEvent event : blockingEvents) {
-            G1YoungPauseEvent young = (G1YoungPauseEvent) event;
-            if (prior == null) {
-                // skip the first event since we don't know if this is a complete JVM run
-                // and therefore can't accurately calculate allocation rate prior to the first log
-                // youngGc pause event
-                prior = young;
-                firstEventTs = prior.getTimestamp();
-                continue;
+    public boolean decidePreprocessing(File logFile, boolean requested) throws IOException {
+        if (requested) {
+            preprocessDecision = "yes (requested)";
+            return true;
+        }
+        byte[] sample;
+        boolean truncated;
+        try (RandomAccessFile file = new RandomAccessFile(logFile, "r")) {
+            truncated = file.length() > PREPROCESS_SAMPLE_SIZE;
+            sample = new byte[(int) Math.min(file.length(), PREPROCESS_SAMPLE_SIZE)];
+            file.readFully(sample);
+        }
+        List<String> logLines = new ArrayList<String>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(sample), StandardCharsets.UTF_8))) {
+            String logLine;
+            while ((logLine = reader.readLine()) != null) {
+                logLines.add(logLine);
+            }
+        }
+        if (truncated && !logLines.isEmpty()) {
+            // The last log line can be partial
+            logLines.remove(logLines.size() - 1);
+        }
+        GcManager probe = new GcManager(jvmStartDate);
+        try {
+            Iterator<String> preprocessedLogLines = probe.preprocess(logLines.iterator(), jvmStartDate);
+            int lineNumber = 0;
+            for (String logLine : logLines) {
+                lineNumber++;
+                // The probe classifies each log line when preprocessing it, so share its classification
+                if (probe.classify(logLine, null).getEvent() instanceof ThrowAwayEvent) {
+                    continue;
+                }
+                if (!preprocessedLogLines.hasNext() || !logLine.equals(preprocessedLogLines.next())) {
+                    preprocessDecision = "yes (preprocessing changes log line " + lineNumber + ")";
+                    return true;
+                }
             }
-            // will not have eden information if gc details not being logged
-            if (young.getEdenOccupancyInit() != null && prior.getEdenOccupancyEnd() != null) {
-                allocatedKb += young.getEdenOccupancyInit().minus(prior.getEdenOccupancyEnd()).getValue(KILOBYTES);
+            if (preprocessedLogLines.hasNext()) {
+                preprocessDecision = "yes (preprocessing adds log line(s))";
+                return true;
             }
-            prior = young;
+            preprocessSampled = truncated;
+            preprocessDecision = "no (preprocessing does not change the first " + lineNumber + " log line(s))";
+            return false;
+        } finally {
+            probe.cleanup();
         }
+    }
 
-        BigDecimal durationMs = BigDecimal.valueOf(prior.getTimestamp() - firstEventTs);
-        if (durationMs.longValue() <= 0)
-            return BigDecimal.ZERO;
-
-        Memory allocated = Memory.kilobytes(allocatedKb);
-
-        BigDecimal kilobytesPerSec = BigDecimal.valueOf(allocated.getValue(KILOBYTES) / durationMs.longValue());
+    /**
+     * Attempt the preprocessing of every collector family on every log line, as before the family was locked in. Used
+     * to verify locking in the family does not change the preprocessing.
+     */
+    void disablePreprocessFamilyLock() {
+        lockPreprocessFamily = false;
+    }
 
-        return kilobytesPerSec.multiply(BigDecimal.valueOf(1000));
+    /**
+     * Keep log entries in a temporary file instead of memory, to reduce the memory needed for large logs. Must be
+     * called before storing logging.
+     * 
+     * @throws IOException
+     *             if the temporary file cannot be created.
+     */
+    public void elideLogEntries() throws IOException {
+        jvmDao.elideLogEntries();
     }
 
     /**
-     * Determine <code>BlockingEvent</code>s where throughput since last event does not meet the throughput goal.
+     * Determine events where throughput since last event does not meet the throughput goal. Only the event timestamps
+     * and durations are read to find the bottlenecks. Log entries (which can be in a temporary file) are read only for
+     * the bottleneck events.
      * 
+     * @param count
+     *            The number of events.
+     * @param timestamps
+     *            The event timestamp (milliseconds after JVM startup) by index.
+     * @param durationsNanos
+     *            The event duration (nanoseconds) by index.
+     * @param logEntries
+     *            The event log entry by index.
+     * @param jvmStartDate
+     *            The JVM start date.
      * @param throughputThreshold
      *            The bottleneck reporting throughput threshold.
-     * @return A <code>List</code> of <code>BlockingEvent</code>s where the throughput between events is less than the
-     *         throughput threshold goal.
+     * @return The bottleneck event log entries, with "..." separating bottlenecks that are not consecutive events.
      */
-    private List<String> getGcBottlenecks(int throughputThreshold) {
+    private List<String> getBottlenecks(int count, IntToLongFunction timestamps, IntToLongFunction durationsNanos,
+            IntFunction<String> logEntries, Date jvmStartDate, int throughputThreshold) {
         List<String> bottlenecks = new ArrayList<String>();
-        List<BlockingEvent> blockingEvents = jvmDao.getBlockingEvents();
-        BlockingEvent priorEvent = null;
-        for (BlockingEvent event : blockingEvents) {
-            if (priorEvent != null && JdkUtil.isBottleneck(event, priorEvent, throughputThreshold)) {
-                if (bottlenecks.isEmpty()) {
-                    // Add current and prior event
-                    if (jvmStartDate != null) {
-                        // Convert uptime to datetime
-                        bottlenecks.add(
-                                JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate));
-                        bottlenecks
-                                .add(JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                    } else {
-                        bottlenecks.add(priorEvent.getLogEntry());
-                        bottlenecks.add(event.getLogEntry());
-                    }
-                } else {
-                    if (jvmStartDate != null) {
-                        // Compare datetime, since bottleneck has datetime
-                        if (!JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate)
-                                .equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(),
-                                    jvmStartDate));
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        } else {
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        }
-                    } else {
-                        // Compare timestamps, since bottleneck has timestamp
-                        if (!priorEvent.getLogEntry().equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(priorEvent.getLogEntry());
-                            bottlenecks.add(event.getLogEntry());
-                        } else {
-                            bottlenecks.add(event.getLogEntry());
-                        }
+        // The index of the last event added to the bottlenecks
+        int lastBottleneck = -1;
+        long priorTimestamp = count > 0 ? timestamps.applyAsLong(0) : 0;
+        long priorDurationNanos = count > 0 ? durationsNanos.applyAsLong(0) : 0;
+        for (int i = 1; i < count; i++) {
+            final int index = i;
+            long timestamp = timestamps.applyAsLong(i);
+            long durationNanos = durationsNanos.applyAsLong(i);
+            if (JdkUtil.isBottleneck(timestamp, durationNanos, priorTimestamp, priorDurationNanos,
+                    throughputThreshold, () -> logEntries.apply(index - 1) + Constants.LINE_SEPARATOR
+                            + logEntries.apply(index))) {
+                if (lastBottleneck != i - 1) {
+                    // Add prior event
+                    if (!bottlenecks.isEmpty()) {
+                        bottlenecks.add("...");
                     }
+                    bottlenecks.add(getBottleneck(logEntries.apply(i - 1), jvmStartDate));
                 }
+                bottlenecks.add(getBottleneck(logEntries.apply(i), jvmStartDate));
+                lastBottleneck = i;
             }
-            priorEvent = event;
+            priorTimestamp = timestamp;
+            priorDurationNanos = durationNanos;
         }
         return bottlenecks;
     }
 
+    /**
+     * @param logEntry
+     *            A bottleneck event log entry.
+     * @param jvmStartDate
+     *            The JVM start date.
+     * @return The log entry, with uptime converted to datetime if the JVM start date is known.
+     */
+    private static String getBottleneck(String logEntry, Date jvmStartDate) {
+        return jvmStartDate == null ? logEntry : JdkUtil.convertLogEntryTimestampsToDateStamp(logEntry, jvmStartDate);
+    }
+
+    /**
+     * Determine <code>BlockingEvent</code>s where throughput since last event does not meet the throughput goal.
+     * 
+     * @param throughputThreshold
+     *            The bottleneck reporting throughput threshold.
+     * @return A <code>List</code> of <code>BlockingEvent</code>s where the throughput between events is less than the
+     *         throughput threshold goal.
+     */
+    private List<String> getGcBottlenecks(int throughputThreshold) {
+        return getBottlenecks(jvmDao.getBlockingEventCount(), jvmDao::getBlockingEventTimestamp,
+                index -> jvmDao.getBlockingEventDuration(index) * 1000, jvmDao::getBlockingEventLogEntry, jvmStartDate,
+                throughputThreshold);
+    }
+
     /**
      * Get JVM run data.
      * 
@@ -256,7 +470,7 @@ public class GcManager {
         }
         jvmRun.setJvmOptions(new JvmOptions(jvmDao.getJvmContext()));
 
-        jvmRun.setAllocationRate(getAllocationRate());
+        jvmRun.setAllocationRate(jvmDao.getAllocationRate());
         jvmRun.setAnalysis(jvmDao.getAnalysis());
         jvmRun.setBlockingEventCount(jvmDao.getBlockingEventCount());
         jvmRun.setEventTypes(jvmDao.getEventTypes());
@@ -310,6 +524,7 @@ public class GcManager {
         jvmRun.setWorstInvertedParallelismEvent(jvmDao.getWorstInvertedParallelismEvent());
         jvmRun.setWorstInvertedSerialismEvent(jvmDao.getWorstInvertedSerialismEvent());
         jvmRun.setWorstSysGtUserEvent(jvmDao.getWorstSysGtUserEvent());
+        jvmRun.setPreprocessDecision(preprocessDecision);
         jvmRun.setPreprocessed(this.preprocessed);
         jvmRun.setPreprocessEvents(jvmDao.getPreprocessEvents());
         jvmRun.setVmInfo(jvmDao.getVmInfo());
@@ -319,7 +534,9 @@ public class GcManager {
             // Approximate JVM start date: log file create date - first event timestamp
             jvmRun.setStartDate(
                     GcUtil.getDateMinusTimestamp(jvmRun.getLogFileDate(), jvmRun.getFirstEvent().getTimestamp()));
-            jvmDao.getAnalysis().add(0, Analysis.WARN_DATESTAMP_APPROXIMATE);
+            if (!jvmDao.getAnalysis().contains(Analysis.WARN_DATESTAMP_APPROXIMATE)) {
+                jvmDao.getAnalysis().add(0, Analysis.WARN_DATESTAMP_APPROXIMATE);
+            }
             jvmRun.setAnalysis(jvmDao.getAnalysis());
         }
 
@@ -363,32 +580,44 @@ public class GcManager {
         String preprocessedLogLine = null;
 
         if (currentLogLine != null) {
-            if (isThrowawayEvent(currentLogLine, priorLogLine)) {
-                LogEvent throwAwayEvent = JdkUtil.parseLogLine(currentLogLine, priorLogLine);
-                JdkUtil.LogEventType throwAwayEventType = JdkUtil.determineEventType(throwAwayEvent.getName());
+            LogLineClassification classification = classify(currentLogLine, priorLogLine);
+            PreprocessFamily family = lockPreprocessFamily ? PreprocessFamily.get(context, classification.getEvent())
+                    : null;
+            // The Shenandoah and unified preprocess actions identify the log line without the prior log line
+            LogEvent event = classification.getEvent();
+            if (priorLogLine != null && !(event instanceof ThrowAwayEvent)
+                    && classification.isPriorLogLineDependent()) {
+                event = JdkUtil.parseLogLine(currentLogLine, null);
+            }
+            if (classification.getEvent() instanceof ThrowAwayEvent) {
+                JdkUtil.LogEventType throwAwayEventType = classification.getEventType();
                 if (!jvmDao.getEventTypes().contains(throwAwayEventType)) {
                     jvmDao.getEventTypes().add(throwAwayEventType);
                 }
                 currentLogLine = null;
-            } else if (!context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
-                    && !context.contains(G1PreprocessAction.TOKEN) && !context.contains(ParallelPreprocessAction.TOKEN)
-                    && ShenandoahPreprocessAction.match(currentLogLine)) {
+            } else if ((family == null || family.shenandoah) && !context.contains(SerialPreprocessAction.TOKEN)
+                    && !context.contains(CmsPreprocessAction.TOKEN) && !context.contains(G1PreprocessAction.TOKEN)
+                    && !context.contains(ParallelPreprocessAction.TOKEN)
+                    && ShenandoahPreprocessAction.match(currentLogLine, event)) {
                 // ShenandoahPreprocessAction leverages UnifiedPreprocessAction
                 ShenandoahPreprocessAction action = new ShenandoahPreprocessAction(priorLogLine, currentLogLine,
-                        nextLogLine, entangledLogLines, context);
+                        nextLogLine, entangledLogLines, context, event);
                 if (action.getLogEntry() != null) {
                     preprocessedLogLine = action.getLogEntry();
                 }
-            } else if (!context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
+            } else if ((family == null || family == PreprocessFamily.UNIFIED
+                    || family == PreprocessFamily.UNIFIED_NOT_SHENANDOAH)
+                    && !context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(G1PreprocessAction.TOKEN) && !context.contains(ParallelPreprocessAction.TOKEN)
-                    && UnifiedPreprocessAction.match(currentLogLine)) {
+                    && UnifiedPreprocessAction.match(currentLogLine, event)) {
                 // UnifiedPreprocessAction is used by ShenandoahPreprocessAction
                 UnifiedPreprocessAction action = new UnifiedPreprocessAction(priorLogLine, currentLogLine, nextLogLine,
-                        entangledLogLines, context);
+                        entangledLogLines, context, event);
                 if (action.getLogEntry() != null) {
                     preprocessedLogLine = action.getLogEntry();
                 }
-            } else if (!context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
+            } else if ((family == null || family == PreprocessFamily.PARALLEL)
+                    && !context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(G1PreprocessAction.TOKEN) && !context.contains(UnifiedPreprocessAction.TOKEN)
                     && ParallelPreprocessAction.match(currentLogLine)) {
                 ParallelPreprocessAction action = new ParallelPreprocessAction(priorLogLine, currentLogLine,
@@ -396,7 +625,8 @@ public class GcManager {
                 if (action.getLogEntry() != null) {
                     preprocessedLogLine = action.getLogEntry();
                 }
-            } else if (!context.contains(SerialPreprocessAction.TOKEN)
+            } else if ((family == null || family == PreprocessFamily.CMS)
+                    && !context.contains(SerialPreprocessAction.TOKEN)
                     && !context.contains(ParallelPreprocessAction.TOKEN) && !context.contains(G1PreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
@@ -406,7 +636,8 @@ public class GcManager {
                 if (action.getLogEntry() != null) {
                     preprocessedLogLine = action.getLogEntry();
                 }
-            } else if (!context.contains(SerialPreprocessAction.TOKEN)
+            } else if ((family == null || family == PreprocessFamily.G1)
+                    && !context.contains(SerialPreprocessAction.TOKEN)
                     && !context.contains(ParallelPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
@@ -416,7 +647,8 @@ public class GcManager {
                 if (action.getLogEntry() != null) {
                     preprocessedLogLine = action.getLogEntry();
                 }
-            } else if (!context.contains(ParallelPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
+            } else if ((family == null || family == PreprocessFamily.SERIAL)
+                    && !context.contains(ParallelPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(G1PreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
@@ -436,23 +668,21 @@ public class GcManager {
             } else {
                 // Output any entangled log lines
                 if (entangledLogLines != null && !entangledLogLines.isEmpty()) {
+                    StringBuilder logEntry = new StringBuilder();
                     for (String logLine : entangledLogLines) {
-                        if (preprocessedLogLine == null) {
-                            preprocessedLogLine = logLine;
-                        } else {
-                            preprocessedLogLine = preprocessedLogLine + Constants.LINE_SEPARATOR + logLine;
-                        }
+                        logEntry.append(logLine).append(Constants.LINE_SEPARATOR);
                     }
                     // Reset entangled log lines
                     entangledLogLines.clear();
-                }
-                if (preprocessedLogLine == null) {
-                    preprocessedLogLine = currentLogLine;
+                    preprocessedLogLine = logEntry.append(currentLogLine).toString();
                 } else {
-                    preprocessedLogLine = preprocessedLogLine + Constants.LINE_SEPARATOR + currentLogLine;
+                    preprocessedLogLine = currentLogLine;
                 }
                 context.add(PreprocessAction.TOKEN_BEGINNING_OF_EVENT);
             }
+            if (family == null && lockPreprocessFamily) {
+                PreprocessFamily.lock(context);
+            }
         }
         return preprocessedLogLine;
     }
@@ -468,52 +698,9 @@ public class GcManager {
      *         throughput threshold goal.
      */
     private List<String> getSafepointBottlenecks(Date jvmStartDate, int throughputThreshold) {
-        List<String> bottlenecks = new ArrayList<String>();
-        List<SafepointEvent> safepointEvents = jvmDao.getSafepointEvents();
-        SafepointEvent priorEvent = null;
-        for (SafepointEvent event : safepointEvents) {
-            if (priorEvent != null && JdkUtil.isBottleneck(event, priorEvent, throughputThreshold)) {
-                if (bottlenecks.isEmpty()) {
-                    // Add current and prior event
-                    if (jvmStartDate != null) {
-                        // Convert timestamps to date/time
-                        bottlenecks.add(
-                                JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate));
-                        bottlenecks
-                                .add(JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                    } else {
-                        bottlenecks.add(priorEvent.getLogEntry());
-                        bottlenecks.add(event.getLogEntry());
-                    }
-                } else {
-                    if (jvmStartDate != null) {
-                        // Compare datetime, since bottleneck has datetime
-                        if (!JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate)
-                                .equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(),
-                                    jvmStartDate));
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        } else {
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        }
-                    } else {
-                        // Compare timestamps, since bottleneck has timestamp
-                        if (!priorEvent.getLogEntry().equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(priorEvent.getLogEntry());
-                            bottlenecks.add(event.getLogEntry());
-                        } else {
-                            bottlenecks.add(event.getLogEntry());
-                        }
-                    }
-                }
-            }
-            priorEvent = event;
-        }
-        return bottlenecks;
+        return getBottlenecks(jvmDao.getSafepointEventCount(), jvmDao::getSafepointEventTimestamp,
+                jvmDao::getSafepointEventDurationNanos, jvmDao::getSafepointEventLogEntry, jvmStartDate,
+                throughputThreshold);
     }
 
     public boolean isPreprocessed() {
@@ -521,16 +708,66 @@ public class GcManager {
     }
 
     /**
-     * Determine whether or not the logging line is essential for GC analysis.
+     * @return True if preprocessing was skipped because the start of the log file did not need it (see
+     *         {@link #decidePreprocessing(File, boolean)}), but the logging stored has log lines that could not be
+     *         identified, so the rest of the log file might need preprocessing. False otherwise.
+     */
+    public boolean isPreprocessingMissed() {
+        return preprocessSampled && !jvmDao.getUnidentifiedLogLines().isEmpty();
+    }
+
+    /**
+     * Record that the logging is preprocessed because storing it without preprocessing left log lines unidentified
+     * (see {@link #isPreprocessingMissed()}).
+     */
+    public void preprocessingMissed() {
+        preprocessDecision = "yes (log line(s) unidentified without preprocessing after the first "
+                + PREPROCESS_SAMPLE_SIZE / 1024 + "KB)";
+    }
+
+    /**
+     * Classify a log line, reusing a recent classification of the same log line when possible.
      * 
      * @param logLine
-     *            The log line to test.
+     *            The log line.
      * @param priorLogLine
      *            The prior log line.
-     * @return True if the logging event can be thrown away, false if it should be kept.
+     * @return The <code>LogLineClassification</code> of the log line.
      */
-    private boolean isThrowawayEvent(String logLine, String priorLogLine) {
-        return JdkUtil.parseLogLine(logLine, priorLogLine) instanceof ThrowAwayEvent;
+    private LogLineClassification classify(String logLine, String priorLogLine) {
+        for (LogLineClassification classification : classifications) {
+            if (classification.isClassificationOf(logLine, priorLogLine)) {
+                return classification;
+            }
+        }
+        LogLineClassification classification = new LogLineClassification(logLine, priorLogLine);
+        if (classifications.size() == CLASSIFICATIONS_SIZE) {
+            classifications.removeLast();
+        }
+        classifications.addFirst(classification);
+        return classification;
+    }
+
+    /**
+     * Classify a log line to be stored. A recent classification from preprocessing is reused once and then discarded,
+     * so the same <code>LogEvent</code> is never stored twice.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogLine
+     *            The prior log line.
+     * @return The <code>LogLineClassification</code> of the log line.
+     */
+    private LogLineClassification classifyForStore(String logLine, String priorLogLine) {
+        Iterator<LogLineClassification> iterator = classifications.iterator();
+        while (iterator.hasNext()) {
+            LogLineClassification classification = iterator.next();
+            if (classification.isClassificationOf(logLine, priorLogLine)) {
+                iterator.remove();
+                return classification;
+            }
+        }
+        return new LogLineClassification(logLine, priorLogLine);
     }
 
     /**
@@ -547,142 +784,137 @@ public class GcManager {
             throw new IllegalArgumentException("logLines == null!!");
 
         List<String> preprocessedLogList = new ArrayList<String>();
+        Iterator<String> iterator = preprocess(logLines.iterator(), jvmStartDate);
+        while (iterator.hasNext()) {
+            preprocessedLogList.add(iterator.next());
+        }
+        return preprocessedLogList;
+    }
 
-        if (!logLines.isEmpty()) {
-
-            // Used for de-tangling intermingled logging events that span multiple lines
-            List<String> entangledLogLines = new ArrayList<String>();
-            // Used to provide context for preprocessing decisions
-            Set<String> context = new HashSet<String>();
-
-            String priorLogEntry = Constants.LINE_SEPARATOR;
-
-            Iterator<String> iterator = logLines.iterator();
+    /**
+     * Preprocess as a stream. Raw log lines are pulled from the source one at a time as preprocessed log lines are
+     * requested, so memory is bounded by the preprocessing lookahead window (prior, current, and next log line, any
+     * entangled log lines, and the last preprocessed log entry, which may still be appended to) instead of the size of
+     * the log.
+     * 
+     * @param logLines
+     *            Raw garbage collection logging.
+     * @param jvmStartDate
+     *            The date and time the JVM was started.
+     * @return Preprocessed garbage collection logging.
+     */
+    public Iterator<String> preprocess(Iterator<String> logLines, Date jvmStartDate) {
+        if (logLines == null)
+            throw new IllegalArgumentException("logLines == null!!");
 
-            String currentLogLine = iterator.next();
-            // String priorLogLine = "";
-            String priorLogLine = null;
-            String preprocessedLogLine = "";
-            String nextLogLine = null;
+        if (assembleByGcId) {
+            logLines = new UnifiedEventAssembler(logLines);
+        }
+        return new PreprocessIterator(logLines, jvmStartDate);
+    }
 
-            if (iterator.hasNext()) {
-                nextLogLine = iterator.next();
+    /**
+     * Restore the data stored from a log file from a snapshot written by
+     * {@link #writeSnapshot(File, File, boolean, boolean)}, instead of parsing the log file again.
+     * 
+     * @param snapshot
+     *            The snapshot file.
+     * @param logFile
+     *            The log file.
+     * @param preprocess
+     *            Whether or not the logging is preprocessed.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     * @return True if the data was restored, false if there is no snapshot or it is for a different log file, options,
+     *         or garbagecat version or build (see {@link #snapshotKey(File, boolean, boolean)}).
+     * @throws IOException
+     *             if the log file or snapshot cannot be read.
+     */
+    public boolean readSnapshot(File snapshot, File logFile, boolean preprocess, boolean reorder) throws IOException {
+        if (!snapshot.isFile()) {
+            return false;
+        }
+        byte[] key = snapshotKey(logFile, preprocess, reorder);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshot)))) {
+            if (snapshot.length() < Integer.BYTES + key.length || in.readInt() != key.length) {
+                return false;
             }
-
-            while (nextLogLine != null) {
-                preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, priorLogLine, nextLogLine, jvmStartDate,
-                        entangledLogLines, context);
-                if (preprocessedLogLine != null) {
-                    String[] preprocessedLogLines = preprocessedLogLine.split(Constants.LINE_SEPARATOR);
-                    if (context.contains(PreprocessAction.TOKEN_BEGINNING_OF_EVENT)
-                            && !priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
-                        for (int i = 0; i < preprocessedLogLines.length; i++) {
-                            if (preprocessedLogLines[i] != "") {
-                                preprocessedLogList.add(preprocessedLogLines[i]);
-                            }
-                        }
-                    } else {
-                        if (preprocessedLogList.isEmpty()) {
-                            preprocessedLogList.add(preprocessedLogLine);
-
-                        } else {
-                            if (!priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
-                                String lastPreprocessedLogEntry = preprocessedLogList
-                                        .get(preprocessedLogList.size() - 1);
-                                preprocessedLogList.remove(preprocessedLogList.size() - 1);
-                                preprocessedLogList.add(lastPreprocessedLogEntry + preprocessedLogLines[0]);
-                                if (preprocessedLogLines.length > 1) {
-                                    for (int i = 1; i < preprocessedLogLines.length; i++) {
-                                        if (preprocessedLogLines[i] != "") {
-                                            preprocessedLogList.add(preprocessedLogLines[i]);
-                                        }
-                                    }
-                                }
-                            } else {
-                                if (preprocessedLogLines.length > 1) {
-                                    for (int i = 0; i < preprocessedLogLines.length; i++) {
-                                        if (preprocessedLogLines[i] != "") {
-                                            preprocessedLogList.add(preprocessedLogLines[i]);
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-                    priorLogEntry = preprocessedLogLine;
-                }
-
-                priorLogLine = currentLogLine;
-                currentLogLine = nextLogLine;
-                if (iterator.hasNext()) {
-                    nextLogLine = iterator.next();
-                } else {
-                    nextLogLine = null;
-                }
+            byte[] snapshotKey = new byte[key.length];
+            in.readFully(snapshotKey);
+            if (!Arrays.equals(key, snapshotKey)) {
+                return false;
             }
+            preprocessed = in.readBoolean();
+            lastLogLineUnprocessed = GcUtil.readString(in);
+            jvmDao.readSnapshot(in);
+        }
+        return true;
+    }
 
-            // Process last line
-            lastLogLineUnprocessed = currentLogLine;
-            preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, priorLogLine, nextLogLine, jvmStartDate,
-                    entangledLogLines, context);
-            if (preprocessedLogLine != null) {
-                String[] preprocessedLogLines = preprocessedLogLine.split(Constants.LINE_SEPARATOR);
-                if (context.contains(PreprocessAction.TOKEN_BEGINNING_OF_EVENT)) {
-                    // Output on new line
-                    for (int i = 0; i < preprocessedLogLines.length; i++) {
-                        if (preprocessedLogLines[i] != "") {
-                            preprocessedLogList.add(preprocessedLogLines[i]);
-                        }
-                    }
-                } else {
-                    if (preprocessedLogList.isEmpty()) {
-                        preprocessedLogList.add(preprocessedLogLine);
-                    } else {
-                        // Add to prior line if prior line does not end with LINE_SEPARATOR
-                        String lastPreprocessedLogEntry = preprocessedLogList.get(preprocessedLogList.size() - 1);
-                        if (!lastPreprocessedLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
-                            preprocessedLogList.remove(preprocessedLogList.size() - 1);
-                            preprocessedLogList.add(lastPreprocessedLogEntry + preprocessedLogLines[0]);
-                            if (preprocessedLogLines.length > 1) {
-                                for (int i = 1; i < preprocessedLogLines.length; i++) {
-                                    if (preprocessedLogLines[i] != "") {
-                                        preprocessedLogList.add(preprocessedLogLines[i]);
-                                    }
-                                }
-                            }
-                        } else {
-                            if (preprocessedLogLines.length > 1) {
-                                for (int i = 0; i < preprocessedLogLines.length; i++) {
-                                    if (preprocessedLogLines[i] != "") {
-                                        preprocessedLogList.add(preprocessedLogLines[i]);
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+    /**
+     * The snapshot key: the snapshot format, the garbagecat version and build time (see {@link #getCodeVersion()}), the
+     * garbagecat event, trigger, and analysis names, the log file size, last modified time, and a hash of the start and
+     * end of the log file, and the options that affect the data stored.
+     * 
+     * The hash covers only the first and last <code>SNAPSHOT_SAMPLE_SIZE</code> bytes of the log file, so reading the
+     * key does not cost a pass over a large log file. A change in the middle of the log file that keeps the size and
+     * last modified time is not detected.
+     * 
+     * @param logFile
+     *            The log file.
+     * @param preprocess
+     *            Whether or not the logging is preprocessed.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     * @return The snapshot key.
+     * @throws IOException
+     *             if the log file cannot be read.
+     */
+    private byte[] snapshotKey(File logFile, boolean preprocess, boolean reorder) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (Enum<?>[] constants : new Enum<?>[][] { Analysis.values(), GarbageCollector.values(), GcTrigger.values(),
+                LogEventType.values(), PreprocessEvent.values(), Trigger.values() }) {
+            for (Enum<?> constant : constants) {
+                digest.update(constant.name().getBytes(StandardCharsets.UTF_8));
             }
-
-            // output entangled log lines
-            if (!entangledLogLines.isEmpty()) {
-                for (String logLine : entangledLogLines) {
-                    preprocessedLogList.add(logLine);
-                }
-                // Reset entangled log lines
-                entangledLogLines.clear();
+        }
+        long length = logFile.length();
+        try (RandomAccessFile file = new RandomAccessFile(logFile, "r")) {
+            byte[] sample = new byte[(int) Math.min(length, SNAPSHOT_SAMPLE_SIZE)];
+            file.readFully(sample);
+            digest.update(sample);
+            if (length > SNAPSHOT_SAMPLE_SIZE) {
+                sample = new byte[(int) Math.min(length - SNAPSHOT_SAMPLE_SIZE, SNAPSHOT_SAMPLE_SIZE)];
+                file.seek(length - sample.length);
+                file.readFully(sample);
+                digest.update(sample);
             }
-
-            preprocessed = true;
         }
-
-        return preprocessedLogList;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeUTF(getCodeVersion());
+        out.writeLong(length);
+        out.writeLong(logFile.lastModified());
+        out.write(digest.digest());
+        out.writeBoolean(preprocess);
+        out.writeBoolean(preprocess && assembleByGcId);
+        out.writeBoolean(reorder);
+        out.writeLong(jvmStartDate == null ? -1 : jvmStartDate.getTime());
+        return bytes.toByteArray();
     }
 
     /**
      * Parse the garbage collection logging for the JVM run and store the data in the data store.
      * 
      * @param logLines
-     *            The garbage collection loggine.
+     *            The garbage collection logging.
      * @param reorder
      *            Whether or not to allow logging to be reordered by timestamp.
      */
@@ -692,14 +924,35 @@ public class GcManager {
             return;
         }
 
+        store(logLines.iterator(), reorder);
+    }
+
+    /**
+     * Parse the garbage collection logging for the JVM run and store the data in the data store. Log lines are consumed
+     * one at a time, so the logging can be streamed directly from the log file or from
+     * {@link #preprocess(Iterator, Date)}.
+     * 
+     * @param logLines
+     *            The garbage collection logging.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    public void store(Iterator<String> logLines, boolean reorder) {
+
+        if (logLines == null) {
+            return;
+        }
+
         String logLine = null;
         BlockingEvent priorBlockingEvent = null;
         String priorLogLine = null;
-        Iterator<String> iterator = logLines.iterator();
+        Iterator<String> iterator = logLines;
         while (iterator.hasNext()) {
             logLine = iterator.next();
             // If event has no timestamp, use most recent blocking timestamp.
-            LogEvent event = JdkUtil.parseLogLine(logLine, priorLogLine);
+            LogLineClassification classification = classifyForStore(logLine, priorLogLine);
+            LogEvent event = classification.getEvent();
+            JdkUtil.LogEventType eventType = classification.getEventType();
             if (event instanceof BlockingEvent) {
                 jvmDao.setLogEndingUnidentified(false);
 
@@ -773,7 +1026,6 @@ public class GcManager {
                     if (trigger == null || !(trigger == GcTrigger.SYSTEM_GC || trigger == GcTrigger.CLASS_HISTOGRAM
                             || trigger == GcTrigger.HEAP_INSPECTION_INITIATED_GC
                             || trigger == GcTrigger.HEAP_DUMP_INITIATED_GC)) {
-                        JdkUtil.LogEventType eventType = JdkUtil.determineEventType(event.getName());
                         switch (eventType) {
                         case G1_FULL_GC_SERIAL:
                             if (!jvmDao.getAnalysis().contains(Analysis.ERROR_SERIAL_GC_G1)) {
@@ -976,7 +1228,7 @@ public class GcManager {
 
                 // 18) Check for old JDKs using perm gen
                 if (event instanceof PermMetaspaceData && event.getLogEntry() != null
-                        && event.getLogEntry().matches("^.*Perm.*$")) {
+                        && event.getLogEntry().contains("Perm")) {
                     if (!jvmDao.getAnalysis().contains(Analysis.INFO_PERM_GEN)) {
                         jvmDao.addAnalysis(Analysis.INFO_PERM_GEN);
                     }
@@ -1084,17 +1336,7 @@ public class GcManager {
                 jvmDao.setSwapFree((long) KILOBYTES.toBytes(((HeaderMemoryEvent) event).getSwapFree()));
             } else if (event instanceof HeaderVmInfoEvent) {
                 jvmDao.setLogEndingUnidentified(false);
-                jvmDao.getJvmContext().setVersionMajor(((HeaderVmInfoEvent) event).getJdkVersionMajor());
-                jvmDao.getJvmContext().setVersionMinor(((HeaderVmInfoEvent) event).getJdkVersionMinor());
-                if (((HeaderVmInfoEvent) event).is32Bit()) {
-                    jvmDao.getJvmContext().setBit(Bit.BIT32);
-                }
-                jvmDao.getJvmContext().setArch(((HeaderVmInfoEvent) event).getArch());
-                jvmDao.getJvmContext().setBuiltBy(((HeaderVmInfoEvent) event).getBuiltBy());
-                jvmDao.getJvmContext().setOs(((HeaderVmInfoEvent) event).getOs());
-                jvmDao.getJvmContext().setBuildDate(((HeaderVmInfoEvent) event).getBuildDate());
-                jvmDao.getJvmContext().setReleaseString(((HeaderVmInfoEvent) event).getJdkReleaseString());
-                jvmDao.setVmInfo(((HeaderVmInfoEvent) event).getLogEntry());
+                jvmDao.setHeaderVmInfo((HeaderVmInfoEvent) event);
             } else if (event instanceof UnifiedHeaderVersionEvent) {
                 jvmDao.setLogEndingUnidentified(false);
                 jvmDao.getJvmContext().setVersionMajor(((UnifiedHeaderVersionEvent) event).getJdkVersionMajor());
@@ -1147,8 +1389,9 @@ public class GcManager {
                     }
                 }
             } else if (event instanceof UnifiedHeaderEvent) {
-                if (event.getLogEntry().matches(
-                        "^" + UnifiedRegEx.DECORATOR + " Min heap equals to max heap, disabling ShenandoahUncommit$")) {
+                if (PatternRegistry.matches(
+                        "^" + UnifiedRegEx.DECORATOR + " Min heap equals to max heap, disabling ShenandoahUncommit$",
+                        event.getLogEntry())) {
                     if (!jvmDao.getAnalysis().contains(Analysis.INFO_SHENANDOAH_UNCOMMIT_DISABLED)) {
                         jvmDao.addAnalysis(Analysis.INFO_SHENANDOAH_UNCOMMIT_DISABLED);
                     }
@@ -1160,7 +1403,6 @@ public class GcManager {
                 }
             }
             // Populate events list.
-            JdkUtil.LogEventType eventType = JdkUtil.determineEventType(event.getName());
             if (!jvmDao.getEventTypes().contains(eventType)) {
                 jvmDao.getEventTypes().add(eventType);
             }
@@ -1172,11 +1414,366 @@ public class GcManager {
             }
             // Populate collector list.
             if (event instanceof GcEvent) {
-                if (!jvmDao.getJvmContext().getGarbageCollectors().contains(((GcEvent) event).getGarbageCollector())) {
-                    jvmDao.getJvmContext().getGarbageCollectors().add(((GcEvent) event).getGarbageCollector());
-                }
+                jvmDao.addGarbageCollector(((GcEvent) event).getGarbageCollector());
             }
             priorLogLine = logLine;
         }
     }
+
+    /**
+     * Write the data stored from a log file to a snapshot that can be restored with
+     * {@link #readSnapshot(File, File, boolean, boolean)}. The snapshot is written to a temporary file and then moved
+     * into place, so a partially written snapshot is never read.
+     * 
+     * @param snapshot
+     *            The snapshot file.
+     * @param logFile
+     *            The log file.
+     * @param preprocess
+     *            Whether or not the logging is preprocessed.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     * @throws IOException
+     *             if the log file cannot be read or the snapshot cannot be written.
+     */
+    public void writeSnapshot(File snapshot, File logFile, boolean preprocess, boolean reorder) throws IOException {
+        byte[] key = snapshotKey(logFile, preprocess, reorder);
+        File file = File.createTempFile("garbagecat", ".tmp", snapshot.getAbsoluteFile().getParentFile());
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+                out.writeInt(key.length);
+                out.write(key);
+                out.writeBoolean(preprocessed);
+                GcUtil.writeString(out, lastLogLineUnprocessed);
+                jvmDao.writeSnapshot(out);
+            }
+            Files.move(file.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    /**
+     * Collector families for preprocessing. Once the family of the logging is known, it is locked in with a context
+     * token, and only the preprocessing for that family and the family independent preprocessing
+     * (<code>ApplicationStoppedTimePreprocessAction</code>) is attempted. This avoids trying the other families'
+     * regular expressions on every log line.
+     * 
+     * The family is known when a family's preprocessing first adds its token to the context or, for unified logging,
+     * from the collector header (e.g. <code>UsingG1Event</code>).
+     */
+    enum PreprocessFamily {
+
+        CMS(CmsPreprocessAction.TOKEN, false), G1(G1PreprocessAction.TOKEN, false),
+        PARALLEL(ParallelPreprocessAction.TOKEN, false), SERIAL(SerialPreprocessAction.TOKEN, false),
+
+        /**
+         * Unified logging, collector unknown or Shenandoah.
+         */
+        UNIFIED(UnifiedPreprocessAction.TOKEN, true),
+
+        /**
+         * Unified logging, collector other than Shenandoah.
+         */
+        UNIFIED_NOT_SHENANDOAH(UnifiedPreprocessAction.TOKEN, false);
+
+        /**
+         * Get the family, locking it in from the collector header if not already known.
+         * 
+         * @param context
+         *            The preprocessing context.
+         * @param event
+         *            The <code>LogEvent</code> the log line parses to.
+         * @return The family, or null if not known.
+         */
+        private static PreprocessFamily get(Set<String> context, LogEvent event) {
+            PreprocessFamily family = getLocked(context);
+            if (family != null) {
+                return family;
+            }
+            if (event instanceof UsingShenandoahEvent) {
+                family = UNIFIED;
+            } else if (event instanceof UsingCmsEvent || event instanceof UsingG1Event
+                    || event instanceof UsingParallelEvent || event instanceof UsingSerialEvent
+                    || event instanceof UsingZEvent) {
+                family = UNIFIED_NOT_SHENANDOAH;
+            }
+            if (family != null) {
+                context.add(family.lockToken);
+            }
+            return family;
+        }
+
+        /**
+         * @param context
+         *            The preprocessing context.
+         * @return The family locked in, or null if not known.
+         */
+        static PreprocessFamily getLocked(Set<String> context) {
+            for (PreprocessFamily family : values()) {
+                if (context.contains(family.lockToken)) {
+                    return family;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Lock in the family if the context holds the token of exactly one family.
+         * 
+         * @param context
+         *            The preprocessing context.
+         */
+        private static void lock(Set<String> context) {
+            PreprocessFamily family = null;
+            for (PreprocessFamily candidate : new PreprocessFamily[] { CMS, G1, PARALLEL, SERIAL, UNIFIED }) {
+                if (context.contains(candidate.token)) {
+                    if (family != null) {
+                        return;
+                    }
+                    family = candidate;
+                }
+            }
+            if (family != null) {
+                context.add(family.lockToken);
+            }
+        }
+
+        /**
+         * Context token locking in the family.
+         */
+        private final String lockToken = "PREPROCESS_FAMILY_" + name() + "_TOKEN";
+
+        /**
+         * Whether or not <code>ShenandoahPreprocessAction</code> is attempted.
+         */
+        private final boolean shenandoah;
+
+        /**
+         * The token the family's preprocessing adds to the context.
+         */
+        private final String token;
+
+        private PreprocessFamily(String token, boolean shenandoah) {
+            this.token = token;
+            this.shenandoah = shenandoah;
+        }
+    }
+
+    /**
+     * Streaming preprocessor. Raw log lines are read ahead only as far as needed to produce the next preprocessed log
+     * line. The last preprocessed log entry is held back until it is known to be complete, since the next raw log line
+     * can be appended to it.
+     */
+    private class PreprocessIterator implements Iterator<String> {
+
+        /**
+         * Used to provide context for preprocessing decisions.
+         */
+        private Set<String> context = new HashSet<String>();
+
+        /**
+         * The current raw log line.
+         */
+        private String currentLogLine;
+
+        /**
+         * Whether or not any preprocessed log entries have been output.
+         */
+        private boolean empty = true;
+
+        /**
+         * Used for de-tangling intermingled logging events that span multiple lines.
+         */
+        private List<String> entangledLogLines = new ArrayList<String>();
+
+        /**
+         * Whether or not all raw log lines have been preprocessed.
+         */
+        private boolean finished;
+
+        /**
+         * The date and time the JVM was started.
+         */
+        private Date jvmStartDate;
+
+        /**
+         * The raw log lines.
+         */
+        private Iterator<String> logLines;
+
+        /**
+         * The last preprocessed log entry, held back until the next entry begins, since the next raw log line can be
+         * appended to it (e.g. a multi-line event).
+         */
+        private StringBuilder logEntry = new StringBuilder();
+
+        /**
+         * The next raw log line.
+         */
+        private String nextLogLine;
+
+        /**
+         * Complete preprocessed log entries not yet returned.
+         */
+        private Deque<String> preprocessedLogEntries = new ArrayDeque<String>();
+
+        /**
+         * The prior preprocessed log entry.
+         */
+        private String priorLogEntry = Constants.LINE_SEPARATOR;
+
+        /**
+         * The prior raw log line.
+         */
+        private String priorLogLine;
+
+        private PreprocessIterator(Iterator<String> logLines, Date jvmStartDate) {
+            this.logLines = logLines;
+            this.jvmStartDate = jvmStartDate;
+            if (logLines.hasNext()) {
+                currentLogLine = logLines.next();
+                if (logLines.hasNext()) {
+                    nextLogLine = logLines.next();
+                }
+                preprocessed = true;
+            } else {
+                finished = true;
+            }
+        }
+
+        /**
+         * Add a preprocessed log entry. The last preprocessed log entry is complete.
+         * 
+         * @param logEntry
+         *            The preprocessed log entry.
+         */
+        private void add(String logEntry) {
+            if (!empty) {
+                preprocessedLogEntries.addLast(this.logEntry.toString());
+                this.logEntry.setLength(0);
+            }
+            this.logEntry.append(logEntry);
+            empty = false;
+        }
+
+        /**
+         * Add preprocessed log lines, each as a separate entry. Empty lines are skipped.
+         * 
+         * @param preprocessedLogLine
+         *            The preprocessed log lines, delimited by a newline.
+         * @param appendFirst
+         *            Whether to append the first line to the last preprocessed log entry.
+         */
+        private void addAll(String preprocessedLogLine, boolean appendFirst) {
+            boolean append = appendFirst;
+            int begin = 0;
+            while (begin <= preprocessedLogLine.length()) {
+                int end = preprocessedLogLine.indexOf(Constants.LINE_SEPARATOR, begin);
+                if (end == -1) {
+                    end = preprocessedLogLine.length();
+                }
+                if (append) {
+                    logEntry.append(preprocessedLogLine, begin, end);
+                    append = false;
+                } else if (end > begin) {
+                    add(preprocessedLogLine.substring(begin, end));
+                }
+                begin = end + Constants.LINE_SEPARATOR.length();
+            }
+        }
+
+        /**
+         * @return true if the last preprocessed log entry ends with a newline, false otherwise.
+         */
+        private boolean endsWithLineSeparator() {
+            int begin = logEntry.length() - Constants.LINE_SEPARATOR.length();
+            return begin >= 0 && logEntry.indexOf(Constants.LINE_SEPARATOR, begin) == begin;
+        }
+
+        /**
+         * @param preprocessedLogLine
+         *            The preprocessed log lines, delimited by a newline.
+         * @return true if there is a non-empty line after the first line, false otherwise.
+         */
+        private boolean hasMultipleLines(String preprocessedLogLine) {
+            int end = preprocessedLogLine.indexOf(Constants.LINE_SEPARATOR);
+            while (end != -1) {
+                int begin = end + Constants.LINE_SEPARATOR.length();
+                end = preprocessedLogLine.indexOf(Constants.LINE_SEPARATOR, begin);
+                if ((end == -1 ? preprocessedLogLine.length() : end) > begin) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!finished && preprocessedLogEntries.isEmpty()) {
+                step();
+            }
+            return !preprocessedLogEntries.isEmpty();
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return preprocessedLogEntries.removeFirst();
+        }
+
+        /**
+         * Preprocess the current raw log line and advance.
+         */
+        private void step() {
+            String preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, priorLogLine, nextLogLine,
+                    jvmStartDate, entangledLogLines, context);
+            if (nextLogLine != null) {
+                if (preprocessedLogLine != null) {
+                    if (context.contains(PreprocessAction.TOKEN_BEGINNING_OF_EVENT)
+                            && !priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
+                        addAll(preprocessedLogLine, false);
+                    } else if (empty) {
+                        add(preprocessedLogLine);
+                    } else if (!priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
+                        addAll(preprocessedLogLine, true);
+                    } else if (hasMultipleLines(preprocessedLogLine)) {
+                        addAll(preprocessedLogLine, false);
+                    }
+                    priorLogEntry = preprocessedLogLine;
+                }
+                priorLogLine = currentLogLine;
+                currentLogLine = nextLogLine;
+                nextLogLine = logLines.hasNext() ? logLines.next() : null;
+            } else {
+                // Process last line
+                lastLogLineUnprocessed = currentLogLine;
+                if (preprocessedLogLine != null) {
+                    if (context.contains(PreprocessAction.TOKEN_BEGINNING_OF_EVENT)) {
+                        // Output on new line
+                        addAll(preprocessedLogLine, false);
+                    } else if (empty) {
+                        add(preprocessedLogLine);
+                    } else if (!endsWithLineSeparator()) {
+                        // Add to prior line if prior line does not end with LINE_SEPARATOR
+                        addAll(preprocessedLogLine, true);
+                    } else if (hasMultipleLines(preprocessedLogLine)) {
+                        addAll(preprocessedLogLine, false);
+                    }
+                }
+                // output entangled log lines
+                for (String logLine : entangledLogLines) {
+                    add(logLine);
+                }
+                // Reset entangled log lines
+                entangledLogLines.clear();
+                if (!empty) {
+                    preprocessedLogEntries.addLast(logEntry.toString());
+                }
+                finished = true;
+            }
+        }
+    }
 }
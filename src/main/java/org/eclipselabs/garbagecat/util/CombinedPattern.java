@@ -0,0 +1,441 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * A list of regular expressions compiled into combined alternations, to test a log line against all of them with one
+ * match instead of one match per regular expression (e.g. the preprocessing throwaway patterns).
+ * </p>
+ * 
+ * <p>
+ * Most of the regular expressions begin with a literal character. The regular expressions are grouped by that
+ * character (a literal prefix index), and the input is matched against the alternation of the regular expressions for
+ * its first character together with the few that do not begin with a literal character, in the original order.
+ * </p>
+ * 
+ * <p>
+ * The alternation is built as a prefix tree of the regular expression atoms, so a shared prefix (e.g. the unified
+ * logging decorator) is matched once instead of once per regular expression. Groups within the regular expressions are
+ * renumbered by the combining, so they must not use numbered back references.
+ * </p>
+ * 
+ * <p>
+ * The regular expression that matched can be reported for debugging with {@link #matchingRegex(CharSequence)}, which
+ * tests the regular expressions combined for the input one at a time, in the original order, once the combined
+ * alternation matches.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public final class CombinedPattern {
+
+    /**
+     * The number of first characters indexed (ASCII).
+     */
+    private static final int INDEXED = 128;
+
+    /**
+     * Regular expression metacharacters.
+     */
+    private static final String METACHARACTERS = "\\[](){}.*+?^$|";
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @return The top level atoms (a character, escape sequence, character class, or group, with any quantifier) of the regular
+     *         expression, or the regular expression as a single atom if it cannot be split (e.g. it has an alternation
+     *         or flags outside of any group).
+     */
+    private static List<String> atoms(String regex) {
+        List<String> atoms = new ArrayList<String>();
+        int i = 0;
+        while (i < regex.length()) {
+            int start = i;
+            char c = regex.charAt(i++);
+            if (c == '\\') {
+                if (i >= regex.length() || regex.charAt(i) == 'Q') {
+                    return single(regex);
+                }
+                i = escapeEnd(regex, start);
+            } else if (c == '[') {
+                i = end(regex, start);
+            } else if (c == '(') {
+                if (i < regex.length() && regex.charAt(i) == '?' && i + 1 < regex.length()
+                        && ":<=!>".indexOf(regex.charAt(i + 1)) == -1) {
+                    // Inline flags
+                    return single(regex);
+                }
+                i = end(regex, start);
+            } else if (c == '|' || c == ')') {
+                return single(regex);
+            }
+            if (i <= start) {
+                return single(regex);
+            }
+            // Quantifier
+            if (i < regex.length() && "?*+{".indexOf(regex.charAt(i)) != -1) {
+                if (regex.charAt(i) == '{') {
+                    i = regex.indexOf('}', i) + 1;
+                    if (i == 0) {
+                        return single(regex);
+                    }
+                } else {
+                    i++;
+                }
+                if (i < regex.length() && "?+".indexOf(regex.charAt(i)) != -1) {
+                    // Reluctant or possessive
+                    i++;
+                }
+            }
+            atoms.add(regex.substring(start, i));
+        }
+        return atoms;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param start
+     *            The index of a character class or group opening.
+     * @return The index after the closing of the character class or group, or -1 if it is not closed.
+     */
+    private static int end(String regex, int start) {
+        int groupDepth = 0;
+        int classDepth = 0;
+        for (int i = start; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i = escapeEnd(regex, i) - 1;
+                if (i < 0) {
+                    return -1;
+                }
+            } else if (c == '[') {
+                classDepth++;
+            } else if (c == ']' && classDepth > 0) {
+                classDepth--;
+            } else if (classDepth > 0) {
+                continue;
+            } else if (c == '(') {
+                groupDepth++;
+            } else if (c == ')') {
+                groupDepth--;
+            }
+            if (groupDepth == 0 && classDepth == 0) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @param start
+     *            The index of an escape (backslash).
+     * @return The index after the escape sequence (e.g. after the hexadecimal digits of <code>\xhh</code>), or -1 if
+     *         it is not closed (e.g. <code>\p{Alpha</code>).
+     */
+    private static int escapeEnd(String regex, int start) {
+        int i = start + 1;
+        if (i >= regex.length()) {
+            return i;
+        }
+        char c = regex.charAt(i++);
+        char opening = '{';
+        char closing = '}';
+        switch (c) {
+        case '0':
+            // Octal (\0n, \0nn, \0mnn)
+            int digits = 0;
+            while (digits < 3 && i < regex.length() && regex.charAt(i) >= '0' && regex.charAt(i) <= '7'
+                    && (digits < 2 || regex.charAt(i - 2) <= '3')) {
+                i++;
+                digits++;
+            }
+            return i;
+        case 'c':
+            // Control character
+            return Math.min(i + 1, regex.length());
+        case 'u':
+            return Math.min(i + 4, regex.length());
+        case 'x':
+            if (i < regex.length() && regex.charAt(i) == opening) {
+                break;
+            }
+            return Math.min(i + 2, regex.length());
+        case 'k':
+            // Named back reference
+            opening = '<';
+            closing = '>';
+            break;
+        case 'N':
+        case 'p':
+        case 'P':
+            break;
+        default:
+            return i;
+        }
+        if (i < regex.length() && regex.charAt(i) == opening) {
+            int end = regex.indexOf(closing, i);
+            return end == -1 ? -1 : end + 1;
+        }
+        return i;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @return The literal ASCII character every match begins with, or -1 if there is none.
+     */
+    private static int firstCharacter(String regex) {
+        if (hasTopLevelAlternation(regex)) {
+            return -1;
+        }
+        int i = regex.startsWith("^") ? 1 : 0;
+        if (i >= regex.length()) {
+            return -1;
+        }
+        char c = regex.charAt(i++);
+        if (c == '\\') {
+            if (i >= regex.length() || METACHARACTERS.indexOf(regex.charAt(i)) == -1) {
+                // Predefined character class (e.g. \d) or other escape
+                return -1;
+            }
+            c = regex.charAt(i++);
+        } else if (c == '[' && i + 1 < regex.length() && regex.charAt(i + 1) == ']'
+                && METACHARACTERS.indexOf(regex.charAt(i)) == -1) {
+            // Single character class (e.g. [ ])
+            c = regex.charAt(i);
+            i += 2;
+        } else if (METACHARACTERS.indexOf(c) != -1) {
+            return -1;
+        }
+        if (i < regex.length()) {
+            // A quantifier allowing no occurrences
+            char quantifier = regex.charAt(i);
+            if (quantifier == '?' || quantifier == '*' || regex.startsWith("{0", i)) {
+                return -1;
+            }
+        }
+        return c < INDEXED ? c : -1;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @return True if the regular expression has an alternation outside of any group, false otherwise.
+     */
+    private static boolean hasTopLevelAlternation(String regex) {
+        int depth = 0;
+        boolean characterClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i = escapeEnd(regex, i) - 1;
+                if (i < 0) {
+                    return true;
+                }
+            } else if (characterClass) {
+                characterClass = c != ']';
+            } else if (c == '[') {
+                characterClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @return The regular expression as a single non-capturing group atom.
+     */
+    private static List<String> single(String regex) {
+        List<String> atoms = new ArrayList<String>();
+        atoms.add("(?:" + regex + ")");
+        return atoms;
+    }
+
+    /**
+     * Combined regular expression for input beginning with an indexed character.
+     */
+    private final Group[] groups = new Group[INDEXED];
+
+    /**
+     * Combined regular expression for input beginning with any other character, or empty.
+     */
+    private final Group other;
+
+    /**
+     * The regular expressions.
+     */
+    private final String[] regexes;
+
+    /**
+     * @param regexes
+     *            The regular expressions.
+     */
+    public CombinedPattern(String... regexes) {
+        this.regexes = regexes.clone();
+        int[] firstCharacters = new int[regexes.length];
+        List<Integer> unindexed = new ArrayList<Integer>();
+        for (int i = 0; i < regexes.length; i++) {
+            firstCharacters[i] = firstCharacter(regexes[i]);
+            if (firstCharacters[i] == -1) {
+                unindexed.add(i);
+            }
+        }
+        other = new Group(unindexed);
+        for (int c = 0; c < INDEXED; c++) {
+            List<Integer> indexes = new ArrayList<Integer>();
+            for (int i = 0; i < regexes.length; i++) {
+                if (firstCharacters[i] == c || firstCharacters[i] == -1) {
+                    indexes.add(i);
+                }
+            }
+            groups[c] = indexes.size() == unindexed.size() ? other : new Group(indexes);
+        }
+    }
+
+    private Group getGroup(CharSequence input) {
+        if (input.length() > 0 && input.charAt(0) < INDEXED) {
+            return groups[input.charAt(0)];
+        }
+        return other;
+    }
+
+    /**
+     * @param index
+     *            The regular expression index.
+     * @return The regular expression.
+     */
+    public String getRegex(int index) {
+        return regexes[index];
+    }
+
+    /**
+     * @param input
+     *            The input to test.
+     * @return True if any of the regular expressions matches the entire input, false otherwise.
+     */
+    public boolean match(CharSequence input) {
+        Group group = getGroup(input);
+        return group.pattern != null && group.pattern.matcher(input).matches();
+    }
+
+    /**
+     * Determine which regular expression matches the input, for debugging. The result is the same as testing each
+     * regular expression in turn.
+     * 
+     * @param input
+     *            The input to test.
+     * @return The index of the first regular expression that matches the entire input, or -1 if none matches.
+     */
+    public int matchingRegex(CharSequence input) {
+        Group group = getGroup(input);
+        if (group.pattern != null && group.pattern.matcher(input).matches()) {
+            for (int index : group.indexes) {
+                if (PatternRegistry.get(regexes[index]).matcher(input).matches()) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The number of regular expressions.
+     */
+    public int size() {
+        return regexes.length;
+    }
+
+    /**
+     * Alternation of a subset of the regular expressions, in the original order.
+     */
+    private final class Group {
+
+        /**
+         * The regular expression indexes, in the original order.
+         */
+        private final int[] indexes;
+
+        /**
+         * The combined regular expression, or null if there are no regular expressions.
+         */
+        private final Pattern pattern;
+
+        private Group(List<Integer> indexes) {
+            this.indexes = new int[indexes.size()];
+            Node root = new Node();
+            for (int i = 0; i < this.indexes.length; i++) {
+                this.indexes[i] = indexes.get(i);
+                Node node = root;
+                for (String atom : atoms(regexes[this.indexes[i]])) {
+                    node = node.child(atom);
+                }
+                // End of the regular expression (an empty alternative)
+                node.branches.put("", null);
+            }
+            pattern = this.indexes.length == 0 ? null : PatternRegistry.get(root.toString());
+        }
+    }
+
+    /**
+     * Prefix tree node of regular expression atoms.
+     */
+    private static final class Node {
+
+        /**
+         * The next atoms, in the original order, and their nodes (null for the end of a regular expression).
+         */
+        private final Map<String, Node> branches = new LinkedHashMap<String, Node>();
+
+        private Node child(String atom) {
+            Node child = branches.get(atom);
+            if (child == null) {
+                child = new Node();
+                branches.put(atom, child);
+            }
+            return child;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder regex = new StringBuilder();
+            for (Map.Entry<String, Node> branch : branches.entrySet()) {
+                if (regex.length() > 0) {
+                    regex.append('|');
+                }
+                regex.append(branch.getKey());
+                if (branch.getValue() != null) {
+                    regex.append(branch.getValue());
+                }
+            }
+            return branches.size() > 1 ? "(?:" + regex + ")" : regex.toString();
+        }
+    }
+}
@@ -48,6 +48,26 @@ public class Constants {
      */
     public static final String LINE_SEPARATOR = System.getProperty("line.separator");
 
+    /**
+     * Elide log entries command line long option.
+     */
+    public static final String OPTION_ELIDE_LONG = "elide";
+
+    /**
+     * Elide log entries command line short option.
+     */
+    public static final String OPTION_ELIDE_SHORT = "e";
+
+    /**
+     * Assemble unified logging events by garbage collection id command line long option.
+     */
+    public static final String OPTION_GCID_LONG = "gcid";
+
+    /**
+     * Assemble unified logging events by garbage collection id command line short option.
+     */
+    public static final String OPTION_GCID_SHORT = "g";
+
     /**
      * Help command line long option.
      */
@@ -118,6 +138,16 @@ public class Constants {
      */
     public static final String OPTION_REPORT_CONSOLE_SHORT = "c";
 
+    /**
+     * Snapshot command line long option.
+     */
+    public static final String OPTION_SNAPSHOT_LONG = "snapshot";
+
+    /**
+     * Snapshot command line short option.
+     */
+    public static final String OPTION_SNAPSHOT_SHORT = "n";
+
     /**
      * JVM start datetime command line long option.
      */
@@ -0,0 +1,139 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>
+ * <code>List</code> of enum constants in the order added, without duplicates, with constant time
+ * {@link #contains(Object)}. Membership is kept in an <code>EnumSet</code>, so checking for and adding an analysis,
+ * event type, or trigger for each log line costs a few bit operations instead of a scan of the list.
+ * </p>
+ * 
+ * <p>
+ * The list behaves like a set: {@link #add(Object)} of an element already in the list leaves the list unchanged and
+ * returns false, and {@link #add(int, Object)} or {@link #set(int, Object)} of an element already in the list throws
+ * <code>IllegalArgumentException</code>. A null element is allowed (e.g. an unknown trigger).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ * @param <E>
+ *            The enum type.
+ */
+public class EnumSetList<E extends Enum<E>> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * Whether or not the list holds null.
+     */
+    private boolean containsNull;
+
+    /**
+     * The elements in order.
+     */
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * The elements.
+     */
+    private final EnumSet<E> set;
+
+    /**
+     * @param type
+     *            The enum type.
+     */
+    public EnumSetList(Class<E> type) {
+        set = EnumSet.noneOf(type);
+    }
+
+    @Override
+    public boolean add(E e) {
+        if (contains(e)) {
+            return false;
+        }
+        add(elements.size(), e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E e) {
+        if (contains(e)) {
+            throw new IllegalArgumentException("Duplicate element: " + e);
+        }
+        elements.add(index, e);
+        if (e == null) {
+            containsNull = true;
+        } else {
+            set.add(e);
+        }
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+        set.clear();
+        containsNull = false;
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o == null ? containsNull : set.contains(o);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public E remove(int index) {
+        E e = elements.remove(index);
+        if (e == null) {
+            containsNull = false;
+        } else {
+            set.remove(e);
+        }
+        modCount++;
+        return e;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return contains(o) && super.remove(o);
+    }
+
+    @Override
+    public E set(int index, E e) {
+        E old = elements.get(index);
+        if (e != old) {
+            if (contains(e)) {
+                throw new IllegalArgumentException("Duplicate element: " + e);
+            }
+            remove(index);
+            add(index, e);
+        }
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+}
@@ -14,6 +14,10 @@ package org.eclipselabs.garbagecat.util;
 
 import static java.util.concurrent.TimeUnit.DAYS;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -224,6 +228,10 @@ public final class GcUtil {
      * @return the datestamp in <code>Date</code> format.
      */
     public static Date parseDateStamp(String datestamp) {
+        long millis = parseDateStampFixedWidth(datestamp);
+        if (millis != Long.MIN_VALUE) {
+            return new Date(millis);
+        }
         try {
             return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZZZ").parse(datestamp);
         } catch (ParseException e) {
@@ -231,6 +239,117 @@ public final class GcUtil {
         }
     }
 
+    /**
+     * Parse the fixed width datestamp format guaranteed by <code>JdkRegEx.DATESTAMP</code> (e.g.
+     * 2019-02-05T14:47:34.229-0200) without a formatter. Thread safe.
+     * 
+     * @param datestamp
+     *            The datestamp <code>String</code>.
+     * @return The datestamp in milliseconds since the epoch, or <code>Long.MIN_VALUE</code> if the datestamp is not in
+     *         the fixed width format or a field is out of range.
+     */
+    private static long parseDateStampFixedWidth(String datestamp) {
+        if (datestamp == null || datestamp.length() != 28 || datestamp.charAt(4) != '-'
+                || datestamp.charAt(7) != '-' || datestamp.charAt(10) != 'T' || datestamp.charAt(13) != ':'
+                || datestamp.charAt(16) != ':' || datestamp.charAt(19) != '.') {
+            return Long.MIN_VALUE;
+        }
+        int year = parseDigits(datestamp, 0, 4);
+        int month = parseDigits(datestamp, 5, 7);
+        int day = parseDigits(datestamp, 8, 10);
+        int hour = parseDigits(datestamp, 11, 13);
+        int minute = parseDigits(datestamp, 14, 16);
+        int second = parseDigits(datestamp, 17, 19);
+        int millis = parseDigits(datestamp, 20, 23);
+        char sign = datestamp.charAt(23);
+        int offsetHours = parseDigits(datestamp, 24, 26);
+        int offsetMinutes = parseDigits(datestamp, 26, 28);
+        // SimpleDateFormat is lenient, so leave out of range fields to it
+        if (year < 0 || month < 1 || month > 12 || day < 1 || (day > 28 && day > daysInMonth(year, month)) || hour < 0
+                || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || millis < 0
+                || (sign != '-' && sign != '+') || offsetHours < 0 || offsetHours > 23 || offsetMinutes < 0
+                || offsetMinutes > 59) {
+            return Long.MIN_VALUE;
+        }
+        // Days since 1970-01-01 in the proleptic Gregorian calendar
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        long epochDay = era * 146097L + dayOfEra - 719468;
+        // Before the Gregorian calendar cutover, SimpleDateFormat uses the Julian calendar
+        if (epochDay < -141427) {
+            return Long.MIN_VALUE;
+        }
+        long offset = (offsetHours * 60 + offsetMinutes) * 60000L;
+        return epochDay * 86400000L + hour * 3600000L + minute * 60000L + second * 1000L + millis
+                + (sign == '-' ? offset : -offset);
+    }
+
+    /**
+     * @param s
+     *            The <code>String</code>.
+     * @param begin
+     *            The offset of the first digit.
+     * @param end
+     *            The offset after the last digit.
+     * @return The value of the digits, or -1 if a character is not a digit.
+     */
+    private static int parseDigits(String s, int begin, int end) {
+        int value = 0;
+        for (int i = begin; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * @param year
+     *            The year.
+     * @param month
+     *            The month (1-12).
+     * @return The number of days in the month.
+     */
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Convert datestamp <code>String</code> to milliseconds since the epoch without creating a <code>Date</code>.
+     * 
+     * @param datestamp
+     *            The datestamp <code>String</code> in <code>JdkRegEx.DATESTAMP</code> format.
+     * @return The datestamp in milliseconds since the epoch.
+     * @throws IllegalArgumentException
+     *             if the datestamp cannot be parsed.
+     */
+    public static long parseDateStampMillis(String datestamp) {
+        long millis = parseDateStampFixedWidth(datestamp);
+        if (millis == Long.MIN_VALUE) {
+            Date date = parseDateStamp(datestamp);
+            if (date == null) {
+                throw new IllegalArgumentException("Unexpected datestamp: " + datestamp);
+            }
+            millis = date.getTime();
+        }
+        return millis;
+    }
+
     /**
      * Convert datetime <code>String</code> to a <code>Date</code>.
      * 
@@ -261,6 +380,45 @@ public final class GcUtil {
         }
     }
 
+    /**
+     * Read a <code>String</code> written by {@link #writeString(DataOutput, String)}.
+     * 
+     * @param in
+     *            The input.
+     * @return The <code>String</code>, or null.
+     * @throws IOException
+     *             if the input cannot be read.
+     */
+    public static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write a <code>String</code> of any length as UTF-8, preceded by the byte length (-1 for null).
+     * 
+     * @param out
+     *            The output.
+     * @param string
+     *            The <code>String</code>, or null.
+     * @throws IOException
+     *             if the output cannot be written.
+     */
+    public static void writeString(DataOutput out, String string) throws IOException {
+        if (string == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
     /**
      * Make default constructor private so the class cannot be instantiated.
      */
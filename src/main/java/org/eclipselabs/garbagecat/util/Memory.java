@@ -139,7 +139,22 @@ public class Memory implements Comparable<Memory> {
         private static final int K = 1024;
 
         public static Unit forUnit(char unit) {
-            return forUnit(String.valueOf(unit));
+            switch (unit) {
+            case 'B':
+            case 'b':
+                return BYTES;
+            case 'K':
+            case 'k':
+                return KILOBYTES;
+            case 'M':
+            case 'm':
+                return MEGABYTES;
+            case 'G':
+            case 'g':
+                return GIGABYTES;
+            default:
+                throw new IllegalArgumentException("Unexpected units value: " + unit);
+            }
         }
 
         public static Unit forUnit(String unit) {
@@ -173,6 +188,11 @@ public class Memory implements Comparable<Memory> {
 
     }
 
+    /**
+     * Kilobytes value for a size that is not in the logging (a null <code>Memory</code>).
+     */
+    public static final long NO_DATA = Long.MIN_VALUE;
+
     private static final Pattern optionSizePattern = Pattern.compile("(\\d{1,12})(" + JdkRegEx.OPTION_SIZE + ")?");
 
     public static final Memory ZERO = new Memory(0, BYTES);
@@ -232,6 +252,18 @@ public class Memory implements Comparable<Memory> {
         return kilobytes(parseLong(value));
     }
 
+    /**
+     * Create <code>Memory</code> from a kilobytes value. Events keep sizes as kilobytes values and only create
+     * <code>Memory</code> when it is requested.
+     * 
+     * @param kilobytes
+     *            The size in kilobytes, or <code>NO_DATA</code>.
+     * @return The size, or null if the size is <code>NO_DATA</code>.
+     */
+    public static Memory kilobytesOrNull(long kilobytes) {
+        return kilobytes == NO_DATA ? null : kilobytes(kilobytes);
+    }
+
     public static Memory megabytes(long value) {
         return memory(value, MEGABYTES);
     }
@@ -253,6 +285,29 @@ public class Memory implements Comparable<Memory> {
         return memory(Long.parseLong(value), forUnit(unit));
     }
 
+    /**
+     * @param memory
+     *            The size, or null.
+     * @return The size in kilobytes, or <code>NO_DATA</code> if the size is null.
+     */
+    public static long toKilobytes(Memory memory) {
+        return memory == null ? NO_DATA : memory.getValue(KILOBYTES);
+    }
+
+    /**
+     * Convert a size to kilobytes without creating <code>Memory</code>. Equivalent to
+     * <code>memory(value, unit).convertTo(KILOBYTES)</code>.
+     * 
+     * @param value
+     *            The size as a whole number.
+     * @param unit
+     *            The units (e.g. 'M').
+     * @return The size in kilobytes.
+     */
+    public static long toKilobytes(String value, char unit) {
+        return (long) forUnit(unit).toKiloBytes(parseLong(value));
+    }
+
     private final Unit size;
 
     private final long value;
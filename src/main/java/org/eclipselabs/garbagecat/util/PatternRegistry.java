@@ -0,0 +1,74 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Registry of compiled regular expressions, keyed by the regular expression (e.g. the <code>JdkRegEx</code> and
+ * <code>UnifiedRegEx</code> constants).
+ * </p>
+ *
+ * <p>
+ * <code>String.matches(String)</code> and <code>Pattern.compile(String)</code> compile the regular expression on every
+ * call. Code outside static initializers gets the compiled <code>Pattern</code> from the registry instead, so each
+ * regular expression is compiled once. Keys should be constants, so the key hash code is computed once.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+public final class PatternRegistry {
+
+    /**
+     * Compiled regular expressions.
+     */
+    private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<String, Pattern>();
+
+    /**
+     * @param regex
+     *            The regular expression.
+     * @return The compiled regular expression.
+     */
+    public static final Pattern get(String regex) {
+        Pattern pattern = PATTERNS.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            Pattern existing = PATTERNS.putIfAbsent(regex, pattern);
+            if (existing != null) {
+                pattern = existing;
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * Registry equivalent of <code>Pattern.matches(String, CharSequence)</code> and
+     * <code>String.matches(String)</code>.
+     *
+     * @param regex
+     *            The regular expression.
+     * @param input
+     *            The character sequence to match.
+     * @return true if the entire input matches the regular expression, false otherwise.
+     */
+    public static final boolean matches(String regex, CharSequence input) {
+        return get(regex).matcher(input).matches();
+    }
+
+    private PatternRegistry() {
+    }
+}
@@ -12,6 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util.jdk;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.GcUtil;
 
@@ -350,6 +353,26 @@ public enum Analysis {
      */
     WARN_UNIDENTIFIED_LOG_LINE_REPORT("warn.unidentified.log.line.report");
 
+    /**
+     * <code>Analysis</code> by property file key.
+     */
+    private static final Map<String, Analysis> KEYS = new HashMap<String, Analysis>();
+
+    static {
+        for (Analysis analysis : values()) {
+            KEYS.put(analysis.key, analysis);
+        }
+    }
+
+    /**
+     * @param key
+     *            The analysis property file key.
+     * @return The <code>Analysis</code> with the key, or null if there is none.
+     */
+    public static Analysis fromKey(String key) {
+        return KEYS.get(key);
+    }
+
     private String key;
 
     private Analysis(final String key) {
@@ -257,6 +257,22 @@ public enum GcTrigger {
     //
     UNKNOWN("UNKNOWN");
 
+    /**
+     * Trigger resolver, built once from the trigger regular expressions.
+     */
+    private static final TriggerResolver<GcTrigger> RESOLVER;
+
+    static {
+        RESOLVER = new TriggerResolver<GcTrigger>(UNKNOWN);
+        // Explicit garbage collection literals resolved without the regular expression
+        RESOLVER.addLiteral("System", SYSTEM_GC).addLiteral("System.gc()", SYSTEM_GC);
+        for (GcTrigger trigger : values()) {
+            if (trigger != NONE && trigger != UNKNOWN) {
+                RESOLVER.addRegex(trigger.regex, trigger);
+            }
+        }
+    }
+
     /**
      * Get <code>GcTrigger</code> from log literal.
      * 
@@ -266,51 +282,7 @@ public enum GcTrigger {
      */
     public static GcTrigger getTrigger(final String literal) {
         if (literal != null) {
-            if (literal.matches(ALLOCATION_FAILURE.regex))
-                return ALLOCATION_FAILURE;
-            if (literal.matches(CLASS_HISTOGRAM.regex))
-                return CLASS_HISTOGRAM;
-            if (literal.matches(CMS_FINAL_REMARK.regex))
-                return CMS_FINAL_REMARK;
-            if (literal.matches(CMS_INITIAL_MARK.regex))
-                return CMS_INITIAL_MARK;
-            if (literal.matches(CONCURRENT_MODE_FAILURE.regex))
-                return CONCURRENT_MODE_FAILURE;
-            if (literal.matches(CONCURRENT_MODE_INTERRUPTED.regex))
-                return CONCURRENT_MODE_INTERRUPTED;
-            if (literal.matches(DIAGNOSTIC_COMMAND.regex))
-                return DIAGNOSTIC_COMMAND;
-            if (literal.matches(ERGONOMICS.regex))
-                return ERGONOMICS;
-            if (literal.matches(G1_EVACUATION_PAUSE.regex))
-                return G1_EVACUATION_PAUSE;
-            if (literal.matches(G1_HUMONGOUS_ALLOCATION.regex))
-                return G1_HUMONGOUS_ALLOCATION;
-            if (literal.matches(G1_PREVENTIVE_COLLECTION.regex))
-                return G1_PREVENTIVE_COLLECTION;
-            if (literal.matches(GCLOCKER_INITIATED_GC.regex))
-                return GCLOCKER_INITIATED_GC;
-            if (literal.matches(HEAP_DUMP_INITIATED_GC.regex))
-                return HEAP_DUMP_INITIATED_GC;
-            if (literal.matches(HEAP_INSPECTION_INITIATED_GC.regex))
-                return HEAP_INSPECTION_INITIATED_GC;
-            if (literal.matches(JVMTI_FORCED_GARBAGE_COLLECTION.regex))
-                return JVMTI_FORCED_GARBAGE_COLLECTION;
-            if (literal.matches(LAST_DITCH_COLLECTION.regex))
-                return LAST_DITCH_COLLECTION;
-            if (literal.matches(METADATE_GC_CLEAR_SOFT_REFERENCES.regex))
-                return METADATE_GC_CLEAR_SOFT_REFERENCES;
-            if (literal.matches(METADATA_GC_THRESHOLD.regex))
-                return METADATA_GC_THRESHOLD;
-            if (literal.matches(PROMOTION_FAILED.regex))
-                return PROMOTION_FAILED;
-            if (literal.matches(SYSTEM_GC.regex))
-                return SYSTEM_GC;
-            if (literal.matches(TO_SPACE_EXHAUSTED.regex))
-                return TO_SPACE_EXHAUSTED;
-            if (literal.matches(TO_SPACE_OVERFLOW.regex))
-                return TO_SPACE_OVERFLOW;
-            return UNKNOWN;
+            return RESOLVER.resolve(literal);
         }
         return NONE;
     }
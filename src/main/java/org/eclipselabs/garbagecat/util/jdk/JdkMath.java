@@ -387,6 +387,179 @@ public final class JdkMath {
         return (parallelism < 150);
     }
 
+    /**
+     * Convert microseconds to milliseconds rounded down to a whole number. Allocation-free equivalent of
+     * <code>convertMicrosToMillis(micros).longValue()</code>.
+     * 
+     * For example: Convert 987654321 to 987654.
+     * 
+     * @param micros
+     *            Microseconds as a whole number.
+     * @return Milliseconds rounded down to a whole number.
+     */
+    public static long microsToMillis(long micros) {
+        return micros / 1000;
+    }
+
+    /**
+     * Parse a decimal number with the decimal point moved right and rounded down to a whole number, without creating
+     * a <code>BigDecimal</code>. Equivalent to
+     * <code>new BigDecimal(decimal.replace(",", ".")).movePointRight(shift).setScale(0, RoundingMode.DOWN)
+     * .longValue()</code>, including the low-order 64 bits on overflow.
+     * 
+     * @param decimal
+     *            A whole number or decimal with a decimal period or comma (e.g. 0.0225213, 1,234).
+     * @param shift
+     *            The number of places to move the decimal point right.
+     * @return The number moved <code>shift</code> places right, rounded down to a whole number.
+     */
+    private static long parseDecimal(String decimal, int shift) {
+        int length = decimal.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (decimal.charAt(0) == '-' || decimal.charAt(0) == '+')) {
+            negative = decimal.charAt(0) == '-';
+            i = 1;
+        }
+        long value = 0;
+        boolean digits = false;
+        // Fraction digits kept, or -1 before the decimal separator
+        int scale = -1;
+        for (; i < length; i++) {
+            char c = decimal.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (scale < 0) {
+                    value = value * 10 + (c - '0');
+                } else if (scale < shift) {
+                    value = value * 10 + (c - '0');
+                    scale++;
+                }
+            } else if ((c == '.' || c == ',') && scale < 0) {
+                scale = 0;
+            } else {
+                // Exponent, non-ASCII digits, or malformed (throws NumberFormatException)
+                return new BigDecimal(decimal.replace(",", ".")).movePointRight(shift).setScale(0, RoundingMode.DOWN)
+                        .longValue();
+            }
+        }
+        if (!digits) {
+            // Throws NumberFormatException
+            return new BigDecimal(decimal.replace(",", ".")).longValue();
+        }
+        for (scale = Math.max(scale, 0); scale < shift; scale++) {
+            value = value * 10;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse milliseconds rounded down to a whole number. Allocation-free equivalent of
+     * {@link #roundMillis(String)}.
+     * 
+     * For example: Parse 2.969 to 2
+     * 
+     * @param millis
+     *            Milliseconds with decimal places.
+     * @return Milliseconds rounded down to a whole number.
+     */
+    public static long parseMillis(String millis) {
+        return parseDecimal(millis, 0);
+    }
+
+    /**
+     * Parse milliseconds to microseconds. Allocation-free equivalent of {@link #convertMillisToMicros(String)}.
+     * 
+     * For example: Parse 0.003 to 3
+     * 
+     * @param millis
+     *            Milliseconds as a whole number or decimal.
+     * @return Microseconds rounded down to a whole number.
+     */
+    public static long parseMillisToMicros(String millis) {
+        return parseDecimal(millis, 3);
+    }
+
+    /**
+     * Parse milliseconds to nanoseconds. Allocation-free equivalent of {@link #convertMillisToNanos(String)}.
+     * 
+     * For example: Parse 0.003 to 3000
+     * 
+     * @param millis
+     *            Milliseconds as a whole number or decimal.
+     * @return Nanoseconds rounded down to a whole number.
+     */
+    public static long parseMillisToNanos(String millis) {
+        return parseDecimal(millis, 6);
+    }
+
+    /**
+     * Parse SIZE to kilobytes without creating <code>Memory</code>. Equivalent to
+     * <code>convertSizeToKilobytes(size, units).getValue(Unit.KILOBYTES)</code>.
+     * 
+     * @param size
+     *            The size (e.g. '128.0', 306,0).
+     * @param units
+     *            The units (e.g. 'G').
+     * @return The size in kilobytes rounded to a whole number.
+     */
+    public static long parseSizeToKilobytes(String size, char units) {
+        // Math.rint rounds half even, the same as BigDecimal.valueOf(double).setScale(0, RoundingMode.HALF_EVEN)
+        return (long) Math.rint(Unit.forUnit(units).toKiloBytes(Double.parseDouble(size.replace(',', '.'))));
+    }
+
+    /**
+     * Parse seconds to centiseconds. Allocation-free equivalent of {@link #convertSecsToCentis(String)}.
+     * 
+     * For example: Parse 1.02 to 102.
+     * 
+     * @param secs
+     *            Seconds as a number with 2 decimal places.
+     * @return Centiseconds rounded down to a whole number.
+     */
+    public static long parseSecsToCentis(String secs) {
+        return parseDecimal(secs, 2);
+    }
+
+    /**
+     * Parse seconds to microseconds. Allocation-free equivalent of {@link #convertSecsToMicros(String)}.
+     * 
+     * For example: Parse 0.0225213 to 22521
+     * 
+     * @param secs
+     *            Seconds as a whole number or decimal.
+     * @return Microseconds rounded down to a whole number.
+     */
+    public static long parseSecsToMicros(String secs) {
+        return parseDecimal(secs, 6);
+    }
+
+    /**
+     * Parse seconds to milliseconds. Allocation-free equivalent of {@link #convertSecsToMillis(String)}.
+     * 
+     * For example: Parse 0.0225213 to 22.
+     * 
+     * @param secs
+     *            Seconds as a whole number or decimal.
+     * @return Milliseconds rounded down to a whole number.
+     */
+    public static long parseSecsToMillis(String secs) {
+        return parseDecimal(secs, 3);
+    }
+
+    /**
+     * Parse seconds to nanoseconds. Allocation-free equivalent of {@link #convertSecsToNanos(String)}.
+     * 
+     * For example: Parse 0.0225213 to 22521300
+     * 
+     * @param secs
+     *            Seconds as a whole number or decimal.
+     * @return Nanoseconds rounded down to a whole number.
+     */
+    public static long parseSecsToNanos(String secs) {
+        return parseDecimal(secs, 9);
+    }
+
     /**
      * Round milliseconds to whole number.
      * 
@@ -420,7 +593,7 @@ public final class JdkMath {
             // BigDecimal does not accept decimal commas, only decimal periods
             duration = duration.add(new BigDecimal(durations[i].replace(",", ".")));
         }
-        return convertSecsToMillis(duration.toPlainString()).intValue();
+        return duration.movePointRight(3).setScale(0, RoundingMode.DOWN).intValue();
     }
 
     /**
@@ -16,6 +16,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -113,6 +114,8 @@ import org.eclipselabs.garbagecat.domain.jdk.unified.ZMarkStartEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZRelocateStartEvent;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.GcUtil;
+import org.eclipselabs.garbagecat.util.PatternRegistry;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
 /**
@@ -178,6 +181,11 @@ public final class JdkUtil {
     public static final int DECORATOR_SIZE = Pattern.compile(JdkRegEx.DECORATOR)
             .matcher("2020-03-10T08:03:29.311-0400: 0.373:").groupCount();
 
+    /**
+     * Timestamp (e.g. 123.456), to tell a timestamp from a datestamp.
+     */
+    private static final Pattern TIMESTAMP_PATTERN = Pattern.compile(JdkRegEx.TIMESTAMP);
+
     /**
      * Convert datestamp to milliseconds. For example: Convert 2019-02-05T14:47:34.229-0200 to 23.
      * 
@@ -187,8 +195,7 @@ public final class JdkUtil {
      */
     public static long convertDatestampToMillis(String datestamp) {
         // Calculate uptimemillis from random date/time
-        Date eventDate = GcUtil.parseDateStamp(datestamp);
-        return GcUtil.dateDiff(UnifiedUtil.JVM_START_DATE, eventDate);
+        return GcUtil.parseDateStampMillis(datestamp) - UnifiedUtil.JVM_START_DATE.getTime();
     }
 
     /**
@@ -203,12 +210,12 @@ public final class JdkUtil {
     public static final String convertLogEntryTimestampsToDateStamp(String logEntry, Date jvmStartDate) {
         // Add the colon or space after the timestamp format so durations will
         // not get picked up.
-        Pattern pattern = Pattern.compile(JdkRegEx.TIMESTAMP + "(: )");
+        Pattern pattern = PatternRegistry.get(JdkRegEx.TIMESTAMP + "(: )");
         Matcher matcher = pattern.matcher(logEntry);
         StringBuffer sb = new StringBuffer();
         while (matcher.find()) {
             Date date = GcUtil.getDatePlusTimestamp(jvmStartDate,
-                    JdkMath.convertSecsToMillis(matcher.group(1)).longValue());
+                    JdkMath.parseSecsToMillis(matcher.group(1)));
             SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
             matcher.appendReplacement(sb, formatter.format(date) + matcher.group(2));
         }
@@ -236,8 +243,7 @@ public final class JdkUtil {
     public static final String getDecorator(String logLine) {
         String decorator = null;
         if (logLine != null) {
-            String regex = "^(" + JdkRegEx.DECORATOR + ")(.*)$";
-            Pattern pattern = Pattern.compile(regex);
+            Pattern pattern = PatternRegistry.get("^(" + JdkRegEx.DECORATOR + ")(.*)$");
             Matcher matcher = pattern.matcher(logLine);
             decorator = matcher.find() ? matcher.group(1) : null;
         }
@@ -259,6 +265,26 @@ public final class JdkUtil {
      */
     public static final BlockingEvent hydrateBlockingEvent(LogEventType eventType, String logEntry, long timestamp,
             int duration) {
+        return hydrateBlockingEvent(eventType, logEntry, timestamp, duration, null);
+    }
+
+    /**
+     * Create <code>BlockingEvent</code> from values.
+     * 
+     * @param eventType
+     *            Log entry <code>LogEventType</code>.
+     * @param logEntry
+     *            Log entry.
+     * @param timestamp
+     *            Log entry timestamp.
+     * @param duration
+     *            The duration of the log event.
+     * @param trigger
+     *            The trigger of the log event, or null if it has none. Ignored for event types without a trigger.
+     * @return The <code>BlockingEvent</code> for the given event values.
+     */
+    public static final BlockingEvent hydrateBlockingEvent(LogEventType eventType, String logEntry, long timestamp,
+            int duration, GcTrigger trigger) {
         switch (eventType) {
 
         // Unified (alphabetical)
@@ -267,45 +293,51 @@ public final class JdkUtil {
         case UNIFIED_G1_CLEANUP:
             return new UnifiedG1CleanupEvent(logEntry, timestamp, duration);
         case G1_FULL_GC_PARALLEL:
-            return new UnifiedG1FullGcEvent(logEntry, timestamp, duration);
+            return new UnifiedG1FullGcEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_G1_YOUNG_INITIAL_MARK:
-            return new UnifiedG1YoungInitialMarkEvent(logEntry, timestamp, duration);
+            return new UnifiedG1YoungInitialMarkEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_G1_MIXED_PAUSE:
-            return new UnifiedG1MixedPauseEvent(logEntry, timestamp, duration);
+            return new UnifiedG1MixedPauseEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_G1_YOUNG_PAUSE:
-            return new UnifiedG1YoungPauseEvent(logEntry, timestamp, duration);
+            return new UnifiedG1YoungPauseEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_G1_YOUNG_PREPARE_MIXED:
-            return new UnifiedG1YoungPrepareMixedEvent(logEntry, timestamp, duration);
+            return new UnifiedG1YoungPrepareMixedEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_OLD:
-            return new UnifiedOldEvent(logEntry, timestamp, duration);
+            return new UnifiedOldEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_PARALLEL_COMPACTING_OLD:
-            return new UnifiedParallelCompactingOldEvent(logEntry, timestamp, duration);
+            return new UnifiedParallelCompactingOldEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_PARALLEL_SCAVENGE:
-            return new UnifiedParallelScavengeEvent(logEntry, timestamp, duration);
+            return new UnifiedParallelScavengeEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_PAR_NEW:
-            return new UnifiedParNewEvent(logEntry, timestamp, duration);
+            return new UnifiedParNewEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_REMARK:
             return new UnifiedRemarkEvent(logEntry, timestamp, duration);
         case UNIFIED_SERIAL_NEW:
-            return new UnifiedSerialNewEvent(logEntry, timestamp, duration);
+            return new UnifiedSerialNewEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_SERIAL_OLD:
-            return new UnifiedSerialOldEvent(logEntry, timestamp, duration);
+            return new UnifiedSerialOldEvent(logEntry, timestamp, duration, trigger);
         case UNIFIED_YOUNG:
-            return new UnifiedYoungEvent(logEntry, timestamp, duration);
+            return new UnifiedYoungEvent(logEntry, timestamp, duration, trigger);
+        case Z_MARK_END:
+            return new ZMarkEndEvent(logEntry, timestamp, duration);
+        case Z_MARK_START:
+            return new ZMarkStartEvent(logEntry, timestamp, duration);
+        case Z_RELOCATE_START:
+            return new ZRelocateStartEvent(logEntry, timestamp, duration);
 
         // G1
         case G1_YOUNG_PAUSE:
-            return new G1YoungPauseEvent(logEntry, timestamp, duration);
+            return new G1YoungPauseEvent(logEntry, timestamp, duration, trigger);
         case G1_MIXED_PAUSE:
-            return new G1MixedPauseEvent(logEntry, timestamp, duration);
+            return new G1MixedPauseEvent(logEntry, timestamp, duration, trigger);
         case G1_YOUNG_INITIAL_MARK:
-            return new G1YoungInitialMarkEvent(logEntry, timestamp, duration);
+            return new G1YoungInitialMarkEvent(logEntry, timestamp, duration, trigger);
         case G1_REMARK:
             return new G1RemarkEvent(logEntry, timestamp, duration);
         case G1_CLEANUP:
             return new G1CleanupEvent(logEntry, timestamp, duration);
         case G1_FULL_GC_SERIAL:
-            return new G1FullGcEvent(logEntry, timestamp, duration);
+            return new G1FullGcEvent(logEntry, timestamp, duration, trigger);
         // Shenandoah
         case SHENANDOAH_DEGENERATED_GC:
             return new ShenandoahDegeneratedGcEvent(logEntry, timestamp, duration);
@@ -323,30 +355,30 @@ public final class JdkUtil {
             return new ShenandoahInitUpdateEvent(logEntry, timestamp, duration);
         // CMS
         case PAR_NEW:
-            return new ParNewEvent(logEntry, timestamp, duration);
+            return new ParNewEvent(logEntry, timestamp, duration, trigger);
         case CMS_SERIAL_OLD:
-            return new CmsSerialOldEvent(logEntry, timestamp, duration);
+            return new CmsSerialOldEvent(logEntry, timestamp, duration, trigger);
         case CMS_INITIAL_MARK:
-            return new CmsInitialMarkEvent(logEntry, timestamp, duration);
+            return new CmsInitialMarkEvent(logEntry, timestamp, duration, trigger);
         case CMS_REMARK:
-            return new CmsRemarkEvent(logEntry, timestamp, duration);
+            return new CmsRemarkEvent(logEntry, timestamp, duration, trigger);
         // Parallel
         case PARALLEL_SCAVENGE:
-            return new ParallelScavengeEvent(logEntry, timestamp, duration);
+            return new ParallelScavengeEvent(logEntry, timestamp, duration, trigger);
         case PARALLEL_SERIAL_OLD:
-            return new ParallelSerialOldEvent(logEntry, timestamp, duration);
+            return new ParallelSerialOldEvent(logEntry, timestamp, duration, trigger);
         case PARALLEL_COMPACTING_OLD:
-            return new ParallelCompactingOldEvent(logEntry, timestamp, duration);
+            return new ParallelCompactingOldEvent(logEntry, timestamp, duration, trigger);
         // Serial
         case SERIAL_OLD:
-            return new SerialOldEvent(logEntry, timestamp, duration);
+            return new SerialOldEvent(logEntry, timestamp, duration, trigger);
         case SERIAL_NEW:
-            return new SerialNewEvent(logEntry, timestamp, duration);
+            return new SerialNewEvent(logEntry, timestamp, duration, trigger);
         // Other
         case VERBOSE_GC_YOUNG:
-            return new VerboseGcYoungEvent(logEntry, timestamp, duration);
+            return new VerboseGcYoungEvent(logEntry, timestamp, duration, trigger);
         case VERBOSE_GC_OLD:
-            return new VerboseGcOldEvent(logEntry, timestamp, duration);
+            return new VerboseGcOldEvent(logEntry, timestamp, duration, trigger);
         default:
             throw new AssertionError("Unexpected event type value: " + eventType + ": " + logEntry);
         }
@@ -362,162 +394,202 @@ public final class JdkUtil {
      * @return The <code>LogEventType</code> of the log entry.
      */
     public static final LogEventType identifyEventType(String logLine, String priorLogLine) {
+        return identifyEventType(logLine, priorLogLine, UnifiedDecorator.parse(logLine), new Matcher[1], true);
+    }
+
+    /**
+     * Identify the log line garbage collection event, keeping the successful <code>Matcher</code> for event types
+     * constructed from it (e.g. {@link UnifiedG1YoungPauseEvent#matcher(UnifiedDecorator)}), so the log line is not
+     * matched again when the event is created.
+     *
+     * @param logLine
+     *            The log line.
+     * @param priorLogLine
+     *            The prior log line.
+     * @param decorator
+     *            The decorator of the log line, or null if the log line is not decorated with unified logging.
+     * @param matchResult
+     *            Holder set to the successful <code>Matcher</code>, or null if the event type is not identified by one.
+     * @param preDispatch
+     *            Whether or not to skip event types that cannot match based on literal features of the log line. Only
+     *            disabled to verify the pre-dispatch does not change the result.
+     * @return The <code>LogEventType</code> of the log entry.
+     */
+    static final LogEventType identifyEventType(String logLine, String priorLogLine, UnifiedDecorator decorator,
+            Matcher[] matchResult, boolean preDispatch) {
+
+        // Pre-dispatch on literal features of the log line. Each feature is a necessary condition for the event types
+        // it guards, so event types that cannot match are skipped without changing the result.
+        char firstChar = logLine.length() > 0 ? logLine.charAt(0) : 0;
+        // The unified decorator starts with "[".
+        boolean unified = !preDispatch || firstChar == '[';
+        // The JDK8 decorator starts with a datestamp or timestamp.
+        boolean jdk8 = !preDispatch || (firstChar >= '0' && firstChar <= '9') || firstChar == '.' || firstChar == ',';
+        // The first " Pause " is the one after the unified decorator, which cannot contain it.
+        int pause = !preDispatch ? 0 : unified ? logLine.indexOf(" Pause ") : -1;
+        boolean pauseCleanup = !preDispatch || (pause >= 0 && logLine.startsWith("Cleanup ", pause + 7));
+        boolean pauseFull = !preDispatch || (pause >= 0 && logLine.startsWith("Full (", pause + 7));
+        boolean pauseInitialMark = !preDispatch || (pause >= 0 && logLine.startsWith("Initial Mark ", pause + 7));
+        boolean pauseRemark = !preDispatch || (pause >= 0 && logLine.startsWith("Remark ", pause + 7));
+        boolean pauseYoung = !preDispatch || (pause >= 0 && logLine.startsWith("Young (", pause + 7));
+        boolean safepoint = !preDispatch || (unified && logLine.contains("afepoint"));
+        boolean using = !preDispatch || (unified && logLine.contains(" Using "));
 
         // Unified (alphabetical)
         if (HeapEvent.match(logLine))
             return LogEventType.HEAP;
-        if (HeapAddressEvent.match(logLine))
+        if (unified && HeapAddressEvent.match(decorator))
             return LogEventType.HEAP_ADDRESS;
-        if (HeapRegionSizeEvent.match(logLine))
+        if (unified && HeapRegionSizeEvent.match(decorator))
             return LogEventType.HEAP_REGION_SIZE;
-        if (MetaspaceUtilsReportEvent.match(logLine))
+        if (unified && MetaspaceUtilsReportEvent.match(logLine))
             return LogEventType.METASPACE_UTILS_REPORT;
-        if (OomeMetaspaceEvent.match(logLine))
+        if (unified && OomeMetaspaceEvent.match(decorator))
             return LogEventType.OOME_METASPACE;
-        if (UnifiedSafepointEvent.match(logLine))
+        if (safepoint && (matchResult[0] = UnifiedSafepointEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_SAFEPOINT;
-        if (UnifiedBlankLineEvent.match(logLine) && !BlankLineEvent.match(logLine))
+        if (unified && UnifiedBlankLineEvent.match(logLine) && !BlankLineEvent.match(logLine))
             return LogEventType.UNIFIED_BLANK_LINE;
-        if (UnifiedCmsInitialMarkEvent.match(logLine))
+        if (pauseInitialMark && (matchResult[0] = UnifiedCmsInitialMarkEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_CMS_INITIAL_MARK;
-        if (UnifiedConcurrentEvent.match(logLine))
+        if (unified && UnifiedConcurrentEvent.match(decorator))
             return LogEventType.UNIFIED_CONCURRENT;
-        if (UnifiedG1CleanupEvent.match(logLine))
+        if (pauseCleanup && (matchResult[0] = UnifiedG1CleanupEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_G1_CLEANUP;
-        if (GcLockerRetryEvent.match(logLine))
+        if (unified && (matchResult[0] = GcLockerRetryEvent.matcher(decorator)) != null)
             return LogEventType.GC_LOCKER_RETRY;
-        if (UnifiedG1FullGcEvent.match(logLine))
+        if (pauseFull && (matchResult[0] = UnifiedG1FullGcEvent.matcher(decorator)) != null)
             return LogEventType.G1_FULL_GC_PARALLEL;
-        if (UnifiedG1InfoEvent.match(logLine))
+        if (pauseInitialMark && UnifiedG1InfoEvent.match(decorator))
             return LogEventType.UNIFIED_G1_INFO;
-        if (UnifiedG1MixedPauseEvent.match(logLine))
+        if (pauseYoung && (matchResult[0] = UnifiedG1MixedPauseEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_G1_MIXED_PAUSE;
-        if (UnifiedG1YoungInitialMarkEvent.match(logLine))
+        if (pauseInitialMark && (matchResult[0] = UnifiedG1YoungInitialMarkEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_G1_YOUNG_INITIAL_MARK;
-        if (UnifiedG1YoungPauseEvent.match(logLine))
+        if (pauseYoung && (matchResult[0] = UnifiedG1YoungPauseEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_G1_YOUNG_PAUSE;
-        if (UnifiedG1YoungPrepareMixedEvent.match(logLine))
+        if (pauseYoung && (matchResult[0] = UnifiedG1YoungPrepareMixedEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_G1_YOUNG_PREPARE_MIXED;
-        if (UnifiedHeaderEvent.match(logLine)
+        if (unified && UnifiedHeaderEvent.match(decorator)
                 && (priorLogLine == null || UnifiedHeaderEvent.match(priorLogLine) || !GcInfoEvent.match(priorLogLine)))
             return LogEventType.UNIFIED_HEADER;
-        if (UnifiedHeaderVersionEvent.match(logLine))
+        if (unified && UnifiedHeaderVersionEvent.match(decorator))
             return LogEventType.UNIFIED_HEADER_VERSION;
-        if (UnifiedOldEvent.match(logLine))
+        if (pauseFull && (matchResult[0] = UnifiedOldEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_OLD;
-        if (UnifiedParallelCompactingOldEvent.match(logLine))
+        if (pauseFull && (matchResult[0] = UnifiedParallelCompactingOldEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_PARALLEL_COMPACTING_OLD;
-        if (UnifiedParallelScavengeEvent.match(logLine))
+        if (pauseYoung && (matchResult[0] = UnifiedParallelScavengeEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_PARALLEL_SCAVENGE;
-        if (UnifiedParNewEvent.match(logLine))
+        if (pauseYoung && (matchResult[0] = UnifiedParNewEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_PAR_NEW;
-        if (UnifiedRemarkEvent.match(logLine))
+        if (pauseRemark && (matchResult[0] = UnifiedRemarkEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_REMARK;
-        if (UnifiedSerialNewEvent.match(logLine))
+        if (pauseYoung && (matchResult[0] = UnifiedSerialNewEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_SERIAL_NEW;
-        if (UnifiedSerialOldEvent.match(logLine))
+        if (pauseFull && (matchResult[0] = UnifiedSerialOldEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_SERIAL_OLD;
-        if (UnifiedYoungEvent.match(logLine))
+        if (pauseYoung && (matchResult[0] = UnifiedYoungEvent.matcher(decorator)) != null)
             return LogEventType.UNIFIED_YOUNG;
-        if (UsingCmsEvent.match(logLine))
+        if (using && UsingCmsEvent.match(decorator))
             return LogEventType.USING_CMS;
-        if (UsingG1Event.match(logLine))
+        if (using && UsingG1Event.match(decorator))
             return LogEventType.USING_G1;
-        if (UsingParallelEvent.match(logLine))
+        if (using && UsingParallelEvent.match(decorator))
             return LogEventType.USING_PARALLEL;
-        if (UsingSerialEvent.match(logLine))
+        if (using && UsingSerialEvent.match(decorator))
             return LogEventType.USING_SERIAL;
-        if (UsingShenandoahEvent.match(logLine))
+        if (using && UsingShenandoahEvent.match(decorator))
             return LogEventType.USING_SHENANDOAH;
-        if (UsingZEvent.match(logLine))
+        if (using && UsingZEvent.match(decorator))
             return LogEventType.USING_Z;
-        if (ZMarkEndEvent.match(logLine))
+        if (pause >= 0 && (matchResult[0] = ZMarkEndEvent.matcher(decorator)) != null)
             return LogEventType.Z_MARK_END;
-        if (ZMarkStartEvent.match(logLine))
+        if (pause >= 0 && (matchResult[0] = ZMarkStartEvent.matcher(decorator)) != null)
             return LogEventType.Z_MARK_START;
-        if (ZRelocateStartEvent.match(logLine))
+        if (pause >= 0 && (matchResult[0] = ZRelocateStartEvent.matcher(decorator)) != null)
             return LogEventType.Z_RELOCATE_START;
 
         // Unknown
-        if (VerboseGcYoungEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = VerboseGcYoungEvent.matcher(logLine)) != null)
             return LogEventType.VERBOSE_GC_YOUNG;
-        if (VerboseGcOldEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = VerboseGcOldEvent.matcher(logLine)) != null)
             return LogEventType.VERBOSE_GC_OLD;
 
         // In order of most common events to limit checking
 
         // G1
-        if (UsingG1Event.match(logLine))
+        if (using && UsingG1Event.match(decorator))
             return LogEventType.USING_G1;
-        if (G1YoungPauseEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = G1YoungPauseEvent.matcher(logLine)) != null)
             return LogEventType.G1_YOUNG_PAUSE;
-        if (G1MixedPauseEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = G1MixedPauseEvent.matcher(logLine)) != null)
             return LogEventType.G1_MIXED_PAUSE;
-        if (G1ConcurrentEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = G1ConcurrentEvent.matcher(logLine)) != null)
             return LogEventType.G1_CONCURRENT;
-        if (G1YoungInitialMarkEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = G1YoungInitialMarkEvent.matcher(logLine)) != null)
             return LogEventType.G1_YOUNG_INITIAL_MARK;
-        if (G1RemarkEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = G1RemarkEvent.matcher(logLine)) != null)
             return LogEventType.G1_REMARK;
-        if (G1FullGcEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = G1FullGcEvent.matcher(logLine)) != null)
             return LogEventType.G1_FULL_GC_SERIAL;
-        if (G1CleanupEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = G1CleanupEvent.matcher(logLine)) != null)
             return LogEventType.G1_CLEANUP;
 
         // CMS
-        if (UsingCmsEvent.match(logLine))
+        if (using && UsingCmsEvent.match(decorator))
             return LogEventType.USING_CMS;
-        if (ParNewEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = ParNewEvent.matcher(logLine)) != null)
             return LogEventType.PAR_NEW;
-        if (CmsSerialOldEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = CmsSerialOldEvent.matcher(logLine)) != null)
             return LogEventType.CMS_SERIAL_OLD;
-        if (CmsInitialMarkEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = CmsInitialMarkEvent.matcher(logLine)) != null)
             return LogEventType.CMS_INITIAL_MARK;
-        if (CmsRemarkEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = CmsRemarkEvent.matcher(logLine)) != null)
             return LogEventType.CMS_REMARK;
         if (CmsConcurrentEvent.match(logLine))
             return LogEventType.CMS_CONCURRENT;
 
         // Parallel
-        if (UsingParallelEvent.match(logLine))
+        if (using && UsingParallelEvent.match(decorator))
             return LogEventType.USING_PARALLEL;
-        if (ParallelScavengeEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = ParallelScavengeEvent.matcher(logLine)) != null)
             return LogEventType.PARALLEL_SCAVENGE;
-        if (ParallelSerialOldEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = ParallelSerialOldEvent.matcher(logLine)) != null)
             return LogEventType.PARALLEL_SERIAL_OLD;
-        if (ParallelCompactingOldEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = ParallelCompactingOldEvent.matcher(logLine)) != null)
             return LogEventType.PARALLEL_COMPACTING_OLD;
 
         // Serial
-        if (UsingSerialEvent.match(logLine))
+        if (using && UsingSerialEvent.match(decorator))
             return LogEventType.USING_SERIAL;
-        if (SerialOldEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = SerialOldEvent.matcher(logLine)) != null)
             return LogEventType.SERIAL_OLD;
-        if (SerialNewEvent.match(logLine))
+        if (jdk8 && (matchResult[0] = SerialNewEvent.matcher(logLine)) != null)
             return LogEventType.SERIAL_NEW;
 
         // Shenandoah
         if (ShenandoahCancellingGcEvent.match(logLine))
             return LogEventType.SHENANDOAH_CANCELLING_GC;
-        if (ShenandoahConcurrentEvent.match(logLine))
+        if ((unified || jdk8) && (matchResult[0] = ShenandoahConcurrentEvent.matcher(logLine)) != null)
             return LogEventType.SHENANDOAH_CONCURRENT;
-        if (ShenandoahConsiderClassUnloadingConcMarkEvent.match(logLine))
+        if (unified && ShenandoahConsiderClassUnloadingConcMarkEvent.match(decorator))
             return LogEventType.SHENANDOAH_CONSIDER_CLASS_UNLOADING_CONC_MARK;
-        if (ShenandoahDegeneratedGcEvent.match(logLine))
+        if ((unified || jdk8) && (matchResult[0] = ShenandoahDegeneratedGcEvent.matcher(logLine)) != null)
             return LogEventType.SHENANDOAH_DEGENERATED_GC;
-        if (ShenandoahFinalEvacEvent.match(logLine))
+        if ((unified || jdk8) && (matchResult[0] = ShenandoahFinalEvacEvent.matcher(logLine)) != null)
             return LogEventType.SHENANDOAH_FINAL_EVAC;
-        if (ShenandoahFinalMarkEvent.match(logLine))
+        if ((unified || jdk8) && (matchResult[0] = ShenandoahFinalMarkEvent.matcher(logLine)) != null)
             return LogEventType.SHENANDOAH_FINAL_MARK;
-        if (ShenandoahFinalUpdateEvent.match(logLine))
+        if ((unified || jdk8) && (matchResult[0] = ShenandoahFinalUpdateEvent.matcher(logLine)) != null)
             return LogEventType.SHENANDOAH_FINAL_UPDATE;
-        if (ShenandoahFullGcEvent.match(logLine))
+        if ((unified || jdk8) && (matchResult[0] = ShenandoahFullGcEvent.matcher(logLine)) != null)
             return LogEventType.SHENANDOAH_FULL_GC;
-        if (ShenandoahInitMarkEvent.match(logLine))
+        if ((unified || jdk8) && (matchResult[0] = ShenandoahInitMarkEvent.matcher(logLine)) != null)
             return LogEventType.SHENANDOAH_INIT_MARK;
-        if (ShenandoahInitUpdateEvent.match(logLine))
+        if ((unified || jdk8) && (matchResult[0] = ShenandoahInitUpdateEvent.matcher(logLine)) != null)
             return LogEventType.SHENANDOAH_INIT_UPDATE;
-        if (ShenandoahMetaspaceEvent.match(logLine))
+        if (unified && ShenandoahMetaspaceEvent.match(logLine))
             return LogEventType.SHENANDOAH_METASPACE;
         if (ShenandoahStatsEvent.match(logLine))
             return LogEventType.SHENANDOAH_STATS;
@@ -527,7 +599,7 @@ public final class JdkUtil {
         // Other
         if (ApplicationConcurrentTimeEvent.match(logLine))
             return LogEventType.APPLICATION_CONCURRENT_TIME;
-        if (ApplicationStoppedTimeEvent.match(logLine))
+        if ((matchResult[0] = ApplicationStoppedTimeEvent.matcher(logLine)) != null)
             return LogEventType.APPLICATION_STOPPED_TIME;
         if (ClassUnloadingEvent.match(logLine))
             return LogEventType.CLASS_UNLOADING;
@@ -535,9 +607,9 @@ public final class JdkUtil {
             return LogEventType.FOOTER_STATS;
         if (GcInfoEvent.match(logLine) && !(priorLogLine != null && UnifiedHeaderEvent.match(priorLogLine)))
             return LogEventType.GC_INFO;
-        if (HeapAtGcEvent.match(logLine))
+        if ((firstChar == '{' || firstChar == 'H' || firstChar == '}') && HeapAtGcEvent.match(logLine))
             return LogEventType.HEAP_AT_GC;
-        if (TenuringDistributionEvent.match(logLine))
+        if ((firstChar == 'D' || firstChar == '-') && TenuringDistributionEvent.match(logLine))
             return LogEventType.TENURING_DISTRIBUTION;
         if (ClassHistogramEvent.match(logLine))
             return LogEventType.CLASS_HISTOGRAM;
@@ -547,7 +619,7 @@ public final class JdkUtil {
             return LogEventType.THREAD_DUMP;
         if (LogFileEvent.match(logLine))
             return LogEventType.LOG_FILE;
-        if (BlankLineEvent.match(logLine))
+        if (firstChar <= ' ' && BlankLineEvent.match(logLine))
             return LogEventType.BLANK_LINE;
         if (GcOverheadLimitEvent.match(logLine))
             return LogEventType.GC_OVERHEAD_LIMIT;
@@ -637,52 +709,74 @@ public final class JdkUtil {
      */
     public static final boolean isBottleneck(SafepointEvent event, SafepointEvent priorEvent, int throughputThreshold)
             throws TimeWarpException {
+        long eventDurationNanos;
+        if (event instanceof UnifiedSafepointEvent) {
+            eventDurationNanos = event.getDuration();
+        } else {
+            eventDurationNanos = event.getDuration() * 1000;
+        }
+        long priorEventDurationNanos;
+        if (priorEvent instanceof UnifiedSafepointEvent) {
+            priorEventDurationNanos = priorEvent.getDuration();
+        } else {
+            priorEventDurationNanos = priorEvent.getDuration() * 1000;
+        }
+        return isBottleneck(event.getTimestamp(), eventDurationNanos, priorEvent.getTimestamp(),
+                priorEventDurationNanos, throughputThreshold,
+                () -> priorEvent.getLogEntry() + Constants.LINE_SEPARATOR + event.getLogEntry());
+    }
+
+    /**
+     * Determine if a safepoint event should be classified as a bottleneck from its timestamp and duration, without
+     * the event.
+     * 
+     * @param timestamp
+     *            Current event time when the event started in milliseconds after JVM startup.
+     * @param durationNanos
+     *            Current event duration in nanoseconds.
+     * @param priorTimestamp
+     *            Previous event time when the event started in milliseconds after JVM startup.
+     * @param priorDurationNanos
+     *            Previous event duration in nanoseconds.
+     * @param throughputThreshold
+     *            Throughput threshold (percent of time spent not doing garbage collection for a given time interval) to
+     *            be considered a bottleneck. Whole number 0-100.
+     * @param logEntries
+     *            The previous and current event log entries, for the <code>TimeWarpException</code> message.
+     * @return True if the event pause time meets the bottleneck definition.
+     */
+    public static final boolean isBottleneck(long timestamp, long durationNanos, long priorTimestamp,
+            long priorDurationNanos, int throughputThreshold, Supplier<String> logEntries) throws TimeWarpException {
         boolean isBottleneck = false;
         /*
          * Check for logging time warps, which could be an indication of mixed logging from multiple JVM runs. JDK8
          * seems to have threading issues where sometimes logging gets mixed up under heavy load, and an event appears
          * to start before the previous event finished. They are mainly very small overlaps or a few milliseconds.
          */
-        long eventTimestampNanos = JdkMath.convertMillisToNanos(String.valueOf(event.getTimestamp())).longValue();
+        long eventTimestampNanos = timestamp * 1000000;
         // Exclude <code>ApplicationStoppedTime</code> w/o datestamp/timestamp
         // Exclude microevents where timestamps are equal (for report readability)
-        if (eventTimestampNanos > 0 && event.getTimestamp() != priorEvent.getTimestamp()) {
-            long priorEventTimestampNanos = JdkMath.convertMillisToNanos(String.valueOf(priorEvent.getTimestamp()))
-                    .longValue();
-            long priorEventDurationNanos;
-            if (priorEvent instanceof UnifiedSafepointEvent) {
-                priorEventDurationNanos = priorEvent.getDuration();
-            } else {
-                priorEventDurationNanos = JdkMath.convertMicrosToNanos(priorEvent.getDuration()).longValue();
-            }
+        if (eventTimestampNanos > 0 && timestamp != priorTimestamp) {
+            long priorEventTimestampNanos = priorTimestamp * 1000000;
             if (eventTimestampNanos < priorEventTimestampNanos) {
-                throw new TimeWarpException("Bad order: " + Constants.LINE_SEPARATOR + priorEvent.getLogEntry()
-                        + Constants.LINE_SEPARATOR + event.getLogEntry());
-            } else if (eventTimestampNanos < priorEventTimestampNanos + priorEventDurationNanos - 5000000000L) {
+                throw new TimeWarpException("Bad order: " + Constants.LINE_SEPARATOR + logEntries.get());
+            } else if (eventTimestampNanos < priorEventTimestampNanos + priorDurationNanos - 5000000000L) {
                 // Only report if overlap > 5 sec to account for overlaps due to JDK threading issues and use of
                 // -XX:+UseFastUnorderedTimeStamps
                 // TODO: Make this configurable w/ a command line option?
-                throw new TimeWarpException("Event overlap: " + Constants.LINE_SEPARATOR + priorEvent.getLogEntry()
-                        + Constants.LINE_SEPARATOR + event.getLogEntry());
+                throw new TimeWarpException("Event overlap: " + Constants.LINE_SEPARATOR + logEntries.get());
             } else {
-                long eventDurationNanos;
-                if (event instanceof UnifiedSafepointEvent) {
-                    eventDurationNanos = event.getDuration();
-                } else {
-                    eventDurationNanos = JdkMath.convertMicrosToNanos(event.getDuration()).longValue();
-                }
                 /*
                  * Timestamp is the start of a vm event; therefore, the interval is from the end of the prior event to
                  * the end of the current event.
                  */
-                long interval = eventTimestampNanos + eventDurationNanos - priorEventTimestampNanos
-                        - priorEventDurationNanos;
+                long interval = eventTimestampNanos + durationNanos - priorEventTimestampNanos - priorDurationNanos;
                 // Determine the maximum duration for the given interval that meets the throughput goal.
                 BigDecimal durationThresholdNanos = new BigDecimal(100 - throughputThreshold);
                 durationThresholdNanos = durationThresholdNanos.movePointLeft(2);
                 durationThresholdNanos = durationThresholdNanos.multiply(new BigDecimal(interval));
                 durationThresholdNanos.setScale(0, RoundingMode.DOWN);
-                isBottleneck = eventDurationNanos > durationThresholdNanos.longValue();
+                isBottleneck = durationNanos > durationThresholdNanos.longValue();
             }
         }
         return isBottleneck;
@@ -696,9 +790,20 @@ public final class JdkUtil {
      * @return True if the log line includes a datestamp, false otherwise..
      */
     public static final boolean isLogLineWithDateStamp(String logLine) {
-        String regex = "^(.*)" + JdkRegEx.DATESTAMP + "(.*)$";
-        Pattern pattern = Pattern.compile(regex);
-        return pattern.matcher(logLine).matches();
+        return PatternRegistry.matches("^(.*)" + JdkRegEx.DATESTAMP + "(.*)$", logLine);
+    }
+
+    /**
+     * The prior log line is only used to tell header logging from gc info logging (see
+     * {@link #identifyEventType(String, String)}). For all other log lines the event type is the same regardless of the
+     * prior log line.
+     *
+     * @param logLine
+     *            The log line.
+     * @return true if the event type of the log line can depend on the prior log line, false otherwise.
+     */
+    public static final boolean isPriorLogLineDependent(String logLine) {
+        return UnifiedHeaderEvent.match(logLine) || GcInfoEvent.match(logLine);
     }
 
     /**
@@ -748,6 +853,15 @@ public final class JdkUtil {
 
     }
 
+    /**
+     * @param decoration
+     *            A log line decoration (e.g. the timestamp or datestamp before the event).
+     * @return True if the decoration is a timestamp (e.g. 123.456), false otherwise (e.g. a datestamp).
+     */
+    public static final boolean isTimestamp(String decoration) {
+        return TIMESTAMP_PATTERN.matcher(decoration).matches();
+    }
+
     /**
      * @param logLine
      *            The log line.
@@ -756,7 +870,9 @@ public final class JdkUtil {
      * @return <code>LogEvent</code> for the log line
      */
     public static final LogEvent parseLogLine(String logLine, String priorLogLine) {
-        LogEventType eventType = identifyEventType(logLine, priorLogLine);
+        UnifiedDecorator decorator = UnifiedDecorator.parse(logLine);
+        Matcher[] matchResult = new Matcher[1];
+        LogEventType eventType = identifyEventType(logLine, priorLogLine, decorator, matchResult, true);
         switch (eventType) {
         // Unified (order of appearance)
         case HEAP_ADDRESS:
@@ -764,103 +880,103 @@ public final class JdkUtil {
         case HEAP_REGION_SIZE:
             return new HeapRegionSizeEvent(logLine);
         case UNIFIED_SAFEPOINT:
-            return new UnifiedSafepointEvent(logLine);
+            return new UnifiedSafepointEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_BLANK_LINE:
             return new UnifiedBlankLineEvent(logLine);
         case UNIFIED_CONCURRENT:
             return new UnifiedConcurrentEvent();
         case UNIFIED_CMS_INITIAL_MARK:
-            return new UnifiedCmsInitialMarkEvent(logLine);
+            return new UnifiedCmsInitialMarkEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_G1_CLEANUP:
-            return new UnifiedG1CleanupEvent(logLine);
+            return new UnifiedG1CleanupEvent(logLine, decorator, matchResult[0]);
         case GC_LOCKER_RETRY:
-            return new GcLockerRetryEvent(logLine);
+            return new GcLockerRetryEvent(logLine, decorator, matchResult[0]);
         case G1_FULL_GC_PARALLEL:
-            return new UnifiedG1FullGcEvent(logLine);
+            return new UnifiedG1FullGcEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_G1_INFO:
             return new UnifiedG1InfoEvent(logLine);
         case UNIFIED_G1_MIXED_PAUSE:
-            return new UnifiedG1MixedPauseEvent(logLine);
+            return new UnifiedG1MixedPauseEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_G1_YOUNG_INITIAL_MARK:
-            return new UnifiedG1YoungInitialMarkEvent(logLine);
+            return new UnifiedG1YoungInitialMarkEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_G1_YOUNG_PAUSE:
-            return new UnifiedG1YoungPauseEvent(logLine);
+            return new UnifiedG1YoungPauseEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_G1_YOUNG_PREPARE_MIXED:
-            return new UnifiedG1YoungPrepareMixedEvent(logLine);
+            return new UnifiedG1YoungPrepareMixedEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_HEADER:
-            return new UnifiedHeaderEvent(logLine);
+            return new UnifiedHeaderEvent(logLine, decorator);
         case UNIFIED_HEADER_VERSION:
-            return new UnifiedHeaderVersionEvent(logLine);
+            return new UnifiedHeaderVersionEvent(logLine, decorator);
         case UNIFIED_OLD:
-            return new UnifiedOldEvent(logLine);
+            return new UnifiedOldEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_PARALLEL_COMPACTING_OLD:
-            return new UnifiedParallelCompactingOldEvent(logLine);
+            return new UnifiedParallelCompactingOldEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_PARALLEL_SCAVENGE:
-            return new UnifiedParallelScavengeEvent(logLine);
+            return new UnifiedParallelScavengeEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_PAR_NEW:
-            return new UnifiedParNewEvent(logLine);
+            return new UnifiedParNewEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_REMARK:
-            return new UnifiedRemarkEvent(logLine);
+            return new UnifiedRemarkEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_SERIAL_NEW:
-            return new UnifiedSerialNewEvent(logLine);
+            return new UnifiedSerialNewEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_SERIAL_OLD:
-            return new UnifiedSerialOldEvent(logLine);
+            return new UnifiedSerialOldEvent(logLine, decorator, matchResult[0]);
         case UNIFIED_YOUNG:
-            return new UnifiedYoungEvent(logLine);
+            return new UnifiedYoungEvent(logLine, decorator, matchResult[0]);
         case USING_CMS:
-            return new UsingCmsEvent(logLine);
+            return new UsingCmsEvent(logLine, decorator);
         case USING_G1:
-            return new UsingG1Event(logLine);
+            return new UsingG1Event(logLine, decorator);
         case USING_SHENANDOAH:
-            return new UsingShenandoahEvent(logLine);
+            return new UsingShenandoahEvent(logLine, decorator);
         case USING_Z:
-            return new UsingZEvent(logLine);
+            return new UsingZEvent(logLine, decorator);
         case HEAP:
             return new HeapEvent(logLine);
         case FOOTER_STATS:
             return new FooterStatsEvent(logLine);
         case USING_PARALLEL:
-            return new UsingParallelEvent(logLine);
+            return new UsingParallelEvent(logLine, decorator);
         case USING_SERIAL:
-            return new UsingSerialEvent(logLine);
+            return new UsingSerialEvent(logLine, decorator);
 
         // G1
         case G1_CLEANUP:
-            return new G1CleanupEvent(logLine);
+            return new G1CleanupEvent(logLine, matchResult[0]);
         case G1_CONCURRENT:
-            return new G1ConcurrentEvent(logLine);
+            return new G1ConcurrentEvent(logLine, matchResult[0]);
         case G1_FULL_GC_SERIAL:
-            return new G1FullGcEvent(logLine);
+            return new G1FullGcEvent(logLine, matchResult[0]);
         case G1_MIXED_PAUSE:
-            return new G1MixedPauseEvent(logLine);
+            return new G1MixedPauseEvent(logLine, matchResult[0]);
         case G1_REMARK:
-            return new G1RemarkEvent(logLine);
+            return new G1RemarkEvent(logLine, matchResult[0]);
         case G1_YOUNG_INITIAL_MARK:
-            return new G1YoungInitialMarkEvent(logLine);
+            return new G1YoungInitialMarkEvent(logLine, matchResult[0]);
         case G1_YOUNG_PAUSE:
-            return new G1YoungPauseEvent(logLine);
+            return new G1YoungPauseEvent(logLine, matchResult[0]);
 
         // Shenandoah
         case SHENANDOAH_CANCELLING_GC:
             return new ShenandoahCancellingGcEvent();
         case SHENANDOAH_CONSIDER_CLASS_UNLOADING_CONC_MARK:
-            return new ShenandoahConsiderClassUnloadingConcMarkEvent(logLine);
+            return new ShenandoahConsiderClassUnloadingConcMarkEvent(logLine, decorator);
         case SHENANDOAH_CONCURRENT:
-            return new ShenandoahConcurrentEvent(logLine);
+            return new ShenandoahConcurrentEvent(logLine, matchResult[0]);
         case SHENANDOAH_DEGENERATED_GC:
-            return new ShenandoahDegeneratedGcEvent(logLine);
+            return new ShenandoahDegeneratedGcEvent(logLine, matchResult[0]);
         case SHENANDOAH_FINAL_EVAC:
-            return new ShenandoahFinalEvacEvent(logLine);
+            return new ShenandoahFinalEvacEvent(logLine, matchResult[0]);
         case SHENANDOAH_FINAL_MARK:
-            return new ShenandoahFinalMarkEvent(logLine);
+            return new ShenandoahFinalMarkEvent(logLine, matchResult[0]);
         case SHENANDOAH_FINAL_UPDATE:
-            return new ShenandoahFinalUpdateEvent(logLine);
+            return new ShenandoahFinalUpdateEvent(logLine, matchResult[0]);
         case SHENANDOAH_FULL_GC:
-            return new ShenandoahFullGcEvent(logLine);
+            return new ShenandoahFullGcEvent(logLine, matchResult[0]);
         case SHENANDOAH_INIT_MARK:
-            return new ShenandoahInitMarkEvent(logLine);
+            return new ShenandoahInitMarkEvent(logLine, matchResult[0]);
         case SHENANDOAH_INIT_UPDATE:
-            return new ShenandoahInitUpdateEvent(logLine);
+            return new ShenandoahInitUpdateEvent(logLine, matchResult[0]);
         case SHENANDOAH_METASPACE:
             return new ShenandoahMetaspaceEvent(logLine);
         case SHENANDOAH_STATS:
@@ -870,37 +986,37 @@ public final class JdkUtil {
 
         // Z
         case Z_MARK_END:
-            return new ZMarkEndEvent(logLine);
+            return new ZMarkEndEvent(logLine, decorator, matchResult[0]);
         case Z_MARK_START:
-            return new ZMarkStartEvent(logLine);
+            return new ZMarkStartEvent(logLine, decorator, matchResult[0]);
         case Z_RELOCATE_START:
-            return new ZRelocateStartEvent(logLine);
+            return new ZRelocateStartEvent(logLine, decorator, matchResult[0]);
 
         // CMS
         case PAR_NEW:
-            return new ParNewEvent(logLine);
+            return new ParNewEvent(logLine, matchResult[0]);
         case CMS_CONCURRENT:
             return new CmsConcurrentEvent();
         case CMS_INITIAL_MARK:
-            return new CmsInitialMarkEvent(logLine);
+            return new CmsInitialMarkEvent(logLine, matchResult[0]);
         case CMS_REMARK:
-            return new CmsRemarkEvent(logLine);
+            return new CmsRemarkEvent(logLine, matchResult[0]);
         case CMS_SERIAL_OLD:
-            return new CmsSerialOldEvent(logLine);
+            return new CmsSerialOldEvent(logLine, matchResult[0]);
 
         // Parallel
         case PARALLEL_COMPACTING_OLD:
-            return new ParallelCompactingOldEvent(logLine);
+            return new ParallelCompactingOldEvent(logLine, matchResult[0]);
         case PARALLEL_SCAVENGE:
-            return new ParallelScavengeEvent(logLine);
+            return new ParallelScavengeEvent(logLine, matchResult[0]);
         case PARALLEL_SERIAL_OLD:
-            return new ParallelSerialOldEvent(logLine);
+            return new ParallelSerialOldEvent(logLine, matchResult[0]);
 
         // Serial
         case SERIAL_NEW:
-            return new SerialNewEvent(logLine);
+            return new SerialNewEvent(logLine, matchResult[0]);
         case SERIAL_OLD:
-            return new SerialOldEvent(logLine);
+            return new SerialOldEvent(logLine, matchResult[0]);
 
         // Other
         case APPLICATION_CONCURRENT_TIME:
@@ -908,7 +1024,7 @@ public final class JdkUtil {
         case APPLICATION_LOGGING:
             return new ApplicationLoggingEvent(logLine);
         case APPLICATION_STOPPED_TIME:
-            return new ApplicationStoppedTimeEvent(logLine);
+            return new ApplicationStoppedTimeEvent(logLine, matchResult[0]);
         case BLANK_LINE:
             return new BlankLineEvent(logLine);
         case CLASS_HISTOGRAM:
@@ -944,9 +1060,9 @@ public final class JdkUtil {
         case UNKNOWN:
             return new UnknownEvent(logLine);
         case VERBOSE_GC_OLD:
-            return new VerboseGcOldEvent(logLine);
+            return new VerboseGcOldEvent(logLine, matchResult[0]);
         case VERBOSE_GC_YOUNG:
-            return new VerboseGcYoungEvent(logLine);
+            return new VerboseGcYoungEvent(logLine, matchResult[0]);
         case VM_WARNING:
             return new VmWarningEvent(logLine);
         default:
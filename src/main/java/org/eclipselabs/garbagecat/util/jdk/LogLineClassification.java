@@ -0,0 +1,122 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+
+/**
+ * <p>
+ * The classification of a single log line: the <code>LogEvent</code> it parses to and its <code>LogEventType</code>.
+ * </p>
+ *
+ * <p>
+ * Classifying a line runs the full {@link JdkUtil#identifyEventType(String, String)} regular expression cascade plus
+ * the event constructor, so it is done once and the result shared between preprocessing and storage.
+ * </p>
+ *
+ * <p>
+ * The classification only depends on the prior log line for header and gc info logging (see
+ * {@link JdkUtil#isPriorLogLineDependent(String)}), so it is reused for the same log line with a different prior log
+ * line in all other cases.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+public class LogLineClassification {
+
+    /**
+     * The <code>LogEvent</code> the log line parses to.
+     */
+    private final LogEvent event;
+
+    /**
+     * The <code>LogEventType</code> of the log line.
+     */
+    private final LogEventType eventType;
+
+    /**
+     * The classified log line.
+     */
+    private final String logLine;
+
+    /**
+     * Whether or not the classification depends on the prior log line. Determined on first use.
+     */
+    private Boolean priorLogLineDependent;
+
+    /**
+     * The prior log line used for the classification.
+     */
+    private final String priorLogLine;
+
+    /**
+     * Classify a log line.
+     *
+     * @param logLine
+     *            The log line.
+     * @param priorLogLine
+     *            The prior log line.
+     */
+    public LogLineClassification(String logLine, String priorLogLine) {
+        this.logLine = logLine;
+        this.priorLogLine = priorLogLine;
+        event = JdkUtil.parseLogLine(logLine, priorLogLine);
+        eventType = event.getLogEventType();
+    }
+
+    public LogEvent getEvent() {
+        return event;
+    }
+
+    public LogEventType getEventType() {
+        return eventType;
+    }
+
+    public String getLogLine() {
+        return logLine;
+    }
+
+    public String getPriorLogLine() {
+        return priorLogLine;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param priorLogLine
+     *            The prior log line.
+     * @return true if this classification is the classification of the log line preceded by the prior log line, false
+     *         otherwise.
+     */
+    public boolean isClassificationOf(String logLine, String priorLogLine) {
+        if (logLine != this.logLine && (logLine == null || !logLine.equals(this.logLine))) {
+            return false;
+        }
+        if (priorLogLine == this.priorLogLine || (priorLogLine != null && priorLogLine.equals(this.priorLogLine))) {
+            return true;
+        }
+        return !isPriorLogLineDependent();
+    }
+
+    /**
+     * @return true if the classification depends on the prior log line, false otherwise.
+     */
+    public boolean isPriorLogLineDependent() {
+        if (priorLogLineDependent == null) {
+            priorLogLineDependent = Boolean.valueOf(JdkUtil.isPriorLogLineDependent(logLine));
+        }
+        return priorLogLineDependent.booleanValue();
+    }
+}
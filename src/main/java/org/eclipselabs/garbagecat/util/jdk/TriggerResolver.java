@@ -0,0 +1,126 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.util.PatternRegistry;
+
+/**
+ * <p>
+ * Resolves trigger log literals to trigger enum values (e.g. <code>GcTrigger</code>,
+ * <code>UnifiedSafepoint.Trigger</code>).
+ * </p>
+ *
+ * <p>
+ * Built once at class initialization. A trigger regular expression that is a plain literal is resolved with a single
+ * hash lookup. Only the few that need a pattern are kept as precompiled <code>Pattern</code>s, tried in the order they
+ * were added after the lookup misses.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ * @param <E>
+ *            The trigger enum type.
+ */
+public class TriggerResolver<E extends Enum<E>> {
+
+    /**
+     * Regular expression metacharacters. A trigger regular expression without any of them matches only itself.
+     */
+    private static final String METACHARACTERS = "\\[](){}.*+?^$|";
+
+    /**
+     * Trigger literals.
+     */
+    private final Map<String, E> literals = new HashMap<String, E>();
+
+    /**
+     * Trigger patterns, in the order added.
+     */
+    private final List<Pattern> patterns = new ArrayList<Pattern>();
+
+    /**
+     * The triggers of <code>patterns</code>, in the same order.
+     */
+    private final List<E> patternTriggers = new ArrayList<E>();
+
+    /**
+     * The trigger returned when a literal is not resolved.
+     */
+    private final E unknown;
+
+    /**
+     * @param unknown
+     *            The trigger returned when a literal is not resolved.
+     */
+    public TriggerResolver(E unknown) {
+        this.unknown = unknown;
+    }
+
+    /**
+     * Add a trigger log literal.
+     *
+     * @param literal
+     *            The trigger literal.
+     * @param trigger
+     *            The trigger.
+     * @return This resolver.
+     */
+    public TriggerResolver<E> addLiteral(String literal, E trigger) {
+        literals.putIfAbsent(literal, trigger);
+        return this;
+    }
+
+    /**
+     * Add a trigger regular expression. Resolved as a literal if it has no regular expression metacharacters.
+     *
+     * @param regex
+     *            The trigger regular expression.
+     * @param trigger
+     *            The trigger.
+     * @return This resolver.
+     */
+    public TriggerResolver<E> addRegex(String regex, E trigger) {
+        for (int i = 0; i < regex.length(); i++) {
+            if (METACHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+                patterns.add(PatternRegistry.get(regex));
+                patternTriggers.add(trigger);
+                return this;
+            }
+        }
+        return addLiteral(regex, trigger);
+    }
+
+    /**
+     * @param literal
+     *            The trigger literal.
+     * @return The trigger the literal resolves to, or the unknown trigger.
+     */
+    public E resolve(String literal) {
+        E trigger = literals.get(literal);
+        if (trigger == null) {
+            for (int i = 0; i < patterns.size(); i++) {
+                if (patterns.get(i).matcher(literal).matches()) {
+                    return patternTriggers.get(i);
+                }
+            }
+            trigger = unknown;
+        }
+        return trigger;
+    }
+}
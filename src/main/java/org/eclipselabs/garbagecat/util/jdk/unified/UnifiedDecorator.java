@@ -0,0 +1,462 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk.unified;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+
+/**
+ * <p>
+ * Hand-written scanner for the decorations prepending unified logging. It recognizes the same decorations as
+ * <code>UnifiedRegEx.DECORATOR</code>, without regular expressions.
+ * </p>
+ *
+ * <p>
+ * The decorator is scanned once into a structure holding the uptime, datestamp, pid, level, tags, and gc event number.
+ * The level, tags, and datestamp are only turned into strings when requested. Event identification and parsing then
+ * match only the log line body after the decorator (see {@link #matcher(Pattern)}).
+ * </p>
+ *
+ * <pre>
+ * [2020-02-14T15:21:55.207-0500][0.052s][1863][info][gc,start     ] GC(0) Pause Young (Normal) (G1 Evacuation Pause)
+ * </pre>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+public final class UnifiedDecorator {
+
+    /**
+     * Datestamp format (<code>JdkRegEx.DATESTAMP</code>): 'd' is a digit, '+' is a sign, anything else is literal.
+     */
+    private static final String DATESTAMP_FORMAT = "dddd-dd-ddTdd:dd:dd.ddd+dddd";
+
+    /**
+     * Levels.
+     */
+    private static final String[] LEVELS = { "debug", "info" };
+
+    /**
+     * Value of numeric decorations not in the log line.
+     */
+    public static final long NO_DATA = -1;
+
+    /**
+     * First tags.
+     */
+    private static final String[] TAGS = { "gc", "safepoint" };
+
+    /**
+     * Second tags.
+     */
+    private static final String[] TAGS2 = { "age", "alloc", "cds", "cpu", "ergo", "heap", "ihop", "init", "load",
+            "marking", "metaspace", "mmu", "nmethod", "phases", "plab", "ref", "reloc", "stats", "start", "stringtable",
+            "stringdedup", "task", "tlab" };
+
+    /**
+     * Third tags, or second tags when there is no tag from <code>TAGS2</code>.
+     */
+    private static final String[] TAGS3 = { "coops", "cset", "exit", "ref", "refine", "region", "start", "stats" };
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param begin
+     *            The offset of the tag.
+     * @return The offset after the closing bracket, allowing trailing spaces, or -1 if the tag is not closed.
+     */
+    private static int closeEnd(String logLine, int begin) {
+        int i = begin;
+        while (i < logLine.length() && logLine.charAt(i) == ' ') {
+            i++;
+        }
+        return i < logLine.length() && logLine.charAt(i) == ']' ? i + 1 : -1;
+    }
+
+    /**
+     * Parse the timestamp from the time decorations of a log line without creating a <code>UnifiedDecorator</code>.
+     *
+     * @param logLine
+     *            The log line.
+     * @return The uptime in milliseconds if the log line is decorated with uptime or uptimemillis, the datestamp in
+     *         milliseconds (see {@link JdkUtil#convertDatestampToMillis(String)}) if it is decorated with time only, or
+     *         <code>NO_DATA</code> if it has no time decorator.
+     */
+    public static final long getTimestamp(String logLine) {
+        int close = timeEnd(logLine, 0);
+        if (close < 0) {
+            return NO_DATA;
+        }
+        long uptime = parseUptime(logLine, 1, close);
+        if (uptime == NO_DATA) {
+            int close2 = timeEnd(logLine, close + 1);
+            if (close2 >= 0) {
+                uptime = parseUptime(logLine, close + 2, close2);
+            }
+            if (uptime == NO_DATA) {
+                uptime = JdkUtil.convertDatestampToMillis(logLine.substring(1, close));
+            }
+        }
+        return uptime;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param begin
+     *            The decoration contents begin offset.
+     * @param end
+     *            The decoration contents end offset.
+     * @return true if the decoration is a datestamp (e.g. 2020-02-14T15:21:55.207-0500), false otherwise.
+     */
+    private static boolean isDatestamp(String logLine, int begin, int end) {
+        if (end - begin != DATESTAMP_FORMAT.length()) {
+            return false;
+        }
+        for (int i = 0; i < DATESTAMP_FORMAT.length(); i++) {
+            char c = logLine.charAt(begin + i);
+            char format = DATESTAMP_FORMAT.charAt(i);
+            if (format == 'd' ? c < '0' || c > '9' : format == '+' ? c != '+' && c != '-' : c != format) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parse the decorator of a log line.
+     *
+     * @param logLine
+     *            The log line.
+     * @return The decorator, or null if the log line does not begin with a decorator.
+     */
+    public static final UnifiedDecorator parse(String logLine) {
+        int close = timeEnd(logLine, 0);
+        if (close < 0) {
+            return null;
+        }
+        UnifiedDecorator decorator = new UnifiedDecorator(logLine);
+        decorator.uptime = parseUptime(logLine, 1, close);
+        if (decorator.uptime == NO_DATA) {
+            if (!isDatestamp(logLine, 1, close)) {
+                return null;
+            }
+            decorator.datestampBegin = 1;
+        }
+        int end = close + 1;
+        // uptime or uptimemillis following the datestamp or uptime
+        close = timeEnd(logLine, end);
+        long uptime = close < 0 ? NO_DATA : parseUptime(logLine, end + 1, close);
+        if (uptime != NO_DATA) {
+            if (decorator.uptime == NO_DATA) {
+                decorator.uptime = uptime;
+            }
+            end = close + 1;
+        }
+        // pid
+        if (end < logLine.length() && logLine.charAt(end) == '[') {
+            close = logLine.indexOf(']', end + 1);
+            long pid = close < 0 ? NO_DATA : parseDigits(logLine, end + 1, close);
+            if (pid != NO_DATA) {
+                decorator.pid = pid;
+                end = close + 1;
+            }
+        }
+        // level
+        if (end < logLine.length() && logLine.charAt(end) == '[') {
+            int levelEnd = tagEnd(logLine, end + 1, LEVELS);
+            close = levelEnd < 0 ? -1 : closeEnd(logLine, levelEnd);
+            if (close >= 0) {
+                decorator.levelBegin = end + 1;
+                decorator.levelEnd = levelEnd;
+                end = close;
+            }
+        }
+        // tags
+        if (end < logLine.length() && logLine.charAt(end) == '[') {
+            int tagsEnd = tagsEnd(logLine, end + 1);
+            if (tagsEnd >= 0) {
+                decorator.tagsBegin = end + 1;
+                decorator.tagsEnd = tagsEnd;
+                end = closeEnd(logLine, tagsEnd);
+            }
+        }
+        // gc event number (e.g. " GC(6)")
+        if (logLine.startsWith(" GC(", end)) {
+            close = logLine.indexOf(')', end + 4);
+            long gcEventNumber = close < 0 ? NO_DATA : parseDigits(logLine, end + 4, close);
+            if (gcEventNumber != NO_DATA) {
+                decorator.gcEventNumber = gcEventNumber;
+                end = close + 1;
+            }
+        }
+        decorator.end = end;
+        return decorator;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param begin
+     *            The offset of the digits.
+     * @param end
+     *            The offset after the digits.
+     * @return The value of the digits, or <code>NO_DATA</code> if there are no digits or a character is not a digit.
+     */
+    private static long parseDigits(String logLine, int begin, int end) {
+        if (begin >= end) {
+            return NO_DATA;
+        }
+        long value = 0;
+        for (int i = begin; i < end; i++) {
+            char c = logLine.charAt(i);
+            if (c < '0' || c > '9') {
+                return NO_DATA;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Parse uptime (e.g. 25.016s or 25,016s) or uptimemillis (e.g. 25016ms) decoration contents.
+     *
+     * @param logLine
+     *            The log line.
+     * @param begin
+     *            The offset after the opening bracket.
+     * @param end
+     *            The offset of the closing bracket.
+     * @return The uptime in milliseconds, or <code>NO_DATA</code> if the decoration is not an uptime.
+     */
+    private static long parseUptime(String logLine, int begin, int end) {
+        if (end - begin < 2 || logLine.charAt(end - 1) != 's') {
+            return NO_DATA;
+        }
+        if (logLine.charAt(end - 2) == 'm') {
+            return parseDigits(logLine, begin, end - 2);
+        }
+        int separator = end - 5;
+        if (separator < begin || (logLine.charAt(separator) != '.' && logLine.charAt(separator) != ',')) {
+            return NO_DATA;
+        }
+        long millis = parseDigits(logLine, separator + 1, end - 1);
+        if (millis == NO_DATA) {
+            return NO_DATA;
+        }
+        if (separator == begin) {
+            return millis;
+        }
+        long secs = parseDigits(logLine, begin, separator);
+        return secs == NO_DATA ? NO_DATA : secs * 1000 + millis;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param begin
+     *            The offset of the tag.
+     * @param tags
+     *            The recognized tags.
+     * @return The offset after the recognized tag at the offset, or -1 if there is none. A tag ends at a comma, space,
+     *         or closing bracket.
+     */
+    private static int tagEnd(String logLine, int begin, String[] tags) {
+        for (String tag : tags) {
+            int end = begin + tag.length();
+            if (logLine.startsWith(tag, begin) && end < logLine.length()
+                    && (logLine.charAt(end) == ',' || logLine.charAt(end) == ' ' || logLine.charAt(end) == ']')) {
+                return end;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param begin
+     *            The offset after the opening bracket.
+     * @return The offset after the recognized tags (trailing spaces excluded), or -1 if the tags are not recognized.
+     */
+    private static int tagsEnd(String logLine, int begin) {
+        int end = tagEnd(logLine, begin, TAGS);
+        if (end < 0 || logLine.charAt(end) != ',') {
+            return end < 0 || closeEnd(logLine, end) < 0 ? -1 : end;
+        }
+        int end2 = tagEnd(logLine, end + 1, TAGS2);
+        if (end2 >= 0) {
+            if (logLine.charAt(end2) != ',') {
+                if (closeEnd(logLine, end2) >= 0) {
+                    return end2;
+                }
+            } else {
+                int end3 = tagEnd(logLine, end2 + 1, TAGS3);
+                if (end3 >= 0 && closeEnd(logLine, end3) >= 0) {
+                    return end3;
+                }
+            }
+        }
+        end2 = tagEnd(logLine, end + 1, TAGS3);
+        return end2 < 0 || closeEnd(logLine, end2) < 0 ? -1 : end2;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param begin
+     *            The offset of the opening bracket.
+     * @return The offset of the closing bracket of a time decoration (no spaces) beginning at the offset, or -1 if
+     *         there is none.
+     */
+    private static int timeEnd(String logLine, int begin) {
+        if (begin >= logLine.length() || logLine.charAt(begin) != '[') {
+            return -1;
+        }
+        for (int i = begin + 1; i < logLine.length(); i++) {
+            char c = logLine.charAt(i);
+            if (c == ']') {
+                return i;
+            } else if (c == ' ' || c == '[') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The datestamp begin offset, or -1 if there is no datestamp.
+     */
+    private int datestampBegin = -1;
+
+    /**
+     * The offset of the first character after the decorator.
+     */
+    private int end;
+
+    /**
+     * The gc event number (e.g. 6 for GC(6)), or <code>NO_DATA</code>.
+     */
+    private long gcEventNumber = NO_DATA;
+
+    /**
+     * The level begin offset, or -1 if there is no level.
+     */
+    private int levelBegin = -1;
+
+    /**
+     * The level end offset (trailing spaces excluded).
+     */
+    private int levelEnd;
+
+    /**
+     * The decorated log line.
+     */
+    private final String logLine;
+
+    /**
+     * The process id, or <code>NO_DATA</code>.
+     */
+    private long pid = NO_DATA;
+
+    /**
+     * The tags begin offset, or -1 if there are no tags.
+     */
+    private int tagsBegin = -1;
+
+    /**
+     * The tags end offset (trailing spaces excluded).
+     */
+    private int tagsEnd;
+
+    /**
+     * Milliseconds since JVM started, or <code>NO_DATA</code>.
+     */
+    private long uptime = NO_DATA;
+
+    /**
+     * @param logLine
+     *            The decorated log line.
+     */
+    private UnifiedDecorator(String logLine) {
+        this.logLine = logLine;
+    }
+
+    /**
+     * @return The datestamp (e.g. 2020-02-14T15:21:55.207-0500), or null if the log line is not decorated with time.
+     */
+    public String getDatestamp() {
+        return datestampBegin < 0 ? null
+                : logLine.substring(datestampBegin, datestampBegin + DATESTAMP_FORMAT.length());
+    }
+
+    /**
+     * @return The offset of the first character after the decorator (the beginning of the log line body).
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    public long getGcEventNumber() {
+        return gcEventNumber;
+    }
+
+    /**
+     * @return The level (e.g. info), or null if the log line is not decorated with level.
+     */
+    public String getLevel() {
+        return levelBegin < 0 ? null : logLine.substring(levelBegin, levelEnd);
+    }
+
+    public String getLogLine() {
+        return logLine;
+    }
+
+    public long getPid() {
+        return pid;
+    }
+
+    /**
+     * @return The tags (e.g. gc,start), or null if the log line is not decorated with tags.
+     */
+    public String getTags() {
+        return tagsBegin < 0 ? null : logLine.substring(tagsBegin, tagsEnd);
+    }
+
+    /**
+     * @return The uptime in milliseconds if the log line is decorated with uptime or uptimemillis, otherwise the
+     *         datestamp in milliseconds (see {@link JdkUtil#convertDatestampToMillis(String)}).
+     */
+    public long getTimestamp() {
+        return uptime != NO_DATA ? uptime : JdkUtil.convertDatestampToMillis(getDatestamp());
+    }
+
+    public long getUptime() {
+        return uptime;
+    }
+
+    /**
+     * Match the log line body after the decorator.
+     *
+     * @param pattern
+     *            The pattern of the log line body, beginning after the decorator (e.g. " Using G1").
+     * @return The successful <code>Matcher</code> if the log line body matches the pattern, null otherwise. Group
+     *         numbers are those of the body pattern.
+     */
+    public Matcher matcher(Pattern pattern) {
+        Matcher matcher = pattern.matcher(logLine).region(end, logLine.length());
+        return matcher.matches() ? matcher : null;
+    }
+}
@@ -12,6 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util.jdk.unified;
 
+import org.eclipselabs.garbagecat.util.jdk.TriggerResolver;
+
 /**
  * <p>
  * Regular expression constants for safepoint triggers.
@@ -392,6 +394,25 @@ public class UnifiedSafepoint {
      */
     public static final String Z_RELOCATE_START = "ZRelocateStart";
 
+    /**
+     * Resolver of trigger log literals.
+     */
+    private static final TriggerResolver<Trigger> TRIGGER_LITERALS = new TriggerResolver<Trigger>(Trigger.UNKNOWN);
+
+    /**
+     * Resolver of trigger names (e.g. <code>Trigger.name()</code>).
+     */
+    private static final TriggerResolver<Trigger> TRIGGER_NAMES = new TriggerResolver<Trigger>(Trigger.UNKNOWN);
+
+    static {
+        for (Trigger trigger : Trigger.values()) {
+            if (trigger != Trigger.UNKNOWN) {
+                TRIGGER_LITERALS.addLiteral(getTriggerLiteral(trigger), trigger);
+                TRIGGER_NAMES.addLiteral(trigger.name(), trigger);
+            }
+        }
+    }
+
     /**
      * Get <code>Trigger</code> from log literal.
      * 
@@ -400,94 +421,7 @@ public class UnifiedSafepoint {
      * @return The <code>Trigger</code>.
      */
     public static final Trigger getTrigger(String triggerLiteral) {
-        if (BULK_REVOKE_BIAS.matches(triggerLiteral))
-            return Trigger.BULK_REVOKE_BIAS;
-        if (CGC_OPERATION.matches(triggerLiteral))
-            return Trigger.CGC_OPERATION;
-        if (CLEANUP.matches(triggerLiteral))
-            return Trigger.CLEANUP;
-        if (CLEAN_CLASSLOADER_DATA_METASPACES.matches(triggerLiteral))
-            return Trigger.CLEAN_CLASSLOADER_DATA_METASPACES;
-        if (COLLECT_FOR_METADATA_ALLOCATION.matches(triggerLiteral))
-            return Trigger.COLLECT_FOR_METADATA_ALLOCATION;
-        if (CMS_FINAL_REMARK.matches(triggerLiteral))
-            return Trigger.CMS_FINAL_REMARK;
-        if (CMS_INITIAL_MARK.matches(triggerLiteral))
-            return Trigger.CMS_INITIAL_MARK;
-        if (DEOPTIMIZE.matches(triggerLiteral))
-            return Trigger.DEOPTIMIZE;
-        if (ENABLE_BIASED_LOCKING.matches(triggerLiteral))
-            return Trigger.ENABLE_BIASED_LOCKING;
-        if (EXIT.matches(triggerLiteral))
-            return Trigger.EXIT;
-        if (FIND_DEADLOCKS.matches(triggerLiteral))
-            return Trigger.FIND_DEADLOCKS;
-        if (FORCE_SAFEPOINT.matches(triggerLiteral))
-            return Trigger.FORCE_SAFEPOINT;
-        if (GC_HEAP_INSPECTION.matches(triggerLiteral))
-            return Trigger.GC_HEAP_INSPECTION;
-        if (G1_COLLECT_FOR_ALLOCATION.matches(triggerLiteral))
-            return Trigger.G1_COLLECT_FOR_ALLOCATION;
-        if (G1_COLLECT_FULL.matches(triggerLiteral))
-            return Trigger.G1_COLLECT_FULL;
-        if (G1_CONCURRENT.matches(triggerLiteral))
-            return Trigger.G1_CONCURRENT;
-        if (G1_INC_COLLECTION_PAUSE.matches(triggerLiteral))
-            return Trigger.G1_INC_COLLECTION_PAUSE;
-        if (G1_TRY_INITIATE_CONC_MARK.matches(triggerLiteral))
-            return Trigger.G1_TRY_INITIATE_CONC_MARK;
-        if (GEN_COLLECT_FOR_ALLOCATION.matches(triggerLiteral))
-            return Trigger.GEN_COLLECT_FOR_ALLOCATION;
-        if (GEN_COLLECT_FULL_CONCURRENT.matches(triggerLiteral))
-            return Trigger.GEN_COLLECT_FULL_CONCURRENT;
-        if (GET_ALL_STACK_TRACES.matches(triggerLiteral))
-            return Trigger.GET_ALL_STACK_TRACES;
-        if (GET_THREAD_LIST_STACK_TRACES.matches(triggerLiteral))
-            return Trigger.GET_THREAD_LIST_STACK_TRACES;
-        if (HALT.matches(triggerLiteral))
-            return Trigger.HALT;
-        if (HANDSHAKE_FALL_BACK.matches(triggerLiteral))
-            return Trigger.HANDSHAKE_FALL_BACK;
-        if (HEAP_DUMPER.matches(triggerLiteral))
-            return Trigger.HEAP_DUMPER;
-        if (IC_BUFFER_FULL.matches(triggerLiteral))
-            return Trigger.IC_BUFFER_FULL;
-        if (MARK_ACTIVE_N_METHODS.matches(triggerLiteral))
-            return Trigger.MARK_ACTIVE_N_METHODS;
-        if (NO_VM_OPERATION.matches(triggerLiteral))
-            return Trigger.NO_VM_OPERATION;
-        if (PARALLEL_GC_FAILED_ALLOCATION.matches(triggerLiteral))
-            return Trigger.PARALLEL_GC_FAILED_ALLOCATION;
-        if (PARALLEL_GC_SYSTEM_GC.matches(triggerLiteral))
-            return Trigger.PARALLEL_GC_SYSTEM_GC;
-        if (PRINT_JNI.matches(triggerLiteral))
-            return Trigger.PRINT_JNI;
-        if (PRINT_THREADS.matches(triggerLiteral))
-            return Trigger.PRINT_THREADS;
-        if (REDEFINE_CLASSES.matches(triggerLiteral))
-            return Trigger.REDEFINE_CLASSES;
-        if (REVOKE_BIAS.matches(triggerLiteral))
-            return Trigger.REVOKE_BIAS;
-        if (SHENANDOAH_DEGENERATED_GC.matches(triggerLiteral))
-            return Trigger.SHENANDOAH_DEGENERATED_GC;
-        if (SHENANDOAH_FINAL_MARK_START_EVAC.matches(triggerLiteral))
-            return Trigger.SHENANDOAH_FINAL_MARK_START_EVAC;
-        if (SHENANDOAH_FINAL_UPDATE_REFS.matches(triggerLiteral))
-            return Trigger.SHENANDOAH_FINAL_UPDATE_REFS;
-        if (SHENANDOAH_INIT_MARK.matches(triggerLiteral))
-            return Trigger.SHENANDOAH_INIT_MARK;
-        if (SHENANDOAH_INIT_UPDATE_REFS.matches(triggerLiteral))
-            return Trigger.SHENANDOAH_INIT_UPDATE_REFS;
-        if (THREAD_DUMP.matches(triggerLiteral))
-            return Trigger.THREAD_DUMP;
-        if (Z_MARK_END.matches(triggerLiteral))
-            return Trigger.Z_MARK_END;
-        if (Z_MARK_START.matches(triggerLiteral))
-            return Trigger.Z_MARK_START;
-        if (Z_RELOCATE_START.matches(triggerLiteral))
-            return Trigger.Z_RELOCATE_START;
-
-        return Trigger.UNKNOWN;
+        return TRIGGER_LITERALS.resolve(triggerLiteral);
     }
 
     /**
@@ -642,99 +576,11 @@ public class UnifiedSafepoint {
      * Identify the safepoint trigger.
      * 
      * @param trigger
-     *            The Trigger String stored in the database.
+     *            The <code>Trigger</code> name.
      * @return The <code>Trigger</code>.
      */
     public static final Trigger identifyTrigger(String trigger) {
-        if (Trigger.BULK_REVOKE_BIAS.name().matches(trigger))
-            return Trigger.BULK_REVOKE_BIAS;
-        if (Trigger.CGC_OPERATION.name().matches(trigger))
-            return Trigger.CGC_OPERATION;
-        if (Trigger.CLEANUP.name().matches(trigger))
-            return Trigger.CLEANUP;
-        if (Trigger.CLEAN_CLASSLOADER_DATA_METASPACES.name().matches(trigger))
-            return Trigger.CLEAN_CLASSLOADER_DATA_METASPACES;
-        if (Trigger.COLLECT_FOR_METADATA_ALLOCATION.name().matches(trigger))
-            return Trigger.COLLECT_FOR_METADATA_ALLOCATION;
-        if (Trigger.CMS_FINAL_REMARK.name().matches(trigger))
-            return Trigger.CMS_FINAL_REMARK;
-        if (Trigger.CMS_INITIAL_MARK.name().matches(trigger))
-            return Trigger.CMS_INITIAL_MARK;
-        if (Trigger.DEOPTIMIZE.name().matches(trigger))
-            return Trigger.DEOPTIMIZE;
-        if (Trigger.ENABLE_BIASED_LOCKING.name().matches(trigger))
-            return Trigger.ENABLE_BIASED_LOCKING;
-        if (Trigger.EXIT.name().matches(trigger))
-            return Trigger.EXIT;
-        if (Trigger.FIND_DEADLOCKS.name().matches(trigger))
-            return Trigger.FIND_DEADLOCKS;
-        if (Trigger.FORCE_SAFEPOINT.name().matches(trigger))
-            return Trigger.FORCE_SAFEPOINT;
-        if (Trigger.GC_HEAP_INSPECTION.name().matches(trigger))
-            return Trigger.GC_HEAP_INSPECTION;
-        if (Trigger.G1_COLLECT_FOR_ALLOCATION.name().matches(trigger))
-            return Trigger.G1_COLLECT_FOR_ALLOCATION;
-        if (Trigger.G1_COLLECT_FULL.name().matches(trigger))
-            return Trigger.G1_COLLECT_FULL;
-        if (Trigger.G1_CONCURRENT.name().matches(trigger))
-            return Trigger.G1_CONCURRENT;
-        if (Trigger.G1_INC_COLLECTION_PAUSE.name().matches(trigger))
-            return Trigger.G1_INC_COLLECTION_PAUSE;
-        if (Trigger.G1_TRY_INITIATE_CONC_MARK.name().matches(trigger))
-            return Trigger.G1_TRY_INITIATE_CONC_MARK;
-        if (Trigger.GEN_COLLECT_FOR_ALLOCATION.name().matches(trigger))
-            return Trigger.GEN_COLLECT_FOR_ALLOCATION;
-        if (Trigger.GEN_COLLECT_FULL_CONCURRENT.name().matches(trigger))
-            return Trigger.GEN_COLLECT_FULL_CONCURRENT;
-        if (Trigger.GET_ALL_STACK_TRACES.name().matches(trigger))
-            return Trigger.GET_ALL_STACK_TRACES;
-        if (Trigger.GET_THREAD_LIST_STACK_TRACES.name().matches(trigger))
-            return Trigger.GET_THREAD_LIST_STACK_TRACES;
-        if (Trigger.HALT.name().matches(trigger))
-            return Trigger.HALT;
-        if (Trigger.HANDSHAKE_FALL_BACK.name().matches(trigger))
-            return Trigger.HANDSHAKE_FALL_BACK;
-        if (Trigger.HEAP_DUMPER.name().matches(trigger))
-            return Trigger.HEAP_DUMPER;
-        if (Trigger.IC_BUFFER_FULL.name().matches(trigger))
-            return Trigger.IC_BUFFER_FULL;
-        if (Trigger.MARK_ACTIVE_N_METHODS.name().matches(trigger))
-            return Trigger.MARK_ACTIVE_N_METHODS;
-        if (Trigger.NO_VM_OPERATION.name().matches(trigger))
-            return Trigger.NO_VM_OPERATION;
-        if (Trigger.PARALLEL_GC_FAILED_ALLOCATION.name().matches(trigger))
-            return Trigger.PARALLEL_GC_FAILED_ALLOCATION;
-        if (Trigger.PARALLEL_GC_SYSTEM_GC.name().matches(trigger))
-            return Trigger.PARALLEL_GC_SYSTEM_GC;
-        if (Trigger.PRINT_JNI.name().matches(trigger))
-            return Trigger.PRINT_JNI;
-        if (Trigger.PRINT_THREADS.name().matches(trigger))
-            return Trigger.PRINT_THREADS;
-        if (Trigger.REDEFINE_CLASSES.name().matches(trigger))
-            return Trigger.REDEFINE_CLASSES;
-        if (Trigger.REVOKE_BIAS.name().matches(trigger))
-            return Trigger.REVOKE_BIAS;
-        if (Trigger.SHENANDOAH_DEGENERATED_GC.name().matches(trigger))
-            return Trigger.SHENANDOAH_DEGENERATED_GC;
-        if (Trigger.SHENANDOAH_FINAL_MARK_START_EVAC.name().matches(trigger))
-            return Trigger.SHENANDOAH_FINAL_MARK_START_EVAC;
-        if (Trigger.SHENANDOAH_FINAL_UPDATE_REFS.name().matches(trigger))
-            return Trigger.SHENANDOAH_FINAL_UPDATE_REFS;
-        if (Trigger.SHENANDOAH_INIT_MARK.name().matches(trigger))
-            return Trigger.SHENANDOAH_INIT_MARK;
-        if (Trigger.SHENANDOAH_INIT_UPDATE_REFS.name().matches(trigger))
-            return Trigger.SHENANDOAH_INIT_UPDATE_REFS;
-        if (Trigger.THREAD_DUMP.name().matches(trigger))
-            return Trigger.THREAD_DUMP;
-        if (Trigger.Z_MARK_END.name().matches(trigger))
-            return Trigger.Z_MARK_END;
-        if (Trigger.Z_MARK_START.name().matches(trigger))
-            return Trigger.Z_MARK_START;
-        if (Trigger.Z_RELOCATE_START.name().matches(trigger))
-            return Trigger.Z_RELOCATE_START;
-
-        // no idea what trigger is
-        return Trigger.UNKNOWN;
+        return TRIGGER_NAMES.resolve(trigger);
     }
 
     /**
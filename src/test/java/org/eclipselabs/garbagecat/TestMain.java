@@ -12,6 +12,10 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat;
 
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_ELIDE_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_ELIDE_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_GCID_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_GCID_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_LONG;
@@ -24,6 +28,8 @@ import static org.eclipselabs.garbagecat.util.Constants.OPTION_PREPROCESS_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_PREPROCESS_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_LONG;
@@ -56,6 +62,7 @@ class TestMain {
                 temporaryFolder.getAbsolutePath(), //
                 "-v", //
                 "-l", //
+                "-e", //
                 // Instead of a file, use a location sure to exist.
                 temporaryFolder.getAbsolutePath() //
         };
@@ -97,6 +104,10 @@ class TestMain {
                 "12345678.txt", //
                 "--version", //
                 "--latest", //
+                "--elide", //
+                "--snapshot", //
+                "report.snapshot", //
+                "--gcid", //
                 // Instead of a file, use a location sure to exist.
                 tmpFolder.getAbsolutePath() //
         };
@@ -111,6 +122,9 @@ class TestMain {
         assertHasOption(cmd, OPTION_OUTPUT_LONG);
         assertHasOption(cmd, OPTION_VERSION_LONG);
         assertHasOption(cmd, OPTION_LATEST_VERSION_LONG);
+        assertHasOption(cmd, OPTION_ELIDE_LONG);
+        assertHasOption(cmd, OPTION_SNAPSHOT_LONG);
+        assertHasOption(cmd, OPTION_GCID_LONG);
     }
 
     @Test
@@ -139,6 +153,10 @@ class TestMain {
                 "12345678.txt", //
                 "-v", //
                 "-l", //
+                "-e", //
+                "-n", //
+                "report.snapshot", //
+                "-g", //
                 // Instead of a file, use a location sure to exist.
                 temporaryFolder.getAbsolutePath() //
         };
@@ -154,6 +172,9 @@ class TestMain {
         assertHasOption(cmd, OPTION_VERSION_SHORT);
         assertHasOption(cmd, OPTION_LATEST_VERSION_SHORT);
         assertHasOption(cmd, OPTION_LATEST_VERSION_SHORT);
+        assertHasOption(cmd, OPTION_ELIDE_SHORT);
+        assertHasOption(cmd, OPTION_SNAPSHOT_SHORT);
+        assertHasOption(cmd, OPTION_GCID_SHORT);
     }
 
 }
@@ -12,13 +12,26 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.dao;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipselabs.garbagecat.domain.BlockingEvent;
+import org.eclipselabs.garbagecat.domain.TriggerData;
 import org.eclipselabs.garbagecat.domain.jdk.ParNewEvent;
 import org.eclipselabs.garbagecat.domain.jdk.SerialOldEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.SafepointEventSummary;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
+import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -27,6 +40,203 @@ import org.junit.jupiter.api.Test;
  */
 class TestJvmDao {
 
+    private static UnifiedSafepointEvent safepointEvent(String trigger) {
+        return new UnifiedSafepointEvent("[144.035s][info][safepoint     ] Entering safepoint region: " + trigger
+                + "[144.035s][info][safepoint     ] Leaving safepoint region[144.035s][info][safepoint     ] Total "
+                + "time for which application threads were stopped: 0.0004546 seconds, Stopping threads took: "
+                + "0.0002048 seconds");
+    }
+
+    @Test
+    void testAggregatesOutOfOrder() {
+        JvmDao jvmDao = new JvmDao();
+        jvmDao.addBlockingEvent(new SerialOldEvent("3010786.012: [Full GC 3010786.012:"
+                + " [Tenured: 468292K->482213K(819200K), 1.9920590 secs] 824995K->482213K(1187840K),"
+                + " [Perm : 123092K->122684K(262144K)], 1.9924510 secs]"));
+        jvmDao.addBlockingEvent(new ParNewEvent("3010778.296: [GC 3010778.296: [ParNew: 337824K->32173K(368640K),"
+                + " 0.0803880 secs] 806117K->500466K(1187840K), 0.0805980 secs]"));
+        assertEquals(1992451, jvmDao.getDurationMax(), "Duration max not correct.");
+        assertEquals(1992451 + 80598, jvmDao.getDurationTotal(), "Duration total not correct.");
+        assertEquals(824995, jvmDao.getMaxHeapOccupancy(), "Max heap occupancy not correct.");
+        assertEquals(500466, jvmDao.getMaxHeapAfterGc(), "Max heap after GC not correct.");
+        assertEquals(1187840, jvmDao.getMaxHeapSpace(), "Max heap space not correct.");
+        assertEquals(123092, jvmDao.getMaxPermOccupancy(), "Max perm occupancy not correct.");
+        assertEquals(3010778296L, jvmDao.getFirstGcEvent().getTimestamp(), "First event not correct.");
+        jvmDao.cleanup();
+        assertEquals(0, jvmDao.getDurationMax(), "Duration max not reset.");
+        assertEquals(0, jvmDao.getMaxHeapOccupancy(), "Max heap occupancy not reset.");
+    }
+
+    @Test
+    void testBlockingEventsByType() {
+        JvmDao jvmDao = new JvmDao();
+        jvmDao.addBlockingEvent(new ParNewEvent("ParNew 3", 3, 1));
+        jvmDao.addBlockingEvent(new SerialOldEvent("SerialOld 2", 2, 1));
+        jvmDao.addBlockingEvent(new ParNewEvent("ParNew 1", 1, 1));
+        List<BlockingEvent> events = jvmDao.getBlockingEvents(LogEventType.PAR_NEW);
+        assertEquals(2, events.size(), "PAR_NEW event count not correct.");
+        assertEquals("ParNew 1", events.get(0).getLogEntry(), "PAR_NEW events not in timestamp order.");
+        assertEquals("ParNew 3", events.get(1).getLogEntry(), "PAR_NEW events not in timestamp order.");
+        events = jvmDao.getBlockingEvents(LogEventType.SERIAL_OLD);
+        assertEquals(LogEventType.SERIAL_OLD, events.get(0).getLogEventType(), "SERIAL_OLD event not found.");
+        assertTrue(jvmDao.getBlockingEvents(LogEventType.G1_YOUNG_PAUSE).isEmpty(), "G1_YOUNG_PAUSE events found.");
+        jvmDao.cleanup();
+        assertTrue(jvmDao.getBlockingEvents(LogEventType.PAR_NEW).isEmpty(), "PAR_NEW events not cleared.");
+    }
+
+    @Test
+    void testCleanupSpilled() {
+        JvmDao jvmDao = new JvmDao(0);
+        for (int i = 0; i < 10000; i++) {
+            jvmDao.addBlockingEvent(new ParNewEvent("ParNew " + i, i, 1));
+        }
+        jvmDao.addSafepointEvent(safepointEvent("G1CollectForAllocation"));
+        jvmDao.cleanup();
+        assertTrue(jvmDao.getBlockingEvents().isEmpty(), "Blocking events not cleared.");
+        assertTrue(jvmDao.getSafepointEvents().isEmpty(), "Safepoint events not cleared.");
+        // Files closed, so new events go to new files
+        jvmDao.addBlockingEvent(new ParNewEvent("ParNew new", 1, 1));
+        assertEquals("ParNew new", jvmDao.getFirstGcEvent().getLogEntry(), "Event not added after cleanup.");
+    }
+
+    @Test
+    void testConcurrentSafepointEventSummaries() throws Exception {
+        int daoCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(daoCount);
+        try {
+            List<Future<List<SafepointEventSummary>>> futures = new ArrayList<Future<List<SafepointEventSummary>>>();
+            for (int i = 0; i < daoCount; i++) {
+                int eventCount = i + 1;
+                futures.add(executor.submit(() -> {
+                    JvmDao jvmDao = new JvmDao();
+                    for (int j = 0; j < eventCount; j++) {
+                        jvmDao.addSafepointEvent(safepointEvent("G1CollectForAllocation"));
+                    }
+                    return jvmDao.getSafepointEventSummaries();
+                }));
+            }
+            for (int i = 0; i < daoCount; i++) {
+                List<SafepointEventSummary> summaries = futures.get(i).get();
+                assertEquals(1, summaries.size(), "Summary count not correct.");
+                assertEquals(i + 1, summaries.get(0).getCount(), "Safepoint event count not correct.");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testElideLogEntries() throws IOException {
+        JvmDao jvmDao = new JvmDao();
+        jvmDao.elideLogEntries();
+        jvmDao.addBlockingEvent(new ParNewEvent("ParNew 2", 2, 1));
+        jvmDao.addBlockingEvent(new ParNewEvent("ParNew 1", 1, 1));
+        jvmDao.addSafepointEvent(safepointEvent("G1CollectForAllocation"));
+        assertEquals("ParNew 1", jvmDao.getFirstGcEvent().getLogEntry(), "First event log entry not correct.");
+        assertEquals("ParNew 2", jvmDao.getLastGcEvent().getLogEntry(), "Last event log entry not correct.");
+        assertEquals(safepointEvent("G1CollectForAllocation").getLogEntry(),
+                jvmDao.getSafepointEvents().get(0).getLogEntry(), "Safepoint event log entry not correct.");
+        jvmDao.cleanup();
+        // The file is closed, so log entries go to a new file
+        jvmDao.addBlockingEvent(new ParNewEvent("ParNew 3", 3, 1));
+        assertEquals("ParNew 3", jvmDao.getFirstGcEvent().getLogEntry(), "Event not added after cleanup.");
+    }
+
+    @Test
+    void testIndependentSafepointEventSummaries() {
+        JvmDao jvmDao1 = new JvmDao();
+        jvmDao1.addSafepointEvent(safepointEvent("G1CollectForAllocation"));
+        JvmDao jvmDao2 = new JvmDao();
+        jvmDao2.addSafepointEvent(safepointEvent("CollectForMetadataAllocation"));
+        jvmDao2.addSafepointEvent(safepointEvent("CollectForMetadataAllocation"));
+        List<SafepointEventSummary> summaries1 = jvmDao1.getSafepointEventSummaries();
+        List<SafepointEventSummary> summaries2 = jvmDao2.getSafepointEventSummaries();
+        assertEquals(1, summaries1.size(), "Summary count not correct.");
+        assertEquals(Trigger.G1_COLLECT_FOR_ALLOCATION, summaries1.get(0).getTrigger(), "Trigger not correct.");
+        assertEquals(1, summaries1.get(0).getCount(), "Safepoint event count not correct.");
+        assertEquals(1, summaries2.size(), "Summary count not correct.");
+        assertEquals(Trigger.COLLECT_FOR_METADATA_ALLOCATION, summaries2.get(0).getTrigger(),
+                "Trigger not correct.");
+        assertEquals(2, summaries2.get(0).getCount(), "Safepoint event count not correct.");
+        // Summaries are not accumulated across calls
+        assertEquals(1, jvmDao1.getSafepointEventSummaries().get(0).getCount(),
+                "Safepoint event count not correct.");
+    }
+
+    @Test
+    void testRebuiltEventTrigger() {
+        JvmDao jvmDao = new JvmDao();
+        jvmDao.addBlockingEvent(new ParNewEvent("3010778.296: [GC (Allocation Failure) 3010778.296: [ParNew: "
+                + "337824K->32173K(368640K), 0.0803880 secs] 806117K->500466K(1187840K), 0.0805980 secs]"));
+        jvmDao.addBlockingEvent(new ParNewEvent("ParNew", 3010779000L, 1));
+        jvmDao.addSafepointEvent(safepointEvent("G1CollectForAllocation"));
+        List<BlockingEvent> events = jvmDao.getBlockingEvents();
+        assertEquals(GcTrigger.ALLOCATION_FAILURE, ((TriggerData) events.get(0)).getTrigger(),
+                "Blocking event trigger not rebuilt.");
+        assertNull(((TriggerData) events.get(1)).getTrigger(), "Blocking event trigger not null.");
+        assertEquals(Trigger.G1_COLLECT_FOR_ALLOCATION,
+                ((UnifiedSafepointEvent) jvmDao.getFirstSafepointEvent()).getTrigger(),
+                "Safepoint event trigger not rebuilt.");
+        assertEquals(Trigger.G1_COLLECT_FOR_ALLOCATION,
+                ((UnifiedSafepointEvent) jvmDao.getSafepointEvents().get(0)).getTrigger(),
+                "Safepoint event trigger not rebuilt.");
+    }
+
+    @Test
+    void testReorderedEventsStable() {
+        JvmDao jvmDao = new JvmDao();
+        // Runs of logging in order, each earlier than the last, with 3 events per timestamp
+        for (int run = 9; run >= 0; run--) {
+            for (int i = 0; i < 300; i++) {
+                long timestamp = run * 100 + i / 3;
+                jvmDao.addBlockingEvent(new ParNewEvent("ParNew " + run + " " + i, timestamp, 1));
+            }
+        }
+        List<BlockingEvent> events = jvmDao.getBlockingEvents();
+        assertEquals(3000, events.size(), "Event count not correct.");
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i / 3, events.get(i).getTimestamp(), "Event not in timestamp order at index " + i + ".");
+            assertEquals("ParNew " + i / 300 + " " + i % 300, events.get(i).getLogEntry(),
+                    "Same timestamp events not in the order added at index " + i + ".");
+        }
+        // Appending in order after the sort
+        jvmDao.addBlockingEvent(new ParNewEvent("ParNew last", 1000, 1));
+        assertEquals("ParNew last", jvmDao.getLastGcEvent().getLogEntry(), "Last event not correct.");
+    }
+
+    @Test
+    void testSafepointEventNoTrigger() {
+        JvmDao jvmDao = new JvmDao();
+        jvmDao.addSafepointEvent(new UnifiedSafepointEvent("safepoint", 1000, 100000, 200000));
+        List<SafepointEventSummary> summaries = jvmDao.getSafepointEventSummaries();
+        assertEquals(1, summaries.size(), "Summary count not correct.");
+        assertEquals(Trigger.UNKNOWN, summaries.get(0).getTrigger(), "Trigger not correct.");
+    }
+
+    @Test
+    void testSpill() {
+        JvmDao heapDao = new JvmDao();
+        JvmDao spilledDao = new JvmDao(0);
+        for (int i = 0; i < 10000; i++) {
+            // Out of order, so the spilled columns are reordered
+            long timestamp = i % 2 == 0 ? i : 20000 - i;
+            ParNewEvent event = new ParNewEvent("ParNew " + i, timestamp, i);
+            heapDao.addBlockingEvent(event);
+            spilledDao.addBlockingEvent(event);
+        }
+        List<BlockingEvent> heapEvents = heapDao.getBlockingEvents();
+        List<BlockingEvent> spilledEvents = spilledDao.getBlockingEvents();
+        assertEquals(heapEvents.size(), spilledEvents.size(), "Event count not correct.");
+        for (int i = 0; i < heapEvents.size(); i++) {
+            assertEquals(heapEvents.get(i).getLogEntry(), spilledEvents.get(i).getLogEntry(),
+                    "Log entry not correct at index " + i + ".");
+            assertEquals(heapEvents.get(i).getTimestamp(), spilledEvents.get(i).getTimestamp(),
+                    "Timestamp not correct at index " + i + ".");
+            assertEquals(heapEvents.get(i).getDuration(), spilledEvents.get(i).getDuration(),
+                    "Duration not correct at index " + i + ".");
+        }
+    }
+
     @Test
     void testSameTimestampOrdering() {
         JvmDao jvmDao = new JvmDao();
@@ -0,0 +1,100 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestLogEntryColumn {
+
+    private static String entry(int i) {
+        StringBuilder entry = new StringBuilder("[" + i + ".000s][info][gc] GC(" + i + ") Pause Young \u00b5");
+        // Every 1000th entry is larger than the file buffers
+        for (int j = 0; i % 1000 == 0 && j < 10000; j++) {
+            entry.append(' ').append(j);
+        }
+        return entry.toString();
+    }
+
+    @Test
+    void testElide() throws IOException {
+        ColumnStore store = new ColumnStore(Long.MAX_VALUE);
+        LogEntryColumn column = new LogEntryColumn(store);
+        column.add(entry(0));
+        store.elideLogEntries();
+        for (int i = 1; i < 5000; i++) {
+            column.add(i == 1 ? null : entry(i));
+        }
+        assertEquals(5000, column.size(), "Size not correct.");
+        // Only the offset and length chunks, 2 each
+        assertEquals(2 * 4096 * (Integer.BYTES + Long.BYTES), store.getHeapBytes(), "Entry heap bytes not released.");
+        assertNull(column.get(1), "Null entry not preserved.");
+        for (int i = 4999; i >= 0; i--) {
+            if (i != 1) {
+                assertEquals(entry(i), column.get(i), "Entry not correct at index " + i + ".");
+            }
+        }
+        int[] order = new int[5000];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = order.length - 1 - i;
+        }
+        column.reorder(order);
+        assertEquals(entry(4999), column.get(0), "Entry not reordered.");
+        assertEquals(entry(0), column.get(4999), "Entry not reordered.");
+        column.clear();
+        assertEquals(0, column.size(), "Column not cleared.");
+        store.close();
+        column.add(entry(1));
+        assertNotNull(store.getLogEntryFile(), "Log entries not elided after the store is closed.");
+        assertEquals(entry(1), column.get(0), "Entry not correct after the store is closed.");
+    }
+
+    @Test
+    void testRetained() {
+        ColumnStore store = new ColumnStore(Long.MAX_VALUE);
+        LogEntryColumn column = new LogEntryColumn(store);
+        column.add(entry(1));
+        column.add(null);
+        column.add(entry(3));
+        column.reorder(new int[] { 2, 1, 0 });
+        assertEquals(3, column.size(), "Size not correct.");
+        assertEquals(entry(3), column.get(0), "Entry not reordered.");
+        assertNull(column.get(1), "Null entry not preserved.");
+        assertEquals(entry(1), column.get(2), "Entry not reordered.");
+        column.clear();
+        assertEquals(0, store.getHeapBytes(), "Entry heap bytes not released.");
+    }
+
+    @Test
+    void testSpill() {
+        ColumnStore store = new ColumnStore(100000);
+        LogEntryColumn column = new LogEntryColumn(store);
+        for (int i = 1; i < 3000; i++) {
+            column.add(entry(i));
+        }
+        assertTrue(store.isSpilled(), "Entries not spilled.");
+        for (int i = 1; i < 3000; i++) {
+            assertEquals(entry(i), column.get(i - 1), "Entry not correct at index " + (i - 1) + ".");
+        }
+    }
+}
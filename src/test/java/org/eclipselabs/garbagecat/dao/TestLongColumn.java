@@ -0,0 +1,92 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestLongColumn {
+
+    @Test
+    void testAdd() {
+        LongColumn column = new LongColumn(new ColumnStore(Long.MAX_VALUE));
+        for (int i = 0; i < 10000; i++) {
+            column.add(i);
+        }
+        assertEquals(10000, column.size(), "Size not correct.");
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, column.get(i), "Value not correct.");
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(10000));
+        column.clear();
+        assertEquals(0, column.size(), "Column not cleared.");
+    }
+
+    @Test
+    void testReorder() {
+        LongColumn column = new LongColumn(new ColumnStore(Long.MAX_VALUE));
+        List<Integer> order = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            column.add(i);
+            order.add(i);
+        }
+        Collections.shuffle(order, new Random(13));
+        int[] reorder = new int[order.size()];
+        for (int i = 0; i < reorder.length; i++) {
+            reorder[i] = order.get(i);
+        }
+        column.reorder(reorder);
+        assertEquals(10000, column.size(), "Size not correct.");
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(order.get(i).longValue(), column.get(i), "Value not correct at index " + i + ".");
+        }
+        // Adding after a reorder fills the partial last chunk
+        column.add(10000);
+        assertEquals(10000, column.get(10000), "Value not correct after reorder.");
+    }
+
+    @Test
+    void testSpill() {
+        // One heap chunk, then memory-mapped chunks
+        ColumnStore store = new ColumnStore(4096 * Long.BYTES);
+        LongColumn column = new LongColumn(store);
+        int[] order = new int[10000];
+        for (int i = 0; i < 10000; i++) {
+            column.add(i);
+            order[i] = 9999 - i;
+        }
+        assertTrue(store.isSpilled(), "Column not spilled.");
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, column.get(i), "Value not correct.");
+        }
+        column.reorder(order);
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(9999 - i, column.get(i), "Value not correct after reorder.");
+        }
+        column.clear();
+        assertEquals(0, store.getHeapBytes(), "Heap chunk not freed.");
+    }
+
+}
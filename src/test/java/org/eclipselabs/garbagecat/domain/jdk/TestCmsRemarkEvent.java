@@ -14,6 +14,7 @@ package org.eclipselabs.garbagecat.domain.jdk;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -416,6 +417,25 @@ class TestCmsRemarkEvent {
         assertEquals(178, event.getParallelism(), "Parallelism not calculated correctly.");
     }
 
+    @Test
+    void testMatcher() {
+        String logLine = "76694.727: [GC[YG occupancy: 80143 K (153344 K)]76694.727: "
+                + "[Rescan (parallel) , 0.0574180 secs]76694.785: [weak refs processing, 0.0170540 secs]76694.802: "
+                + "[class unloading, 0.0363010 secs]76694.838: [scrub symbol & string tables, 0.0276600 secs] "
+                + "[1 CMS-remark: 443542K(4023936K)] 523686K(4177280K), 0.1446880 secs]";
+        CmsRemarkEvent event = new CmsRemarkEvent(logLine, CmsRemarkEvent.matcher(logLine));
+        assertEquals((long) 76694727, event.getTimestamp(), "Time stamp not parsed correctly.");
+        assertEquals(144688, event.getDuration(), "Duration not parsed correctly.");
+        assertTrue(event.isClassUnloading(), "Class unloading not parsed correctly.");
+        logLine = "2017-09-15T09:53:41.262+0200: 19763.069: [GC (CMS Final Remark) [YG occupancy: 425526 K (613440 K)]";
+        event = new CmsRemarkEvent(logLine, CmsRemarkEvent.matcher(logLine));
+        assertEquals((long) 19763069, event.getTimestamp(), "Time stamp not parsed correctly.");
+        assertTrue(event.getTrigger() == GcTrigger.CMS_FINAL_REMARK, "Trigger not parsed correctly.");
+        assertFalse(event.isClassUnloading(), "Class unloading not parsed correctly.");
+        assertNull(CmsRemarkEvent.matcher("76694.727: [GC (CMS Initial Mark) [1 CMS-initial-mark: 443542K(4023936K)]"),
+                "Matcher returned for a non-matching log line.");
+    }
+
     @Test
     void testTruncatedPreprocessing() throws IOException {
         File testFile = TestUtil.getFile("dataset142.txt");
@@ -15,6 +15,7 @@ package org.eclipselabs.garbagecat.domain.jdk.unified;
 import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -32,6 +33,7 @@ import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 import org.junit.jupiter.api.Test;
 
@@ -135,6 +137,23 @@ class TestUnifiedG1MixedPauseEvent {
                 "Log line not recognized as " + JdkUtil.LogEventType.UNIFIED_G1_MIXED_PAUSE.toString() + ".");
     }
 
+    @Test
+    void testMatcher() {
+        String logLine = "[16.629s][info][gc,start      ] GC(1355) Pause Young (Mixed) (G1 Evacuation Pause) "
+                + "Other: 0.1ms Humongous regions: 13->13 Metaspace: 3801K->3801K(1056768K) 15M->12M(31M) 1.202ms "
+                + "User=0.00s Sys=0.00s Real=0.00s";
+        UnifiedDecorator decorator = UnifiedDecorator.parse(logLine);
+        UnifiedG1MixedPauseEvent event = new UnifiedG1MixedPauseEvent(logLine, decorator,
+                UnifiedG1MixedPauseEvent.matcher(decorator));
+        assertEquals((long) 16629, event.getTimestamp(), "Time stamp not parsed correctly.");
+        assertTrue(event.getTrigger() == GcTrigger.G1_EVACUATION_PAUSE, "Trigger not parsed correctly.");
+        assertEquals(kilobytes(15 * 1024), event.getCombinedOccupancyInit(),
+                "Combined begin size not parsed correctly.");
+        assertEquals(1302, event.getDuration(), "Duration not parsed correctly.");
+        assertNull(UnifiedG1MixedPauseEvent.matcher("[16.629s][info][gc] GC(1355) Pause Young (Mixed) 1.202ms"),
+                "Matcher returned for a non-matching log line.");
+    }
+
     @Test
     void testParseLogLine() {
         String logLine = "[16.629s][info][gc,start      ] GC(1355) Pause Young (Mixed) (G1 Evacuation Pause) "
@@ -15,6 +15,7 @@ package org.eclipselabs.garbagecat.domain.jdk.unified;
 import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -32,6 +33,7 @@ import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +84,25 @@ class TestUnifiedG1YoungPauseEvent {
                 "Log line not recognized as " + JdkUtil.LogEventType.UNIFIED_G1_YOUNG_PAUSE.toString() + ".");
     }
 
+    @Test
+    void testMatcher() {
+        String logLine = "[15.086s][info][gc,start     ] GC(1192) Pause Young (Normal) (G1 Evacuation Pause) Ext Root "
+                + "Scanning (ms): 1.6 Other: 0.1ms Humongous regions: 13->13 Metaspace: 3771K->3771K(1056768K) "
+                + "24M->13M(31M) 0.401ms User=0.00s Sys=0.00s Real=0.00s";
+        UnifiedDecorator decorator = UnifiedDecorator.parse(logLine);
+        UnifiedG1YoungPauseEvent event = new UnifiedG1YoungPauseEvent(logLine, decorator,
+                UnifiedG1YoungPauseEvent.matcher(decorator));
+        assertEquals((long) (15086 - 0), event.getTimestamp(), "Time stamp not parsed correctly.");
+        assertTrue(event.getTrigger() == GcTrigger.G1_EVACUATION_PAUSE, "Trigger not parsed correctly.");
+        assertEquals(kilobytes(3771), event.getPermOccupancyInit(), "Metaspace begin size not parsed correctly.");
+        assertEquals(kilobytes(24 * 1024), event.getCombinedOccupancyInit(),
+                "Combined begin size not parsed correctly.");
+        assertEquals(100, event.getOtherTime(), "Other time not parsed correctly.");
+        assertEquals(501, event.getDuration(), "Duration not parsed correctly.");
+        assertNull(UnifiedG1YoungPauseEvent.matcher("[15.086s][info][gc] GC(1192) Pause Remark"),
+                "Matcher returned for a non-matching log line.");
+    }
+
     @Test
     void testParseLogLine() {
         String logLine = "[15.086s][info][gc,start     ] GC(1192) Pause Young (Normal) (G1 Evacuation Pause) Ext Root "
@@ -0,0 +1,169 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.preprocess.jdk.unified;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestUnifiedEventAssembler {
+
+    private static List<String> assemble(String... logLines) {
+        List<String> assembledLogLines = new ArrayList<String>();
+        Iterator<String> iterator = new UnifiedEventAssembler(Arrays.asList(logLines).iterator());
+        while (iterator.hasNext()) {
+            assembledLogLines.add(iterator.next());
+        }
+        return assembledLogLines;
+    }
+
+    @Test
+    void testConcurrentInterleaved() {
+        String pauseStart = "[1.013s][info][gc,start    ] GC(7) Pause Young (Normal) (G1 Evacuation Pause)";
+        String concurrent = "[1.013s][info][gc,marking  ] GC(6) Concurrent Mark From Roots 3.041ms";
+        String eden = "[1.013s][info][gc,heap     ] GC(7) Eden regions: 25->0(25)";
+        String pause = "[1.014s][info][gc          ] GC(7) Pause Young (Normal) (G1 Evacuation Pause) "
+                + "36M->12M(64M) 1.166ms";
+        String times = "[1.014s][info][gc,cpu      ] GC(7) User=0.00s Sys=0.00s Real=0.00s";
+        String concurrentEnd = "[1.015s][info][gc          ] GC(6) Concurrent Mark Cycle 25.123ms";
+        assertEquals(Arrays.asList(concurrent, pauseStart, eden, pause, times, concurrentEnd),
+                assemble(pauseStart, concurrent, eden, pause, times, concurrentEnd), "Pause not assembled.");
+    }
+
+    @Test
+    void testG1FullGcDataset() throws IOException {
+        File testFile = TestUtil.getFile("dataset266.txt");
+        GcManager gcManager = new GcManager();
+        gcManager.assembleByGcId();
+        URI logFileUri = testFile.toURI();
+        List<String> logLines = Files.readAllLines(Paths.get(logFileUri));
+        logLines = gcManager.preprocess(logLines, null);
+        gcManager.store(logLines, false);
+        JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertFalse(jvmRun.getEventTypes().contains(LogEventType.UNKNOWN),
+                JdkUtil.LogEventType.UNKNOWN.toString() + " collector identified.");
+        assertEquals(4, jvmRun.getEventTypes().size(), "Event type count not correct.");
+        assertTrue(jvmRun.getEventTypes().contains(LogEventType.UNIFIED_G1_YOUNG_PAUSE),
+                JdkUtil.LogEventType.UNIFIED_G1_YOUNG_PAUSE.toString() + " collector not identified.");
+        assertTrue(jvmRun.getEventTypes().contains(LogEventType.G1_FULL_GC_PARALLEL),
+                JdkUtil.LogEventType.G1_FULL_GC_PARALLEL.toString() + " collector not identified.");
+        assertTrue(jvmRun.getEventTypes().contains(LogEventType.UNIFIED_CONCURRENT),
+                JdkUtil.LogEventType.UNIFIED_CONCURRENT.toString() + " collector not identified.");
+        assertTrue(jvmRun.getEventTypes().contains(LogEventType.UNIFIED_SAFEPOINT),
+                JdkUtil.LogEventType.UNIFIED_SAFEPOINT.toString() + " collector not identified.");
+    }
+
+    @Test
+    void testNestedPause() {
+        String[] logLines = { "[0.073s][info][gc,start     ] GC(1) Pause Young (Allocation Failure)",
+                "[0.075s][info][gc,start     ] GC(2) Pause Full (Allocation Failure)",
+                "[0.075s][info][gc,phases,start] GC(2) Phase 1: Mark live objects",
+                "[0.076s][info][gc,phases      ] GC(2) Phase 1: Mark live objects 0.875ms",
+                "[0.076s][info][gc             ] GC(2) Pause Full (Allocation Failure) 0M->0M(2M) 1.699ms",
+                "[0.076s][info][gc,heap        ] GC(1) DefNew: 1152K->0K(1152K)",
+                "[0.076s][info][gc,heap        ] GC(1) Tenured: 458K->929K(960K)",
+                "[0.076s][info][gc,metaspace   ] GC(1) Metaspace: 697K->697K(1056768K)",
+                "[0.076s][info][gc             ] GC(1) Pause Young (Allocation Failure) 1M->0M(2M) 3.061ms",
+                "[0.076s][info][gc,cpu         ] GC(1) User=0.00s Sys=0.00s Real=0.00s" };
+        assertEquals(Arrays.asList(logLines), assemble(logLines), "Nested pause not assembled in order.");
+    }
+
+    @Test
+    void testNestedPauseNotEnded() {
+        String youngStart = "[0.073s][info][gc,start     ] GC(1) Pause Young (Allocation Failure)";
+        String fullStart = "[0.075s][info][gc,start     ] GC(2) Pause Full (Allocation Failure)";
+        String concurrent = "[0.075s][info][gc           ] GC(0) Concurrent Cycle";
+        String heap = "[0.076s][info][gc,heap      ] GC(1) DefNew: 1152K->0K(1152K)";
+        String young = "[0.076s][info][gc           ] GC(1) Pause Young (Allocation Failure) 1M->0M(2M) 3.061ms";
+        String times = "[0.076s][info][gc,cpu       ] GC(1) User=0.00s Sys=0.00s Real=0.00s";
+        assertEquals(Arrays.asList(concurrent, youngStart, fullStart, heap, young, times),
+                assemble(youngStart, fullStart, concurrent, heap, young, times), "Nested pause not ended.");
+    }
+
+    @Test
+    void testNoGcId() {
+        String safepoint = "[0.100s][info][safepoint] Entering safepoint region: G1CollectForAllocation";
+        String pauseStart = "[0.101s][info][gc,start] GC(0) Pause Young (Normal) (G1 Evacuation Pause)";
+        String heap = "[0.101s][info][gc,heap] Heap region size: 1M";
+        String concurrent = "[0.102s][info][gc] GC(1) Concurrent Cycle";
+        String pause = "[0.103s][info][gc] GC(0) Pause Young (Normal) (G1 Evacuation Pause) 36M->12M(64M) 1.166ms";
+        String leaving = "[0.103s][info][safepoint] Leaving safepoint region";
+        assertEquals(Arrays.asList(safepoint, concurrent, pauseStart, heap, pause, leaving),
+                assemble(safepoint, pauseStart, heap, concurrent, pause, leaving),
+                "Lines with no GC id not assembled.");
+    }
+
+    @Test
+    void testTruncatedPause() {
+        String concurrent = "[0.102s][info][gc] GC(1) Concurrent Cycle";
+        String pauseStart = "[0.101s][info][gc,start] GC(2) Pause Remark";
+        String heap = "[0.101s][info][gc,heap] GC(2) Eden regions: 25->0(25)";
+        assertEquals(Arrays.asList(concurrent, pauseStart, heap), assemble(pauseStart, concurrent, heap),
+                "Truncated pause not output.");
+    }
+
+    @Test
+    void testUnterminatedPauseStart() {
+        String remarkStart = "[0.101s][info][gc,start] GC(3) Pause Remark";
+        String concurrent = "[0.102s][info][gc] GC(2) Concurrent Mark Cycle";
+        String safepoint = "[0.103s][info][safepoint] Leaving safepoint region";
+        String pauseStart = "[0.200s][info][gc,start] GC(4) Pause Young (Normal) (G1 Evacuation Pause)";
+        String concurrentEnd = "[0.200s][info][gc] GC(2) Concurrent Mark Cycle 99.123ms";
+        String pause = "[0.201s][info][gc] GC(4) Pause Young (Normal) (G1 Evacuation Pause) 36M->12M(64M) 1.166ms";
+        String times = "[0.201s][info][gc,cpu] GC(4) User=0.00s Sys=0.00s Real=0.00s";
+        String[] logLines = { remarkStart, concurrent, safepoint, pauseStart, concurrentEnd, pause, times };
+        Iterator<String> source = Arrays.asList(logLines).iterator();
+        int[] read = new int[1];
+        Iterator<String> iterator = new UnifiedEventAssembler(new Iterator<String>() {
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            public String next() {
+                read[0]++;
+                return source.next();
+            }
+        });
+        assertEquals(concurrent, iterator.next(), "Interleaved line not output first.");
+        assertEquals(remarkStart, iterator.next(), "Unterminated pause not output.");
+        assertEquals(4, read[0], "Unterminated pause not output at the next pause start.");
+        List<String> assembledLogLines = new ArrayList<String>();
+        while (iterator.hasNext()) {
+            assembledLogLines.add(iterator.next());
+        }
+        assertEquals(Arrays.asList(safepoint, concurrentEnd, pauseStart, pause, times), assembledLogLines,
+                "Pause after unterminated pause not assembled.");
+    }
+}
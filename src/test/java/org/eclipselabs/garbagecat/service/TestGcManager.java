@@ -13,20 +13,30 @@
 package org.eclipselabs.garbagecat.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
+import org.eclipselabs.garbagecat.Main;
 import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.domain.JvmRun;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
@@ -80,6 +90,83 @@ class TestGcManager {
         assertEquals(currentLogLine, preprocessedLogLine, "Preprocessing incorrectly changed log line.");
     }
 
+    @Test
+    void testDecidePreprocessing() throws IOException {
+        GcManager gcManager = new GcManager();
+        assertTrue(gcManager.decidePreprocessing(TestUtil.getFile("dataset10.txt"), false),
+                "Multi-line logging not preprocessed.");
+        assertEquals("yes (preprocessing changes log line 1)", gcManager.getJvmRun(null, 90).getPreprocessDecision(),
+                "Preprocess decision incorrect.");
+    }
+
+    @Test
+    void testDecidePreprocessingMissed(@TempDir File tmpFolder) throws IOException {
+        // Single line logging past the preprocessing sample, then multi-line logging
+        List<String> logLines = new ArrayList<String>();
+        for (int i = 1; i <= 5000; i++) {
+            logLines.add(
+                    String.format("%d.%03d: Total time for which application threads were stopped: 0.0000510 seconds",
+                            i / 1000, i % 1000));
+        }
+        logLines.addAll(Files.readAllLines(TestUtil.getFile("dataset10.txt").toPath()));
+        File testFile = new File(tmpFolder, "missed.txt");
+        Files.write(testFile.toPath(), logLines);
+        GcManager gcManager = new GcManager();
+        assertFalse(gcManager.decidePreprocessing(testFile, false), "Single line logging start preprocessed.");
+        gcManager.store(logLines, false);
+        assertTrue(gcManager.isPreprocessingMissed(), "Multi-line logging after the sample not detected.");
+        gcManager.cleanup();
+        gcManager = new GcManager();
+        gcManager.preprocessingMissed();
+        gcManager.store(gcManager.preprocess(logLines, null), false);
+        assertFalse(gcManager.isPreprocessingMissed(), "Preprocessing missed after preprocessing.");
+        JvmRun jvmRun = gcManager.getJvmRun(null, 90);
+        assertEquals("yes (log line(s) unidentified without preprocessing after the first 256KB)",
+                jvmRun.getPreprocessDecision(), "Preprocess decision incorrect.");
+        assertEquals(0, jvmRun.getUnidentifiedLogLines().size(), "Log line(s) unidentified.");
+    }
+
+    @Test
+    void testDecidePreprocessingNotNeeded(@TempDir File tmpFolder) throws IOException {
+        File testFile = TestUtil.getFile("dataset1.txt");
+        GcManager gcManager = new GcManager();
+        assertFalse(gcManager.decidePreprocessing(testFile, false), "Single line logging preprocessed.");
+        gcManager.store(Files.readAllLines(testFile.toPath()), false);
+        File report = new File(tmpFolder, "report.txt");
+        Main.createReport(gcManager.getJvmRun(null, 90), false, report, false, false, testFile.getName());
+        assertEquals("Preprocessing: no (preprocessing does not change the first 3 log line(s))",
+                Files.readAllLines(report.toPath()).get(1), "Preprocess decision not reported.");
+    }
+
+    @Test
+    void testDecidePreprocessingRequested() throws IOException {
+        GcManager gcManager = new GcManager();
+        assertTrue(gcManager.decidePreprocessing(TestUtil.getFile("dataset1.txt"), true),
+                "Requested preprocessing not done.");
+        assertEquals("yes (requested)", gcManager.getJvmRun(null, 90).getPreprocessDecision(),
+                "Preprocess decision incorrect.");
+    }
+
+    @Test
+    void testGcBottlenecks() throws IOException {
+        List<String> logLines = Arrays.asList(
+                "56.462: [GC 56.462: [ParNew: 64768K->7168K(64768K), 0.0823950 secs] "
+                        + "142030K->88353K(567808K), 0.0826320 secs] [Times: user=0.10 sys=0.00, real=0.08 secs]",
+                "57.026: [GC 57.026: [ParNew: 64768K->7168K(64768K), 0.1763320 secs] "
+                        + "145953K->98916K(567808K), 0.1765710 secs] [Times: user=0.30 sys=0.00, real=0.17 secs]",
+                "200.000: [GC 200.000: [ParNew: 64768K->7168K(64768K), 0.0100000 secs] "
+                        + "145953K->98916K(567808K), 0.0100000 secs] [Times: user=0.01 sys=0.00, real=0.01 secs]",
+                "200.100: [GC 200.100: [ParNew: 64768K->7168K(64768K), 0.0500000 secs] "
+                        + "145953K->98916K(567808K), 0.0500000 secs] [Times: user=0.05 sys=0.00, real=0.05 secs]");
+        GcManager gcManager = new GcManager();
+        gcManager.elideLogEntries();
+        gcManager.store(logLines, false);
+        List<String> bottlenecks = gcManager.getJvmRun(null, 90).getGcBottlenecks();
+        gcManager.cleanup();
+        assertEquals(Arrays.asList(logLines.get(0), logLines.get(1), "...", logLines.get(2), logLines.get(3)),
+                bottlenecks, "Bottlenecks incorrect.");
+    }
+
     /**
      * Test for NullPointerException.
      * 
@@ -93,4 +180,119 @@ class TestGcManager {
         List<String> logLines = Files.readAllLines(Paths.get(logFileUri));
         logLines = gcManager.preprocess(logLines, null);
     }
+
+    @Test
+    void testPreprocessFamilyEquivalence() throws IOException {
+        File[] files = TestUtil.getFile("dataset1.txt").getParentFile().listFiles();
+        Arrays.sort(files);
+        for (File file : files) {
+            List<String> logLines = Files.readAllLines(file.toPath(), StandardCharsets.ISO_8859_1);
+            GcManager gcManager = new GcManager();
+            gcManager.disablePreprocessFamilyLock();
+            assertEquals(gcManager.preprocess(logLines, null), new GcManager().preprocess(logLines, null),
+                    "Preprocessing changed by locking in the family for " + file.getName() + ".");
+        }
+    }
+
+    @Test
+    void testPreprocessFamilyJdk8() {
+        String logLine = "2.192: [GC pause (G1 Evacuation Pause) (young)";
+        String nextLogLine = "   [Parallel Time: 11.4 ms, GC Workers: 4]";
+        Set<String> context = new HashSet<String>();
+        GcManager gcManager = new GcManager();
+        gcManager.getPreprocessedLogEntry("Java HotSpot(TM) 64-Bit Server VM (25.241-b07) for linux-amd64 JRE", null,
+                logLine, null, new ArrayList<String>(), context);
+        assertNull(GcManager.PreprocessFamily.getLocked(context), "Family locked in before the first event.");
+        gcManager.getPreprocessedLogEntry(logLine, null, nextLogLine, null, new ArrayList<String>(), context);
+        assertEquals(GcManager.PreprocessFamily.G1, GcManager.PreprocessFamily.getLocked(context),
+                "Family not locked in by the first multi-line event.");
+    }
+
+    @Test
+    void testPreprocessFamilyUnifiedUsingG1() {
+        String usingG1 = "[52.001s][info][gc           ] Using G1";
+        String logLine = "[52.872s][info][gc           ] Cancelling GC: Allocation Failure";
+        assertNull(new GcManager().getPreprocessedLogEntry(logLine, null, null, null, new ArrayList<String>(),
+                new HashSet<String>()), "Shenandoah preprocessing not attempted.");
+        Set<String> context = new HashSet<String>();
+        GcManager gcManager = new GcManager();
+        gcManager.getPreprocessedLogEntry(usingG1, null, logLine, null, new ArrayList<String>(), context);
+        assertEquals(GcManager.PreprocessFamily.UNIFIED_NOT_SHENANDOAH, GcManager.PreprocessFamily.getLocked(context),
+                "Family not locked in by the collector header.");
+        assertEquals(logLine,
+                gcManager.getPreprocessedLogEntry(logLine, usingG1, null, null, new ArrayList<String>(), context),
+                "Shenandoah preprocessing attempted.");
+    }
+
+    @Test
+    void testPreprocessStreaming() throws IOException {
+        File testFile = TestUtil.getFile("dataset31.txt");
+        List<String> logLines = Files.readAllLines(Paths.get(testFile.toURI()));
+        List<String> preprocessedLogLines = new GcManager().preprocess(logLines, null);
+        Iterator<String> source = logLines.iterator();
+        int[] read = new int[1];
+        Iterator<String> counting = new Iterator<String>() {
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            public String next() {
+                read[0]++;
+                return source.next();
+            }
+        };
+        Iterator<String> iterator = new GcManager().preprocess(counting, null);
+        assertEquals(preprocessedLogLines.get(0), iterator.next(), "First preprocessed log line incorrect.");
+        assertTrue(read[0] < logLines.size(), "Log lines not streamed.");
+        int i = 1;
+        while (iterator.hasNext()) {
+            assertEquals(preprocessedLogLines.get(i), iterator.next(), "Preprocessed log line " + i + " incorrect.");
+            i++;
+        }
+        assertEquals(preprocessedLogLines.size(), i, "Preprocessed log line count incorrect.");
+    }
+
+    @Test
+    void testSnapshot(@TempDir File tmpFolder) throws IOException {
+        File testFile = TestUtil.getFile("dataset31.txt");
+        File snapshot = new File(tmpFolder, "dataset31.snapshot");
+        GcManager gcManager = new GcManager();
+        assertFalse(gcManager.readSnapshot(snapshot, testFile, true, false), "Missing snapshot read.");
+        gcManager.store(gcManager.preprocess(Files.readAllLines(testFile.toPath()), null), false);
+        gcManager.writeSnapshot(snapshot, testFile, true, false);
+        File report = new File(tmpFolder, "report.txt");
+        Main.createReport(gcManager.getJvmRun(null, 90), false, report, false, false, testFile.getName());
+        GcManager gcManagerSnapshot = new GcManager();
+        assertTrue(gcManagerSnapshot.readSnapshot(snapshot, testFile, true, false), "Snapshot not read.");
+        assertTrue(gcManagerSnapshot.isPreprocessed(), "Preprocessed not restored.");
+        File reportSnapshot = new File(tmpFolder, "report-snapshot.txt");
+        Main.createReport(gcManagerSnapshot.getJvmRun(null, 90), false, reportSnapshot, false, false,
+                testFile.getName());
+        assertEquals(Files.readAllLines(report.toPath()), Files.readAllLines(reportSnapshot.toPath()),
+                "Report from snapshot incorrect.");
+    }
+
+    @Test
+    void testSnapshotOutOfDate(@TempDir File tmpFolder) throws IOException {
+        File testFile = TestUtil.getFile("dataset31.txt");
+        File snapshot = new File(tmpFolder, "dataset31.snapshot");
+        GcManager gcManager = new GcManager();
+        gcManager.store(gcManager.preprocess(Files.readAllLines(testFile.toPath()), null), false);
+        gcManager.writeSnapshot(snapshot, testFile, true, false);
+        assertFalse(new GcManager().readSnapshot(snapshot, testFile, true, true), "Snapshot read for other options.");
+        assertFalse(new GcManager().readSnapshot(snapshot, TestUtil.getFile("dataset1.txt"), true, false),
+                "Snapshot read for other log file.");
+    }
+
+    @Test
+    void testStoreStreaming() throws IOException {
+        File testFile = TestUtil.getFile("dataset31.txt");
+        List<String> logLines = Files.readAllLines(Paths.get(testFile.toURI()));
+        GcManager gcManager = new GcManager();
+        gcManager.store(gcManager.preprocess(logLines.iterator(), null), false);
+        GcManager gcManagerList = new GcManager();
+        gcManagerList.store(gcManagerList.preprocess(logLines, null), false);
+        assertEquals(gcManagerList.getJvmRun(null, 90).getBlockingEventCount(),
+                gcManager.getJvmRun(null, 90).getBlockingEventCount(), "Blocking event count incorrect.");
+    }
 }
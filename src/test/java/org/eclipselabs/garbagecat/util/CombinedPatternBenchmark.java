@@ -0,0 +1,190 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    *
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.preprocess.jdk.G1PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.jdk.ParallelPreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.jdk.ShenandoahPreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.jdk.unified.UnifiedPreprocessAction;
+
+/**
+ * <p>
+ * Comparison of {@link CombinedPattern} with the loop over the individual patterns it replaces, using the preprocess
+ * action throwaway regular expressions and the test data log lines.
+ * </p>
+ *
+ * <p>
+ * {@link TestCombinedPattern} checks the results are the same. Run <code>main</code> (e.g. from the IDE) to also
+ * compare the times. JMH is not part of the build, so the times are a rough guide only.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+public final class CombinedPatternBenchmark {
+
+    /**
+     * The preprocess actions with throwaway regular expressions.
+     */
+    static final Class<?>[] ACTIONS = { G1PreprocessAction.class, ParallelPreprocessAction.class,
+            ShenandoahPreprocessAction.class, UnifiedPreprocessAction.class };
+
+    /**
+     * The number of timed passes over the log lines.
+     */
+    private static final int PASSES = 20;
+
+    /**
+     * @param patterns
+     *            The individual patterns.
+     * @param lines
+     *            The log lines.
+     * @return The index of the first pattern matching each log line, testing the patterns one at a time, or -1 if none
+     *         matches.
+     */
+    static int[] loop(List<Pattern> patterns, List<String> lines) {
+        int[] results = new int[lines.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = -1;
+            for (int j = 0; j < patterns.size(); j++) {
+                if (patterns.get(j).matcher(lines.get(i)).matches()) {
+                    results[i] = j;
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return The lines of all the test data logs.
+     */
+    static List<String> logLines() {
+        List<String> lines = new ArrayList<String>();
+        File[] files = TestUtil.getFile("").listFiles();
+        for (File file : files) {
+            if (file.isFile()) {
+                try {
+                    lines.addAll(Files.readAllLines(file.toPath(), StandardCharsets.ISO_8859_1));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return lines;
+    }
+
+    public static void main(String[] args) {
+        List<String> lines = logLines();
+        System.out.println(lines.size() + " lines, " + PASSES + " passes");
+        for (Class<?> action : ACTIONS) {
+            String[] regexes = throwawayRegexes(action);
+            List<Pattern> patterns = patterns(regexes);
+            CombinedPattern combinedPattern = new CombinedPattern(regexes);
+            // Warm up and check the results are the same
+            int[] expected = loop(patterns, lines);
+            boolean[] actual = match(combinedPattern, lines);
+            int[] actualIndexes = matchingRegexes(combinedPattern, lines);
+            for (int i = 0; i < expected.length; i++) {
+                if ((expected[i] != -1) != actual[i] || expected[i] != actualIndexes[i]) {
+                    throw new IllegalStateException(action.getSimpleName() + " result different: " + lines.get(i));
+                }
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < PASSES; i++) {
+                loop(patterns, lines);
+            }
+            long loopNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < PASSES; i++) {
+                match(combinedPattern, lines);
+            }
+            long combinedNanos = System.nanoTime() - start;
+            System.out.println(action.getSimpleName() + " (" + regexes.length + " regexes): loop "
+                    + loopNanos / 1000000 + "ms, combined " + combinedNanos / 1000000 + "ms");
+        }
+    }
+
+    /**
+     * @param combinedPattern
+     *            The combined pattern.
+     * @param lines
+     *            The log lines.
+     * @return The results of matching each log line against the combined pattern.
+     */
+    static boolean[] match(CombinedPattern combinedPattern, List<String> lines) {
+        boolean[] results = new boolean[lines.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = combinedPattern.match(lines.get(i));
+        }
+        return results;
+    }
+
+    /**
+     * @param combinedPattern
+     *            The combined pattern.
+     * @param lines
+     *            The log lines.
+     * @return The index of the regular expression matching each log line, or -1 if none matches.
+     */
+    static int[] matchingRegexes(CombinedPattern combinedPattern, List<String> lines) {
+        int[] results = new int[lines.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = combinedPattern.matchingRegex(lines.get(i));
+        }
+        return results;
+    }
+
+    /**
+     * @param regexes
+     *            The regular expressions.
+     * @return The individually compiled regular expressions.
+     */
+    static List<Pattern> patterns(String[] regexes) {
+        List<Pattern> patterns = new ArrayList<Pattern>(regexes.length);
+        for (String regex : regexes) {
+            patterns.add(Pattern.compile(regex));
+        }
+        return patterns;
+    }
+
+    /**
+     * @param action
+     *            The preprocess action.
+     * @return The preprocess action throwaway regular expressions.
+     */
+    static String[] throwawayRegexes(Class<?> action) {
+        try {
+            Field field = action.getDeclaredField("REGEX_THROWAWAY");
+            field.setAccessible(true);
+            return (String[]) field.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CombinedPatternBenchmark() {
+        super();
+    }
+}
@@ -0,0 +1,135 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestCombinedPattern {
+
+    @Test
+    void testAlternation() {
+        CombinedPattern pattern = new CombinedPattern("^Pause Remark$", "^(Pause Cleanup|Concurrent Mark)$",
+                "^a|b$");
+        assertTrue(pattern.match("Pause Cleanup"), "Top level group not matched.");
+        assertTrue(pattern.match("Concurrent Mark"), "Top level group not matched.");
+        assertTrue(pattern.match("a"), "Top level alternation not matched.");
+        assertTrue(pattern.match("b"), "Top level alternation not matched.");
+        assertFalse(pattern.match("Pause Remark Cleanup"), "Alternation not combined.");
+    }
+
+    @Test
+    void testEmpty() {
+        CombinedPattern pattern = new CombinedPattern();
+        assertEquals(0, pattern.size(), "Size not correct.");
+        assertFalse(pattern.match(""), "Empty input matched.");
+        assertFalse(pattern.match("x"), "Input matched.");
+    }
+
+    @Test
+    void testEscapeSequence() {
+        CombinedPattern pattern = new CombinedPattern("^a\\x41b$", "^a\\x42c$", "^a\\u0041d$", "^a\\u0042e$",
+                "^a\\0101f$", "^a\\0102g$", "^a\\cAh$", "^a\\cBi$", "^a\\x{41}j$", "^a\\x{42}k$");
+        assertTrue(pattern.match("aAb"), "Hexadecimal escape not matched.");
+        assertTrue(pattern.match("aBc"), "Hexadecimal escape not matched.");
+        assertFalse(pattern.match("aAc"), "Hexadecimal escape split.");
+        assertTrue(pattern.match("aAd"), "Unicode escape not matched.");
+        assertTrue(pattern.match("aBe"), "Unicode escape not matched.");
+        assertFalse(pattern.match("aAe"), "Unicode escape split.");
+        assertTrue(pattern.match("aAf"), "Octal escape not matched.");
+        assertTrue(pattern.match("aBg"), "Octal escape not matched.");
+        assertFalse(pattern.match("aAg"), "Octal escape split.");
+        assertTrue(pattern.match("a\u0001h"), "Control character escape not matched.");
+        assertTrue(pattern.match("a\u0002i"), "Control character escape not matched.");
+        assertFalse(pattern.match("a\u0001i"), "Control character escape split.");
+        assertTrue(pattern.match("aAj"), "Hexadecimal code point escape not matched.");
+        assertTrue(pattern.match("aBk"), "Hexadecimal code point escape not matched.");
+        assertFalse(pattern.match("aAk"), "Hexadecimal code point escape split.");
+    }
+
+    @Test
+    void testFirstCharacter() {
+        CombinedPattern pattern = new CombinedPattern("^\\[Times.+$", "^[ ]{1,}Eden.+$", "^x?Eden$", "^\\d{1,} bytes$",
+                "^Eden$");
+        assertTrue(pattern.match("[Times: user=0.01 sys=0.00, real=0.00 secs]"),
+                "Escaped first character not matched.");
+        assertTrue(pattern.match("   Eden: 1K"), "Character class first character not matched.");
+        assertTrue(pattern.match("xEden"), "Optional first character not matched.");
+        assertTrue(pattern.match("Eden"), "Optional first character not matched.");
+        assertTrue(pattern.match("123 bytes"), "Predefined character class not matched.");
+        assertFalse(pattern.match("Survivor"), "Input matched.");
+        assertFalse(pattern.match(""), "Empty input matched.");
+    }
+
+    @Test
+    void testMatchingRegex() {
+        CombinedPattern pattern = new CombinedPattern("^Pause Remark$", "^.+Cleanup$", "^Pause Cleanup$",
+                "^Pause (Cleanup|Remark)$");
+        assertEquals(0, pattern.matchingRegex("Pause Remark"), "Matching regex not correct.");
+        assertEquals(1, pattern.matchingRegex("Pause Cleanup"), "First matching regex not reported.");
+        assertEquals("^.+Cleanup$", pattern.getRegex(pattern.matchingRegex("Pause Cleanup")),
+                "Matching regex not correct.");
+        assertEquals(-1, pattern.matchingRegex("Pause Young"), "Matching regex reported for input not matched.");
+        assertEquals(-1, pattern.matchingRegex(""), "Matching regex reported for empty input.");
+    }
+
+    @Test
+    void testPrefix() {
+        String[] regexes = { "^" + UnifiedRegEx.DECORATOR + " Pause Remark$",
+                "^" + UnifiedRegEx.DECORATOR + " Pause (Cleanup|Init Update Refs)$",
+                "^" + UnifiedRegEx.DECORATOR + " Using \\d{1,} workers of \\d{1,} for (evacuation|marking)$",
+                "^" + UnifiedRegEx.DECORATOR + " Uncommitted " + JdkRegEx.SIZE + "$",
+                "^" + UnifiedRegEx.DECORATOR + "$" };
+        CombinedPattern pattern = new CombinedPattern(regexes);
+        assertEquals(5, pattern.size(), "Size not correct.");
+        assertTrue(pattern.match("[0.011s][info][gc] Pause Remark"), "Shared prefix not matched.");
+        assertTrue(pattern.match("[0.011s][info][gc] GC(1) Pause Cleanup"), "Shared prefix not matched.");
+        assertTrue(pattern.match("[2020-02-14T15:21:55.207-0500][info][gc,task] GC(0) Using 2 workers of 4 for "
+                + "evacuation"), "Shared prefix not matched.");
+        assertTrue(pattern.match("[0.011s][info][gc] Uncommitted 10M"), "Shared prefix not matched.");
+        assertTrue(pattern.match("[0.011s][info][gc]"), "Shared prefix not matched.");
+        assertTrue(pattern.match("[0.011s][info][gc] GC(1) Pause Init Update Refs"), "Shared prefix not matched.");
+        assertFalse(pattern.match("[0.011s][info][gc] Pause Young"), "Input matched.");
+        assertFalse(pattern.match("[0.011s][info][gc] Pause Remark Cleanup"), "Input matched.");
+    }
+
+    @Test
+    void testThrowawayRegexes() {
+        List<String> lines = CombinedPatternBenchmark.logLines();
+        for (Class<?> action : CombinedPatternBenchmark.ACTIONS) {
+            String[] regexes = CombinedPatternBenchmark.throwawayRegexes(action);
+            CombinedPattern combinedPattern = new CombinedPattern(regexes);
+            int[] expected = CombinedPatternBenchmark.loop(CombinedPatternBenchmark.patterns(regexes), lines);
+            boolean[] expectedMatches = new boolean[expected.length];
+            for (int i = 0; i < expected.length; i++) {
+                expectedMatches[i] = expected[i] != -1;
+            }
+            assertArrayEquals(expectedMatches, CombinedPatternBenchmark.match(combinedPattern, lines),
+                    action.getSimpleName() + " combined pattern results not the same as the pattern loop.");
+            assertArrayEquals(expected, CombinedPatternBenchmark.matchingRegexes(combinedPattern, lines),
+                    action.getSimpleName() + " matching regexes not the same as the pattern loop.");
+        }
+    }
+}
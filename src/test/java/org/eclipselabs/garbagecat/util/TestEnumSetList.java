@@ -0,0 +1,84 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestEnumSetList {
+
+    @Test
+    void testAdd() {
+        List<GcTrigger> triggers = new EnumSetList<>(GcTrigger.class);
+        assertTrue(triggers.add(GcTrigger.SYSTEM_GC), "Trigger not added.");
+        assertTrue(triggers.add(GcTrigger.ALLOCATION_FAILURE), "Trigger not added.");
+        assertFalse(triggers.add(GcTrigger.SYSTEM_GC), "Duplicate trigger added.");
+        triggers.add(0, GcTrigger.METADATA_GC_THRESHOLD);
+        assertEquals(Arrays.asList(GcTrigger.METADATA_GC_THRESHOLD, GcTrigger.SYSTEM_GC, GcTrigger.ALLOCATION_FAILURE),
+                triggers, "Triggers not in order added.");
+    }
+
+    @Test
+    void testAddDuplicateAtIndex() {
+        List<GcTrigger> triggers = new EnumSetList<>(GcTrigger.class);
+        triggers.add(GcTrigger.SYSTEM_GC);
+        triggers.add(GcTrigger.ALLOCATION_FAILURE);
+        assertThrows(IllegalArgumentException.class, () -> triggers.add(0, GcTrigger.ALLOCATION_FAILURE),
+                "Duplicate trigger added at index.");
+        assertThrows(IllegalArgumentException.class, () -> triggers.set(0, GcTrigger.ALLOCATION_FAILURE),
+                "Duplicate trigger set at index.");
+        assertEquals(Arrays.asList(GcTrigger.SYSTEM_GC, GcTrigger.ALLOCATION_FAILURE), triggers,
+                "Triggers changed by duplicate.");
+    }
+
+    @Test
+    void testNull() {
+        List<GcTrigger> triggers = new EnumSetList<>(GcTrigger.class);
+        assertFalse(triggers.contains(null), "Null found.");
+        assertTrue(triggers.add(null), "Null not added.");
+        assertFalse(triggers.add(null), "Duplicate null added.");
+        assertTrue(triggers.contains(null), "Null not found.");
+        assertTrue(triggers.remove(null), "Null not removed.");
+        assertFalse(triggers.contains(null), "Null found.");
+    }
+
+    @Test
+    void testRemove() {
+        List<GcTrigger> triggers = new EnumSetList<>(GcTrigger.class);
+        triggers.add(GcTrigger.SYSTEM_GC);
+        triggers.add(GcTrigger.ALLOCATION_FAILURE);
+        triggers.add(GcTrigger.METADATA_GC_THRESHOLD);
+        assertTrue(triggers.remove(GcTrigger.ALLOCATION_FAILURE), "Trigger not removed.");
+        assertFalse(triggers.remove(GcTrigger.ALLOCATION_FAILURE), "Missing trigger removed.");
+        assertFalse(triggers.contains(GcTrigger.ALLOCATION_FAILURE), "Removed trigger found.");
+        Iterator<GcTrigger> iterator = triggers.iterator();
+        iterator.next();
+        iterator.remove();
+        assertFalse(triggers.contains(GcTrigger.SYSTEM_GC), "Removed trigger found.");
+        assertEquals(Arrays.asList(GcTrigger.METADATA_GC_THRESHOLD), triggers, "Triggers incorrect.");
+        assertTrue(triggers.add(GcTrigger.SYSTEM_GC), "Removed trigger not added again.");
+    }
+}
@@ -0,0 +1,75 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGcUtil {
+
+    private static long parseWithFormatter(String datestamp) throws ParseException {
+        return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZZZ").parse(datestamp).getTime();
+    }
+
+    @Test
+    void testParseDateStamp() throws ParseException {
+        String datestamp = "2019-02-05T14:47:34.229-0200";
+        assertEquals(parseWithFormatter(datestamp), GcUtil.parseDateStamp(datestamp).getTime(),
+                "Datestamp not parsed correctly.");
+        assertNull(GcUtil.parseDateStamp("2019-02-05 14:47:34"), "Invalid datestamp parsed.");
+    }
+
+    @Test
+    void testParseDateStampMillis() {
+        assertEquals(1549385254229L, GcUtil.parseDateStampMillis("2019-02-05T14:47:34.229-0200"),
+                "Datestamp not parsed correctly.");
+        assertEquals(951782400000L, GcUtil.parseDateStampMillis("2000-02-29T00:00:00.000+0000"),
+                "Leap day not parsed correctly.");
+        assertThrows(IllegalArgumentException.class, () -> GcUtil.parseDateStampMillis("2019-02-05"),
+                "Invalid datestamp parsed.");
+    }
+
+    @Test
+    void testParseDateStampMillisLenient() throws ParseException {
+        // Out of range fields are handled the same as SimpleDateFormat
+        String datestamp = "2019-02-30T24:61:34.229+0130";
+        assertEquals(parseWithFormatter(datestamp), GcUtil.parseDateStampMillis(datestamp),
+                "Lenient datestamp not parsed correctly.");
+        datestamp = "1582-10-04T12:00:00.000+0000";
+        assertEquals(parseWithFormatter(datestamp), GcUtil.parseDateStampMillis(datestamp),
+                "Julian calendar datestamp not parsed correctly.");
+    }
+
+    @Test
+    void testParseDateStampMillisMatchesFormatter() throws ParseException {
+        Random random = new Random(20080101);
+        for (int i = 0; i < 20000; i++) {
+            String datestamp = String.format("%04d-%02d-%02dT%02d:%02d:%02d.%03d%c%02d%02d", 1900 + random.nextInt(200),
+                    1 + random.nextInt(12), 1 + random.nextInt(31), random.nextInt(24), random.nextInt(60),
+                    random.nextInt(60), random.nextInt(1000), random.nextBoolean() ? '-' : '+', random.nextInt(15),
+                    random.nextInt(4) * 15);
+            assertEquals(parseWithFormatter(datestamp), GcUtil.parseDateStampMillis(datestamp), datestamp);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.memory;
+import static org.eclipselabs.garbagecat.util.Memory.Unit.BYTES;
+import static org.eclipselabs.garbagecat.util.Memory.Unit.GIGABYTES;
+import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.Unit.MEGABYTES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipselabs.garbagecat.util.Memory.Unit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestMemory {
+
+    @Test
+    void testForUnit() {
+        assertEquals(BYTES, Unit.forUnit('b'), "Bytes not identified.");
+        assertEquals(KILOBYTES, Unit.forUnit('K'), "Kilobytes not identified.");
+        assertEquals(MEGABYTES, Unit.forUnit('m'), "Megabytes not identified.");
+        assertEquals(GIGABYTES, Unit.forUnit('G'), "Gigabytes not identified.");
+        assertThrows(IllegalArgumentException.class, () -> Unit.forUnit('T'), "Unexpected units identified.");
+    }
+
+    @Test
+    void testKilobytesOrNull() {
+        assertNull(Memory.kilobytesOrNull(Memory.NO_DATA), "NO_DATA not null.");
+        assertEquals(kilobytes(1024), Memory.kilobytesOrNull(1024), "Kilobytes not created.");
+        assertEquals(Memory.NO_DATA, Memory.toKilobytes(null), "Null not NO_DATA.");
+        assertEquals(2048, Memory.toKilobytes(memory("2M")), "Memory not converted to kilobytes.");
+    }
+
+    @Test
+    void testToKilobytes() {
+        for (char unit : new char[] { 'B', 'K', 'M', 'G', 'b', 'k', 'm', 'g' }) {
+            for (String value : new String[] { "0", "1", "1023", "1024", "1536", "123456789" }) {
+                assertEquals(memory(value, unit).convertTo(KILOBYTES).getValue(KILOBYTES),
+                        Memory.toKilobytes(value, unit), value + unit);
+            }
+        }
+    }
+}
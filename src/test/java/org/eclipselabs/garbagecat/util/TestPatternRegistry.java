@@ -0,0 +1,207 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+class TestPatternRegistry {
+
+    /**
+     * Scope where regular expressions may be compiled: static initializer blocks and static field initializers.
+     */
+    private static final int SCOPE_STATIC = 0;
+
+    /**
+     * Class, interface, or enum body.
+     */
+    private static final int SCOPE_TYPE = 1;
+
+    /**
+     * Any other scope (e.g. method body).
+     */
+    private static final int SCOPE_OTHER = 2;
+
+    private static final Pattern TYPE_DECLARATION = Pattern.compile("(^|.*\\s)(class|interface|enum)\\s.*");
+
+    private static final Pattern VIOLATION = Pattern.compile("(?<![\\w.])Pattern\\s*\\.\\s*compile\\s*\\("
+            + "|(?<!PatternRegistry)\\s*\\.\\s*matches\\s*\\(\\s*[^)\\s]");
+
+    /**
+     * @param source
+     *            Java source code.
+     * @return The source code with comments removed and the contents of string and character literals blanked, so
+     *         braces and semicolons only appear as code.
+     */
+    private static String clean(String source) {
+        StringBuilder sb = new StringBuilder(source.length());
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '/' && source.startsWith("//", i)) {
+                while (i < source.length() && source.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && source.startsWith("/*", i)) {
+                int end = source.indexOf("*/", i + 2);
+                i = end < 0 ? source.length() : end + 2;
+                sb.append(' ');
+            } else if (c == '"' || c == '\'') {
+                sb.append(c);
+                i++;
+                while (i < source.length() && source.charAt(i) != c) {
+                    if (source.charAt(i) == '\\') {
+                        i++;
+                    }
+                    i++;
+                }
+                sb.append(c);
+                i++;
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param source
+     *            Java source code.
+     * @return The statements and block headers that compile a regular expression outside a static initializer.
+     */
+    private static List<String> findViolations(String source) {
+        List<String> violations = new ArrayList<String>();
+        String code = clean(source);
+        Deque<Integer> scopes = new ArrayDeque<Integer>();
+        // Top level types
+        int scope = SCOPE_TYPE;
+        int segmentBegin = 0;
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c != '{' && c != '}' && c != ';') {
+                continue;
+            }
+            String segment = code.substring(segmentBegin, i).trim().replaceAll("\\s+", " ");
+            boolean staticMember = scope == SCOPE_TYPE && isStaticField(segment);
+            if (scope != SCOPE_STATIC && !staticMember && VIOLATION.matcher(segment).find()) {
+                violations.add(segment);
+            }
+            if (c == '{') {
+                scopes.push(scope);
+                if (scope == SCOPE_TYPE) {
+                    if (segment.equals("static") || staticMember) {
+                        scope = SCOPE_STATIC;
+                    } else if (TYPE_DECLARATION.matcher(segment).matches()) {
+                        scope = SCOPE_TYPE;
+                    } else {
+                        scope = SCOPE_OTHER;
+                    }
+                }
+            } else if (c == '}') {
+                scope = scopes.isEmpty() ? SCOPE_TYPE : scopes.pop();
+            }
+            segmentBegin = i + 1;
+        }
+        return violations;
+    }
+
+    /**
+     * @param segment
+     *            A type member declaration up to the first brace or semicolon.
+     * @return true if the declaration is a static field with an initializer, false otherwise.
+     */
+    private static boolean isStaticField(String segment) {
+        int assignment = segment.indexOf('=');
+        int parameters = segment.indexOf('(');
+        return assignment > 0 && (parameters < 0 || assignment < parameters)
+                && (" " + segment.substring(0, assignment)).contains(" static ");
+    }
+
+    @Test
+    void testFindViolations() {
+        String source = "class A {\n" //
+                + "    private static final Pattern P = Pattern.compile(\"a\");\n" //
+                + "    private static final List<Pattern> L = new ArrayList<Pattern>();\n" //
+                + "    static {\n" //
+                + "        L.add(Pattern.compile(\"b\")); // Pattern.compile(x);\n" //
+                + "    }\n" //
+                + "    private Pattern q = Pattern.compile(\"c\");\n" //
+                + "    static boolean match(String s) {\n" //
+                + "        String t = \"s.matches(x) {\";\n" //
+                + "        return s.matches(\"d\") || PatternRegistry.matches(\"e\", s) || t.matches();\n" //
+                + "    }\n" //
+                + "}\n";
+        List<String> violations = findViolations(source);
+        assertEquals(2, violations.size(), "Violations not found: " + violations);
+        assertTrue(violations.get(0).startsWith("private Pattern q"), "Instance field not found.");
+        assertTrue(violations.get(1).startsWith("return s.matches"), "Method statement not found.");
+    }
+
+    @Test
+    void testGet() {
+        Pattern pattern = PatternRegistry.get(JdkRegEx.TIMESTAMP);
+        assertSame(pattern, PatternRegistry.get(JdkRegEx.TIMESTAMP), "Pattern not reused.");
+        assertEquals(JdkRegEx.TIMESTAMP, pattern.pattern(), "Pattern not compiled from the regular expression.");
+    }
+
+    @Test
+    void testMatches() {
+        assertTrue(PatternRegistry.matches(JdkRegEx.TIMESTAMP, "1.234"), "Timestamp not matched.");
+        assertFalse(PatternRegistry.matches(JdkRegEx.TIMESTAMP, "1.234: "), "Partial match not rejected.");
+    }
+
+    /**
+     * Regular expressions are only compiled once: in static initializers, or through <code>PatternRegistry</code>.
+     */
+    @Test
+    void testNoRegexCompiledOutsideStaticInitializers() throws IOException {
+        Path sourceRoot = Paths.get("src", "main", "java");
+        List<Path> sources;
+        try (Stream<Path> paths = Files.walk(sourceRoot)) {
+            sources = paths.filter(path -> path.toString().endsWith(".java"))
+                    .filter(path -> !path.endsWith("PatternRegistry.java")).collect(Collectors.toList());
+        }
+        assertFalse(sources.isEmpty(), "No source files found in " + sourceRoot.toAbsolutePath() + ".");
+        List<String> violations = new ArrayList<String>();
+        for (Path source : sources) {
+            for (String violation : findViolations(new String(Files.readAllBytes(source), StandardCharsets.UTF_8))) {
+                violations.add(source.getFileName() + ": " + violation);
+            }
+        }
+        assertTrue(violations.isEmpty(),
+                "Use PatternRegistry instead of String.matches or Pattern.compile: " + violations);
+    }
+}
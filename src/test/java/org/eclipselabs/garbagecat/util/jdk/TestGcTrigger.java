@@ -0,0 +1,52 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGcTrigger {
+
+    @Test
+    void testGetTrigger() {
+        for (GcTrigger trigger : GcTrigger.values()) {
+            if (trigger != GcTrigger.NONE && trigger != GcTrigger.UNKNOWN && trigger != GcTrigger.SYSTEM_GC) {
+                assertEquals(trigger, GcTrigger.getTrigger(trigger.getRegex()), trigger + " not resolved.");
+            }
+        }
+    }
+
+    @Test
+    void testGetTriggerNull() {
+        assertEquals(GcTrigger.NONE, GcTrigger.getTrigger(null), "Null literal not resolved to NONE.");
+    }
+
+    @Test
+    void testGetTriggerSystemGc() {
+        assertEquals(GcTrigger.SYSTEM_GC, GcTrigger.getTrigger("System"), "System not resolved.");
+        assertEquals(GcTrigger.SYSTEM_GC, GcTrigger.getTrigger("System.gc()"), "System.gc() not resolved.");
+        assertEquals(GcTrigger.SYSTEM_GC, GcTrigger.getTrigger("System gc()"),
+                "System gc() not resolved by the regular expression.");
+    }
+
+    @Test
+    void testGetTriggerUnknown() {
+        assertEquals(GcTrigger.UNKNOWN, GcTrigger.getTrigger("Bogus"), "Unknown literal not resolved to UNKNOWN.");
+        assertEquals(GcTrigger.UNKNOWN, GcTrigger.getTrigger("NONE"), "NONE literal not resolved to UNKNOWN.");
+    }
+}
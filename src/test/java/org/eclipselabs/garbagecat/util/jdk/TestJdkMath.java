@@ -14,11 +14,15 @@ package org.eclipselabs.garbagecat.util.jdk;
 
 import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.GIGABYTES;
+import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.MEGABYTES;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Random;
+
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.util.Memory;
 import org.junit.jupiter.api.Test;
@@ -217,6 +221,82 @@ class TestJdkMath {
         assertFalse(JdkMath.isInvertedSerialism(90), "Inverted serialism not calculated correctly.");
     }
 
+    @Test
+    void testMicrosToMillis() {
+        assertEquals(987654, JdkMath.microsToMillis(987654321), "Micros not converted to millis correctly.");
+        assertEquals(-987, JdkMath.microsToMillis(-987654), "Negative micros not rounded toward zero.");
+        for (long micros : new long[] { 0, 1, 999, 1000, 1500, 2500, -1, -1500, Long.MAX_VALUE, Long.MIN_VALUE }) {
+            assertEquals(JdkMath.convertMicrosToMillis(micros).longValue(), JdkMath.microsToMillis(micros),
+                    Long.toString(micros));
+        }
+    }
+
+    @Test
+    void testParseMalformed() {
+        assertThrows(NumberFormatException.class, () -> JdkMath.parseSecsToMillis("1.2.3"), "1.2.3 parsed.");
+        assertThrows(NumberFormatException.class, () -> JdkMath.parseSecsToMillis("."), ". parsed.");
+        assertThrows(NumberFormatException.class, () -> JdkMath.parseSecsToMillis(""), "Empty string parsed.");
+        assertThrows(NumberFormatException.class, () -> JdkMath.parseSecsToMillis("1.0s"), "1.0s parsed.");
+    }
+
+    /**
+     * The primitive parsers match the <code>BigDecimal</code> conversions for the decimal formats in gc logging.
+     */
+    @Test
+    void testParseMatchesBigDecimal() {
+        Random random = new Random(20080101);
+        for (int i = 0; i < 100000; i++) {
+            StringBuilder decimal = new StringBuilder();
+            if (random.nextInt(20) == 0) {
+                decimal.append(random.nextBoolean() ? '-' : '+');
+            }
+            int wholeDigits = random.nextInt(13);
+            int fractionDigits = random.nextInt(10);
+            if (wholeDigits + fractionDigits == 0) {
+                wholeDigits = 1;
+            }
+            for (int j = 0; j < wholeDigits; j++) {
+                decimal.append((char) ('0' + random.nextInt(10)));
+            }
+            if (fractionDigits > 0 || random.nextBoolean()) {
+                decimal.append(random.nextBoolean() ? '.' : ',');
+            }
+            for (int j = 0; j < fractionDigits; j++) {
+                decimal.append((char) ('0' + random.nextInt(10)));
+            }
+            String value = decimal.toString();
+            assertEquals(JdkMath.roundMillis(value).longValue(), JdkMath.parseMillis(value), value);
+            assertEquals(JdkMath.convertMillisToMicros(value).longValue(), JdkMath.parseMillisToMicros(value), value);
+            assertEquals(JdkMath.convertMillisToNanos(value).longValue(), JdkMath.parseMillisToNanos(value), value);
+            assertEquals(JdkMath.convertSecsToCentis(value).longValue(), JdkMath.parseSecsToCentis(value), value);
+            assertEquals(JdkMath.convertSecsToMicros(value).longValue(), JdkMath.parseSecsToMicros(value), value);
+            assertEquals(JdkMath.convertSecsToMillis(value).longValue(), JdkMath.parseSecsToMillis(value), value);
+            assertEquals(JdkMath.convertSecsToNanos(value).longValue(), JdkMath.parseSecsToNanos(value), value);
+            assertEquals(JdkMath.convertSecsToCentis(value).intValue(), (int) JdkMath.parseSecsToCentis(value), value);
+        }
+    }
+
+    @Test
+    void testParseSecsToMillis() {
+        assertEquals(22, JdkMath.parseSecsToMillis("0.0225213"), "Secs not parsed to millis correctly.");
+        assertEquals(1234, JdkMath.parseSecsToMillis("1,2345"), "Decimal comma secs not parsed to millis correctly.");
+        assertEquals(2000, JdkMath.parseSecsToMillis("2"), "Whole secs not parsed to millis correctly.");
+        assertEquals(-22, JdkMath.parseSecsToMillis("-0.0225"), "Negative secs not rounded toward zero.");
+        assertEquals(1500, JdkMath.parseSecsToMillis("1.5e0"), "Exponent not parsed.");
+    }
+
+    @Test
+    void testParseSizeMatchesConvertSize() {
+        Random random = new Random(20080101);
+        char[] units = { 'B', 'K', 'M', 'G', 'b', 'k', 'm', 'g' };
+        for (int i = 0; i < 100000; i++) {
+            String size = random.nextInt(100000) + (random.nextBoolean() ? "." : ",") + random.nextInt(10);
+            char unit = units[random.nextInt(units.length)];
+            assertEquals(JdkMath.convertSizeToKilobytes(size, unit).getValue(KILOBYTES),
+                    JdkMath.parseSizeToKilobytes(size, unit), size + unit);
+        }
+    }
+
     @Test
     void testRoundMillis() {
         String millis = "2.169";
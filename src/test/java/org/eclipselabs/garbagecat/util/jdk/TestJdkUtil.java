@@ -20,8 +20,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.regex.Matcher;
 
+import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.domain.BlockingEvent;
 import org.eclipselabs.garbagecat.domain.TimeWarpException;
 import org.eclipselabs.garbagecat.domain.jdk.ApplicationStoppedTimeEvent;
@@ -33,6 +40,7 @@ import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedG1FullGcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedG1YoungPauseEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedDecorator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
@@ -351,6 +359,52 @@ class TestJdkUtil {
                 "Decorator not parsed correctly.");
     }
 
+    @Test
+    void testIdentifyEventTypeEmptyLine() {
+        assertEquals(JdkUtil.LogEventType.BLANK_LINE, JdkUtil.identifyEventType("", null),
+                JdkUtil.LogEventType.BLANK_LINE + " not identified.");
+    }
+
+    @Test
+    void testIdentifyEventTypePreDispatch() throws IOException {
+        File[] files = TestUtil.getFile("dataset1.txt").getParentFile().listFiles();
+        Arrays.sort(files);
+        for (File file : files) {
+            String priorLogLine = null;
+            for (String logLine : Files.readAllLines(file.toPath(), StandardCharsets.ISO_8859_1)) {
+                UnifiedDecorator decorator = UnifiedDecorator.parse(logLine);
+                assertEquals(JdkUtil.identifyEventType(logLine, null, decorator, new Matcher[1], false),
+                        JdkUtil.identifyEventType(logLine, null, decorator, new Matcher[1], true),
+                        "Pre-dispatch changed event type in " + file.getName() + ": " + logLine);
+                assertEquals(JdkUtil.identifyEventType(logLine, priorLogLine, decorator, new Matcher[1], false),
+                        JdkUtil.identifyEventType(logLine, priorLogLine, decorator, new Matcher[1], true),
+                        "Pre-dispatch changed event type with prior log line in " + file.getName() + ": " + logLine);
+                priorLogLine = logLine;
+            }
+        }
+    }
+
+    @Test
+    void testIdentifyEventTypeTimestampNoLeadingDigit() {
+        String logLine = ".123: [GC .123: [ParNew: 791446K->4818K(917504K), 0.0255680 secs] "
+                + "1096208K->309629K(6160384K), 0.0257810 secs] [Times: user=0.07 sys=0.01, real=0.03 secs]";
+        assertEquals(JdkUtil.LogEventType.PAR_NEW, JdkUtil.identifyEventType(logLine, null),
+                JdkUtil.LogEventType.PAR_NEW + " not identified.");
+    }
+
+    @Test
+    void testIdentifyEventTypeUnifiedUsing() {
+        String logLine = "[0.003s][info][gc] Using G1";
+        assertEquals(JdkUtil.LogEventType.USING_G1, JdkUtil.identifyEventType(logLine, null),
+                JdkUtil.LogEventType.USING_G1 + " not identified.");
+    }
+
+    @Test
+    void testIsTimestamp() {
+        assertTrue(JdkUtil.isTimestamp("123.456"), "Timestamp not identified.");
+        assertFalse(JdkUtil.isTimestamp("2016-10-18T01:50:54.558+0200"), "Datestamp identified as a timestamp.");
+    }
+
     /**
      * Test small overlap of .001 is not reported.
      */
@@ -0,0 +1,62 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    *
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedG1YoungPauseEvent;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+class TestLogLineClassification {
+
+    @Test
+    void testClassification() {
+        String logLine = "[15.086s][info][gc           ] GC(1192) Pause Young (Normal) (G1 Evacuation Pause) "
+                + "24M->13M(31M) 0.727ms";
+        LogLineClassification classification = new LogLineClassification(logLine, null);
+        assertTrue(classification.getEvent() instanceof UnifiedG1YoungPauseEvent,
+                JdkUtil.LogEventType.UNIFIED_G1_YOUNG_PAUSE.toString() + " not parsed.");
+        assertEquals(LogEventType.UNIFIED_G1_YOUNG_PAUSE, classification.getEventType(), "Event type not correct.");
+    }
+
+    @Test
+    void testPriorLogLineDependent() {
+        String logLine = "[0.013s][info][gc,init] Alignments: Space 512K, Generation 512K, Heap 2M";
+        String priorLogLine = "Pacer for Idle. Initial: 122M, Alloc Tax Rate: 1.0x";
+        assertTrue(JdkUtil.isPriorLogLineDependent(logLine), "Header log line not identified as prior dependent.");
+        LogLineClassification classification = new LogLineClassification(logLine, null);
+        assertEquals(LogEventType.UNIFIED_HEADER, classification.getEventType(), "Event type not correct.");
+        assertTrue(classification.isClassificationOf(logLine, null), "Classification not reused for same prior.");
+        assertFalse(classification.isClassificationOf(logLine, priorLogLine),
+                "Classification reused for different prior.");
+    }
+
+    @Test
+    void testPriorLogLineIndependent() {
+        String logLine = "[15.086s][info][gc           ] GC(1192) Pause Young (Normal) (G1 Evacuation Pause) "
+                + "24M->13M(31M) 0.727ms";
+        String priorLogLine = "[15.085s][info][gc,start     ] GC(1192) Pause Young (Normal) (G1 Evacuation Pause)";
+        assertFalse(JdkUtil.isPriorLogLineDependent(logLine), "Log line identified as prior dependent.");
+        LogLineClassification classification = new LogLineClassification(logLine, null);
+        assertTrue(classification.isClassificationOf(new String(logLine), priorLogLine),
+                "Classification not reused for different prior.");
+        assertFalse(classification.isClassificationOf(priorLogLine, null), "Classification reused for other log line.");
+    }
+}
@@ -0,0 +1,128 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk.unified;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+class TestUnifiedDecorator {
+
+    @Test
+    void testGetTimestampDatestamp() {
+        String logLine = "[2020-02-14T15:21:55.207-0500] GC(0) Pause Young (Normal) (G1 Evacuation Pause)";
+        assertEquals(JdkUtil.convertDatestampToMillis("2020-02-14T15:21:55.207-0500"),
+                UnifiedDecorator.getTimestamp(logLine), "Timestamp not parsed correctly.");
+    }
+
+    @Test
+    void testGetTimestampDatestampUptime() {
+        String logLine = "[2020-02-14T15:21:55.207-0500][0.052s] GC(0) Pause Young (Normal) (G1 Evacuation Pause)";
+        assertEquals(52, UnifiedDecorator.getTimestamp(logLine), "Timestamp not parsed correctly.");
+    }
+
+    @Test
+    void testGetTimestampDatestampUptimeMillis() {
+        String logLine = "[2020-02-14T15:21:55.207-0500][52ms] GC(0) Pause Young (Normal) (G1 Evacuation Pause)";
+        assertEquals(52, UnifiedDecorator.getTimestamp(logLine), "Timestamp not parsed correctly.");
+    }
+
+    @Test
+    void testGetTimestampNotDecorated() {
+        assertEquals(UnifiedDecorator.NO_DATA, UnifiedDecorator.getTimestamp("0.123: [GC 1024K->512K(2048K)]"),
+                "Timestamp parsed for undecorated log line.");
+        assertEquals(UnifiedDecorator.NO_DATA, UnifiedDecorator.getTimestamp(""),
+                "Timestamp parsed for empty log line.");
+    }
+
+    @Test
+    void testGetTimestampUptime() {
+        assertEquals(25016, UnifiedDecorator.getTimestamp("[25.016s][info][gc] Using G1"),
+                "Timestamp not parsed correctly.");
+        assertEquals(25016, UnifiedDecorator.getTimestamp("[25,016s][info][gc] Using G1"),
+                "Decimal comma timestamp not parsed correctly.");
+        assertEquals(16, UnifiedDecorator.getTimestamp("[.016s][info][gc] Using G1"),
+                "Timestamp without seconds not parsed correctly.");
+    }
+
+    @Test
+    void testGetTimestampUptimeMillis() {
+        assertEquals(52, UnifiedDecorator.getTimestamp("[052ms] GC(0) Pause Young (Normal) (G1 Evacuation Pause)"),
+                "Timestamp not parsed correctly.");
+    }
+
+    @Test
+    void testMatcher() {
+        UnifiedDecorator decorator = UnifiedDecorator.parse("[25.016s][info][gc] Using G1");
+        assertNotNull(decorator.matcher(Pattern.compile("^ Using G1$")), "Log line body not matched.");
+        assertNull(decorator.matcher(Pattern.compile("^ Using Serial$")), "Log line body matched.");
+        assertNull(decorator.matcher(Pattern.compile("^\\[25.016s\\].*$")), "Decorator matched.");
+    }
+
+    @Test
+    void testParse() {
+        String logLine = "[2020-02-14T15:21:55.207-0500][0.052s][1863][info][gc,start     ] GC(6) Pause Young "
+                + "(Normal) (G1 Evacuation Pause)";
+        UnifiedDecorator decorator = UnifiedDecorator.parse(logLine);
+        assertEquals("2020-02-14T15:21:55.207-0500", decorator.getDatestamp(), "Datestamp not parsed correctly.");
+        assertEquals(52, decorator.getUptime(), "Uptime not parsed correctly.");
+        assertEquals(52, decorator.getTimestamp(), "Timestamp not parsed correctly.");
+        assertEquals(1863, decorator.getPid(), "Pid not parsed correctly.");
+        assertEquals("info", decorator.getLevel(), "Level not parsed correctly.");
+        assertEquals("gc,start", decorator.getTags(), "Tags not parsed correctly.");
+        assertEquals(6, decorator.getGcEventNumber(), "GC event number not parsed correctly.");
+        assertEquals(" Pause Young (Normal) (G1 Evacuation Pause)", logLine.substring(decorator.getEnd()),
+                "Decorator end not parsed correctly.");
+    }
+
+    @Test
+    void testParseDatestamp() {
+        UnifiedDecorator decorator = UnifiedDecorator.parse("[2020-02-14T15:21:55.207-0500] Using G1");
+        assertEquals(UnifiedDecorator.NO_DATA, decorator.getUptime(), "Uptime parsed.");
+        assertEquals(JdkUtil.convertDatestampToMillis("2020-02-14T15:21:55.207-0500"), decorator.getTimestamp(),
+                "Timestamp not parsed correctly.");
+        assertNull(decorator.getLevel(), "Level parsed.");
+        assertNull(decorator.getTags(), "Tags parsed.");
+        assertEquals(UnifiedDecorator.NO_DATA, decorator.getGcEventNumber(), "GC event number parsed.");
+        assertEquals(30, decorator.getEnd(), "Decorator end not parsed correctly.");
+    }
+
+    @Test
+    void testParseNotDecorated() {
+        assertNull(UnifiedDecorator.parse("0.123: [GC 1024K->512K(2048K)]"), "Undecorated log line parsed.");
+        assertNull(UnifiedDecorator.parse("[Full GC 1024K->512K(2048K)]"), "Undecorated log line parsed.");
+        assertNull(UnifiedDecorator.parse(""), "Empty log line parsed.");
+    }
+
+    @Test
+    void testParseTags() {
+        String logLine = "[0.014s][info][gc,refine] Using 1 workers";
+        UnifiedDecorator decorator = UnifiedDecorator.parse(logLine);
+        assertEquals("gc,refine", decorator.getTags(), "Tags not parsed correctly.");
+        assertEquals(" Using 1 workers", logLine.substring(decorator.getEnd()), "Decorator end not parsed correctly.");
+        logLine = "[0.014s][info][gc,unknown] Using 1 workers";
+        decorator = UnifiedDecorator.parse(logLine);
+        assertNull(decorator.getTags(), "Unknown tags parsed.");
+        assertEquals("[gc,unknown] Using 1 workers", logLine.substring(decorator.getEnd()),
+                "Decorator end not parsed correctly.");
+    }
+}
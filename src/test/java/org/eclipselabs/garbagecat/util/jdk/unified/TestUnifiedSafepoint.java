@@ -12,6 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util.jdk.unified;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -35,6 +36,19 @@ public class TestUnifiedSafepoint {
         }
     }
 
+    @Test
+    public void testTriggerFromLiteral() {
+        UnifiedSafepoint.Trigger[] triggers = UnifiedSafepoint.Trigger.values();
+        for (int i = 0; i < triggers.length; i++) {
+            if (!triggers[i].equals(UnifiedSafepoint.Trigger.UNKNOWN)) {
+                assertEquals(triggers[i], UnifiedSafepoint.getTrigger(UnifiedSafepoint.getTriggerLiteral(triggers[i])),
+                        triggers[i].name() + " not resolved from literal.");
+            }
+        }
+        assertEquals(UnifiedSafepoint.Trigger.UNKNOWN, UnifiedSafepoint.getTrigger("Bogus"),
+                "Unknown literal not resolved to UNKNOWN.");
+    }
+
     @Test
     public void testTriggerLiteral() {
         UnifiedSafepoint.Trigger[] triggers = UnifiedSafepoint.Trigger.values();